@@ -2,6 +2,8 @@ package com.cmci.cr.api.controller;
 
 import com.cmci.cr.api.dto.request.AddCommentaireRequest;
 import com.cmci.cr.api.dto.response.CommentaireResponse;
+import com.cmci.cr.api.dto.response.CommentaireResumeResponse;
+import com.cmci.cr.api.dto.response.PageResponse;
 import com.cmci.cr.api.mapper.CommentaireApiMapper;
 import com.cmci.cr.application.dto.command.AddCommentaireCommand;
 import com.cmci.cr.application.usecase.AddCommentaireUseCase;
@@ -28,7 +30,7 @@ import java.util.stream.Collectors;
  * REST Controller pour la gestion des Commentaires
  */
 @RestController
-@RequestMapping("/v1/cr/{compteRenduId}/commentaires")
+@RequestMapping("/v1/cr")
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Commentaires", description = "API de gestion des commentaires sur les comptes rendus")
@@ -41,7 +43,7 @@ public class CommentaireController {
     private final CommentaireApiMapper mapper;
     private final SecurityContextService securityContextService;
 
-    @PostMapping
+    @PostMapping("/{compteRenduId}/commentaires")
     @Operation(summary = "Ajouter un commentaire",
                description = "Ajoute un commentaire à un compte rendu")
     @ApiResponses({
@@ -68,7 +70,7 @@ public class CommentaireController {
         return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
     }
 
-    @GetMapping
+    @GetMapping("/{compteRenduId}/commentaires")
     @Operation(summary = "Récupérer les commentaires d'un compte rendu",
                description = "Retourne tous les commentaires d'un compte rendu, triés par date croissante")
     @ApiResponses({
@@ -89,4 +91,60 @@ public class CommentaireController {
 
         return ResponseEntity.ok(apiResponses);
     }
+
+    @GetMapping("/{compteRenduId}/commentaires/page")
+    @Operation(summary = "Récupérer une page du fil de commentaires",
+               description = "Retourne une page de commentaires d'un compte rendu (triés par date croissante) " +
+                             "avec le nom de chaque auteur")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page de commentaires"),
+        @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides")
+    })
+    public ResponseEntity<PageResponse<CommentaireResponse>> getCommentairesPage(
+            @Parameter(description = "ID du compte rendu") @PathVariable UUID compteRenduId,
+            @Parameter(description = "Numéro de page (commence à 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Taille de page (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Getting comments page {} (size {}) for CR {}", page, size, compteRenduId);
+
+        List<CommentaireResponse> content = getCommentairesUseCase.getThread(compteRenduId, page, size)
+                .stream()
+                .map(mapper::toApiResponse)
+                .collect(Collectors.toList());
+        long totalElements = getCommentairesUseCase.countByCompteRenduId(compteRenduId);
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        PageResponse<CommentaireResponse> response = PageResponse.<CommentaireResponse>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(page == 0)
+                .last(page >= totalPages - 1)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/commentaires/resumes")
+    @Operation(summary = "Résumer les commentaires de plusieurs comptes rendus",
+               description = "Retourne, pour chaque compte rendu demandé, le nombre de commentaires et le dernier " +
+                             "commentaire, en une seule requête (badges des listes de CR)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Résumés des commentaires, dans l'ordre des IDs fournis"),
+        @ApiResponse(responseCode = "400", description = "Trop d'IDs demandés")
+    })
+    public ResponseEntity<List<CommentaireResumeResponse>> getCommentairesResumes(
+            @Parameter(description = "IDs des comptes rendus (max 200)") @RequestParam List<UUID> compteRenduIds) {
+
+        log.info("Getting comment summaries for {} CRs", compteRenduIds.size());
+
+        List<CommentaireResumeResponse> responses = getCommentairesUseCase.getResumes(compteRenduIds)
+                .stream()
+                .map(mapper::toApiResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(responses);
+    }
 }
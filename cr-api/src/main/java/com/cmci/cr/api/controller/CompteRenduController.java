@@ -1,12 +1,15 @@
 package com.cmci.cr.api.controller;
 
+import com.cmci.cr.api.dto.request.BulkReviewCRRequest;
 import com.cmci.cr.api.dto.request.CreateCompteRenduRequest;
 import com.cmci.cr.api.dto.request.UpdateCompteRenduRequest;
 import com.cmci.cr.api.dto.response.CompteRenduResponse;
 import com.cmci.cr.api.mapper.CompteRenduApiMapper;
 import com.cmci.cr.application.dto.command.CreateCRCommand;
+import com.cmci.cr.application.dto.command.PatchCRCommand;
 import com.cmci.cr.application.dto.command.UpdateCRCommand;
 import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.application.dto.response.RevueCRsResponse;
 import com.cmci.cr.application.usecase.*;
 import com.cmci.cr.infrastructure.security.SecurityContextService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,13 +22,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -42,12 +48,16 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class CompteRenduController {
 
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final CreateCRUseCase createCRUseCase;
     private final UpdateCRUseCase updateCRUseCase;
+    private final PatchCRUseCase patchCRUseCase;
     private final GetCRUseCase getCRUseCase;
     private final DeleteCRUseCase deleteCRUseCase;
     private final ValidateCRUseCase validateCRUseCase;
     private final MarkCRAsViewedUseCase markAsViewedUseCase;
+    private final BulkCRReviewUseCase bulkCRReviewUseCase;
     private final CompteRenduApiMapper mapper;
     private final SecurityContextService securityContextService;
 
@@ -77,15 +87,18 @@ public class CompteRenduController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Mettre à jour un compte rendu",
-               description = "Met à jour un compte rendu existant (uniquement le propriétaire)")
+               description = "Met à jour un compte rendu existant (uniquement le propriétaire). " +
+                             "L'en-tête If-Match facultatif porte l'ETag lu (version du CR).")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Compte rendu mis à jour"),
         @ApiResponse(responseCode = "400", description = "Données invalides"),
         @ApiResponse(responseCode = "403", description = "Accès refusé"),
-        @ApiResponse(responseCode = "404", description = "Compte rendu non trouvé")
+        @ApiResponse(responseCode = "404", description = "Compte rendu non trouvé"),
+        @ApiResponse(responseCode = "409", description = "Version périmée ou compte rendu non modifiable")
     })
     public ResponseEntity<CompteRenduResponse> updateCompteRendu(
             @Parameter(description = "ID du compte rendu") @PathVariable UUID id,
+            @Parameter(description = "ETag lu avec le compte rendu") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateCompteRenduRequest request) {
 
         UUID utilisateurId = securityContextService.getCurrentUserId()
@@ -93,11 +106,43 @@ public class CompteRenduController {
 
         log.info("Updating CR {} by user {}", id, utilisateurId);
 
-        UpdateCRCommand command = mapper.toUpdateCommand(id, request, utilisateurId);
+        Long version = ifMatch != null && !ifMatch.isBlank() ? version(ifMatch) : null;
+        UpdateCRCommand command = mapper.toUpdateCommand(id, request, utilisateurId, version);
         CRResponse response = updateCRUseCase.execute(command);
         CompteRenduResponse apiResponse = mapper.toApiResponse(response);
 
-        return ResponseEntity.ok(apiResponse);
+        return ResponseEntity.ok().eTag(etag(response)).body(apiResponse);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Modifier partiellement un compte rendu",
+               description = "Applique un JSON Merge Patch (RFC 7396) : seuls les champs présents sont modifiés, " +
+                             "null efface un champ optionnel. L'en-tête If-Match porte l'ETag lu (version du CR).")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Compte rendu modifié, nouvel ETag renvoyé"),
+        @ApiResponse(responseCode = "400", description = "Champ invalide ou en-tête If-Match absent"),
+        @ApiResponse(responseCode = "409", description = "Version périmée ou compte rendu non modifiable")
+    })
+    public ResponseEntity<CompteRenduResponse> patchCompteRendu(
+            @Parameter(description = "ID du compte rendu") @PathVariable UUID id,
+            @Parameter(description = "ETag lu avec le compte rendu") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch) {
+
+        UUID utilisateurId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Patching CR {} by user {} (fields {})", id, utilisateurId, patch.keySet());
+
+        PatchCRCommand command = PatchCRCommand.builder()
+                .id(id)
+                .utilisateurId(utilisateurId)
+                .version(version(ifMatch))
+                .champs(patch)
+                .build();
+        CRResponse response = patchCRUseCase.execute(command);
+        CompteRenduResponse apiResponse = mapper.toApiResponse(response);
+
+        return ResponseEntity.ok().eTag(etag(response)).body(apiResponse);
     }
 
     @GetMapping("/{id}")
@@ -114,7 +159,7 @@ public class CompteRenduController {
 
         CRResponse response = getCRUseCase.getById(id);
         CompteRenduResponse apiResponse = mapper.toApiResponse(response);
-        return ResponseEntity.ok(apiResponse);
+        return ResponseEntity.ok().eTag(etag(response)).body(apiResponse);
     }
 
     @GetMapping("/user/{utilisateurId}")
@@ -254,4 +299,74 @@ public class CompteRenduController {
 
         return ResponseEntity.ok(apiResponse);
     }
+
+    @PostMapping("/bulk/mark-viewed")
+    @Operation(summary = "Marquer des comptes rendus comme vus en lot",
+               description = "Marque comme vus une liste de comptes rendus, ou tous les comptes rendus soumis "
+                       + "et non vus d'un disciple jusqu'à une date. Les CR déjà vus ou en brouillon sont ignorés.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Comptes rendus marqués comme vus"),
+        @ApiResponse(responseCode = "400", description = "Requête invalide ou compte rendu non trouvé"),
+        @ApiResponse(responseCode = "403", description = "Compte rendu hors de votre portée")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<RevueCRsResponse> bulkMarkAsViewed(@Valid @RequestBody BulkReviewCRRequest request) {
+
+        UUID viewerId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Bulk marking CRs as viewed by user {}", viewerId);
+
+        RevueCRsResponse response = request.getDiscipleId() != null
+                ? bulkCRReviewUseCase.markAsViewed(viewerId, request.getDiscipleId(), request.getJusquA())
+                : bulkCRReviewUseCase.markAsViewed(viewerId, request.getCompteRenduIds());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk/validate")
+    @Operation(summary = "Valider des comptes rendus en lot",
+               description = "Valide une liste de comptes rendus, ou tous les comptes rendus soumis d'un disciple "
+                       + "jusqu'à une date. Les CR déjà validés ou en brouillon sont ignorés.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Comptes rendus validés"),
+        @ApiResponse(responseCode = "400", description = "Requête invalide ou compte rendu non trouvé"),
+        @ApiResponse(responseCode = "403", description = "Compte rendu hors de votre portée")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<RevueCRsResponse> bulkValidate(@Valid @RequestBody BulkReviewCRRequest request) {
+
+        UUID validatorId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Bulk validating CRs by user {}", validatorId);
+
+        RevueCRsResponse response = request.getDiscipleId() != null
+                ? bulkCRReviewUseCase.validate(validatorId, request.getDiscipleId(), request.getJusquA())
+                : bulkCRReviewUseCase.validate(validatorId, request.getCompteRenduIds());
+
+        return ResponseEntity.ok(response);
+    }
+
+    private static String etag(CRResponse response) {
+        return response.getVersion() != null ? "\"" + response.getVersion() + "\"" : null;
+    }
+
+    /**
+     * Version attendue lue dans If-Match ("3" ou W/"3")
+     */
+    private static long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new IllegalArgumentException("L'en-tête If-Match est obligatoire pour une modification partielle");
+        }
+        String valeur = ifMatch.trim();
+        if (valeur.startsWith("W/")) {
+            valeur = valeur.substring(2);
+        }
+        try {
+            return Long.parseLong(valeur.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("En-tête If-Match invalide: " + ifMatch);
+        }
+    }
 }
@@ -3,10 +3,13 @@ package com.cmci.cr.api.controller;
 import com.cmci.cr.api.dto.request.AssignDiscipleToFDRequest;
 import com.cmci.cr.api.dto.response.DiscipleApiResponse;
 import com.cmci.cr.application.dto.command.AssignFDCommand;
+import com.cmci.cr.application.dto.response.DisciplesSansFdResponse;
 import com.cmci.cr.application.dto.response.UtilisateurResponse;
 import com.cmci.cr.application.usecase.AssignFDUseCase;
+import com.cmci.cr.application.usecase.GetDisciplesSansFdUseCase;
 import com.cmci.cr.application.usecase.GetUtilisateurUseCase;
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.Role;
 import com.cmci.cr.infrastructure.security.SecurityContextService;
@@ -41,6 +44,7 @@ public class DiscipleManagementController {
 
     private final AssignFDUseCase assignFDUseCase;
     private final GetUtilisateurUseCase getUtilisateurUseCase;
+    private final GetDisciplesSansFdUseCase getDisciplesSansFdUseCase;
     private final UtilisateurRepository utilisateurRepository;
     private final SecurityContextService securityContextService;
 
@@ -133,14 +137,10 @@ public class DiscipleManagementController {
 
         log.info("User {} fetching disciples of FD {}", currentUserId, fdId);
 
-        // Vérifier que le FD existe
-        utilisateurRepository.findById(fdId)
-                .orElseThrow(() -> new IllegalArgumentException("FD non trouvé: " + fdId));
-
-        List<Utilisateur> disciples = utilisateurRepository.findByFdId(fdId);
-
-        List<DiscipleApiResponse> responses = disciples.stream()
-                .map(this::mapToApiResponse)
+        // Vérifie que le FD existe, puis charge ses disciples (2 requêtes)
+        List<DiscipleApiResponse> responses = getUtilisateurUseCase.getDisciplesByFdId(fdId)
+                .stream()
+                .map(DiscipleApiResponse::fromApplicationResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(responses);
@@ -163,8 +163,13 @@ public class DiscipleManagementController {
 
         List<Utilisateur> disciples = utilisateurRepository.findByFdId(currentUserId);
 
+        // Tous les disciples ont le même FD : son nom est chargé une seule fois
+        String fdNom = disciples.isEmpty() ? null : utilisateurRepository.findById(currentUserId)
+                .map(Utilisateur::getNomComplet)
+                .orElse(null);
+
         List<DiscipleApiResponse> responses = disciples.stream()
-                .map(this::mapToApiResponse)
+                .map(disciple -> mapToApiResponse(disciple, fdNom))
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(responses);
@@ -172,28 +177,39 @@ public class DiscipleManagementController {
 
     @GetMapping("/unassigned")
     @Operation(summary = "Lister les disciples sans FD",
-               description = "Récupère la liste des fidèles qui n'ont pas encore de FD assigné")
+               description = "Récupère une page des fidèles actifs qui n'ont pas encore de FD assigné, triés par nom. "
+                       + "Si la page est pleine, l'en-tête X-Next-Cursor donne la valeur de \"apres\" pour la suivante.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Liste des disciples sans FD"),
+        @ApiResponse(responseCode = "200", description = "Page des disciples sans FD"),
+        @ApiResponse(responseCode = "400", description = "Portée, curseur ou limite invalide"),
         @ApiResponse(responseCode = "403", description = "Permissions insuffisantes")
     })
     @PreAuthorize("hasAnyRole('LEADER', 'PASTEUR', 'ADMIN')")
-    public ResponseEntity<List<DiscipleApiResponse>> getUnassignedDisciples() {
+    public ResponseEntity<List<DiscipleApiResponse>> getUnassignedDisciples(
+            @Parameter(description = "Restreindre à mon église (EGLISE_MAISON ou EGLISE_LOCALE)")
+            @RequestParam(required = false) Perimetre portee,
+            @Parameter(description = "ID du dernier disciple de la page précédente")
+            @RequestParam(required = false) UUID apres,
+            @Parameter(description = "Taille de page (max 100)")
+            @RequestParam(defaultValue = "50") int limite) {
 
         UUID currentUserId = securityContextService.getCurrentUserId()
                 .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
 
-        log.info("User {} fetching unassigned disciples", currentUserId);
+        log.info("User {} fetching unassigned disciples (portee {}, apres {}, limite {})",
+                currentUserId, portee, apres, limite);
 
-        // Récupérer tous les fidèles sans FD
-        List<Utilisateur> allFideles = utilisateurRepository.findByRole(Role.FIDELE);
+        DisciplesSansFdResponse page = getDisciplesSansFdUseCase.execute(currentUserId, portee, apres, limite);
 
-        List<DiscipleApiResponse> responses = allFideles.stream()
-                .filter(u -> u.getFdId() == null)
-                .map(this::mapToApiResponse)
+        List<DiscipleApiResponse> responses = page.getDisciples().stream()
+                .map(DiscipleApiResponse::fromApplicationResponse)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(responses);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getSuivant() != null) {
+            response.header("X-Next-Cursor", page.getSuivant().toString());
+        }
+        return response.body(responses);
     }
 
     @GetMapping("/count/fd/{fdId}")
@@ -270,14 +286,7 @@ public class DiscipleManagementController {
     /**
      * Mappe un Utilisateur vers DiscipleApiResponse
      */
-    private DiscipleApiResponse mapToApiResponse(Utilisateur utilisateur) {
-        String fdNom = null;
-        if (utilisateur.getFdId() != null) {
-            fdNom = utilisateurRepository.findById(utilisateur.getFdId())
-                    .map(Utilisateur::getNomComplet)
-                    .orElse(null);
-        }
-
+    private DiscipleApiResponse mapToApiResponse(Utilisateur utilisateur, String fdNom) {
         return DiscipleApiResponse.builder()
                 .id(utilisateur.getId())
                 .email(utilisateur.getEmail())
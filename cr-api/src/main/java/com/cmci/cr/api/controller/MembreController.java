@@ -0,0 +1,98 @@
+package com.cmci.cr.api.controller;
+
+import com.cmci.cr.api.dto.response.DiscipleApiResponse;
+import com.cmci.cr.api.dto.response.PageResponse;
+import com.cmci.cr.application.dto.response.UtilisateurResponse;
+import com.cmci.cr.application.usecase.GetUtilisateurUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Controller de l'annuaire des membres (listes paginées par rôle et par église de maison).
+ * Chaque page coûte une requête pour les membres, une pour le total et une pour le nom de leurs FD.
+ */
+@RestController
+@RequestMapping("/v1/membres")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Annuaire des membres", description = "Listes paginées des membres par rôle et par église de maison")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*")
+public class MembreController {
+
+    private final GetUtilisateurUseCase getUtilisateurUseCase;
+
+    @GetMapping("/role/{role}")
+    @Operation(summary = "Lister les membres d'un rôle",
+               description = "Retourne une page des membres ayant le rôle donné, triés par nom et prénom")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page de membres"),
+        @ApiResponse(responseCode = "400", description = "Rôle ou paramètres de pagination invalides"),
+        @ApiResponse(responseCode = "403", description = "Permissions insuffisantes")
+    })
+    @PreAuthorize("hasAnyRole('LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<PageResponse<DiscipleApiResponse>> getByRole(
+            @Parameter(description = "Rôle", example = "FIDELE") @PathVariable String role,
+            @Parameter(description = "Numéro de page (commence à 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Taille de page (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        String roleName = role.toUpperCase(Locale.ROOT);
+        log.info("Listing members with role {} (page {}, size {})", roleName, page, size);
+
+        List<UtilisateurResponse> membres = getUtilisateurUseCase.getByRole(roleName, page, size);
+        long total = getUtilisateurUseCase.countByRole(roleName);
+
+        return ResponseEntity.ok(toPage(membres, page, size, total));
+    }
+
+    @GetMapping("/eglise-maison/{egliseMaisonId}")
+    @Operation(summary = "Lister les membres d'une église de maison",
+               description = "Retourne une page des membres d'une église de maison, triés par nom et prénom")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page de membres"),
+        @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides"),
+        @ApiResponse(responseCode = "403", description = "Permissions insuffisantes")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<PageResponse<DiscipleApiResponse>> getByEgliseMaison(
+            @Parameter(description = "ID de l'église de maison") @PathVariable UUID egliseMaisonId,
+            @Parameter(description = "Numéro de page (commence à 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Taille de page (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Listing members of house church {} (page {}, size {})", egliseMaisonId, page, size);
+
+        List<UtilisateurResponse> membres = getUtilisateurUseCase.getByEgliseMaisonId(egliseMaisonId, page, size);
+        long total = getUtilisateurUseCase.countByEgliseMaisonId(egliseMaisonId);
+
+        return ResponseEntity.ok(toPage(membres, page, size, total));
+    }
+
+    private PageResponse<DiscipleApiResponse> toPage(List<UtilisateurResponse> membres, int page, int size, long total) {
+        int totalPages = (int) Math.ceil((double) total / size);
+        return PageResponse.<DiscipleApiResponse>builder()
+                .content(membres.stream()
+                        .map(DiscipleApiResponse::fromApplicationResponse)
+                        .collect(Collectors.toList()))
+                .page(page)
+                .size(size)
+                .totalElements(total)
+                .totalPages(totalPages)
+                .first(page == 0)
+                .last(page >= totalPages - 1)
+                .build();
+    }
+}
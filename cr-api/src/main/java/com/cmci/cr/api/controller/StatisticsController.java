@@ -2,11 +2,24 @@ package com.cmci.cr.api.controller;
 
 import com.cmci.cr.api.dto.response.StatisticsResponse;
 import com.cmci.cr.api.mapper.StatisticsApiMapper;
+import com.cmci.cr.application.dto.response.CalendrierSoumissionsResponse;
+import com.cmci.cr.application.dto.response.ClassementResponse;
 import com.cmci.cr.application.dto.response.ExportResponse;
+import com.cmci.cr.application.dto.response.ParticipationResponse;
+import com.cmci.cr.application.dto.response.PerimetreStatisticsResponse;
 import com.cmci.cr.application.dto.response.PersonalStatisticsResponse;
+import com.cmci.cr.application.dto.response.TendancesResponse;
 import com.cmci.cr.application.usecase.ExportGroupStatsUseCase;
 import com.cmci.cr.application.usecase.ExportPersonalStatsUseCase;
+import com.cmci.cr.application.service.ClassementService.Critere;
+import com.cmci.cr.application.usecase.GetCalendrierSoumissionsUseCase;
+import com.cmci.cr.application.usecase.GetClassementUseCase;
+import com.cmci.cr.application.usecase.GetParticipationUseCase;
+import com.cmci.cr.application.usecase.GetPerimetreStatisticsUseCase;
 import com.cmci.cr.application.usecase.GetPersonalStatisticsUseCase;
+import com.cmci.cr.application.usecase.GetTendancesUseCase;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.TendanceRepository.Granularite;
 import com.cmci.cr.infrastructure.security.SecurityContextService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,6 +52,11 @@ import java.util.UUID;
 public class StatisticsController {
 
     private final GetPersonalStatisticsUseCase getPersonalStatisticsUseCase;
+    private final GetCalendrierSoumissionsUseCase getCalendrierSoumissionsUseCase;
+    private final GetParticipationUseCase getParticipationUseCase;
+    private final GetPerimetreStatisticsUseCase getPerimetreStatisticsUseCase;
+    private final GetTendancesUseCase getTendancesUseCase;
+    private final GetClassementUseCase getClassementUseCase;
     private final ExportPersonalStatsUseCase exportPersonalStatsUseCase;
     private final ExportGroupStatsUseCase exportGroupStatsUseCase;
     private final StatisticsApiMapper mapper;
@@ -93,6 +111,200 @@ public class StatisticsController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    @GetMapping("/personal/calendar")
+    @Operation(summary = "Calendrier personnel des CR",
+               description = "Jours avec CR de l'année (heatmap), régularité et séries de l'utilisateur authentifié")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Calendrier récupéré"),
+        @ApiResponse(responseCode = "400", description = "Année invalide"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<CalendrierSoumissionsResponse> getPersonalCalendar(
+            @Parameter(description = "Année (par défaut l'année en cours)") @RequestParam(required = false) Integer annee) {
+
+        UUID utilisateurId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        int anneeDemandee = annee != null ? annee : LocalDate.now().getYear();
+        log.info("Getting CR calendar for user {} for year {}", utilisateurId, anneeDemandee);
+
+        return ResponseEntity.ok(getCalendrierSoumissionsUseCase.execute(utilisateurId, anneeDemandee));
+    }
+
+    @GetMapping("/user/{utilisateurId}/calendar")
+    @Operation(summary = "Calendrier des CR d'un utilisateur",
+               description = "Jours avec CR de l'année (heatmap) d'un utilisateur spécifique (FD, Leader, Pasteur, Admin)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Calendrier récupéré"),
+        @ApiResponse(responseCode = "400", description = "Année invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<CalendrierSoumissionsResponse> getUserCalendar(
+            @Parameter(description = "ID de l'utilisateur") @PathVariable UUID utilisateurId,
+            @Parameter(description = "Année (par défaut l'année en cours)") @RequestParam(required = false) Integer annee) {
+
+        int anneeDemandee = annee != null ? annee : LocalDate.now().getYear();
+        log.info("Getting CR calendar for user {} for year {}", utilisateurId, anneeDemandee);
+
+        return ResponseEntity.ok(getCalendrierSoumissionsUseCase.execute(utilisateurId, anneeDemandee));
+    }
+
+    @GetMapping("/participation")
+    @Operation(summary = "Participation du jour d'un périmètre",
+               description = "Nombre de membres actifs ayant soumis leur CR à la date donnée, pour une église de maison, " +
+                             "une église locale, une zone ou une région (Leader, Pasteur, Admin)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Participation calculée"),
+        @ApiResponse(responseCode = "400", description = "Périmètre ou date invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<ParticipationResponse> getParticipation(
+            @Parameter(description = "Périmètre (EGLISE_MAISON, EGLISE_LOCALE, ZONE, REGION)") @RequestParam Perimetre perimetre,
+            @Parameter(description = "ID du périmètre") @RequestParam UUID perimetreId,
+            @Parameter(description = "Date (par défaut aujourd'hui)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        LocalDate jour = date != null ? date : LocalDate.now();
+        log.info("Getting participation for {} {} on {}", perimetre, perimetreId, jour);
+
+        return ResponseEntity.ok(getParticipationUseCase.execute(perimetre, perimetreId, jour));
+    }
+
+    @GetMapping("/zone/{zoneId}")
+    @Operation(summary = "Statistiques d'une zone",
+               description = "Statistiques agrégées de toutes les églises d'une zone sur une période (Leader, Pasteur, Admin)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Statistiques récupérées"),
+        @ApiResponse(responseCode = "400", description = "Période invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<PerimetreStatisticsResponse> getZoneStatistics(
+            @Parameter(description = "ID de la zone") @PathVariable UUID zoneId,
+            @Parameter(description = "Date de début") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("Getting statistics for zone {} from {} to {}", zoneId, startDate, endDate);
+
+        return ResponseEntity.ok(getPerimetreStatisticsUseCase.execute(Perimetre.ZONE, zoneId, startDate, endDate));
+    }
+
+    @GetMapping("/region/{regionId}")
+    @Operation(summary = "Statistiques d'une région",
+               description = "Statistiques agrégées de toutes les zones d'une région sur une période (Leader, Pasteur, Admin)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Statistiques récupérées"),
+        @ApiResponse(responseCode = "400", description = "Période invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<PerimetreStatisticsResponse> getRegionStatistics(
+            @Parameter(description = "ID de la région") @PathVariable UUID regionId,
+            @Parameter(description = "Date de début") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("Getting statistics for region {} from {} to {}", regionId, startDate, endDate);
+
+        return ResponseEntity.ok(getPerimetreStatisticsUseCase.execute(Perimetre.REGION, regionId, startDate, endDate));
+    }
+
+    @GetMapping("/personal/trends")
+    @Operation(summary = "Tendances personnelles",
+               description = "Série par jour, semaine ou mois des indicateurs de CR de l'utilisateur authentifié, " +
+                             "avec variations d'un intervalle au suivant en option")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Série calculée"),
+        @ApiResponse(responseCode = "400", description = "Période ou granularité invalide"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié")
+    })
+    public ResponseEntity<TendancesResponse> getPersonalTrends(
+            @Parameter(description = "Granularité (JOUR, SEMAINE, MOIS)") @RequestParam(defaultValue = "SEMAINE") Granularite granularite,
+            @Parameter(description = "Date de début") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Inclure les variations") @RequestParam(defaultValue = "false") boolean comparer) {
+
+        UUID utilisateurId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Getting {} trends for user {} from {} to {}", granularite, utilisateurId, startDate, endDate);
+
+        return ResponseEntity.ok(getTendancesUseCase.executePersonnel(
+                utilisateurId, granularite, startDate, endDate, comparer));
+    }
+
+    @GetMapping("/group/trends")
+    @Operation(summary = "Tendances du groupe",
+               description = "Série par jour, semaine ou mois des indicateurs cumulés des disciples du FD authentifié")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Série calculée"),
+        @ApiResponse(responseCode = "400", description = "Période ou granularité invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<TendancesResponse> getGroupTrends(
+            @Parameter(description = "Granularité (JOUR, SEMAINE, MOIS)") @RequestParam(defaultValue = "SEMAINE") Granularite granularite,
+            @Parameter(description = "Date de début") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Inclure les variations") @RequestParam(defaultValue = "false") boolean comparer) {
+
+        UUID fdId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Getting {} group trends for FD {} from {} to {}", granularite, fdId, startDate, endDate);
+
+        return ResponseEntity.ok(getTendancesUseCase.executeGroupe(fdId, granularite, startDate, endDate, comparer));
+    }
+
+    @GetMapping("/group/leaderboard")
+    @Operation(summary = "Classement du groupe",
+               description = "Les k meilleurs disciples du FD authentifié selon la régularité, la prière ou la lecture. "
+                       + "Le classement est mis en cache par instance : un CR écrit peut n'y apparaître "
+                       + "qu'au bout de 10 minutes sur une autre instance que celle qui a reçu l'événement")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Classement calculé"),
+        @ApiResponse(responseCode = "400", description = "Période, critère ou k invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<ClassementResponse> getGroupLeaderboard(
+            @Parameter(description = "Critère (REGULARITE, PRIERE, LECTURE)") @RequestParam(defaultValue = "REGULARITE") Critere critere,
+            @Parameter(description = "Nombre de disciples (1 à 100)") @RequestParam(defaultValue = "10") int k,
+            @Parameter(description = "Date de début") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        UUID fdId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Getting top {} by {} for FD {} from {} to {}", k, critere, fdId, startDate, endDate);
+
+        return ResponseEntity.ok(getClassementUseCase.execute(fdId, critere, startDate, endDate, k));
+    }
+
+    @GetMapping("/perimetre/trends")
+    @Operation(summary = "Tendances d'un périmètre",
+               description = "Série par jour, semaine ou mois d'une église de maison, église locale, zone ou région " +
+                             "(Leader, Pasteur, Admin)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Série calculée"),
+        @ApiResponse(responseCode = "400", description = "Périmètre, période ou granularité invalide"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé")
+    })
+    @PreAuthorize("hasAnyRole('LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<TendancesResponse> getPerimetreTrends(
+            @Parameter(description = "Périmètre (EGLISE_MAISON, EGLISE_LOCALE, ZONE, REGION)") @RequestParam Perimetre perimetre,
+            @Parameter(description = "ID du périmètre") @RequestParam UUID perimetreId,
+            @Parameter(description = "Granularité (JOUR, SEMAINE, MOIS)") @RequestParam(defaultValue = "SEMAINE") Granularite granularite,
+            @Parameter(description = "Date de début") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Inclure les variations") @RequestParam(defaultValue = "false") boolean comparer) {
+
+        log.info("Getting {} trends for {} {} from {} to {}", granularite, perimetre, perimetreId, startDate, endDate);
+
+        return ResponseEntity.ok(getTendancesUseCase.executePerimetre(
+                perimetre, perimetreId, granularite, startDate, endDate, comparer));
+    }
+
     @GetMapping("/personal/export")
     @Operation(summary = "Exporter statistiques personnelles",
                description = "Exporte les statistiques personnelles en PDF ou Excel")
@@ -10,6 +10,8 @@ import com.cmci.cr.application.usecase.GetSubordinatesCRUseCase;
 import com.cmci.cr.application.usecase.GetSubordinatesStatisticsUseCase;
 import com.cmci.cr.application.usecase.ViewDisciplesCRUseCase;
 import com.cmci.cr.infrastructure.security.SecurityContextService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,10 +21,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -40,11 +46,14 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class SubordinatesController {
 
+    private static final int STREAM_FLUSH_INTERVAL = 20;
+
     private final GetSubordinatesCRUseCase getSubordinatesCRUseCase;
     private final GetSubordinatesStatisticsUseCase getSubordinatesStatisticsUseCase;
     private final ViewDisciplesCRUseCase viewDisciplesCRUseCase;
     private final SubordinatesApiMapper mapper;
     private final SecurityContextService securityContextService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/cr")
     @Operation(summary = "Récupérer les CR des subordonnés",
@@ -76,6 +85,51 @@ public class SubordinatesController {
         return ResponseEntity.ok(apiResponses);
     }
 
+    @GetMapping(value = "/cr/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Récupérer les CR des subordonnés en flux",
+               description = "Même contenu que /cr, écrit membre par membre à mesure que les CR sont lus "
+                       + "en base : mémoire constante et premiers octets immédiats pour les grands périmètres")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Liste des subordonnés avec leurs CR"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "403", description = "Accès refusé - rôle insuffisant")
+    })
+    @PreAuthorize("hasAnyRole('FD', 'LEADER', 'PASTEUR', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamSubordinatesCR(
+            @Parameter(description = "Date de début")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Date de fin")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        UUID responsableId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Streaming subordinates CRs for user {} from {} to {}", responsableId, startDate, endDate);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                int[] written = {0};
+                getSubordinatesCRUseCase.executeStream(responsableId, startDate, endDate, subordinate -> {
+                    try {
+                        generator.writeObject(mapper.toApiResponse(subordinate));
+                        // Vider régulièrement pour que le client reçoive les premiers membres sans attendre
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @GetMapping("/disciples")
     @Operation(summary = "Récupérer le statut CR des disciples (FD)",
                description = "Récupère un résumé du statut de CR de chaque disciple direct du FD")
@@ -117,29 +171,10 @@ public class SubordinatesController {
 
         log.info("Getting subordinates CR summary for user {} from {} to {}", responsableId, startDate, endDate);
 
-        List<SubordinateWithCRsResponse> responses = getSubordinatesCRUseCase.execute(
+        List<SubordinateWithCRsResponse> responses = getSubordinatesCRUseCase.executeSummary(
                 responsableId, startDate, endDate);
 
-        // Convertir sans inclure les détails des CR (juste le résumé)
-        List<SubordinateWithCRsApiResponse> apiResponses = responses.stream()
-                .map(r -> SubordinateWithCRsApiResponse.builder()
-                        .utilisateurId(r.getUtilisateurId())
-                        .nom(r.getNom())
-                        .prenom(r.getPrenom())
-                        .nomComplet(r.getNomComplet())
-                        .email(r.getEmail())
-                        .role(r.getRole())
-                        .roleDisplayName(r.getRoleDisplayName())
-                        .avatarUrl(r.getAvatarUrl())
-                        .lastCRDate(r.getLastCRDate())
-                        .daysSinceLastCR(r.getDaysSinceLastCR())
-                        .regularityRate(r.getRegularityRate())
-                        .totalCRs(r.getTotalCRs())
-                        .alertLevel(r.getAlertLevel())
-                        .hasAlert(r.getHasAlert())
-                        .compteRendus(List.of()) // Pas de détails
-                        .build())
-                .toList();
+        List<SubordinateWithCRsApiResponse> apiResponses = mapper.toApiResponses(responses);
 
         return ResponseEntity.ok(apiResponses);
     }
@@ -0,0 +1,60 @@
+package com.cmci.cr.api.controller;
+
+import com.cmci.cr.application.dto.response.ModificationsResponse;
+import com.cmci.cr.application.usecase.GetModificationsUseCase;
+import com.cmci.cr.infrastructure.security.SecurityContextService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller pour la synchronisation incrémentale des clients hors ligne
+ */
+@RestController
+@RequestMapping("/v1/sync")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Synchronisation", description = "API de synchronisation incrémentale (mobile hors ligne)")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*")
+public class SynchronisationController {
+
+    private final GetModificationsUseCase getModificationsUseCase;
+    private final SecurityContextService securityContextService;
+
+    @GetMapping
+    @Operation(summary = "Modifications depuis une version",
+               description = "CR, commentaires, utilisateurs et suppressions du périmètre (soi et ses disciples) "
+                       + "écrits depuis la version fournie. Renvoyer la version reçue au prochain appel ; "
+                       + "tant que complet vaut false, rappeler immédiatement. Le référentiel (régions, zones, "
+                       + "églises) n'est pas inclus et se recharge depuis ses endpoints")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lot de modifications"),
+        @ApiResponse(responseCode = "400", description = "Version ou limite invalide"),
+        @ApiResponse(responseCode = "401", description = "Non authentifié"),
+        @ApiResponse(responseCode = "409", description = "Version antérieure à la rétention des suppressions : "
+                + "resynchroniser depuis 0")
+    })
+    public ResponseEntity<ModificationsResponse> getModifications(
+            @Parameter(description = "Version rendue par l'appel précédent (0 pour tout recharger)")
+            @RequestParam(defaultValue = "0") long depuis,
+            @Parameter(description = "Nombre maximal d'éléments par section (1 à 1000)")
+            @RequestParam(defaultValue = "500") int limite) {
+
+        UUID utilisateurId = securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new IllegalStateException("Utilisateur non authentifié"));
+
+        log.info("Getting modifications for user {} since version {}", utilisateurId, depuis);
+
+        return ResponseEntity.ok(getModificationsUseCase.execute(utilisateurId, depuis, limite));
+    }
+}
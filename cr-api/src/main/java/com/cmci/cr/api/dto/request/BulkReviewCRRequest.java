@@ -0,0 +1,41 @@
+package com.cmci.cr.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Requête de revue en lot : une liste de CR, ou tous les CR en attente d'un disciple jusqu'à une date
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Requête de revue de comptes rendus en lot")
+public class BulkReviewCRRequest {
+
+    @Size(max = 500, message = "Au plus 500 comptes rendus par lot")
+    @Schema(description = "IDs des comptes rendus")
+    private List<UUID> compteRenduIds;
+
+    @Schema(description = "ID du disciple (à la place de la liste)",
+            example = "d1000000-0000-0000-0000-000000000030")
+    private UUID discipleId;
+
+    @Schema(description = "Date limite incluse, avec discipleId", example = "2026-01-31")
+    private LocalDate jusquA;
+
+    @AssertTrue(message = "Fournir soit compteRenduIds, soit discipleId et jusquA")
+    @Schema(hidden = true)
+    public boolean isSelectionValide() {
+        boolean parListe = compteRenduIds != null && !compteRenduIds.isEmpty();
+        boolean parDisciple = discipleId != null && jusquA != null;
+        return parListe != parDisciple;
+    }
+}
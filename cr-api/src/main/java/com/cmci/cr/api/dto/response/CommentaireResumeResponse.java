@@ -0,0 +1,22 @@
+package com.cmci.cr.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO Response pour le résumé des commentaires d'un compte rendu
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentaireResumeResponse {
+
+    private UUID compteRenduId;
+    private Long nombreCommentaires;
+    private CommentaireResponse dernierCommentaire;
+}
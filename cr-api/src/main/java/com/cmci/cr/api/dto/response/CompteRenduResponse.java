@@ -39,4 +39,5 @@ public class CompteRenduResponse {
     private Boolean vuParFd;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -1,8 +1,11 @@
 package com.cmci.cr.api.exception;
 
 import com.cmci.cr.api.dto.response.ErrorResponse;
+import com.cmci.cr.domain.port.IdentityProviderPort.FournisseurIndisponibleException;
+import com.cmci.cr.infrastructure.persistence.monitoring.QueryBudgetExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -143,6 +146,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    /**
+     * Gère les SecurityException (règle d'accès métier levée par un use case)
+     */
+    @ExceptionHandler(SecurityException.class)
+    public ResponseEntity<ErrorResponse> handleSecurityException(
+            SecurityException ex,
+            HttpServletRequest request) {
+
+        log.warn("Forbidden: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.FORBIDDEN.value())
+                .error("Forbidden")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
     /**
      * Gère les InsufficientAuthenticationException (non authentifié)
      */
@@ -164,6 +188,52 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    /**
+     * Gère les FournisseurIndisponibleException (Keycloak injoignable, lent ou circuit ouvert)
+     */
+    @ExceptionHandler(FournisseurIndisponibleException.class)
+    public ResponseEntity<ErrorResponse> handleFournisseurIndisponibleException(
+            FournisseurIndisponibleException ex,
+            HttpServletRequest request) {
+
+        log.warn("Identity provider unavailable: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("Le service d'identité est momentanément indisponible, veuillez réessayer")
+                .path(request.getRequestURI())
+                .build();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        ex.getReessaiApres().ifPresent(delai ->
+                response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (delai.toMillis() + 999) / 1000))));
+        return response.body(errorResponse);
+    }
+
+    /**
+     * Gère les QueryBudgetExceededException (budget de requêtes SQL dépassé en mode rejet) :
+     * défaut du serveur, rendu en 500 et non en conflit
+     */
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    public ResponseEntity<ErrorResponse> handleQueryBudgetExceededException(
+            QueryBudgetExceededException ex,
+            HttpServletRequest request) {
+
+        log.error("Query budget exceeded on {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .error("Internal Server Error")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
     /**
      * Gère toutes les autres exceptions non gérées
      */
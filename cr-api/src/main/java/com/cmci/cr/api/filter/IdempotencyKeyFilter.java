@@ -0,0 +1,275 @@
+package com.cmci.cr.api.filter;
+
+import com.cmci.cr.api.dto.response.ErrorResponse;
+import com.cmci.cr.infrastructure.idempotence.IdempotenceStore;
+import com.cmci.cr.infrastructure.idempotence.ReponseIdempotente;
+import com.cmci.cr.infrastructure.security.SecurityContextService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Rend idempotentes les requêtes POST portant un en-tête {@value #HEADER}
+ * (création de CR, ajout de commentaire depuis un client mobile qui réessaie).
+ *
+ * La première requête d'une clé réserve celle-ci et s'exécute ; sa réponse 2xx est conservée
+ * et rejouée aux requêtes suivantes de même clé, marquées {@value #REPLAYED_HEADER}.
+ * Un doublon concurrent attend la fin de la requête d'origine plutôt que de s'exécuter.
+ * Une clé réutilisée avec un autre corps ou un autre chemin est refusée (422).
+ *
+ * Placé après la chaîne de sécurité : la clé est propre à l'utilisateur authentifié.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+@ConditionalOnProperty(name = "app.idempotence.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int LONGUEUR_MAX_CLE = 255;
+    private static final long INTERVALLE_ATTENTE_MS = 50;
+
+    private final IdempotenceStore store;
+    private final SecurityContextService securityContextService;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration ttlReservation;
+    private final Duration attenteMax;
+
+    public IdempotencyKeyFilter(
+            IdempotenceStore store,
+            SecurityContextService securityContextService,
+            ObjectMapper objectMapper,
+            @Value("${app.idempotence.ttl:PT1H}") Duration ttl,
+            @Value("${app.idempotence.reservation-ttl:PT30S}") Duration ttlReservation,
+            @Value("${app.idempotence.attente-max:PT10S}") Duration attenteMax) {
+        this.store = store;
+        this.securityContextService = securityContextService;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.ttlReservation = ttlReservation;
+        this.attenteMax = attenteMax;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String cleClient = request.getHeader(HEADER).trim();
+        if (cleClient.isEmpty() || cleClient.length() > LONGUEUR_MAX_CLE) {
+            erreur(request, response, HttpStatus.BAD_REQUEST,
+                    "L'en-tête " + HEADER + " doit contenir entre 1 et " + LONGUEUR_MAX_CLE + " caractères");
+            return;
+        }
+
+        Optional<String> sujet = securityContextService.getCurrentUserSubject();
+        if (sujet.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        byte[] corps = request.getInputStream().readAllBytes();
+        String empreinte = empreinte(request, corps);
+        String cle = sujet.get() + ":" + cleClient;
+
+        long echeance = System.nanoTime() + attenteMax.toNanos();
+        while (true) {
+            Optional<ReponseIdempotente> existante = store.reserver(cle, empreinte, ttlReservation);
+            if (existante.isEmpty()) {
+                executer(new CorpsRelu(request, corps), response, chain, cle, empreinte);
+                return;
+            }
+
+            ReponseIdempotente reponse = existante.get();
+            if (!reponse.empreinte().equals(empreinte)) {
+                erreur(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "La clé " + HEADER + " a déjà été utilisée pour une autre requête");
+                return;
+            }
+            if (!reponse.enCours()) {
+                log.debug("Replaying response for {} {} (key {})", request.getMethod(), request.getRequestURI(), cleClient);
+                rejouer(response, reponse);
+                return;
+            }
+            if (System.nanoTime() > echeance || !attendre()) {
+                erreur(request, response, HttpStatus.CONFLICT,
+                        "Une requête de même clé " + HEADER + " est en cours de traitement");
+                return;
+            }
+        }
+    }
+
+    private void executer(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                          String cle, String empreinte) throws ServletException, IOException {
+        ContentCachingResponseWrapper reponseEnCache = new ContentCachingResponseWrapper(response);
+        boolean enregistree = false;
+        try {
+            chain.doFilter(request, reponseEnCache);
+            int statut = reponseEnCache.getStatus();
+            // Seuls les succès sont rejoués : un échec peut être réessayé avec la même clé
+            if (statut >= 200 && statut < 300) {
+                store.enregistrer(cle, ReponseIdempotente.terminee(
+                        empreinte,
+                        statut,
+                        reponseEnCache.getContentType(),
+                        reponseEnCache.getHeader(HttpHeaders.LOCATION),
+                        reponseEnCache.getContentAsByteArray()), ttl);
+                enregistree = true;
+            }
+        } finally {
+            if (!enregistree) {
+                store.liberer(cle);
+            }
+            reponseEnCache.copyBodyToResponse();
+        }
+    }
+
+    private void rejouer(HttpServletResponse response, ReponseIdempotente reponse) throws IOException {
+        response.setStatus(reponse.statut());
+        if (reponse.contentType() != null) {
+            response.setContentType(reponse.contentType());
+        }
+        if (reponse.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, reponse.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(reponse.corps().length);
+        response.getOutputStream().write(reponse.corps());
+    }
+
+    private boolean attendre() {
+        try {
+            Thread.sleep(INTERVALLE_ATTENTE_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void erreur(HttpServletRequest request, HttpServletResponse response, HttpStatus statut, String message)
+            throws IOException {
+        response.setStatus(statut.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(statut.value())
+                .error(statut.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build());
+    }
+
+    private static String empreinte(HttpServletRequest request, byte[] corps) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) ' ');
+            sha256.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                sha256.update((byte) '?');
+                sha256.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            sha256.update((byte) '\n');
+            sha256.update(corps);
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Requête dont le corps, déjà lu pour l'empreinte, est relu depuis la mémoire
+     */
+    private static final class CorpsRelu extends HttpServletRequestWrapper {
+
+        private final byte[] corps;
+
+        CorpsRelu(HttpServletRequest request, byte[] corps) {
+            super(request);
+            this.corps = corps;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream flux = new ByteArrayInputStream(corps);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return flux.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return flux.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return flux.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encodage = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encodage)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return corps.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return corps.length;
+        }
+    }
+}
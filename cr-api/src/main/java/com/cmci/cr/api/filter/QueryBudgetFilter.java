@@ -0,0 +1,69 @@
+package com.cmci.cr.api.filter;
+
+import com.cmci.cr.infrastructure.persistence.monitoring.QueryCounter;
+import com.cmci.cr.infrastructure.persistence.monitoring.RequestQueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Ouvre un compteur de requêtes SQL pour chaque requête HTTP, journalise les dépassements
+ * du budget et les requêtes répétées (N+1). Les statistiques sont exposées dans l'attribut
+ * de requête {@link #STATS_ATTRIBUTE} (assertions des tests).
+ *
+ * Placé avant la chaîne de sécurité pour compter aussi les requêtes faites à l'authentification.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".stats";
+
+    private final int budget;
+    private final int repeatedThreshold;
+
+    public QueryBudgetFilter(
+            @Value("${app.query-budget.max-per-request:30}") int budget,
+            @Value("${app.query-budget.repeated-threshold:5}") int repeatedThreshold) {
+        this.budget = budget;
+        this.repeatedThreshold = repeatedThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = QueryCounter.start();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryStats stats) {
+        if (stats.getTotal() > budget) {
+            log.warn("Query budget exceeded on {} {}: {} SQL queries (budget {})",
+                    request.getMethod(), request.getRequestURI(), stats.getTotal(), budget);
+        }
+
+        Map<String, Integer> repeated = stats.getRepeatedStatements(repeatedThreshold);
+        repeated.forEach((sql, count) ->
+                log.warn("Possible N+1 on {} {}: statement executed {} times: {}",
+                        request.getMethod(), request.getRequestURI(), count, sql));
+    }
+}
@@ -2,6 +2,7 @@ package com.cmci.cr.api.mapper;
 
 import com.cmci.cr.api.dto.request.AddCommentaireRequest;
 import com.cmci.cr.api.dto.response.CommentaireResponse;
+import com.cmci.cr.api.dto.response.CommentaireResumeResponse;
 import com.cmci.cr.application.dto.command.AddCommentaireCommand;
 import org.springframework.stereotype.Component;
 
@@ -54,4 +55,19 @@ public class CommentaireApiMapper {
                 .createdAt(appResponse.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Convertit CommentaireResumeResponse (application) en CommentaireResumeResponse (API)
+     */
+    public CommentaireResumeResponse toApiResponse(
+            com.cmci.cr.application.dto.response.CommentaireResumeResponse appResponse) {
+
+        return CommentaireResumeResponse.builder()
+                .compteRenduId(appResponse.getCompteRenduId())
+                .nombreCommentaires(appResponse.getNombreCommentaires())
+                .dernierCommentaire(appResponse.getDernierCommentaire() != null
+                        ? toApiResponse(appResponse.getDernierCommentaire())
+                        : null)
+                .build();
+    }
 }
@@ -50,7 +50,8 @@ public class CompteRenduApiMapper {
     /**
      * Convertit UpdateCompteRenduRequest en UpdateCRCommand
      */
-    public UpdateCRCommand toUpdateCommand(UUID compteRenduId, UpdateCompteRenduRequest request, UUID utilisateurId) {
+    public UpdateCRCommand toUpdateCommand(UUID compteRenduId, UpdateCompteRenduRequest request, UUID utilisateurId,
+                                           Long version) {
         // Convertir la durée de prière en format HH:mm
         String priereSeule = convertMinutesToTimeString(request.getPriereSeuleMinutes());
         String priereCouple = convertMinutesToTimeString(request.getPriereCoupleMinutes());
@@ -75,6 +76,7 @@ public class CompteRenduApiMapper {
                 .evangelisation(request.getEvangelisation())
                 .offrande(request.getOffrande())
                 .notes(request.getNotes())
+                .version(version)
                 .build();
     }
 
@@ -104,6 +106,7 @@ public class CompteRenduApiMapper {
                 .vuParFd(appResponse.getVuParFd())
                 .createdAt(appResponse.getCreatedAt())
                 .updatedAt(appResponse.getUpdatedAt())
+                .version(appResponse.getVersion())
                 .build();
     }
 
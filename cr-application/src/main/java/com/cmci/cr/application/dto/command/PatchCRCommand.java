@@ -0,0 +1,27 @@
+package com.cmci.cr.application.dto.command;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Command pour modifier partiellement un Compte Rendu (JSON Merge Patch)
+ */
+@Value
+@Builder
+public class PatchCRCommand {
+
+    @NotNull(message = "L'ID du compte rendu est obligatoire")
+    UUID id;
+
+    @NotNull(message = "L'utilisateur est obligatoire")
+    UUID utilisateurId;
+
+    long version; // Version lue par le client (If-Match)
+
+    @NotNull(message = "Les champs à modifier sont obligatoires")
+    Map<String, Object> champs; // Nom du champ côté API -> nouvelle valeur (null efface)
+}
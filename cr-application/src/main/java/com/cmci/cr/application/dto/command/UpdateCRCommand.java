@@ -55,4 +55,6 @@ public class UpdateCRCommand {
 
     Boolean offrande;
     String notes;
+
+    Long version; // Version lue par le client (If-Match), null si non fournie
 }
@@ -34,4 +34,5 @@ public class CRResponse {
     Boolean vuParFd;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
+    Long version; // Version courante, à renvoyer dans If-Match pour une modification partielle
 }
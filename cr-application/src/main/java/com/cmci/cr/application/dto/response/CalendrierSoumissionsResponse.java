@@ -0,0 +1,29 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour le calendrier annuel des CR (heatmap)
+ */
+@Value
+@Builder
+public class CalendrierSoumissionsResponse {
+    UUID utilisateurId;
+    Integer annee;
+
+    // Jours avec CR, triés
+    List<LocalDate> joursSoumis;
+    Integer nombreJoursSoumis;
+
+    // Jours de l'année écoulés à ce jour (365/366 pour une année passée)
+    Integer joursEcoules;
+    Double tauxRegularite; // Pourcentage sur les jours écoulés
+
+    Integer serieEnCours; // Null pour une année passée
+    Integer meilleureSerie;
+}
@@ -0,0 +1,23 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO de réponse pour le classement des disciples d'un groupe
+ */
+@Value
+@Builder
+public class ClassementResponse {
+    String critere; // REGULARITE, PRIERE ou LECTURE
+    LocalDate startDate;
+    LocalDate endDate;
+
+    Long nombreMembres;
+
+    // Du premier au k-ième
+    List<EntreeClassementResponse> entrees;
+}
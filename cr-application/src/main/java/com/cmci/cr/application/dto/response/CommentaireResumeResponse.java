@@ -0,0 +1,18 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour le résumé des commentaires d'un CR
+ * (nombre de commentaires et dernier commentaire, pour les badges des listes)
+ */
+@Value
+@Builder
+public class CommentaireResumeResponse {
+    UUID compteRenduId;
+    long nombreCommentaires;
+    CommentaireResponse dernierCommentaire; // null si aucun commentaire
+}
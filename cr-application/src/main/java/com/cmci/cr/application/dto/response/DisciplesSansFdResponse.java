@@ -0,0 +1,19 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une page de fidèles sans FD (pagination par curseur)
+ */
+@Value
+@Builder
+public class DisciplesSansFdResponse {
+    List<UtilisateurResponse> disciples;
+
+    // ID à passer en "apres" pour la page suivante, null sur la dernière page
+    UUID suivant;
+}
@@ -0,0 +1,22 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour un membre du classement
+ */
+@Value
+@Builder
+public class EntreeClassementResponse {
+    Integer rang;
+    UUID utilisateurId;
+    String nomComplet;
+
+    Long nombreCRs;
+    Double tauxRegularite; // Pourcentage des jours de la période
+    Long minutesPriere;
+    Long chapitresLus;
+}
@@ -0,0 +1,20 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour un lot du flux de synchronisation
+ */
+@Value
+@Builder
+public class ModificationsResponse {
+    long version; // Curseur à renvoyer dans "depuis" au prochain appel
+    boolean complet; // false : d'autres modifications attendent, rappeler immédiatement
+    List<CRResponse> compteRendus;
+    List<CommentaireResponse> commentaires;
+    List<UtilisateurResponse> utilisateurs;
+    List<SuppressionResponse> suppressions;
+}
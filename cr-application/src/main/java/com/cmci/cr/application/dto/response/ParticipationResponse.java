@@ -0,0 +1,23 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour la participation journalière d'un périmètre
+ * (église de maison, église locale, zone ou région)
+ */
+@Value
+@Builder
+public class ParticipationResponse {
+    String perimetre;
+    UUID perimetreId;
+    LocalDate date;
+
+    Long nombreMembres; // Membres actifs du périmètre
+    Long nombreParticipants; // Membres ayant un CR à la date
+    Double tauxParticipation; // Pourcentage
+}
@@ -0,0 +1,42 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour les statistiques d'un périmètre de l'organisation
+ * (église de maison, église locale, zone ou région)
+ */
+@Value
+@Builder
+public class PerimetreStatisticsResponse {
+    String perimetre;
+    UUID perimetreId;
+    LocalDate startDate;
+    LocalDate endDate;
+
+    // Membres actifs
+    Long nombreMembres;
+
+    // CR aujourd'hui
+    Long nombreCRsAujourdhui;
+    Double tauxSoumissionJour; // Pourcentage
+
+    // CR sur la période
+    Long totalCRsPeriode;
+    Double tauxRegularite; // CR par membre et par jour, en pourcentage
+    Double tauxRDQD; // Pourcentage de CR avec RDQD complet
+
+    // Prière
+    String dureeTotalePriere; // Format "HH:mm"
+    String moyennePriereParMembre; // Format "HH:mm"
+
+    // Autres pratiques
+    Long totalChapitresLus;
+    Long totalPersonnesEvangelisees;
+    Long nombreConfessions;
+    Long nombreJeunes;
+}
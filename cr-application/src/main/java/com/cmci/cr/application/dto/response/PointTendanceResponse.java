@@ -0,0 +1,29 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de réponse pour un intervalle d'une série de tendance
+ */
+@Value
+@Builder
+public class PointTendanceResponse {
+    LocalDate debut;
+    LocalDate fin;
+
+    Long nombreCRs;
+    Long minutesPriere;
+    Long chapitresLus;
+    Long personnesEvangelisees;
+    Double tauxRDQD; // Pourcentage
+
+    // Variations par rapport à l'intervalle précédent (null si non demandées)
+    Long variationCRs;
+    Long variationMinutesPriere;
+    Long variationChapitresLus;
+    Long variationPersonnesEvangelisees;
+    Double variationTauxRDQD; // En points de pourcentage
+}
@@ -0,0 +1,22 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de réponse pour une exécution du moteur de rappels des CR manquants
+ */
+@Value
+@Builder
+public class RappelCRResultResponse {
+    LocalDate date;
+    int lotsTraites; // Nombre d'églises locales traitées (+ lot des membres sans église)
+    int membresSansCR;
+    int rappelsEnvoyes;
+    int escalades3Jours;
+    int escalades7Jours;
+    int dejaEnvoyes; // Notifications ignorées car déjà envoyées ce jour
+    int envoisEchoues; // Notifications non transmises, réservations libérées pour une reprise
+}
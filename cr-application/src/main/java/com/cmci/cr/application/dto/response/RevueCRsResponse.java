@@ -0,0 +1,20 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une revue de CR en lot (marquage comme vus ou validation)
+ */
+@Value
+@Builder
+public class RevueCRsResponse {
+    Integer nombreTraites;
+    List<UUID> traites;
+
+    // CR déjà vus/validés ou au statut BROUILLON, laissés inchangés
+    List<UUID> ignores;
+}
@@ -0,0 +1,16 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une entité à retirer du cache d'un client synchronisé
+ */
+@Value
+@Builder
+public class SuppressionResponse {
+    String typeEntite; // COMPTE_RENDU, COMMENTAIRE ou UTILISATEUR
+    UUID entiteId;
+}
@@ -0,0 +1,28 @@
+package com.cmci.cr.application.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de réponse pour une série temporelle d'indicateurs de CR (graphiques de tendance)
+ */
+@Value
+@Builder
+public class TendancesResponse {
+    String scope; // PERSONNEL, GROUPE ou niveau du périmètre
+    UUID scopeId;
+    String granularite; // JOUR, SEMAINE ou MOIS
+
+    // Début du premier intervalle (intervalles complets) et fin demandée
+    LocalDate startDate;
+    LocalDate endDate;
+
+    Boolean avecVariations;
+
+    // Un point par intervalle, y compris les intervalles sans CR
+    List<PointTendanceResponse> points;
+}
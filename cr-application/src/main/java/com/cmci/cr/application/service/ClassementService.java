@@ -0,0 +1,174 @@
+package com.cmci.cr.application.service;
+
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.CRDeletedEvent;
+import com.cmci.cr.domain.event.CRUpdatedEvent;
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventHandler;
+import com.cmci.cr.domain.repository.ClassementRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Classements (top-k) des membres d'un groupe sur une période.
+ *
+ * Les agrégats par membre d'un couple (groupe, période) sont chargés en une requête et
+ * gardés en mémoire, propres à l'instance. Le top-k est extrait avec un tas borné à
+ * k éléments, sans trier tout le groupe.
+ *
+ * Un tableau est écarté à l'expiration (DUREE_VIE), dès que la composition du groupe
+ * change, ou à la réception d'un événement de CR (création, modification, suppression)
+ * d'un de ses membres : l'événement n'est livré qu'après commit, le rechargement ne voit
+ * donc jamais une écriture annulée. Une instance qui ne reçoit pas l'événement (consommateur
+ * Kafka d'une autre instance, consommateur désactivé) sert son tableau jusqu'à DUREE_VIE.
+ */
+public class ClassementService implements DomainEventHandler {
+
+    static final Duration DUREE_VIE = Duration.ofMinutes(10);
+    static final int TAILLE_MAX = 256;
+
+    private final ClassementRepository classementRepository;
+    private final Clock clock;
+    private final ConcurrentMap<ScopePeriode, Tableau> tableaux = new ConcurrentHashMap<>();
+
+    public ClassementService(ClassementRepository classementRepository) {
+        this(classementRepository, Clock.systemDefaultZone());
+    }
+
+    ClassementService(ClassementRepository classementRepository, Clock clock) {
+        this.classementRepository = classementRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Retourne les k meilleurs membres du groupe selon le critère, du premier au k-ième.
+     * Les membres sans CR sur la période sont classés avec des valeurs nulles.
+     *
+     * @throws IllegalArgumentException si k n'est pas strictement positif
+     */
+    public List<Entree> topK(UUID scopeId, Collection<UUID> membres, Critere critere,
+                             LocalDate debut, LocalDate fin, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Le nombre de membres à classer doit être positif: " + k);
+        }
+
+        Tableau tableau = tableau(scopeId, membres, debut, fin);
+        Comparator<Entree> ordre = critere.ordre();
+
+        // Tas min borné : la tête est le moins bon des k meilleurs vus jusqu'ici
+        PriorityQueue<Entree> tas = new PriorityQueue<>(k + 1, ordre);
+        for (UUID membre : tableau.membres()) {
+            Entree entree = new Entree(membre, tableau.valeurs().getOrDefault(membre, Agregat.VIDE));
+            if (tas.size() < k) {
+                tas.add(entree);
+            } else if (ordre.compare(entree, tas.peek()) > 0) {
+                tas.poll();
+                tas.add(entree);
+            }
+        }
+
+        List<Entree> classement = new ArrayList<>(tas);
+        classement.sort(ordre.reversed());
+        return classement;
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof CRCreatedEvent
+                || event instanceof CRUpdatedEvent
+                || event instanceof CRDeletedEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        if (event instanceof CRCreatedEvent e) {
+            invalider(e.getUtilisateurId());
+        } else if (event instanceof CRUpdatedEvent e) {
+            invalider(e.getUtilisateurId());
+        } else if (event instanceof CRDeletedEvent e) {
+            invalider(e.getUtilisateurId());
+        }
+    }
+
+    /**
+     * Écarte les tableaux en cache dont le groupe contient l'utilisateur, quelle que soit
+     * la période (une modification peut déplacer le CR d'une date à l'autre)
+     */
+    public void invalider(UUID utilisateurId) {
+        tableaux.values().removeIf(tableau -> tableau.membres().contains(utilisateurId));
+    }
+
+    /**
+     * @return le nombre de tableaux en cache (supervision)
+     */
+    public int getTailleCache() {
+        return tableaux.size();
+    }
+
+    private Tableau tableau(UUID scopeId, Collection<UUID> membres, LocalDate debut, LocalDate fin) {
+        ScopePeriode cle = new ScopePeriode(scopeId, debut, fin);
+        Set<UUID> ensemble = Set.copyOf(membres);
+        Instant maintenant = clock.instant();
+
+        Tableau existant = tableaux.get(cle);
+        if (existant != null && existant.expireA().isAfter(maintenant) && existant.membres().equals(ensemble)) {
+            return existant;
+        }
+
+        Tableau tableau = new Tableau(ensemble, classementRepository.sommerParMembre(ensemble, debut, fin),
+                maintenant.plus(DUREE_VIE));
+
+        if (tableaux.size() >= TAILLE_MAX) {
+            tableaux.values().removeIf(t -> !t.expireA().isAfter(maintenant));
+            if (tableaux.size() >= TAILLE_MAX) {
+                tableaux.clear();
+            }
+        }
+        tableaux.put(cle, tableau);
+        return tableau;
+    }
+
+    /**
+     * Critère de classement ; les égalités sont départagées par le nombre de CR puis l'ID
+     */
+    public enum Critere {
+        REGULARITE(Comparator.comparingLong(Agregat::nombreCRs)),
+        PRIERE(Comparator.comparing(Agregat::dureePriere)),
+        LECTURE(Comparator.comparingLong(Agregat::chapitresLus));
+
+        private final Comparator<Entree> ordre;
+
+        Critere(Comparator<Agregat> principal) {
+            this.ordre = Comparator.comparing(Entree::valeurs, principal
+                            .thenComparingLong(Agregat::nombreCRs)
+                            .thenComparingLong(Agregat::rdqdComplets))
+                    .thenComparing(Entree::utilisateurId, Comparator.reverseOrder());
+        }
+
+        Comparator<Entree> ordre() {
+            return ordre;
+        }
+    }
+
+    /**
+     * Membre classé et ses agrégats sur la période
+     */
+    public record Entree(UUID utilisateurId, Agregat valeurs) {}
+
+    // Agrégats par membre d'un groupe sur une période
+    private record Tableau(Set<UUID> membres, Map<UUID, Agregat> valeurs, Instant expireA) {}
+}
@@ -0,0 +1,42 @@
+package com.cmci.cr.application.service;
+
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Résout en lot le nom des FD d'une liste d'utilisateurs :
+ * les fdId distincts sont chargés en une seule requête, quel que soit le nombre d'utilisateurs.
+ */
+@RequiredArgsConstructor
+public class FdNomResolver {
+
+    private final UtilisateurRepository utilisateurRepository;
+
+    /**
+     * @return les FD indexés par ID (les FD introuvables sont absents)
+     */
+    public Map<UUID, Utilisateur> resolveFds(Collection<Utilisateur> utilisateurs) {
+        List<UUID> fdIds = utilisateurs.stream()
+                .map(Utilisateur::getFdId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (fdIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return utilisateurRepository.findAllById(fdIds)
+                .stream()
+                .collect(Collectors.toMap(Utilisateur::getId, Function.identity(), (a, b) -> a));
+    }
+}
@@ -0,0 +1,10 @@
+package com.cmci.cr.application.service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Clé de regroupement d'une vue agrégée : périmètre (responsable ou utilisateur) et période
+ */
+public record ScopePeriode(UUID scopeId, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,68 @@
+package com.cmci.cr.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Regroupement des calculs concurrents identiques (single-flight).
+ *
+ * Tant qu'un calcul est en cours pour une clé, les appels suivants avec la même clé
+ * attendent ce calcul et reçoivent son résultat (ou son exception) au lieu de le relancer.
+ * Rien n'est conservé une fois le calcul terminé : ce n'est pas un cache, un appel
+ * ultérieur recalcule. Le résultat étant partagé entre appelants, il ne doit pas être modifié.
+ *
+ * @param <K> clé identifiant le calcul (périmètre, période...), avec equals/hashCode
+ * @param <V> type du résultat
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> enCours = new ConcurrentHashMap<>();
+
+    /**
+     * Exécute le calcul pour la clé, ou rejoint celui déjà en cours pour la même clé
+     */
+    public V execute(K key, Supplier<V> calcul) {
+        CompletableFuture<V> nouveau = new CompletableFuture<>();
+        CompletableFuture<V> existant = enCours.putIfAbsent(key, nouveau);
+
+        if (existant != null) {
+            return attendre(existant);
+        }
+
+        try {
+            V resultat = calcul.get();
+            nouveau.complete(resultat);
+            return resultat;
+        } catch (RuntimeException | Error e) {
+            nouveau.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCours.remove(key, nouveau);
+        }
+    }
+
+    /**
+     * @return le nombre de calculs en cours (supervision)
+     */
+    public int getInFlightCount() {
+        return enCours.size();
+    }
+
+    private V attendre(CompletableFuture<V> calcul) {
+        try {
+            return calcul.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
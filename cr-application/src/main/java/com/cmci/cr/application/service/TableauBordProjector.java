@@ -0,0 +1,77 @@
+package com.cmci.cr.application.service;
+
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.CRDeletedEvent;
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.CRSubmittedEvent;
+import com.cmci.cr.domain.event.CRUpdatedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventHandler;
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository.EtatCR;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Projection CQRS des événements de CR vers les tables de tableau de bord.
+ *
+ * Chaque événement est traduit en un état (statut, vu par FD) appliqué par upsert :
+ * le traitement ne dépend pas de l'état précédent, il est donc idempotent et
+ * rejouable depuis n'importe quel offset du topic cr-events.
+ */
+@RequiredArgsConstructor
+public class TableauBordProjector implements DomainEventHandler {
+
+    private final TableauBordRepository tableauBordRepository;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof CRCreatedEvent
+                || event instanceof CRSubmittedEvent
+                || event instanceof CRValidatedEvent
+                || event instanceof CRMarkedAsViewedEvent
+                || event instanceof CRUpdatedEvent
+                || event instanceof CRDeletedEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        if (event instanceof CRDeletedEvent e) {
+            tableauBordRepository.supprimer(e.getCompteRenduId());
+            return;
+        }
+        EtatCR etat = toEtat(event);
+        if (etat != null) {
+            tableauBordRepository.appliquer(etat);
+        }
+    }
+
+    /**
+     * Traduit un événement en état du CR (null = champ inchangé)
+     */
+    private EtatCR toEtat(DomainEvent event) {
+        if (event instanceof CRCreatedEvent e) {
+            return new EtatCR(e.getCompteRenduId(), e.getUtilisateurId(), e.getFdId(), e.getDateCR(),
+                    e.getStatut(), false, e.getOccurredOn());
+        }
+        if (event instanceof CRSubmittedEvent e) {
+            return new EtatCR(e.getCompteRenduId(), e.getUtilisateurId(), e.getFdId(), e.getDateCR(),
+                    StatutCR.SOUMIS.name(), null, e.getOccurredOn());
+        }
+        if (event instanceof CRValidatedEvent e) {
+            // La validation marque aussi le CR comme vu (CompteRendu.valider)
+            return new EtatCR(e.getCompteRenduId(), e.getUtilisateurId(), e.getValidatedByFdId(), e.getDateCR(),
+                    StatutCR.VALIDE.name(), true, e.getOccurredOn());
+        }
+        if (event instanceof CRMarkedAsViewedEvent e) {
+            return new EtatCR(e.getCompteRenduId(), e.getUtilisateurId(), e.getFdId(), e.getDateCR(),
+                    null, true, e.getOccurredOn());
+        }
+        if (event instanceof CRUpdatedEvent e) {
+            return new EtatCR(e.getCompteRenduId(), e.getUtilisateurId(), e.getFdId(), e.getDateCR(),
+                    e.getNouveauStatut(), null, e.getOccurredOn());
+        }
+        return null;
+    }
+}
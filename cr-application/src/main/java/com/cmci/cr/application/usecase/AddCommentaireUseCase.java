@@ -2,6 +2,8 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.command.AddCommentaireCommand;
 import com.cmci.cr.application.dto.response.CommentaireResponse;
+import com.cmci.cr.domain.event.CommentaireAddedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.Commentaire;
 import com.cmci.cr.domain.model.CompteRendu;
 import com.cmci.cr.domain.repository.CommentaireRepository;
@@ -19,6 +21,7 @@ public class AddCommentaireUseCase {
 
     private final CommentaireRepository commentaireRepository;
     private final CompteRenduRepository compteRenduRepository;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Exécute le use case d'ajout d'un commentaire
@@ -52,8 +55,9 @@ public class AddCommentaireUseCase {
         // Sauvegarder
         Commentaire saved = commentaireRepository.save(commentaire);
 
-        // Émettre un événement pour notifier le propriétaire du CR
-        // CommentaireAddedEvent.of(saved.getId(), cr.getId(), command.getAuteurId(), cr.getUtilisateurId(), command.getContenu())
+        // Émettre un événement pour notifier le propriétaire du CR (traité après commit)
+        eventPublisher.publish(CommentaireAddedEvent.of(
+                saved.getId(), cr.getId(), command.getAuteurId(), cr.getUtilisateurId(), command.getContenu()));
 
         return CommentaireResponse.builder()
                 .id(saved.getId())
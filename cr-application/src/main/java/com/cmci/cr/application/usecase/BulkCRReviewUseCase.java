@@ -0,0 +1,156 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.RevueCRsResponse;
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.domain.repository.RevueCRRepository;
+import com.cmci.cr.domain.repository.RevueCRRepository.EtatRevue;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Revue de CR en lot par un FD/Leader/Pasteur (US3.3, US2.5)
+ *
+ * Les états et les droits de tous les CR sont lus en une requête, les CR éligibles
+ * sont mis à jour en une seule instruction, et les événements publiés en un lot.
+ * Un CR hors de portée du relecteur fait échouer tout le lot ; un CR dont l'état
+ * ne permet pas la transition est simplement ignoré.
+ */
+@RequiredArgsConstructor
+public class BulkCRReviewUseCase {
+
+    static final int MAX_CRS = 500;
+
+    private final RevueCRRepository revueCRRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    /**
+     * Marque comme vus les CR donnés
+     *
+     * @throws IllegalArgumentException si un CR n'existe pas ou si la liste est vide ou trop longue
+     * @throws SecurityException si un CR n'est pas dans la portée du relecteur
+     */
+    public RevueCRsResponse markAsViewed(UUID relecteurId, Collection<UUID> compteRenduIds) {
+        return marquerVus(relecteurId, charger(relecteurId, compteRenduIds));
+    }
+
+    /**
+     * Marque comme vus tous les CR soumis et non vus d'un disciple jusqu'à la date incluse
+     *
+     * @throws SecurityException si le disciple n'est pas dans la portée du relecteur
+     */
+    public RevueCRsResponse markAsViewed(UUID relecteurId, UUID discipleId, LocalDate jusquA) {
+        return marquerVus(relecteurId, verifierDroits(revueCRRepository.findEtatsSoumis(relecteurId, discipleId, jusquA)));
+    }
+
+    /**
+     * Valide les CR donnés
+     *
+     * @throws IllegalArgumentException si un CR n'existe pas ou si la liste est vide ou trop longue
+     * @throws SecurityException si un CR n'est pas dans la portée du relecteur
+     */
+    public RevueCRsResponse validate(UUID relecteurId, Collection<UUID> compteRenduIds) {
+        return valider(relecteurId, charger(relecteurId, compteRenduIds));
+    }
+
+    /**
+     * Valide tous les CR soumis d'un disciple jusqu'à la date incluse
+     *
+     * @throws SecurityException si le disciple n'est pas dans la portée du relecteur
+     */
+    public RevueCRsResponse validate(UUID relecteurId, UUID discipleId, LocalDate jusquA) {
+        return valider(relecteurId, verifierDroits(revueCRRepository.findEtatsSoumis(relecteurId, discipleId, jusquA)));
+    }
+
+    private RevueCRsResponse marquerVus(UUID relecteurId, List<EtatRevue> etats) {
+        return appliquer(etats,
+                etat -> etat.statut() == StatutCR.SOUMIS && !etat.vuParFd(),
+                revueCRRepository::marquerVus,
+                etat -> CRMarkedAsViewedEvent.of(etat.compteRenduId(), etat.utilisateurId(), relecteurId, etat.date()));
+    }
+
+    private RevueCRsResponse valider(UUID relecteurId, List<EtatRevue> etats) {
+        return appliquer(etats,
+                etat -> etat.statut().canBeValidated(),
+                revueCRRepository::valider,
+                etat -> CRValidatedEvent.of(etat.compteRenduId(), etat.utilisateurId(), relecteurId, etat.date()));
+    }
+
+    private RevueCRsResponse appliquer(List<EtatRevue> etats,
+                                       Predicate<EtatRevue> eligible,
+                                       Function<List<UUID>, List<UUID>> miseAJour,
+                                       Function<EtatRevue, DomainEvent> evenement) {
+        List<UUID> eligibles = etats.stream()
+                .filter(eligible)
+                .map(EtatRevue::compteRenduId)
+                .collect(Collectors.toList());
+
+        // La mise à jour revérifie l'état : un CR revu entre-temps par un autre relecteur
+        // n'est pas retourné, il est ignoré et ne reçoit pas de second événement
+        Set<UUID> modifies = new HashSet<>(miseAJour.apply(eligibles));
+
+        List<UUID> traites = new ArrayList<>(modifies.size());
+        List<UUID> ignores = new ArrayList<>();
+        List<DomainEvent> evenements = new ArrayList<>(modifies.size());
+        for (EtatRevue etat : etats) {
+            if (modifies.contains(etat.compteRenduId())) {
+                traites.add(etat.compteRenduId());
+                evenements.add(evenement.apply(etat));
+            } else {
+                ignores.add(etat.compteRenduId());
+            }
+        }
+        if (!evenements.isEmpty()) {
+            eventPublisher.publishAll(evenements);
+        }
+
+        return RevueCRsResponse.builder()
+                .nombreTraites(traites.size())
+                .traites(traites)
+                .ignores(ignores)
+                .build();
+    }
+
+    private List<EtatRevue> charger(UUID relecteurId, Collection<UUID> compteRenduIds) {
+        if (compteRenduIds == null || compteRenduIds.isEmpty()) {
+            throw new IllegalArgumentException("Au moins un compte rendu doit être fourni");
+        }
+        Set<UUID> ids = new LinkedHashSet<>(compteRenduIds);
+        if (ids.size() > MAX_CRS) {
+            throw new IllegalArgumentException("Au plus " + MAX_CRS + " comptes rendus par lot");
+        }
+
+        List<EtatRevue> etats = revueCRRepository.findEtats(relecteurId, ids);
+        if (etats.size() < ids.size()) {
+            Set<UUID> inconnus = new HashSet<>(ids);
+            etats.forEach(etat -> inconnus.remove(etat.compteRenduId()));
+            throw new IllegalArgumentException("Comptes rendus non trouvés: " + inconnus);
+        }
+        return verifierDroits(etats);
+    }
+
+    private List<EtatRevue> verifierDroits(List<EtatRevue> etats) {
+        List<UUID> refuses = etats.stream()
+                .filter(etat -> !etat.autorise())
+                .map(EtatRevue::compteRenduId)
+                .collect(Collectors.toList());
+        if (!refuses.isEmpty()) {
+            throw new SecurityException("Vous n'avez pas les droits pour revoir les comptes rendus: " + refuses);
+        }
+        return etats;
+    }
+}
@@ -2,8 +2,16 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CRResponse;
 import com.cmci.cr.application.dto.command.CreateCRCommand;
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.RDQD;
 import com.cmci.cr.domain.valueobject.StatutCR;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +27,11 @@ import java.util.UUID;
 public class CreateCRUseCase {
 
     private final CompteRenduRepository compteRenduRepository;
+    private final CalendrierSoumissionRepository calendrierSoumissionRepository;
+    private final ParticipationRepository participationRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final UtilisateurRepository utilisateurRepository;
 
     /**
      * Exécute le use case de création d'un CR
@@ -68,10 +81,31 @@ public class CreateCRUseCase {
         // Sauvegarder
         CompteRendu saved = compteRenduRepository.save(compteRendu);
 
+        // Marquer le jour dans le calendrier des soumissions
+        calendrierSoumissionRepository.marquer(saved.getUtilisateurId(), saved.getDate(), true);
+
+        // Indexer la participation du jour pour les statistiques de groupe
+        participationRepository.marquer(saved.getUtilisateurId(), saved.getDate(), true);
+
+        // Reporter le CR dans les agrégats de ses périmètres (église de maison → région)
+        Agregat contribution = Agregat.de(saved);
+        statistiquesPerimetreRepository.appliquer(saved.getUtilisateurId(), saved.getDate(), contribution);
+
+        // Projections et notifications : traitées après commit, hors du thread de requête
+        eventPublisher.publish(CRCreatedEvent.of(saved.getId(), saved.getUtilisateurId(), fdDe(saved.getUtilisateurId()),
+                saved.getDate(), saved.getRdqd().toString(), saved.getStatut().name()));
+
         // Mapper vers le DTO de réponse
         return mapToResponse(saved);
     }
 
+    /**
+     * FD de l'auteur, porté par l'événement pour la projection et les notifications
+     */
+    private UUID fdDe(UUID utilisateurId) {
+        return utilisateurRepository.findById(utilisateurId).map(Utilisateur::getFdId).orElse(null);
+    }
+
     /**
      * Parse une durée au format "HH:mm" ou ISO
      */
@@ -117,6 +151,7 @@ public class CreateCRUseCase {
                 .vuParFd(cr.getVuParFd() != null ? cr.getVuParFd() : false)
                 .createdAt(cr.getCreatedAt())
                 .updatedAt(cr.getUpdatedAt())
+                .version(cr.getVersion())
                 .build();
     }
 
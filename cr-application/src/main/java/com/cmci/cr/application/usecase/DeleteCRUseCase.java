@@ -1,7 +1,15 @@
 package com.cmci.cr.application.usecase;
 
+import com.cmci.cr.domain.event.CRDeletedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.service.CRDomainService;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +23,11 @@ public class DeleteCRUseCase {
 
     private final CompteRenduRepository compteRenduRepository;
     private final CRDomainService crDomainService;
+    private final CalendrierSoumissionRepository calendrierSoumissionRepository;
+    private final ParticipationRepository participationRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final UtilisateurRepository utilisateurRepository;
 
     /**
      * Exécute le use case de suppression d'un CR
@@ -48,5 +61,22 @@ public class DeleteCRUseCase {
 
         // Supprimer le CR (soft delete dans l'infrastructure)
         compteRenduRepository.deleteById(id);
+
+        // Un seul CR par jour : le jour redevient non soumis
+        calendrierSoumissionRepository.marquer(existingCR.getUtilisateurId(), existingCR.getDate(), false);
+        participationRepository.marquer(existingCR.getUtilisateurId(), existingCR.getDate(), false);
+        Agregat retrait = Agregat.de(existingCR).oppose();
+        statistiquesPerimetreRepository.appliquer(existingCR.getUtilisateurId(), existingCR.getDate(), retrait);
+
+        // La projection des tableaux de bord retire le CR après commit
+        eventPublisher.publish(CRDeletedEvent.of(existingCR.getId(), existingCR.getUtilisateurId(),
+                fdDe(existingCR.getUtilisateurId()), existingCR.getDate()));
+    }
+
+    /**
+     * FD de l'auteur, porté par l'événement pour la projection et les notifications
+     */
+    private UUID fdDe(UUID utilisateurId) {
+        return utilisateurRepository.findById(utilisateurId).map(Utilisateur::getFdId).orElse(null);
     }
 }
@@ -2,8 +2,9 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CRResponse;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
-import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -13,11 +14,25 @@ import java.util.stream.Collectors;
 
 /**
  * Use Case: Consulter les Comptes Rendus
+ *
+ * Les listes d'historique sont lues en lecture seule ligne à ligne lorsque le port
+ * de lecture est disponible, sans reconstruire l'agrégat CompteRendu.
  */
-@RequiredArgsConstructor
 public class GetCRUseCase {
 
     private final CompteRenduRepository compteRenduRepository;
+    private final CompteRenduLectureRepository compteRenduLectureRepository; // null si non disponible
+
+    public GetCRUseCase(CompteRenduRepository compteRenduRepository) {
+        this(compteRenduRepository, null);
+    }
+
+    public GetCRUseCase(
+            CompteRenduRepository compteRenduRepository,
+            CompteRenduLectureRepository compteRenduLectureRepository) {
+        this.compteRenduRepository = compteRenduRepository;
+        this.compteRenduLectureRepository = compteRenduLectureRepository;
+    }
 
     /**
      * Récupère un CR par son ID
@@ -35,6 +50,12 @@ public class GetCRUseCase {
      * Récupère tous les CR d'un utilisateur
      */
     public List<CRResponse> getByUtilisateurId(UUID utilisateurId) {
+        if (compteRenduLectureRepository != null) {
+            return compteRenduLectureRepository.findByUtilisateurId(utilisateurId)
+                    .stream()
+                    .map(GetCRUseCase::toResponse)
+                    .collect(Collectors.toList());
+        }
         return compteRenduRepository.findByUtilisateurId(utilisateurId)
                 .stream()
                 .map(this::mapToResponse)
@@ -49,6 +70,12 @@ public class GetCRUseCase {
             LocalDate startDate,
             LocalDate endDate
     ) {
+        if (compteRenduLectureRepository != null) {
+            return compteRenduLectureRepository.findByUtilisateurIdAndDateBetween(utilisateurId, startDate, endDate)
+                    .stream()
+                    .map(GetCRUseCase::toResponse)
+                    .collect(Collectors.toList());
+        }
         return compteRenduRepository.findByUtilisateurIdAndDateBetween(
                         utilisateurId, startDate, endDate
                 )
@@ -106,9 +133,57 @@ public class GetCRUseCase {
                 .vuParFd(cr.getVuParFd() != null ? cr.getVuParFd() : false)
                 .createdAt(cr.getCreatedAt())
                 .updatedAt(cr.getUpdatedAt())
+                .version(cr.getVersion())
+                .build();
+    }
+
+    /**
+     * Mappe une ligne lue en lecture seule vers CRResponse, avec les mêmes valeurs par défaut
+     */
+    static CRResponse toResponse(LigneCR ligne) {
+        return CRResponse.builder()
+                .id(ligne.id())
+                .utilisateurId(ligne.utilisateurId())
+                .date(ligne.date())
+                .rdqd(ligne.rdqd() != null ? ligne.rdqd() : "0/1")
+                .priereSeule(formatPriereSeule(ligne.priereSeule()))
+                .lectureBiblique(ligne.lectureBiblique() != null ? ligne.lectureBiblique() : 0)
+                .livreBiblique(ligne.livreBiblique())
+                .litteraturePages(ligne.litteraturePages())
+                .litteratureTotal(ligne.litteratureTotal())
+                .litteratureTitre(ligne.litteratureTitre())
+                .priereAutres(ligne.priereAutres() != null ? ligne.priereAutres() : 0)
+                .confession(ligne.confession() != null ? ligne.confession() : false)
+                .jeune(ligne.jeune() != null ? ligne.jeune() : false)
+                .typeJeune(ligne.typeJeune())
+                .evangelisation(ligne.evangelisation() != null ? ligne.evangelisation() : 0)
+                .offrande(ligne.offrande() != null ? ligne.offrande() : false)
+                .notes(ligne.notes())
+                .statut(ligne.statut() != null ? ligne.statut() : "BROUILLON")
+                .vuParFd(ligne.vuParFd() != null ? ligne.vuParFd() : false)
+                .createdAt(ligne.createdAt())
+                .updatedAt(ligne.updatedAt())
+                .version(ligne.version())
                 .build();
     }
 
+    /**
+     * Réduit une durée stockée "HH:mm:ss" au format "HH:mm"
+     */
+    static String formatPriereSeule(String stockee) {
+        if (stockee == null || stockee.isEmpty()) {
+            return "00:00";
+        }
+        int separateur = stockee.indexOf(':');
+        if (separateur < 0) {
+            return "00:00";
+        }
+        int fin = stockee.indexOf(':', separateur + 1);
+        String heures = stockee.substring(0, separateur);
+        String minutes = fin < 0 ? stockee.substring(separateur + 1) : stockee.substring(separateur + 1, fin);
+        return (heures.length() < 2 ? "0" + heures : heures) + ":" + (minutes.length() < 2 ? "0" + minutes : minutes);
+    }
+
     /**
      * Formate une durée au format "HH:mm"
      */
@@ -0,0 +1,59 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.CalendrierSoumissionsResponse;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
+import com.cmci.cr.domain.service.CRDomainService;
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use Case: Obtenir le calendrier annuel des CR d'un utilisateur (heatmap)
+ * Servi directement depuis le calendrier des soumissions, sans lire les CR.
+ */
+@RequiredArgsConstructor
+public class GetCalendrierSoumissionsUseCase {
+
+    private final CalendrierSoumissionRepository calendrierSoumissionRepository;
+    private final CRDomainService crDomainService;
+
+    /**
+     * Exécute le use case de récupération du calendrier
+     *
+     * @param utilisateurId ID de l'utilisateur
+     * @param annee Année demandée
+     * @return Jours soumis et indicateurs de l'année
+     * @throws IllegalArgumentException si l'année est dans le futur
+     */
+    public CalendrierSoumissionsResponse execute(UUID utilisateurId, int annee) {
+        LocalDate today = LocalDate.now();
+        if (annee > today.getYear()) {
+            throw new IllegalArgumentException("L'année ne peut pas être dans le futur: " + annee);
+        }
+
+        CalendrierSoumissions calendrier = calendrierSoumissionRepository
+                .findByUtilisateurIdAndAnnee(utilisateurId, annee)
+                .orElseGet(() -> CalendrierSoumissions.vide(annee));
+
+        boolean anneeCourante = annee == today.getYear();
+        LocalDate finPeriode = anneeCourante ? today : LocalDate.of(annee, 12, 31);
+        int joursEcoules = finPeriode.getDayOfYear();
+        int joursSoumisPeriode = calendrier.compter(LocalDate.of(annee, 1, 1), finPeriode);
+
+        List<LocalDate> joursSoumis = calendrier.joursSoumis();
+
+        return CalendrierSoumissionsResponse.builder()
+                .utilisateurId(utilisateurId)
+                .annee(annee)
+                .joursSoumis(joursSoumis)
+                .nombreJoursSoumis(joursSoumis.size())
+                .joursEcoules(joursEcoules)
+                .tauxRegularite(joursSoumisPeriode * 100.0 / joursEcoules)
+                .serieEnCours(anneeCourante ? crDomainService.countConsecutiveDays(utilisateurId) : null)
+                .meilleureSerie(calendrier.meilleureSerie())
+                .build();
+    }
+}
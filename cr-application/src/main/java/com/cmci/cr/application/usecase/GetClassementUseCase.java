@@ -0,0 +1,79 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.ClassementResponse;
+import com.cmci.cr.application.dto.response.EntreeClassementResponse;
+import com.cmci.cr.application.service.ClassementService;
+import com.cmci.cr.application.service.ClassementService.Critere;
+import com.cmci.cr.application.service.ClassementService.Entree;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Obtenir le classement (top-k) des disciples d'un FD
+ */
+@RequiredArgsConstructor
+public class GetClassementUseCase {
+
+    static final int K_MAX = 100;
+
+    private final UtilisateurRepository utilisateurRepository;
+    private final ClassementService classementService;
+
+    /**
+     * Exécute le use case de classement
+     *
+     * @param fdId ID du FD
+     * @param critere Critère de classement
+     * @param startDate Date de début
+     * @param endDate Date de fin
+     * @param k Nombre de membres à retourner
+     * @return Les k meilleurs disciples, du premier au k-ième
+     * @throws IllegalArgumentException si la période ou k est invalide
+     */
+    public ClassementResponse execute(UUID fdId, Critere critere, LocalDate startDate, LocalDate endDate, int k) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("La date de début doit être avant la date de fin");
+        }
+        if (k <= 0 || k > K_MAX) {
+            throw new IllegalArgumentException("Le nombre de membres à classer doit être entre 1 et " + K_MAX);
+        }
+
+        Map<UUID, Utilisateur> disciples = utilisateurRepository.findByFdId(fdId).stream()
+                .collect(Collectors.toMap(Utilisateur::getId, Function.identity()));
+
+        List<Entree> top = classementService.topK(fdId, disciples.keySet(), critere, startDate, endDate, k);
+        long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        List<EntreeClassementResponse> entrees = new ArrayList<>(top.size());
+        for (Entree entree : top) {
+            Utilisateur disciple = disciples.get(entree.utilisateurId());
+            entrees.add(EntreeClassementResponse.builder()
+                    .rang(entrees.size() + 1)
+                    .utilisateurId(entree.utilisateurId())
+                    .nomComplet(disciple != null ? disciple.getNomComplet() : null)
+                    .nombreCRs(entree.valeurs().nombreCRs())
+                    .tauxRegularite((double) entree.valeurs().nombreCRs() / totalDays * 100.0)
+                    .minutesPriere(entree.valeurs().dureePriere().toMinutes())
+                    .chapitresLus(entree.valeurs().chapitresLus())
+                    .build());
+        }
+
+        return ClassementResponse.builder()
+                .critere(critere.name())
+                .startDate(startDate)
+                .endDate(endDate)
+                .nombreMembres((long) disciples.size())
+                .entrees(entrees)
+                .build();
+    }
+}
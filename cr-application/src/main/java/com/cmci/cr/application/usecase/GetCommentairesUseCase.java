@@ -1,11 +1,16 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CommentaireResponse;
+import com.cmci.cr.application.dto.response.CommentaireResumeResponse;
 import com.cmci.cr.domain.model.Commentaire;
 import com.cmci.cr.domain.repository.CommentaireRepository;
+import com.cmci.cr.domain.repository.CommentaireRepository.CommentaireAvecAuteur;
+import com.cmci.cr.domain.repository.CommentaireRepository.ResumeCommentaires;
 import lombok.RequiredArgsConstructor;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -15,18 +20,75 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GetCommentairesUseCase {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_RESUMES = 200;
+
     private final CommentaireRepository commentaireRepository;
 
     /**
-     * Récupère tous les commentaires d'un CR
+     * Récupère tous les commentaires d'un CR, avec le nom de l'auteur
      */
     public List<CommentaireResponse> getByCompteRenduId(UUID compteRenduId) {
-        return commentaireRepository.findByCompteRenduId(compteRenduId)
+        return commentaireRepository.findThreadByCompteRenduId(compteRenduId)
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Récupère une page du fil de commentaires d'un CR, avec le nom de l'auteur
+     */
+    public List<CommentaireResponse> getThread(UUID compteRenduId, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Le numéro de page doit être positif");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "La taille de page doit être comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+
+        return commentaireRepository.findThreadByCompteRenduId(compteRenduId, page, size)
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Récupère le nombre de commentaires et le dernier commentaire de plusieurs CR
+     * en une seule requête. Le résultat suit l'ordre des IDs fournis ; un CR sans
+     * commentaire a un compteur à 0 et pas de dernier commentaire.
+     */
+    public List<CommentaireResumeResponse> getResumes(List<UUID> compteRenduIds) {
+        if (compteRenduIds == null || compteRenduIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(compteRenduIds));
+        if (distinctIds.size() > MAX_RESUMES) {
+            throw new IllegalArgumentException(
+                    "Impossible de résumer plus de " + MAX_RESUMES + " comptes rendus à la fois");
+        }
+
+        Map<UUID, ResumeCommentaires> resumes = commentaireRepository.findResumesByCompteRenduIds(distinctIds);
+
+        return distinctIds.stream()
+                .map(id -> {
+                    ResumeCommentaires resume = resumes.get(id);
+                    if (resume == null) {
+                        return CommentaireResumeResponse.builder()
+                                .compteRenduId(id)
+                                .nombreCommentaires(0)
+                                .build();
+                    }
+                    return CommentaireResumeResponse.builder()
+                            .compteRenduId(id)
+                            .nombreCommentaires(resume.nombreCommentaires())
+                            .dernierCommentaire(mapToResponse(resume.dernierCommentaire()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Récupère tous les commentaires d'un auteur
      */
@@ -52,9 +114,23 @@ public class GetCommentairesUseCase {
                 .id(commentaire.getId())
                 .compteRenduId(commentaire.getCompteRenduId())
                 .auteurId(commentaire.getAuteurId())
-                .auteurNom(null) // Sera enrichi par le repository avec jointure
+                .auteurNom(null) // Non disponible sans jointure (voir findThreadByCompteRenduId)
                 .contenu(commentaire.getContenu())
                 .createdAt(commentaire.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Mappe un commentaire enrichi de son auteur vers CommentaireResponse
+     */
+    private CommentaireResponse mapToResponse(CommentaireAvecAuteur commentaire) {
+        return CommentaireResponse.builder()
+                .id(commentaire.id())
+                .compteRenduId(commentaire.compteRenduId())
+                .auteurId(commentaire.auteurId())
+                .auteurNom(commentaire.getAuteurNomComplet())
+                .contenu(commentaire.contenu())
+                .createdAt(commentaire.createdAt())
+                .build();
+    }
 }
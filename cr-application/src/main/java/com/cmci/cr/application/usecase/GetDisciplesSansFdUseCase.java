@@ -0,0 +1,98 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.DisciplesSansFdResponse;
+import com.cmci.cr.application.dto.response.UtilisateurResponse;
+import com.cmci.cr.domain.model.EgliseMaison;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Lister les fidèles actifs sans FD, page par page
+ *
+ * La liste peut être restreinte à l'église de maison ou à l'église locale du demandeur.
+ */
+@RequiredArgsConstructor
+public class GetDisciplesSansFdUseCase {
+
+    static final int MAX_LIMITE = 100;
+
+    private final UtilisateurRepository utilisateurRepository;
+    private final EgliseMaisonRepository egliseMaisonRepository;
+
+    /**
+     * Exécute le use case
+     *
+     * @param demandeurId ID de l'utilisateur connecté
+     * @param portee EGLISE_MAISON ou EGLISE_LOCALE du demandeur, null pour toute l'organisation
+     * @param apresId Dernier fidèle de la page précédente, null pour la première page
+     * @param limite Taille de page
+     * @return La page et le curseur de la page suivante
+     * @throws IllegalArgumentException si la portée ou la limite est invalide
+     */
+    public DisciplesSansFdResponse execute(UUID demandeurId, Perimetre portee, UUID apresId, int limite) {
+        if (limite < 1 || limite > MAX_LIMITE) {
+            throw new IllegalArgumentException("La taille de page doit être comprise entre 1 et " + MAX_LIMITE);
+        }
+
+        UUID perimetreId = portee != null ? resoudrePerimetre(demandeurId, portee) : null;
+
+        // Un élément de plus que demandé indique s'il reste une page
+        List<Utilisateur> fideles = utilisateurRepository.findFidelesSansFd(portee, perimetreId, apresId, limite + 1);
+        boolean dernierePage = fideles.size() <= limite;
+        List<Utilisateur> page = dernierePage ? fideles : fideles.subList(0, limite);
+
+        return DisciplesSansFdResponse.builder()
+                .disciples(page.stream()
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()))
+                .suivant(dernierePage ? null : page.get(page.size() - 1).getId())
+                .build();
+    }
+
+    private UUID resoudrePerimetre(UUID demandeurId, Perimetre portee) {
+        Utilisateur demandeur = utilisateurRepository.findById(demandeurId)
+                .orElseThrow(() -> new IllegalArgumentException("Utilisateur non trouvé avec l'ID: " + demandeurId));
+        if (demandeur.getEgliseMaisonId() == null) {
+            throw new IllegalArgumentException("Aucune église de maison rattachée à l'utilisateur");
+        }
+
+        return switch (portee) {
+            case EGLISE_MAISON -> demandeur.getEgliseMaisonId();
+            case EGLISE_LOCALE -> egliseMaisonRepository.findById(demandeur.getEgliseMaisonId())
+                    .map(EgliseMaison::getEgliseLocaleId)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Église de maison non trouvée: " + demandeur.getEgliseMaisonId()));
+            default -> throw new IllegalArgumentException(
+                    "Portée non supportée: " + portee + " (EGLISE_MAISON ou EGLISE_LOCALE)");
+        };
+    }
+
+    /**
+     * Mappe un fidèle (sans FD) vers UtilisateurResponse
+     */
+    private UtilisateurResponse mapToResponse(Utilisateur utilisateur) {
+        return UtilisateurResponse.builder()
+                .id(utilisateur.getId())
+                .email(utilisateur.getEmail())
+                .nom(utilisateur.getNom())
+                .prenom(utilisateur.getPrenom())
+                .nomComplet(utilisateur.getNomComplet())
+                .role(utilisateur.getRole().name())
+                .egliseMaisonId(utilisateur.getEgliseMaisonId())
+                .avatarUrl(utilisateur.getAvatarUrl())
+                .telephone(utilisateur.getTelephone())
+                .dateNaissance(utilisateur.getDateNaissance())
+                .dateBapteme(utilisateur.getDateBapteme())
+                .statut(utilisateur.getStatut().name())
+                .createdAt(utilisateur.getCreatedAt())
+                .updatedAt(utilisateur.getUpdatedAt())
+                .build();
+    }
+}
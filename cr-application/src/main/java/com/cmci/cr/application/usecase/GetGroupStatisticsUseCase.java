@@ -1,6 +1,9 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.GroupStatisticsResponse;
+import com.cmci.cr.application.service.ClassementService;
+import com.cmci.cr.application.service.ScopePeriode;
+import com.cmci.cr.application.service.SingleFlight;
 import com.cmci.cr.domain.model.Utilisateur;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
@@ -23,6 +26,9 @@ public class GetGroupStatisticsUseCase {
     private final UtilisateurRepository utilisateurRepository;
     private final CompteRenduRepository compteRenduRepository;
     private final StatisticsService statisticsService;
+    private final ClassementService classementService;
+    // Appels simultanés identiques (FD, période) regroupés en un seul calcul
+    private final SingleFlight<ScopePeriode, GroupStatisticsResponse> inFlight = new SingleFlight<>();
 
     /**
      * Exécute le use case de récupération des statistiques de groupe
@@ -33,6 +39,11 @@ public class GetGroupStatisticsUseCase {
      * @return Statistiques de groupe
      */
     public GroupStatisticsResponse execute(UUID fdId, LocalDate startDate, LocalDate endDate) {
+        return inFlight.execute(new ScopePeriode(fdId, startDate, endDate),
+                () -> calculer(fdId, startDate, endDate));
+    }
+
+    private GroupStatisticsResponse calculer(UUID fdId, LocalDate startDate, LocalDate endDate) {
         // Récupérer tous les disciples du FD
         List<Utilisateur> disciples = utilisateurRepository.findByFdId(fdId);
 
@@ -80,6 +91,22 @@ public class GetGroupStatisticsUseCase {
                 })
                 .count();
 
+        // Disciple le plus régulier de la période
+        Utilisateur meilleurDisciple = null;
+        Double meilleurTaux = null;
+        if (!disciples.isEmpty()) {
+            ClassementService.Entree premier = classementService.topK(fdId, disciplesIds,
+                    ClassementService.Critere.REGULARITE, startDate, endDate, 1).get(0);
+            if (premier.valeurs().nombreCRs() > 0) {
+                long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+                meilleurDisciple = disciples.stream()
+                        .filter(d -> d.getId().equals(premier.utilisateurId()))
+                        .findFirst()
+                        .orElse(null);
+                meilleurTaux = (double) premier.valeurs().nombreCRs() / totalDays * 100.0;
+            }
+        }
+
         // Mapper vers le DTO de réponse
         return GroupStatisticsResponse.builder()
                 .startDate(startDate)
@@ -93,8 +120,8 @@ public class GetGroupStatisticsUseCase {
                 .moyennePriereParMembre(formatDuration(stats.getMoyennePriereParMembre()))
                 .membresAvecAlerte(membresAvecAlerte)
                 .membresInactifs(membresInactifs)
-                .meilleurDisciple(null) // TODO: Implémenter calcul du meilleur disciple
-                .meilleurTaux(null)
+                .meilleurDisciple(meilleurDisciple != null ? meilleurDisciple.getNomComplet() : null)
+                .meilleurTaux(meilleurDisciple != null ? meilleurTaux : null)
                 .build();
     }
 
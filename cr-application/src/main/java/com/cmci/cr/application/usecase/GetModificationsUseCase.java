@@ -0,0 +1,170 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.CommentaireResponse;
+import com.cmci.cr.application.dto.response.ModificationsResponse;
+import com.cmci.cr.application.dto.response.SuppressionResponse;
+import com.cmci.cr.application.dto.response.UtilisateurResponse;
+import com.cmci.cr.domain.repository.SynchronisationRepository;
+import com.cmci.cr.domain.repository.SynchronisationRepository.CRModifie;
+import com.cmci.cr.domain.repository.SynchronisationRepository.CommentaireModifie;
+import com.cmci.cr.domain.repository.SynchronisationRepository.Suppression;
+import com.cmci.cr.domain.repository.SynchronisationRepository.UtilisateurModifie;
+import com.cmci.cr.domain.repository.SynchronisationRepository.Versionne;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Obtenir les modifications depuis une version (synchronisation des clients hors ligne)
+ *
+ * Le client conserve la version rendue et la renvoie au prochain appel : il ne reçoit que les
+ * CR, commentaires, utilisateurs et suppressions de son périmètre écrits depuis, au lieu de
+ * recharger tout l'historique. Un lot ne coupe jamais une transaction en deux.
+ * Le référentiel n'est pas dans le flux (voir SynchronisationRepository).
+ * Les suppressions ne sont gardées que pendant la rétention : un curseur plus ancien
+ * est refusé et le client doit repartir de 0.
+ */
+@RequiredArgsConstructor
+public class GetModificationsUseCase {
+
+    public static final int LIMITE_MAX = 1000;
+
+    private final SynchronisationRepository synchronisationRepository;
+
+    /**
+     * Exécute le use case de lecture du flux de modifications
+     *
+     * @param utilisateurId ID de l'utilisateur authentifié
+     * @param depuis Version rendue par l'appel précédent, 0 pour une synchronisation complète
+     * @param limite Nombre maximal d'éléments par section
+     * @return Modifications de la fenêtre et curseur suivant
+     * @throws IllegalArgumentException si la version est négative ou la limite hors bornes
+     * @throws IllegalStateException si des suppressions postérieures à la version ont été purgées
+     */
+    public ModificationsResponse execute(UUID utilisateurId, long depuis, int limite) {
+        if (depuis < 0) {
+            throw new IllegalArgumentException("La version ne peut pas être négative: " + depuis);
+        }
+        if (limite < 1 || limite > LIMITE_MAX) {
+            throw new IllegalArgumentException("La limite doit être comprise entre 1 et " + LIMITE_MAX);
+        }
+
+        long horizon = synchronisationRepository.horizon();
+        if (horizon <= depuis) {
+            return toResponse(depuis, true, List.of(), List.of(), List.of(), List.of());
+        }
+
+        // Une ligne de plus par section pour savoir si elle déborde
+        List<CRModifie> compteRendus = synchronisationRepository.findCompteRendus(utilisateurId, depuis, horizon, limite + 1);
+        List<CommentaireModifie> commentaires = synchronisationRepository.findCommentaires(utilisateurId, depuis, horizon, limite + 1);
+        List<UtilisateurModifie> utilisateurs = synchronisationRepository.findUtilisateurs(utilisateurId, depuis, horizon, limite + 1);
+        List<Suppression> suppressions = synchronisationRepository.findSuppressions(utilisateurId, depuis, horizon, limite + 1);
+
+        // Plancher lu après les suppressions : une purge passée entre-temps est vue ici
+        if (depuis > 0 && depuis < synchronisationRepository.plancher()) {
+            throw new IllegalStateException("Version " + depuis
+                    + " antérieure à la rétention des suppressions : resynchronisation complète requise (depuis=0)");
+        }
+
+        // Coupure à la plus petite version non lue parmi les sections qui débordent :
+        // toutes les sections s'arrêtent au même point pour garder un curseur unique
+        long coupure = horizon;
+        coupure = Math.min(coupure, premiereVersionNonLue(compteRendus, limite));
+        coupure = Math.min(coupure, premiereVersionNonLue(commentaires, limite));
+        coupure = Math.min(coupure, premiereVersionNonLue(utilisateurs, limite));
+        coupure = Math.min(coupure, premiereVersionNonLue(suppressions, limite));
+
+        if (coupure == horizon) {
+            return toResponse(horizon, true, compteRendus, commentaires, utilisateurs, suppressions);
+        }
+
+        compteRendus = avant(compteRendus, coupure);
+        commentaires = avant(commentaires, coupure);
+        utilisateurs = avant(utilisateurs, coupure);
+        suppressions = avant(suppressions, coupure);
+
+        if (compteRendus.isEmpty() && commentaires.isEmpty() && utilisateurs.isEmpty() && suppressions.isEmpty()) {
+            // Une seule transaction dépasse la limite : elle est rendue entière pour progresser
+            long suivante = coupure + 1;
+            return toResponse(suivante, false,
+                    synchronisationRepository.findCompteRendus(utilisateurId, coupure, suivante, Integer.MAX_VALUE),
+                    synchronisationRepository.findCommentaires(utilisateurId, coupure, suivante, Integer.MAX_VALUE),
+                    synchronisationRepository.findUtilisateurs(utilisateurId, coupure, suivante, Integer.MAX_VALUE),
+                    synchronisationRepository.findSuppressions(utilisateurId, coupure, suivante, Integer.MAX_VALUE));
+        }
+
+        return toResponse(coupure, false, compteRendus, commentaires, utilisateurs, suppressions);
+    }
+
+    private static long premiereVersionNonLue(List<? extends Versionne> section, int limite) {
+        return section.size() > limite ? section.get(limite).version() : Long.MAX_VALUE;
+    }
+
+    private static <T extends Versionne> List<T> avant(List<T> section, long coupure) {
+        return section.stream()
+                .filter(element -> element.version() < coupure)
+                .collect(Collectors.toList());
+    }
+
+    private ModificationsResponse toResponse(
+            long version,
+            boolean complet,
+            List<CRModifie> compteRendus,
+            List<CommentaireModifie> commentaires,
+            List<UtilisateurModifie> utilisateurs,
+            List<Suppression> suppressions) {
+        return ModificationsResponse.builder()
+                .version(version)
+                .complet(complet)
+                .compteRendus(compteRendus.stream()
+                        .map(cr -> GetCRUseCase.toResponse(cr.compteRendu()))
+                        .collect(Collectors.toList()))
+                .commentaires(commentaires.stream()
+                        .map(this::toCommentaireResponse)
+                        .collect(Collectors.toList()))
+                .utilisateurs(utilisateurs.stream()
+                        .map(this::toUtilisateurResponse)
+                        .collect(Collectors.toList()))
+                .suppressions(suppressions.stream()
+                        .map(s -> SuppressionResponse.builder()
+                                .typeEntite(s.typeEntite())
+                                .entiteId(s.entiteId())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private CommentaireResponse toCommentaireResponse(CommentaireModifie commentaire) {
+        return CommentaireResponse.builder()
+                .id(commentaire.id())
+                .compteRenduId(commentaire.compteRenduId())
+                .auteurId(commentaire.auteurId())
+                .auteurNom(commentaire.auteurNom())
+                .contenu(commentaire.contenu())
+                .createdAt(commentaire.createdAt())
+                .build();
+    }
+
+    private UtilisateurResponse toUtilisateurResponse(UtilisateurModifie utilisateur) {
+        return UtilisateurResponse.builder()
+                .id(utilisateur.id())
+                .email(utilisateur.email())
+                .nom(utilisateur.nom())
+                .prenom(utilisateur.prenom())
+                .nomComplet(utilisateur.prenom() + " " + utilisateur.nom())
+                .role(utilisateur.role())
+                .egliseMaisonId(utilisateur.egliseMaisonId())
+                .fdId(utilisateur.fdId())
+                .fdNom(utilisateur.fdNom())
+                .avatarUrl(utilisateur.avatarUrl())
+                .telephone(utilisateur.telephone())
+                .dateNaissance(utilisateur.dateNaissance())
+                .dateBapteme(utilisateur.dateBapteme())
+                .statut(utilisateur.statut())
+                .createdAt(utilisateur.createdAt())
+                .updatedAt(utilisateur.updatedAt())
+                .build();
+    }
+}
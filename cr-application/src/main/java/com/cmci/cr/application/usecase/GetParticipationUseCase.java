@@ -0,0 +1,46 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.ParticipationResponse;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Participation;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Use Case: Obtenir la participation du jour d'un périmètre (« qui a soumis aujourd'hui »)
+ * Servi par l'index de participation, sans parcourir les membres ni leurs CR.
+ */
+@RequiredArgsConstructor
+public class GetParticipationUseCase {
+
+    private final ParticipationRepository participationRepository;
+
+    /**
+     * Exécute le use case de calcul de la participation
+     *
+     * @param perimetre Niveau de l'organisation
+     * @param perimetreId ID de l'église de maison, église locale, zone ou région
+     * @param date Jour concerné
+     * @return Nombre de membres actifs, de participants et taux de participation
+     * @throws IllegalArgumentException si la date est dans le futur
+     */
+    public ParticipationResponse execute(Perimetre perimetre, UUID perimetreId, LocalDate date) {
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("La date ne peut pas être dans le futur: " + date);
+        }
+
+        Participation participation = participationRepository.compter(perimetre, perimetreId, date);
+
+        return ParticipationResponse.builder()
+                .perimetre(perimetre.name())
+                .perimetreId(perimetreId)
+                .date(date)
+                .nombreMembres(participation.membres())
+                .nombreParticipants(participation.participants())
+                .tauxParticipation(participation.taux())
+                .build();
+    }
+}
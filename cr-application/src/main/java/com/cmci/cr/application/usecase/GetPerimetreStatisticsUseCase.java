@@ -0,0 +1,79 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.PerimetreStatisticsResponse;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Participation;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Use Case: Obtenir les statistiques d'une zone, d'une région ou d'une église
+ * Lit les agrégats journaliers du périmètre et l'index de participation du jour,
+ * sans parcourir les membres ni leurs CR.
+ */
+@RequiredArgsConstructor
+public class GetPerimetreStatisticsUseCase {
+
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
+    private final ParticipationRepository participationRepository;
+
+    /**
+     * Exécute le use case de statistiques de périmètre
+     *
+     * @param perimetre Niveau de l'organisation
+     * @param perimetreId ID de l'église de maison, église locale, zone ou région
+     * @param startDate Date de début (incluse)
+     * @param endDate Date de fin (incluse)
+     * @return Les statistiques agrégées du périmètre
+     * @throws IllegalArgumentException si la période est invalide
+     */
+    public PerimetreStatisticsResponse execute(Perimetre perimetre, UUID perimetreId,
+                                               LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("La date de début doit être avant la date de fin");
+        }
+
+        Agregat periode = statistiquesPerimetreRepository.sommer(perimetre, perimetreId, startDate, endDate);
+        Participation aujourdhui = participationRepository.compter(perimetre, perimetreId, LocalDate.now());
+
+        long membres = aujourdhui.membres();
+        long totalCRs = periode.nombreCRs();
+        long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        return PerimetreStatisticsResponse.builder()
+                .perimetre(perimetre.name())
+                .perimetreId(perimetreId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .nombreMembres(membres)
+                .nombreCRsAujourdhui(aujourdhui.participants())
+                .tauxSoumissionJour(aujourdhui.taux())
+                .totalCRsPeriode(totalCRs)
+                .tauxRegularite(membres > 0 ? (double) totalCRs / (membres * totalDays) * 100.0 : 0.0)
+                .tauxRDQD(totalCRs > 0 ? (double) periode.rdqdComplets() / totalCRs * 100.0 : 0.0)
+                .dureeTotalePriere(formatDuration(periode.dureePriere()))
+                .moyennePriereParMembre(formatDuration(membres > 0
+                        ? periode.dureePriere().dividedBy(membres) : Duration.ZERO))
+                .totalChapitresLus(periode.chapitresLus())
+                .totalPersonnesEvangelisees(periode.personnesEvangelisees())
+                .nombreConfessions(periode.confessions())
+                .nombreJeunes(periode.jeunes())
+                .build();
+    }
+
+    /**
+     * Formate une durée au format "HH:mm"
+     */
+    private String formatDuration(Duration duration) {
+        long hours = duration.toHours();
+        long minutes = duration.toMinutesPart();
+        return String.format("%02d:%02d", hours, minutes);
+    }
+}
@@ -1,6 +1,8 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.PersonalStatisticsResponse;
+import com.cmci.cr.application.service.ScopePeriode;
+import com.cmci.cr.application.service.SingleFlight;
 import com.cmci.cr.domain.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +17,8 @@ import java.util.UUID;
 public class GetPersonalStatisticsUseCase {
 
     private final StatisticsService statisticsService;
+    // Appels simultanés identiques (utilisateur, période) regroupés en un seul calcul
+    private final SingleFlight<ScopePeriode, PersonalStatisticsResponse> inFlight = new SingleFlight<>();
 
     /**
      * Exécute le use case de récupération des statistiques personnelles
@@ -25,6 +29,11 @@ public class GetPersonalStatisticsUseCase {
      * @return Statistiques personnelles
      */
     public PersonalStatisticsResponse execute(UUID utilisateurId, LocalDate startDate, LocalDate endDate) {
+        return inFlight.execute(new ScopePeriode(utilisateurId, startDate, endDate),
+                () -> calculer(utilisateurId, startDate, endDate));
+    }
+
+    private PersonalStatisticsResponse calculer(UUID utilisateurId, LocalDate startDate, LocalDate endDate) {
         // Calculer les statistiques via le domain service
         StatisticsService.PersonalStatistics stats = statisticsService.calculatePersonalStatistics(
                 utilisateurId,
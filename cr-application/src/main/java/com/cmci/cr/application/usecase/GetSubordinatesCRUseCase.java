@@ -2,20 +2,26 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.SubordinateCRResponse;
 import com.cmci.cr.application.dto.response.SubordinateWithCRsResponse;
-import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.application.service.ScopePeriode;
+import com.cmci.cr.application.service.SingleFlight;
 import com.cmci.cr.domain.model.EgliseLocale;
 import com.cmci.cr.domain.model.EgliseMaison;
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.CompteRenduRepository.ResumeCR;
 import com.cmci.cr.domain.repository.EgliseLocaleRepository;
 import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository.ResumeMembre;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.Role;
 import lombok.RequiredArgsConstructor;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +31,11 @@ import java.util.stream.Collectors;
  * - FD → ses disciples directs (fdId)
  * - Leader → tous les membres de son église de maison
  * - Pasteur → tous les membres de toutes les églises de maison de son église locale
+ *
+ * Le mode détail lit les CR ligne à ligne en lecture seule. Le mode résumé ne charge aucun CR : il lit la projection des tableaux de bord
+ * lorsqu'elle est activée, sinon une agrégation par utilisateur sur compte_rendu.
+ * Dans les deux modes, les appels simultanés pour le même responsable et la même
+ * période partagent un seul calcul.
  */
 @RequiredArgsConstructor
 public class GetSubordinatesCRUseCase {
@@ -33,6 +44,11 @@ public class GetSubordinatesCRUseCase {
     private final CompteRenduRepository compteRenduRepository;
     private final EgliseMaisonRepository egliseMaisonRepository;
     private final EgliseLocaleRepository egliseLocaleRepository;
+    private final TableauBordRepository tableauBordRepository;
+    private final CompteRenduLectureRepository compteRenduLectureRepository;
+    private final boolean lectureProjection; // app.projections.tableau-bord.lecture
+    private final SingleFlight<ScopePeriode, List<SubordinateWithCRsResponse>> inFlight = new SingleFlight<>();
+    private final SingleFlight<ScopePeriode, List<SubordinateWithCRsResponse>> summaryInFlight = new SingleFlight<>();
 
     /**
      * Récupère la liste des subordonnés avec leurs CR sur une période donnée
@@ -43,6 +59,11 @@ public class GetSubordinatesCRUseCase {
      * @return Liste des subordonnés avec leurs CR
      */
     public List<SubordinateWithCRsResponse> execute(UUID responsableId, LocalDate startDate, LocalDate endDate) {
+        return inFlight.execute(new ScopePeriode(responsableId, startDate, endDate),
+                () -> calculer(responsableId, startDate, endDate));
+    }
+
+    private List<SubordinateWithCRsResponse> calculer(UUID responsableId, LocalDate startDate, LocalDate endDate) {
         Utilisateur responsable = utilisateurRepository.findById(responsableId)
                 .orElseThrow(() -> new NoSuchElementException("Responsable non trouvé: " + responsableId));
 
@@ -58,21 +79,154 @@ public class GetSubordinatesCRUseCase {
                 .map(Utilisateur::getId)
                 .collect(Collectors.toList());
 
-        // Récupérer tous les CR des subordonnés sur la période
-        List<CompteRendu> allCRs = compteRenduRepository.findByUtilisateurIdInAndDateBetween(
-                subordinateIds, startDate, endDate);
+        // Récupérer tous les CR des subordonnés sur la période, groupés par utilisateur, du plus récent au plus ancien
+        Map<UUID, List<SubordinateCRResponse>> crsByUser = compteRenduLectureRepository
+                .findByUtilisateurIdInAndDateBetween(subordinateIds, startDate, endDate)
+                .stream()
+                .collect(Collectors.groupingBy(LigneCR::utilisateurId,
+                        Collectors.mapping(this::toCRResponse, Collectors.toList())));
 
-        // Grouper les CR par utilisateur
-        Map<UUID, List<CompteRendu>> crsByUser = allCRs.stream()
-                .collect(Collectors.groupingBy(CompteRendu::getUtilisateurId));
+        long totalDays = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
 
         // Construire la réponse
         return subordinates.stream()
                 .map(subordinate -> buildSubordinateResponse(
                         subordinate,
                         crsByUser.getOrDefault(subordinate.getId(), List.of()),
-                        startDate,
-                        endDate))
+                        totalDays))
+                .sorted(Comparator.comparing(SubordinateWithCRsResponse::getNomComplet))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Émet les subordonnés un par un avec leurs CR, dans le même ordre et avec le même contenu
+     * que execute, sans construire la liste complète : les CR sont lus par pages et seul
+     * le membre en cours est gardé en mémoire.
+     *
+     * @param responsableId ID du responsable (FD, Leader ou Pasteur)
+     * @param startDate Date de début
+     * @param endDate Date de fin
+     * @param consommateur Reçoit chaque subordonné avec ses CR
+     */
+    public void executeStream(UUID responsableId, LocalDate startDate, LocalDate endDate,
+                              Consumer<SubordinateWithCRsResponse> consommateur) {
+        Utilisateur responsable = utilisateurRepository.findById(responsableId)
+                .orElseThrow(() -> new NoSuchElementException("Responsable non trouvé: " + responsableId));
+
+        List<Utilisateur> subordinates = getSubordinates(responsable).stream()
+                .sorted(Comparator.comparing(Utilisateur::getNomComplet))
+                .collect(Collectors.toList());
+        if (subordinates.isEmpty()) {
+            return;
+        }
+
+        long totalDays = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        List<UUID> subordinateIds = subordinates.stream()
+                .map(Utilisateur::getId)
+                .collect(Collectors.toList());
+
+        EmetteurMembres emetteur = new EmetteurMembres(subordinates.iterator(), totalDays, consommateur);
+        compteRenduLectureRepository.parcourirByUtilisateurIdsOrdonnes(subordinateIds, startDate, endDate, emetteur);
+        emetteur.terminer();
+    }
+
+    /**
+     * Reçoit les lignes groupées par membre dans l'ordre des subordonnés : un membre est émis
+     * dès que les lignes passent au suivant, les membres sans CR au passage
+     */
+    private final class EmetteurMembres implements Consumer<LigneCR> {
+
+        private final Iterator<Utilisateur> membres;
+        private final long totalDays;
+        private final Consumer<SubordinateWithCRsResponse> consommateur;
+        private Utilisateur courant;
+        private List<SubordinateCRResponse> crsCourant = new ArrayList<>();
+
+        private EmetteurMembres(Iterator<Utilisateur> membres, long totalDays,
+                                Consumer<SubordinateWithCRsResponse> consommateur) {
+            this.membres = membres;
+            this.totalDays = totalDays;
+            this.consommateur = consommateur;
+            this.courant = membres.next();
+        }
+
+        @Override
+        public void accept(LigneCR ligne) {
+            while (!courant.getId().equals(ligne.utilisateurId())) {
+                emettreCourant();
+                courant = membres.next();
+            }
+            crsCourant.add(toCRResponse(ligne));
+        }
+
+        private void terminer() {
+            emettreCourant();
+            membres.forEachRemaining(membre ->
+                    consommateur.accept(buildSubordinateResponse(membre, List.of(), totalDays)));
+        }
+
+        private void emettreCourant() {
+            consommateur.accept(buildSubordinateResponse(courant, crsCourant, totalDays));
+            crsCourant = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Récupère le résumé des subordonnés (sans le détail des CR) sur une période donnée.
+     * Les indicateurs sont lus en une requête (projection des tableaux de bord si activée,
+     * agrégation sur les CR sinon), sans charger de CR.
+     *
+     * @param responsableId ID du responsable (FD, Leader ou Pasteur)
+     * @param startDate Date de début
+     * @param endDate Date de fin
+     * @return Liste des subordonnés avec leurs indicateurs, sans CR
+     */
+    public List<SubordinateWithCRsResponse> executeSummary(UUID responsableId, LocalDate startDate, LocalDate endDate) {
+        return summaryInFlight.execute(new ScopePeriode(responsableId, startDate, endDate),
+                () -> calculerSummary(responsableId, startDate, endDate));
+    }
+
+    private List<SubordinateWithCRsResponse> calculerSummary(UUID responsableId, LocalDate startDate, LocalDate endDate) {
+        Utilisateur responsable = utilisateurRepository.findById(responsableId)
+                .orElseThrow(() -> new NoSuchElementException("Responsable non trouvé: " + responsableId));
+
+        List<Utilisateur> subordinates = getSubordinates(responsable);
+        if (subordinates.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> subordinateIds = subordinates.stream()
+                .map(Utilisateur::getId)
+                .collect(Collectors.toList());
+
+        long totalDays = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        if (lectureProjection) {
+            Map<UUID, ResumeMembre> resumes = tableauBordRepository.findResumesByUtilisateurIds(
+                    subordinateIds, startDate, endDate);
+            return subordinates.stream()
+                    .map(subordinate -> {
+                        ResumeMembre resume = resumes.get(subordinate.getId());
+                        return buildSummaryResponse(subordinate,
+                                resume != null ? resume.dernierCRDate() : null,
+                                resume != null ? resume.nombreCRPeriode() : 0,
+                                totalDays);
+                    })
+                    .sorted(Comparator.comparing(SubordinateWithCRsResponse::getNomComplet))
+                    .collect(Collectors.toList());
+        }
+
+        // Sans projection : une requête d'agrégation (COUNT, MAX) par utilisateur, aucun CR chargé
+        Map<UUID, ResumeCR> resumes = compteRenduRepository.resumerByUtilisateurIdInAndDateBetween(
+                subordinateIds, startDate, endDate);
+        return subordinates.stream()
+                .map(subordinate -> {
+                    ResumeCR resume = resumes.get(subordinate.getId());
+                    return buildSummaryResponse(subordinate,
+                            resume != null ? resume.dernierCRDate() : null,
+                            resume != null ? resume.nombreCR() : 0,
+                            totalDays);
+                })
                 .sorted(Comparator.comparing(SubordinateWithCRsResponse::getNomComplet))
                 .collect(Collectors.toList());
     }
@@ -176,25 +330,18 @@ public class GetSubordinatesCRUseCase {
     }
 
     /**
-     * Construit la réponse pour un subordonné avec ses CR
+     * Construit la réponse pour un subordonné avec ses CR (triés du plus récent au plus ancien)
      */
     private SubordinateWithCRsResponse buildSubordinateResponse(
             Utilisateur subordinate,
-            List<CompteRendu> crs,
-            LocalDate startDate,
-            LocalDate endDate) {
-
-        // Calculer le nombre de jours sur la période
-        long totalDays = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
+            List<SubordinateCRResponse> crResponses,
+            long totalDays) {
 
         // Calculer le taux de régularité
-        double regularityRate = crs.isEmpty() ? 0.0 : (crs.size() * 100.0 / totalDays);
+        double regularityRate = crResponses.isEmpty() ? 0.0 : (crResponses.size() * 100.0 / totalDays);
 
-        // Trouver la date du dernier CR
-        LocalDate lastCRDate = crs.stream()
-                .map(CompteRendu::getDate)
-                .max(LocalDate::compareTo)
-                .orElse(null);
+        // Le premier CR est le plus récent
+        LocalDate lastCRDate = crResponses.isEmpty() ? null : crResponses.get(0).getDate();
 
         // Calculer le nombre de jours depuis le dernier CR
         Integer daysSinceLastCR = lastCRDate != null
@@ -204,12 +351,6 @@ public class GetSubordinatesCRUseCase {
         // Déterminer le niveau d'alerte
         String alertLevel = determineAlertLevel(daysSinceLastCR);
 
-        // Convertir les CR en réponses
-        List<SubordinateCRResponse> crResponses = crs.stream()
-                .sorted(Comparator.comparing(CompteRendu::getDate).reversed())
-                .map(this::toCRResponse)
-                .collect(Collectors.toList());
-
         return SubordinateWithCRsResponse.builder()
                 .utilisateurId(subordinate.getId())
                 .nom(subordinate.getNom())
@@ -222,13 +363,48 @@ public class GetSubordinatesCRUseCase {
                 .lastCRDate(lastCRDate)
                 .daysSinceLastCR(daysSinceLastCR)
                 .regularityRate(Math.round(regularityRate * 100.0) / 100.0)
-                .totalCRs(crs.size())
+                .totalCRs(crResponses.size())
                 .alertLevel(alertLevel)
                 .hasAlert(!"NONE".equals(alertLevel))
                 .compteRendus(crResponses)
                 .build();
     }
 
+    /**
+     * Construit la réponse résumée d'un subordonné à partir de ses indicateurs agrégés
+     */
+    private SubordinateWithCRsResponse buildSummaryResponse(
+            Utilisateur subordinate,
+            LocalDate lastCRDate,
+            int totalCRs,
+            long totalDays) {
+
+        double regularityRate = totalCRs * 100.0 / totalDays;
+
+        Integer daysSinceLastCR = lastCRDate != null
+                ? (int) java.time.temporal.ChronoUnit.DAYS.between(lastCRDate, LocalDate.now())
+                : null;
+        String alertLevel = determineAlertLevel(daysSinceLastCR);
+
+        return SubordinateWithCRsResponse.builder()
+                .utilisateurId(subordinate.getId())
+                .nom(subordinate.getNom())
+                .prenom(subordinate.getPrenom())
+                .nomComplet(subordinate.getNomComplet())
+                .email(subordinate.getEmail())
+                .role(subordinate.getRole().name())
+                .roleDisplayName(subordinate.getRole().getDisplayName())
+                .avatarUrl(subordinate.getAvatarUrl())
+                .lastCRDate(lastCRDate)
+                .daysSinceLastCR(daysSinceLastCR)
+                .regularityRate(Math.round(regularityRate * 100.0) / 100.0)
+                .totalCRs(totalCRs)
+                .alertLevel(alertLevel)
+                .hasAlert(!"NONE".equals(alertLevel))
+                .compteRendus(List.of())
+                .build();
+    }
+
     private String determineAlertLevel(Integer daysSinceLastCR) {
         if (daysSinceLastCR == null) {
             return "CRITICAL"; // Jamais de CR
@@ -242,28 +418,16 @@ public class GetSubordinatesCRUseCase {
         return "NONE";
     }
 
-    private SubordinateCRResponse toCRResponse(CompteRendu cr) {
+    private SubordinateCRResponse toCRResponse(LigneCR ligne) {
         return SubordinateCRResponse.builder()
-                .id(cr.getId())
-                .date(cr.getDate())
-                .rdqd(cr.getRdqd() != null ? cr.getRdqd().toString() : null)
-                .priereSeule(formatDuration(cr.getPriereSeule()))
-                .lectureBiblique(cr.getLectureBiblique())
-                .statut(cr.getStatut().name())
-                .vuParFd(cr.getVuParFd())
-                .createdAt(cr.getCreatedAt())
+                .id(ligne.id())
+                .date(ligne.date())
+                .rdqd(ligne.rdqd())
+                .priereSeule(GetCRUseCase.formatPriereSeule(ligne.priereSeule()))
+                .lectureBiblique(ligne.lectureBiblique())
+                .statut(ligne.statut())
+                .vuParFd(ligne.vuParFd())
+                .createdAt(ligne.createdAt())
                 .build();
     }
-
-    /**
-     * Formate une durée au format "HH:mm"
-     */
-    private String formatDuration(Duration duration) {
-        if (duration == null) {
-            return "00:00";
-        }
-        long hours = duration.toHours();
-        long minutes = duration.toMinutesPart();
-        return String.format("%02d:%02d", hours, minutes);
-    }
 }
@@ -1,6 +1,8 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.SubordinateStatisticsResponse;
+import com.cmci.cr.application.service.ScopePeriode;
+import com.cmci.cr.application.service.SingleFlight;
 import com.cmci.cr.domain.model.EgliseLocale;
 import com.cmci.cr.domain.model.EgliseMaison;
 import com.cmci.cr.domain.model.Utilisateur;
@@ -25,6 +27,8 @@ import java.util.stream.Collectors;
  * - FD → ses disciples directs (fdId)
  * - Leader → tous les membres de son église de maison
  * - Pasteur → tous les membres de toutes les églises de maison de son église locale
+ *
+ * Les appels simultanés pour le même responsable et la même période partagent un seul calcul.
  */
 @RequiredArgsConstructor
 public class GetSubordinatesStatisticsUseCase {
@@ -34,6 +38,7 @@ public class GetSubordinatesStatisticsUseCase {
     private final EgliseMaisonRepository egliseMaisonRepository;
     private final EgliseLocaleRepository egliseLocaleRepository;
     private final StatisticsService statisticsService;
+    private final SingleFlight<ScopePeriode, List<SubordinateStatisticsResponse>> inFlight = new SingleFlight<>();
 
     /**
      * Récupère les statistiques de tous les subordonnés sur une période donnée
@@ -44,6 +49,11 @@ public class GetSubordinatesStatisticsUseCase {
      * @return Liste des subordonnés avec leurs statistiques
      */
     public List<SubordinateStatisticsResponse> execute(UUID responsableId, LocalDate startDate, LocalDate endDate) {
+        return inFlight.execute(new ScopePeriode(responsableId, startDate, endDate),
+                () -> calculer(responsableId, startDate, endDate));
+    }
+
+    private List<SubordinateStatisticsResponse> calculer(UUID responsableId, LocalDate startDate, LocalDate endDate) {
         Utilisateur responsable = utilisateurRepository.findById(responsableId)
                 .orElseThrow(() -> new NoSuchElementException("Responsable non trouvé: " + responsableId));
 
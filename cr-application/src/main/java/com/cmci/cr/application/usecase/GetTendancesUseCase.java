@@ -0,0 +1,143 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.PointTendanceResponse;
+import com.cmci.cr.application.dto.response.TendancesResponse;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.TendanceRepository;
+import com.cmci.cr.domain.repository.TendanceRepository.Granularite;
+import com.cmci.cr.domain.repository.TendanceRepository.Point;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Use Case: Obtenir les séries de tendance (jour, semaine, mois) d'un utilisateur,
+ * du groupe d'un FD ou d'un périmètre de l'organisation.
+ *
+ * L'agrégation par intervalle est faite en base ; le use case complète les intervalles
+ * sans CR et calcule les variations d'un intervalle au suivant.
+ */
+@RequiredArgsConstructor
+public class GetTendancesUseCase {
+
+    static final int MAX_INTERVALLES = 400;
+
+    private final TendanceRepository tendanceRepository;
+    private final UtilisateurRepository utilisateurRepository;
+
+    /**
+     * Série personnelle d'un utilisateur
+     */
+    public TendancesResponse executePersonnel(UUID utilisateurId, Granularite granularite,
+                                              LocalDate startDate, LocalDate endDate, boolean comparer) {
+        return construire("PERSONNEL", utilisateurId, granularite, startDate, endDate, comparer,
+                (debut, fin) -> tendanceRepository.findSerieUtilisateurs(
+                        List.of(utilisateurId), granularite, debut, fin));
+    }
+
+    /**
+     * Série cumulée des disciples d'un FD
+     */
+    public TendancesResponse executeGroupe(UUID fdId, Granularite granularite,
+                                           LocalDate startDate, LocalDate endDate, boolean comparer) {
+        return construire("GROUPE", fdId, granularite, startDate, endDate, comparer,
+                (debut, fin) -> {
+                    List<UUID> disciplesIds = utilisateurRepository.findByFdId(fdId).stream()
+                            .map(Utilisateur::getId)
+                            .toList();
+                    return tendanceRepository.findSerieUtilisateurs(disciplesIds, granularite, debut, fin);
+                });
+    }
+
+    /**
+     * Série d'une église de maison, église locale, zone ou région
+     */
+    public TendancesResponse executePerimetre(Perimetre perimetre, UUID perimetreId, Granularite granularite,
+                                              LocalDate startDate, LocalDate endDate, boolean comparer) {
+        return construire(perimetre.name(), perimetreId, granularite, startDate, endDate, comparer,
+                (debut, fin) -> tendanceRepository.findSeriePerimetre(
+                        perimetre, perimetreId, granularite, debut, fin));
+    }
+
+    /**
+     * @throws IllegalArgumentException si la période est inversée ou contient trop d'intervalles
+     */
+    private TendancesResponse construire(String scope, UUID scopeId, Granularite granularite,
+                                         LocalDate startDate, LocalDate endDate, boolean comparer,
+                                         BiFunction<LocalDate, LocalDate, List<Point>> lecture) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("La date de début doit être avant la date de fin");
+        }
+
+        // Intervalles complets : la série commence au début de l'intervalle contenant startDate
+        LocalDate premier = granularite.debutIntervalle(startDate);
+        List<LocalDate> intervalles = new ArrayList<>();
+        for (LocalDate debut = premier; !debut.isAfter(endDate); debut = granularite.suivant(debut)) {
+            if (intervalles.size() == MAX_INTERVALLES) {
+                throw new IllegalArgumentException(
+                        "Période trop longue pour la granularité " + granularite + " (max " + MAX_INTERVALLES + " points)");
+            }
+            intervalles.add(debut);
+        }
+
+        // Avec variations, l'intervalle qui précède le premier est lu dans la même requête
+        LocalDate debutLecture = comparer ? granularite.precedent(premier) : premier;
+        Map<LocalDate, Agregat> parIntervalle = new HashMap<>();
+        for (Point point : lecture.apply(debutLecture, endDate)) {
+            parIntervalle.put(point.debut(), point.valeurs());
+        }
+
+        List<PointTendanceResponse> points = new ArrayList<>(intervalles.size());
+        Agregat precedent = parIntervalle.getOrDefault(debutLecture, Agregat.VIDE);
+        for (LocalDate debut : intervalles) {
+            Agregat valeurs = parIntervalle.getOrDefault(debut, Agregat.VIDE);
+            LocalDate fin = granularite.suivant(debut).minusDays(1);
+            points.add(toPoint(debut, fin.isAfter(endDate) ? endDate : fin, valeurs, comparer ? precedent : null));
+            precedent = valeurs;
+        }
+
+        return TendancesResponse.builder()
+                .scope(scope)
+                .scopeId(scopeId)
+                .granularite(granularite.name())
+                .startDate(premier)
+                .endDate(endDate)
+                .avecVariations(comparer)
+                .points(points)
+                .build();
+    }
+
+    private PointTendanceResponse toPoint(LocalDate debut, LocalDate fin, Agregat valeurs, Agregat precedent) {
+        PointTendanceResponse.PointTendanceResponseBuilder point = PointTendanceResponse.builder()
+                .debut(debut)
+                .fin(fin)
+                .nombreCRs(valeurs.nombreCRs())
+                .minutesPriere(valeurs.dureePriere().toMinutes())
+                .chapitresLus(valeurs.chapitresLus())
+                .personnesEvangelisees(valeurs.personnesEvangelisees())
+                .tauxRDQD(tauxRDQD(valeurs));
+
+        if (precedent != null) {
+            Agregat variation = valeurs.moins(precedent);
+            point.variationCRs(variation.nombreCRs())
+                    .variationMinutesPriere(variation.dureePriere().toMinutes())
+                    .variationChapitresLus(variation.chapitresLus())
+                    .variationPersonnesEvangelisees(variation.personnesEvangelisees())
+                    .variationTauxRDQD(tauxRDQD(valeurs) - tauxRDQD(precedent));
+        }
+        return point.build();
+    }
+
+    private static double tauxRDQD(Agregat valeurs) {
+        return valeurs.nombreCRs() > 0 ? (double) valeurs.rdqdComplets() / valeurs.nombreCRs() * 100.0 : 0.0;
+    }
+}
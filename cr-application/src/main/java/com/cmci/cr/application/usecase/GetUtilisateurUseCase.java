@@ -1,22 +1,32 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.UtilisateurResponse;
+import com.cmci.cr.application.service.FdNomResolver;
 import com.cmci.cr.domain.model.Utilisateur;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.Role;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Use Case: Consulter les utilisateurs
+ *
+ * Les listes résolvent le nom des FD en lot (une requête pour tous les FD de la liste).
  */
-@RequiredArgsConstructor
 public class GetUtilisateurUseCase {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final UtilisateurRepository utilisateurRepository;
+    private final FdNomResolver fdNomResolver;
+
+    public GetUtilisateurUseCase(UtilisateurRepository utilisateurRepository) {
+        this.utilisateurRepository = utilisateurRepository;
+        this.fdNomResolver = new FdNomResolver(utilisateurRepository);
+    }
 
     /**
      * Récupère un utilisateur par son ID
@@ -74,16 +84,22 @@ public class GetUtilisateurUseCase {
      * Récupère tous les utilisateurs d'une église de maison
      */
     public List<UtilisateurResponse> getByEgliseMaisonId(UUID egliseMaisonId) {
-        return utilisateurRepository.findByEgliseMaisonId(egliseMaisonId)
-                .stream()
-                .map(utilisateur -> {
-                    Utilisateur fd = null;
-                    if (utilisateur.getFdId() != null) {
-                        fd = utilisateurRepository.findById(utilisateur.getFdId()).orElse(null);
-                    }
-                    return mapToResponse(utilisateur, fd);
-                })
-                .collect(Collectors.toList());
+        return mapWithFds(utilisateurRepository.findByEgliseMaisonId(egliseMaisonId));
+    }
+
+    /**
+     * Récupère une page des utilisateurs d'une église de maison (tri par nom, prénom)
+     */
+    public List<UtilisateurResponse> getByEgliseMaisonId(UUID egliseMaisonId, int page, int size) {
+        validatePage(page, size);
+        return mapWithFds(utilisateurRepository.findByEgliseMaisonId(egliseMaisonId, page, size));
+    }
+
+    /**
+     * Compte les utilisateurs d'une église de maison
+     */
+    public long countByEgliseMaisonId(UUID egliseMaisonId) {
+        return utilisateurRepository.countByEgliseMaisonId(egliseMaisonId);
     }
 
     /**
@@ -91,15 +107,43 @@ public class GetUtilisateurUseCase {
      */
     public List<UtilisateurResponse> getByRole(String roleStr) {
         Role role = Role.valueOf(roleStr);
-        return utilisateurRepository.findByRole(role)
-                .stream()
-                .map(utilisateur -> {
-                    Utilisateur fd = null;
-                    if (utilisateur.getFdId() != null) {
-                        fd = utilisateurRepository.findById(utilisateur.getFdId()).orElse(null);
-                    }
-                    return mapToResponse(utilisateur, fd);
-                })
+        return mapWithFds(utilisateurRepository.findByRole(role));
+    }
+
+    /**
+     * Récupère une page des utilisateurs avec un rôle spécifique (tri par nom, prénom)
+     */
+    public List<UtilisateurResponse> getByRole(String roleStr, int page, int size) {
+        Role role = Role.valueOf(roleStr);
+        validatePage(page, size);
+        return mapWithFds(utilisateurRepository.findByRole(role, page, size));
+    }
+
+    /**
+     * Compte les utilisateurs avec un rôle spécifique
+     */
+    public long countByRole(String roleStr) {
+        return utilisateurRepository.countByRole(Role.valueOf(roleStr));
+    }
+
+    private void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Le numéro de page doit être positif");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "La taille de page doit être comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Mappe une liste d'utilisateurs en résolvant leurs FD en une seule requête
+     */
+    private List<UtilisateurResponse> mapWithFds(List<Utilisateur> utilisateurs) {
+        Map<UUID, Utilisateur> fds = fdNomResolver.resolveFds(utilisateurs);
+        return utilisateurs.stream()
+                .map(utilisateur -> mapToResponse(utilisateur,
+                        utilisateur.getFdId() != null ? fds.get(utilisateur.getFdId()) : null))
                 .collect(Collectors.toList());
     }
 
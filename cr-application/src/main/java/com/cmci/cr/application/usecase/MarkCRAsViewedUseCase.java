@@ -1,6 +1,8 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import java.util.UUID;
 public class MarkCRAsViewedUseCase {
 
     private final CompteRenduRepository compteRenduRepository;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Exécute le use case de marquage comme vu
@@ -40,6 +43,8 @@ public class MarkCRAsViewedUseCase {
         // Sauvegarder
         CompteRendu saved = compteRenduRepository.save(markedCR);
 
+        eventPublisher.publish(CRMarkedAsViewedEvent.of(crId, saved.getUtilisateurId(), fdId, saved.getDate()));
+
         return mapToResponse(saved);
     }
 
@@ -69,6 +74,7 @@ public class MarkCRAsViewedUseCase {
                 .vuParFd(cr.getVuParFd() != null ? cr.getVuParFd() : false)
                 .createdAt(cr.getCreatedAt())
                 .updatedAt(cr.getUpdatedAt())
+                .version(cr.getVersion())
                 .build();
     }
 
@@ -0,0 +1,238 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.command.PatchCRCommand;
+import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.CRUpdatedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.CompteRenduRepository.ChampCR;
+import com.cmci.cr.domain.repository.CompteRenduRepository.ModificationCR;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import com.cmci.cr.domain.valueobject.RDQD;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use Case: Modifier partiellement un Compte Rendu (JSON Merge Patch, RFC 7396)
+ *
+ * Seuls les champs présents sont écrits ; un champ à null est effacé. La version lue par le
+ * client est vérifiée dans la même requête d'écriture : une modification concurrente fait
+ * échouer le patch au lieu d'être écrasée.
+ */
+@RequiredArgsConstructor
+public class PatchCRUseCase {
+
+    private static final Map<String, ChampCR> CHAMPS = Map.ofEntries(
+            Map.entry("rdqd", ChampCR.RDQD),
+            Map.entry("priereSeule", ChampCR.PRIERE_SEULE),
+            Map.entry("lectureBiblique", ChampCR.LECTURE_BIBLIQUE),
+            Map.entry("livreBiblique", ChampCR.LIVRE_BIBLIQUE),
+            Map.entry("litteraturePages", ChampCR.LITTERATURE_PAGES),
+            Map.entry("litteratureTotal", ChampCR.LITTERATURE_TOTAL),
+            Map.entry("litteratureTitre", ChampCR.LITTERATURE_TITRE),
+            Map.entry("priereAutres", ChampCR.PRIERE_AUTRES),
+            Map.entry("confession", ChampCR.CONFESSION),
+            Map.entry("jeune", ChampCR.JEUNE),
+            Map.entry("typeJeune", ChampCR.TYPE_JEUNE),
+            Map.entry("evangelisation", ChampCR.EVANGELISATION),
+            Map.entry("offrande", ChampCR.OFFRANDE),
+            Map.entry("notes", ChampCR.NOTES));
+
+    private static final Set<ChampCR> OBLIGATOIRES = Set.of(ChampCR.RDQD, ChampCR.PRIERE_SEULE, ChampCR.LECTURE_BIBLIQUE);
+
+    private final CompteRenduRepository compteRenduRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final UtilisateurRepository utilisateurRepository;
+
+    /**
+     * Exécute le use case de modification partielle d'un CR
+     *
+     * @param command Commande de modification partielle
+     * @return Le CR mis à jour, avec sa nouvelle version
+     * @throws IllegalArgumentException si un champ est inconnu ou invalide, si le CR n'existe pas
+     *                                  ou si l'utilisateur n'en est pas le propriétaire
+     * @throws IllegalStateException si le CR n'est plus modifiable ou si la version est périmée
+     */
+    public CRResponse execute(PatchCRCommand command) {
+        Map<ChampCR, Object> champs = convertir(command.getChamps());
+
+        if (champs.isEmpty()) {
+            // Patch vide : rien à écrire, l'état courant est rendu tel quel
+            return mapToResponse(verifierAcces(command));
+        }
+
+        ModificationCR modification = compteRenduRepository.modifierChamps(
+                        command.getId(),
+                        command.getUtilisateurId(),
+                        command.getVersion(),
+                        champs,
+                        LocalDateTime.now().minusDays(CompteRendu.JOURS_MODIFICATION_SOUMIS))
+                .orElseThrow(() -> echec(command));
+
+        CompteRendu apres = modification.apres();
+
+        // Seule la différence entre les deux versions est reportée dans les agrégats
+        Agregat difference = Agregat.de(apres).moins(Agregat.de(modification.avant()));
+        statistiquesPerimetreRepository.appliquer(apres.getUtilisateurId(), apres.getDate(), difference);
+        eventPublisher.publish(CRUpdatedEvent.of(apres.getId(), apres.getUtilisateurId(), fdDe(apres.getUtilisateurId()),
+                apres.getDate(),
+                apres.getStatut().name(), modification.avant().getStatut().name()));
+
+        return mapToResponse(apres);
+    }
+
+    /**
+     * FD de l'auteur, porté par l'événement pour la projection et les notifications
+     */
+    private UUID fdDe(UUID utilisateurId) {
+        return utilisateurRepository.findById(utilisateurId).map(Utilisateur::getFdId).orElse(null);
+    }
+
+    /**
+     * Aucune ligne écrite : relit le CR pour rendre l'erreur précise
+     */
+    private RuntimeException echec(PatchCRCommand command) {
+        CompteRendu existant = verifierAcces(command);
+        if (!existant.isModifiable()) {
+            return new IllegalStateException(
+                    "Ce compte rendu ne peut plus être modifié (statut: " +
+                    existant.getStatut() + ", créé le: " + existant.getCreatedAt() + ")");
+        }
+        return new IllegalStateException(
+                "Le compte rendu a été modifié entre-temps (version " + command.getVersion() +
+                " périmée, version courante: " + existant.getVersion() + ")");
+    }
+
+    private CompteRendu verifierAcces(PatchCRCommand command) {
+        CompteRendu existant = compteRenduRepository.findById(command.getId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Compte rendu non trouvé avec l'ID: " + command.getId()));
+        if (!existant.getUtilisateurId().equals(command.getUtilisateurId())) {
+            throw new IllegalArgumentException("Vous n'êtes pas autorisé à modifier ce compte rendu");
+        }
+        return existant;
+    }
+
+    private Map<ChampCR, Object> convertir(Map<String, Object> valeurs) {
+        Map<ChampCR, Object> champs = new EnumMap<>(ChampCR.class);
+        if (valeurs == null) {
+            return champs;
+        }
+        valeurs.forEach((nom, valeur) -> {
+            ChampCR champ = CHAMPS.get(nom);
+            if (champ == null) {
+                throw new IllegalArgumentException("Champ inconnu ou non modifiable: " + nom);
+            }
+            if (valeur == null && OBLIGATOIRES.contains(champ)) {
+                throw new IllegalArgumentException("Le champ " + nom + " est obligatoire et ne peut pas être effacé");
+            }
+            champs.put(champ, valeur == null ? null : convertir(nom, champ, valeur));
+        });
+        return champs;
+    }
+
+    private Object convertir(String nom, ChampCR champ, Object valeur) {
+        if (champ == ChampCR.RDQD) {
+            return RDQD.fromString(texte(nom, valeur));
+        }
+        if (champ == ChampCR.PRIERE_SEULE) {
+            Duration duree = parseDuration(texte(nom, valeur));
+            if (duree.isNegative()) {
+                throw new IllegalArgumentException("La durée de prière seule doit être positive");
+            }
+            return duree;
+        }
+        if (champ.getType() == Integer.class) {
+            if (!(valeur instanceof Integer entier) || entier < 0) {
+                throw new IllegalArgumentException("Le champ " + nom + " doit être un entier positif ou zéro");
+            }
+            return entier;
+        }
+        if (champ.getType() == Boolean.class) {
+            if (!(valeur instanceof Boolean)) {
+                throw new IllegalArgumentException("Le champ " + nom + " doit être un booléen");
+            }
+            return valeur;
+        }
+        return texte(nom, valeur);
+    }
+
+    private String texte(String nom, Object valeur) {
+        if (!(valeur instanceof String texte)) {
+            throw new IllegalArgumentException("Le champ " + nom + " doit être une chaîne");
+        }
+        return texte;
+    }
+
+    /**
+     * Parse une durée au format "HH:mm" ou ISO
+     */
+    private Duration parseDuration(String durationStr) {
+        try {
+            // Essayer le format HH:mm
+            if (durationStr.contains(":")) {
+                String[] parts = durationStr.split(":");
+                int hours = Integer.parseInt(parts[0]);
+                int minutes = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+                return Duration.ofHours(hours).plusMinutes(minutes);
+            }
+            // Sinon essayer le format ISO
+            return Duration.parse(durationStr);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Format de durée invalide: " + durationStr, e);
+        }
+    }
+
+    /**
+     * Mappe un CompteRendu vers CRResponse
+     */
+    private CRResponse mapToResponse(CompteRendu cr) {
+        return CRResponse.builder()
+                .id(cr.getId())
+                .utilisateurId(cr.getUtilisateurId())
+                .date(cr.getDate())
+                .rdqd(cr.getRdqd() != null ? cr.getRdqd().toString() : "0/1")
+                .priereSeule(formatDuration(cr.getPriereSeule()))
+                .lectureBiblique(cr.getLectureBiblique() != null ? cr.getLectureBiblique() : 0)
+                .livreBiblique(cr.getLivreBiblique())
+                .litteraturePages(cr.getLitteraturePages())
+                .litteratureTotal(cr.getLitteratureTotal())
+                .litteratureTitre(cr.getLitteratureTitre())
+                .priereAutres(cr.getPriereAutres() != null ? cr.getPriereAutres() : 0)
+                .confession(cr.getConfession() != null ? cr.getConfession() : false)
+                .jeune(cr.getJeune() != null ? cr.getJeune() : false)
+                .typeJeune(cr.getTypeJeune())
+                .evangelisation(cr.getEvangelisation() != null ? cr.getEvangelisation() : 0)
+                .offrande(cr.getOffrande() != null ? cr.getOffrande() : false)
+                .notes(cr.getNotes())
+                .statut(cr.getStatut() != null ? cr.getStatut().name() : "BROUILLON")
+                .vuParFd(cr.getVuParFd() != null ? cr.getVuParFd() : false)
+                .createdAt(cr.getCreatedAt())
+                .updatedAt(cr.getUpdatedAt())
+                .version(cr.getVersion())
+                .build();
+    }
+
+    /**
+     * Formate une durée au format "HH:mm"
+     */
+    private String formatDuration(Duration duration) {
+        if (duration == null) {
+            return "00:00";
+        }
+        long hours = duration.toHours();
+        long minutes = duration.toMinutesPart();
+        return String.format("%02d:%02d", hours, minutes);
+    }
+}
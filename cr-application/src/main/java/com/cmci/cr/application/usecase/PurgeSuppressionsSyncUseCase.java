@@ -0,0 +1,34 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.domain.repository.SynchronisationRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Use Case: Purger les suppressions du flux de synchronisation au-delà de la rétention
+ *
+ * Les clients dont le curseur précède la purge sont ensuite renvoyés vers une
+ * resynchronisation complète par GetModificationsUseCase. Idempotent : une relance
+ * ou plusieurs instances ne purgent rien de plus.
+ */
+@RequiredArgsConstructor
+public class PurgeSuppressionsSyncUseCase {
+
+    private final SynchronisationRepository synchronisationRepository;
+    private final Duration retention;
+
+    /**
+     * Exécute la purge
+     *
+     * @param maintenant Date de référence de la rétention
+     * @return Nombre de suppressions purgées
+     */
+    public int execute(LocalDateTime maintenant) {
+        if (maintenant == null) {
+            throw new IllegalArgumentException("La date de référence est obligatoire");
+        }
+        return synchronisationRepository.purgerSuppressions(maintenant.minus(retention));
+    }
+}
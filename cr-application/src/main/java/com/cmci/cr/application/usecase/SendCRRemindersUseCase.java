@@ -0,0 +1,206 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.RappelCRResultResponse;
+import com.cmci.cr.domain.model.EgliseLocale;
+import com.cmci.cr.domain.port.NotificationPort;
+import com.cmci.cr.domain.port.NotificationPort.Notification;
+import com.cmci.cr.domain.repository.EgliseLocaleRepository;
+import com.cmci.cr.domain.repository.RappelCRRepository;
+import com.cmci.cr.domain.repository.RappelCRRepository.MembreSansCR;
+import com.cmci.cr.domain.valueobject.TypeNotification;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Envoyer les rappels de CR manquants
+ *
+ * Pour chaque église locale (puis pour les membres sans église de maison), une seule
+ * requête retrouve les membres actifs sans CR à la date donnée. On en déduit :
+ * - un rappel au membre
+ * - une escalade au FD le 3ème jour sans CR
+ * - une escalade au FD le 7ème jour sans CR, puis chaque semaine
+ *
+ * Chaque envoi est réservé au préalable (membre, date, type), ce qui rend le traitement
+ * idempotent par jour : une ré-exécution n'envoie que ce qui ne l'a pas encore été.
+ * Une réservation n'est confirmée qu'après l'acquittement du lot par le broker ; un lot
+ * en échec libère ses réservations, et celles d'une instance arrêtée en cours d'envoi
+ * expirent, pour qu'une ré-exécution du jour les reprenne.
+ */
+@RequiredArgsConstructor
+public class SendCRRemindersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SendCRRemindersUseCase.class);
+
+    static final int TAILLE_LOT_ENVOI = 500;
+
+    private final RappelCRRepository rappelCRRepository;
+    private final EgliseLocaleRepository egliseLocaleRepository;
+    private final NotificationPort notificationPort;
+
+    /**
+     * Exécute le moteur de rappels pour la date donnée
+     */
+    public RappelCRResultResponse execute(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("La date est obligatoire");
+        }
+
+        List<UUID> lots = egliseLocaleRepository.findAll().stream()
+                .map(EgliseLocale::getId)
+                .collect(Collectors.toCollection(ArrayList::new));
+        lots.add(null); // Membres sans église de maison
+
+        Map<TypeNotification, Integer> envoyes = new EnumMap<>(TypeNotification.class);
+        int membresSansCR = 0;
+        int dejaEnvoyes = 0;
+        int envoisEchoues = 0;
+
+        for (UUID egliseLocaleId : lots) {
+            List<MembreSansCR> membres = rappelCRRepository.findMembresActifsSansCR(egliseLocaleId, date);
+            if (membres.isEmpty()) {
+                continue;
+            }
+            membresSansCR += membres.size();
+
+            Map<TypeNotification, List<MembreSansCR>> parType = regrouperParType(membres, date);
+
+            List<Notification> notifications = new ArrayList<>();
+            for (Map.Entry<TypeNotification, List<MembreSansCR>> entry : parType.entrySet()) {
+                TypeNotification type = entry.getKey();
+                List<MembreSansCR> candidats = entry.getValue();
+
+                Set<UUID> reserves = rappelCRRepository.reserverEnvois(date, type, candidats.stream()
+                        .map(MembreSansCR::utilisateurId)
+                        .collect(Collectors.toList()));
+                dejaEnvoyes += candidats.size() - reserves.size();
+
+                candidats.stream()
+                        .filter(membre -> reserves.contains(membre.utilisateurId()))
+                        .map(membre -> creerNotification(type, membre, date))
+                        .forEach(notifications::add);
+            }
+
+            envoisEchoues += envoyerParLots(date, notifications, envoyes);
+        }
+
+        return RappelCRResultResponse.builder()
+                .date(date)
+                .lotsTraites(lots.size())
+                .membresSansCR(membresSansCR)
+                .rappelsEnvoyes(envoyes.getOrDefault(TypeNotification.RAPPEL_CR, 0))
+                .escalades3Jours(envoyes.getOrDefault(TypeNotification.ESCALADE_3_JOURS, 0))
+                .escalades7Jours(envoyes.getOrDefault(TypeNotification.ESCALADE_7_JOURS, 0))
+                .dejaEnvoyes(dejaEnvoyes)
+                .envoisEchoues(envoisEchoues)
+                .build();
+    }
+
+    /**
+     * Détermine les notifications dues pour chaque membre : un rappel pour tous,
+     * et une escalade au FD si le seuil de jours sans CR est atteint ce jour
+     */
+    private Map<TypeNotification, List<MembreSansCR>> regrouperParType(List<MembreSansCR> membres, LocalDate date) {
+        Map<TypeNotification, List<MembreSansCR>> parType = new EnumMap<>(TypeNotification.class);
+
+        for (MembreSansCR membre : membres) {
+            parType.computeIfAbsent(TypeNotification.RAPPEL_CR, t -> new ArrayList<>()).add(membre);
+
+            TypeNotification escalade = determinerEscalade(joursSansCR(membre, date));
+            if (escalade != null && membre.fdId() != null) {
+                parType.computeIfAbsent(escalade, t -> new ArrayList<>()).add(membre);
+            }
+        }
+        return parType;
+    }
+
+    /**
+     * Escalade à 3 jours, puis à 7 jours et chaque semaine suivante.
+     * Un membre qui n'a jamais soumis de CR n'est pas escaladé.
+     */
+    private TypeNotification determinerEscalade(Integer joursSansCR) {
+        if (joursSansCR == null) {
+            return null;
+        }
+        int seuil7 = TypeNotification.ESCALADE_7_JOURS.getJoursSansCR();
+        if (joursSansCR >= seuil7 && joursSansCR % seuil7 == 0) {
+            return TypeNotification.ESCALADE_7_JOURS;
+        }
+        if (joursSansCR == TypeNotification.ESCALADE_3_JOURS.getJoursSansCR()) {
+            return TypeNotification.ESCALADE_3_JOURS;
+        }
+        return null;
+    }
+
+    private Integer joursSansCR(MembreSansCR membre, LocalDate date) {
+        if (membre.dernierCRDate() == null) {
+            return null;
+        }
+        return (int) ChronoUnit.DAYS.between(membre.dernierCRDate(), date);
+    }
+
+    private Notification creerNotification(TypeNotification type, MembreSansCR membre, LocalDate date) {
+        Integer jours = joursSansCR(membre, date);
+        UUID destinataireId = type.isEscalade() ? membre.fdId() : membre.utilisateurId();
+        String message = switch (type) {
+            case RAPPEL_CR -> "N'oubliez pas de soumettre votre compte rendu du " + date;
+            case ESCALADE_3_JOURS, ESCALADE_7_JOURS ->
+                    "Un de vos disciples n'a pas soumis de compte rendu depuis " + jours + " jours";
+        };
+
+        return new Notification(
+                UUID.randomUUID(),
+                type,
+                destinataireId,
+                membre.utilisateurId(),
+                date,
+                jours,
+                message
+        );
+    }
+
+    /**
+     * Transmet les notifications par lots pour limiter le nombre d'allers-retours.
+     * Chaque lot acquitté est confirmé ; au premier échec, les réservations du lot et des
+     * lots suivants sont libérées pour être reprises par une prochaine exécution.
+     *
+     * @return nombre de notifications non transmises
+     */
+    private int envoyerParLots(LocalDate date, List<Notification> notifications,
+                               Map<TypeNotification, Integer> envoyes) {
+        for (int i = 0; i < notifications.size(); i += TAILLE_LOT_ENVOI) {
+            List<Notification> lot = notifications.subList(i, Math.min(i + TAILLE_LOT_ENVOI, notifications.size()));
+            try {
+                notificationPort.envoyer(lot);
+            } catch (IllegalStateException e) {
+                List<Notification> nonEnvoyees = notifications.subList(i, notifications.size());
+                log.warn("Sending {} CR reminders for {} failed, releasing their reservations: {}",
+                        nonEnvoyees.size(), date, e.getMessage());
+                parType(nonEnvoyees).forEach((type, ids) -> rappelCRRepository.libererEnvois(date, type, ids));
+                return nonEnvoyees.size();
+            }
+            parType(lot).forEach((type, ids) -> {
+                rappelCRRepository.confirmerEnvois(date, type, ids);
+                envoyes.merge(type, ids.size(), Integer::sum);
+            });
+        }
+        return 0;
+    }
+
+    private static Map<TypeNotification, List<UUID>> parType(List<Notification> notifications) {
+        return notifications.stream().collect(Collectors.groupingBy(
+                Notification::type,
+                () -> new EnumMap<>(TypeNotification.class),
+                Collectors.mapping(Notification::concerneId, Collectors.toList())));
+    }
+}
@@ -2,14 +2,21 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CRResponse;
 import com.cmci.cr.application.dto.command.UpdateCRCommand;
+import com.cmci.cr.domain.event.CRUpdatedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.service.CRDomainService;
 import com.cmci.cr.domain.valueobject.RDQD;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Use Case: Modifier un Compte Rendu existant
@@ -19,6 +26,9 @@ public class UpdateCRUseCase {
 
     private final CompteRenduRepository compteRenduRepository;
     private final CRDomainService crDomainService;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final UtilisateurRepository utilisateurRepository;
 
     /**
      * Exécute le use case de modification d'un CR
@@ -29,8 +39,9 @@ public class UpdateCRUseCase {
      * @throws IllegalStateException si le CR n'est pas modifiable
      */
     public CRResponse execute(UpdateCRCommand command) {
-        // Récupérer le CR existant
-        CompteRendu existingCR = compteRenduRepository.findById(command.getId())
+        // Récupérer le CR existant, verrouillé : une modification concurrente (PATCH, validation)
+        // attend la fin de celle-ci au lieu de fausser la différence reportée dans les agrégats
+        CompteRendu existingCR = compteRenduRepository.findByIdPourModification(command.getId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Compte rendu non trouvé avec l'ID: " + command.getId()
                 ));
@@ -50,6 +61,13 @@ public class UpdateCRUseCase {
             );
         }
 
+        // Vérifier que le client a modifié la version courante
+        if (command.getVersion() != null && !command.getVersion().equals(existingCR.getVersion())) {
+            throw new IllegalStateException(
+                    "Le compte rendu a été modifié entre-temps (version " + command.getVersion() +
+                    " périmée, version courante: " + existingCR.getVersion() + ")");
+        }
+
         // Créer le CR mis à jour
         CompteRendu updatedCR = existingCR
                 .withRdqd(command.getRdqd() != null ? RDQD.fromString(command.getRdqd()) : existingCR.getRdqd())
@@ -74,10 +92,24 @@ public class UpdateCRUseCase {
         // Sauvegarder
         CompteRendu saved = compteRenduRepository.save(updatedCR);
 
+        // Seule la différence entre les deux versions est reportée dans les agrégats
+        Agregat difference = Agregat.de(saved).moins(Agregat.de(existingCR));
+        statistiquesPerimetreRepository.appliquer(saved.getUtilisateurId(), saved.getDate(), difference);
+        eventPublisher.publish(CRUpdatedEvent.of(saved.getId(), saved.getUtilisateurId(), fdDe(saved.getUtilisateurId()),
+                saved.getDate(),
+                saved.getStatut().name(), existingCR.getStatut().name()));
+
         // Mapper vers le DTO de réponse
         return mapToResponse(saved);
     }
 
+    /**
+     * FD de l'auteur, porté par l'événement pour la projection et les notifications
+     */
+    private UUID fdDe(UUID utilisateurId) {
+        return utilisateurRepository.findById(utilisateurId).map(Utilisateur::getFdId).orElse(null);
+    }
+
     /**
      * Parse une durée au format "HH:mm" ou ISO
      */
@@ -123,6 +155,7 @@ public class UpdateCRUseCase {
                 .vuParFd(cr.getVuParFd() != null ? cr.getVuParFd() : false)
                 .createdAt(cr.getCreatedAt())
                 .updatedAt(cr.getUpdatedAt())
+                .version(cr.getVersion())
                 .build();
     }
 
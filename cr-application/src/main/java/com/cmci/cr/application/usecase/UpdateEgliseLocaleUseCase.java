@@ -5,6 +5,8 @@ import com.cmci.cr.application.dto.response.EgliseLocaleResponse;
 import com.cmci.cr.domain.model.EgliseLocale;
 import com.cmci.cr.domain.repository.EgliseLocaleRepository;
 import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.repository.ZoneRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ public class UpdateEgliseLocaleUseCase {
     private final ZoneRepository zoneRepository;
     private final EgliseMaisonRepository egliseMaisonRepository;
     private final UtilisateurRepository utilisateurRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
 
     public EgliseLocaleResponse execute(UpdateEgliseLocaleCommand command) {
         EgliseLocale existing = egliseLocaleRepository.findById(command.getId())
@@ -50,6 +53,10 @@ public class UpdateEgliseLocaleUseCase {
         updated.validate();
 
         EgliseLocale saved = egliseLocaleRepository.save(updated);
+
+        // Rattachement à une autre zone : les agrégats suivent l'église locale
+        statistiquesPerimetreRepository.deplacerPerimetre(Perimetre.EGLISE_LOCALE, saved.getId(),
+                existing.getZoneId(), saved.getZoneId());
         return mapToResponse(saved);
     }
 
@@ -5,6 +5,8 @@ import com.cmci.cr.application.dto.response.EgliseMaisonResponse;
 import com.cmci.cr.domain.model.EgliseMaison;
 import com.cmci.cr.domain.repository.EgliseLocaleRepository;
 import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +19,7 @@ public class UpdateEgliseMaisonUseCase {
     private final EgliseMaisonRepository egliseMaisonRepository;
     private final EgliseLocaleRepository egliseLocaleRepository;
     private final UtilisateurRepository utilisateurRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
 
     public EgliseMaisonResponse execute(UpdateEgliseMaisonCommand command) {
         EgliseMaison existing = egliseMaisonRepository.findById(command.getId())
@@ -48,6 +51,10 @@ public class UpdateEgliseMaisonUseCase {
         updated.validate();
 
         EgliseMaison saved = egliseMaisonRepository.save(updated);
+
+        // Rattachement à une autre église locale : les agrégats suivent l'église de maison
+        statistiquesPerimetreRepository.deplacerPerimetre(Perimetre.EGLISE_MAISON, saved.getId(),
+                existing.getEgliseLocaleId(), saved.getEgliseLocaleId());
         return mapToResponse(saved);
     }
 
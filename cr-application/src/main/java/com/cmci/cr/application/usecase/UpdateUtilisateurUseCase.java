@@ -3,6 +3,7 @@ package com.cmci.cr.application.usecase;
 import com.cmci.cr.application.dto.command.UpdateUtilisateurCommand;
 import com.cmci.cr.application.dto.response.UtilisateurResponse;
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 public class UpdateUtilisateurUseCase {
 
     private final UtilisateurRepository utilisateurRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
 
     /**
      * Exécute le use case de mise à jour d'utilisateur
@@ -57,6 +59,10 @@ public class UpdateUtilisateurUseCase {
         // Sauvegarder
         Utilisateur saved = utilisateurRepository.save(updatedUser);
 
+        // Changement d'église de maison : les CR du membre passent à ses nouveaux périmètres
+        statistiquesPerimetreRepository.deplacerMembre(saved.getId(),
+                existingUser.getEgliseMaisonId(), saved.getEgliseMaisonId());
+
         // Récupérer le FD si présent
         Utilisateur fd = null;
         if (saved.getFdId() != null) {
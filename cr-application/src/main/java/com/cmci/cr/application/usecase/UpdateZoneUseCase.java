@@ -4,7 +4,9 @@ import com.cmci.cr.application.dto.command.UpdateZoneCommand;
 import com.cmci.cr.application.dto.response.ZoneResponse;
 import com.cmci.cr.domain.model.Zone;
 import com.cmci.cr.domain.repository.EgliseLocaleRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
 import com.cmci.cr.domain.repository.RegionRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
 import com.cmci.cr.domain.repository.ZoneRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +19,7 @@ public class UpdateZoneUseCase {
     private final ZoneRepository zoneRepository;
     private final RegionRepository regionRepository;
     private final EgliseLocaleRepository egliseLocaleRepository;
+    private final StatistiquesPerimetreRepository statistiquesPerimetreRepository;
 
     public ZoneResponse execute(UpdateZoneCommand command) {
         Zone existing = zoneRepository.findById(command.getId())
@@ -39,6 +42,10 @@ public class UpdateZoneUseCase {
         updated.validate();
 
         Zone saved = zoneRepository.save(updated);
+
+        // Rattachement à une autre région : les agrégats suivent la zone
+        statistiquesPerimetreRepository.deplacerPerimetre(Perimetre.ZONE, saved.getId(),
+                existing.getRegionId(), saved.getRegionId());
         return mapToResponse(saved);
     }
 
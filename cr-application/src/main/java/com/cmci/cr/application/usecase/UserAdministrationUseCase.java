@@ -3,12 +3,15 @@ package com.cmci.cr.application.usecase;
 import com.cmci.cr.application.dto.command.AssignRoleCommand;
 import com.cmci.cr.application.dto.response.KeycloakUserResponse;
 import com.cmci.cr.domain.port.IdentityProviderPort;
+import com.cmci.cr.domain.port.IdentityProviderPort.FournisseurIndisponibleException;
 import com.cmci.cr.domain.port.IdentityProviderPort.IdentityUser;
 import com.cmci.cr.domain.valueobject.Role;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -113,15 +116,34 @@ public class UserAdministrationUseCase {
 
     /**
      * Récupère les statistiques des utilisateurs par rôle
+     * Les six comptages partent en parallèle : la latence est celle du plus lent, pas leur somme
+     *
+     * @throws FournisseurIndisponibleException si un comptage échoue sans résultat de repli
      */
     public UserStatistics getUserStatistics() {
+        CompletableFuture<Integer> total = identityProvider.countUsersAsync();
+        CompletableFuture<Integer> fideles = identityProvider.countUsersByRoleAsync(Role.FIDELE);
+        CompletableFuture<Integer> fds = identityProvider.countUsersByRoleAsync(Role.FD);
+        CompletableFuture<Integer> leaders = identityProvider.countUsersByRoleAsync(Role.LEADER);
+        CompletableFuture<Integer> pasteurs = identityProvider.countUsersByRoleAsync(Role.PASTEUR);
+        CompletableFuture<Integer> admins = identityProvider.countUsersByRoleAsync(Role.ADMIN);
+
+        try {
+            CompletableFuture.allOf(total, fideles, fds, leaders, pasteurs, admins).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FournisseurIndisponibleException("Statistiques utilisateurs indisponibles", e.getCause());
+        }
+
         return new UserStatistics(
-                identityProvider.countUsers(),
-                identityProvider.countUsersByRole(Role.FIDELE),
-                identityProvider.countUsersByRole(Role.FD),
-                identityProvider.countUsersByRole(Role.LEADER),
-                identityProvider.countUsersByRole(Role.PASTEUR),
-                identityProvider.countUsersByRole(Role.ADMIN)
+                total.join(),
+                fideles.join(),
+                fds.join(),
+                leaders.join(),
+                pasteurs.join(),
+                admins.join()
         );
     }
 
@@ -1,6 +1,8 @@
 package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
 import com.cmci.cr.domain.valueobject.StatutCR;
@@ -17,6 +19,7 @@ import java.util.UUID;
 public class ValidateCRUseCase {
 
     private final CompteRenduRepository compteRenduRepository;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Exécute le use case de validation d'un CR
@@ -51,8 +54,8 @@ public class ValidateCRUseCase {
         // Sauvegarder
         CompteRendu saved = compteRenduRepository.save(validatedCR);
 
-        // Émettre un événement (sera géré par l'infrastructure)
-        // CRValidatedEvent.of(crId, existingCR.getUtilisateurId(), validatorId, existingCR.getDate())
+        // Émettre un événement (projections traitées après commit, hors du thread de requête)
+        eventPublisher.publish(CRValidatedEvent.of(crId, existingCR.getUtilisateurId(), validatorId, existingCR.getDate()));
 
         return mapToResponse(saved);
     }
@@ -83,6 +86,7 @@ public class ValidateCRUseCase {
                 .vuParFd(cr.getVuParFd() != null ? cr.getVuParFd() : false)
                 .createdAt(cr.getCreatedAt())
                 .updatedAt(cr.getUpdatedAt())
+                .version(cr.getVersion())
                 .build();
     }
 
@@ -2,27 +2,37 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.DiscipleWithCRStatusResponse;
 import com.cmci.cr.domain.model.Utilisateur;
-import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository.ResumeMembre;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
-import com.cmci.cr.domain.service.CRDomainService;
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Use Case: Voir les CR de mes disciples (US3.1)
  * Permet à un FD de consulter l'état des CR de ses disciples
+ *
+ * Lorsque la projection des tableaux de bord est activée, les indicateurs de tous
+ * les disciples sont lus en une seule requête dans la projection. Sinon, ils sont
+ * calculés sur les calendriers des soumissions (une requête par année couverte).
  */
 @RequiredArgsConstructor
 public class ViewDisciplesCRUseCase {
 
+    private static final int JOURS_REGULARITE = 30;
+
     private final UtilisateurRepository utilisateurRepository;
-    private final CompteRenduRepository compteRenduRepository;
-    private final CRDomainService crDomainService;
+    private final TableauBordRepository tableauBordRepository;
+    private final CalendrierSoumissionRepository calendrierSoumissionRepository;
+    private final boolean lectureProjection; // app.projections.tableau-bord.lecture
 
     /**
      * Récupère la liste des disciples avec leur statut de CR
@@ -34,47 +44,100 @@ public class ViewDisciplesCRUseCase {
         // Récupérer tous les disciples du FD
         List<Utilisateur> disciples = utilisateurRepository.findByFdId(fdId);
 
-        // Pour chaque disciple, calculer son statut de CR
+        return lectureProjection ? buildFromProjection(disciples) : buildFromCalendars(disciples);
+    }
+
+    /**
+     * Construit le statut CR des disciples à partir de la projection (une seule requête)
+     */
+    private List<DiscipleWithCRStatusResponse> buildFromProjection(List<Utilisateur> disciples) {
+        if (disciples.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        List<UUID> discipleIds = disciples.stream()
+                .map(Utilisateur::getId)
+                .collect(Collectors.toList());
+
+        Map<UUID, ResumeMembre> resumes = tableauBordRepository.findResumesByUtilisateurIds(
+                discipleIds, today.minusDays(JOURS_REGULARITE - 1L), today);
+
         return disciples.stream()
-                .map(this::buildDiscipleStatus)
+                .map(disciple -> {
+                    ResumeMembre resume = resumes.get(disciple.getId());
+                    LocalDate dernierCRDate = resume != null ? resume.dernierCRDate() : null;
+                    int nombreCR30Jours = resume != null ? resume.nombreCR30Jours() : 0;
+                    return toResponse(
+                            disciple,
+                            dernierCRDate,
+                            today.equals(dernierCRDate),
+                            nombreCR30Jours * 100.0 / JOURS_REGULARITE,
+                            today);
+                })
                 .collect(Collectors.toList());
     }
 
     /**
-     * Construit le statut CR d'un disciple
+     * Construit le statut CR des disciples à partir des calendriers des soumissions :
+     * comptage de bits sur la fenêtre de régularité, sans charger de CR
      */
-    private DiscipleWithCRStatusResponse buildDiscipleStatus(Utilisateur disciple) {
+    private List<DiscipleWithCRStatusResponse> buildFromCalendars(List<Utilisateur> disciples) {
+        if (disciples.isEmpty()) {
+            return List.of();
+        }
+
         LocalDate today = LocalDate.now();
-        LocalDate thirtyDaysAgo = today.minusDays(30);
-
-        // Vérifier si CR soumis aujourd'hui
-        boolean crAujourdhui = compteRenduRepository.existsByUtilisateurIdAndDate(
-                disciple.getId(),
-                today
-        );
-
-        // Trouver la date du dernier CR
-        List<LocalDate> recentDates = compteRenduRepository
-                .findByUtilisateurIdAndDateBetween(disciple.getId(), thirtyDaysAgo, today)
-                .stream()
-                .map(cr -> cr.getDate())
-                .sorted((d1, d2) -> d2.compareTo(d1)) // Tri décroissant
+        LocalDate debut = today.minusDays(JOURS_REGULARITE - 1L);
+        List<UUID> discipleIds = disciples.stream()
+                .map(Utilisateur::getId)
+                .collect(Collectors.toList());
+
+        Map<UUID, CalendrierSoumissions> anneeCourante =
+                calendrierSoumissionRepository.findByUtilisateurIdsAndAnnee(discipleIds, today.getYear());
+        Map<UUID, CalendrierSoumissions> anneePrecedente = debut.getYear() < today.getYear()
+                ? calendrierSoumissionRepository.findByUtilisateurIdsAndAnnee(discipleIds, debut.getYear())
+                : Map.of();
+
+        return disciples.stream()
+                .map(disciple -> {
+                    CalendrierSoumissions courant = anneeCourante.getOrDefault(
+                            disciple.getId(), CalendrierSoumissions.vide(today.getYear()));
+                    CalendrierSoumissions precedent = anneePrecedente.get(disciple.getId());
+
+                    int nombreCR = courant.compter(debut, today)
+                            + (precedent != null ? precedent.compter(debut, today) : 0);
+
+                    LocalDate dernierCRDate = courant.dernierJourSoumis(today);
+                    if (dernierCRDate == null && precedent != null) {
+                        dernierCRDate = precedent.dernierJourSoumis(today);
+                    }
+
+                    return toResponse(
+                            disciple,
+                            dernierCRDate,
+                            courant.estSoumis(today),
+                            nombreCR * 100.0 / JOURS_REGULARITE,
+                            today);
+                })
                 .collect(Collectors.toList());
+    }
 
-        LocalDate dernierCRDate = recentDates.isEmpty() ? null : recentDates.get(0);
+    /**
+     * Construit la réponse à partir des indicateurs calculés
+     */
+    private DiscipleWithCRStatusResponse toResponse(
+            Utilisateur disciple,
+            LocalDate dernierCRDate,
+            boolean crAujourdhui,
+            double tauxRegularite,
+            LocalDate today) {
 
         // Calculer jours depuis dernier CR
         Integer joursDepuisDernierCR = dernierCRDate != null
                 ? (int) ChronoUnit.DAYS.between(dernierCRDate, today)
                 : null;
 
-        // Calculer taux de régularité sur 30 jours
-        double tauxRegularite = crDomainService.calculateRegularityRate(
-                disciple.getId(),
-                thirtyDaysAgo,
-                today
-        );
-
         // Déterminer niveau d'alerte
         String niveauAlerte = "NONE";
         boolean alerte = false;
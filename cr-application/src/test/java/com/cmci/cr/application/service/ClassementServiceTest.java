@@ -0,0 +1,203 @@
+package com.cmci.cr.application.service;
+
+import com.cmci.cr.application.service.ClassementService.Critere;
+import com.cmci.cr.application.service.ClassementService.Entree;
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.CRDeletedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.repository.ClassementRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ClassementService
+ */
+@ExtendWith(MockitoExtension.class)
+class ClassementServiceTest {
+
+    @Mock
+    private ClassementRepository classementRepository;
+
+    private HorlogeReglable horloge;
+    private ClassementService service;
+    private UUID fdId;
+    private UUID alice;
+    private UUID bruno;
+    private UUID chloe;
+    private UUID david;
+    private LocalDate debut;
+    private LocalDate fin;
+
+    @BeforeEach
+    void setUp() {
+        horloge = new HorlogeReglable(Instant.parse("2026-03-01T08:00:00Z"));
+        service = new ClassementService(classementRepository, horloge);
+        fdId = UUID.randomUUID();
+        alice = UUID.randomUUID();
+        bruno = UUID.randomUUID();
+        chloe = UUID.randomUUID();
+        david = UUID.randomUUID();
+        debut = LocalDate.of(2026, 2, 1);
+        fin = LocalDate.of(2026, 2, 28);
+    }
+
+    @Test
+    @DisplayName("Devrait retourner les k meilleurs membres dans l'ordre du critère")
+    void shouldReturnTopKInOrder() {
+        // Given : david n'a aucun CR sur la période
+        when(classementRepository.sommerParMembre(anyCollection(), eq(debut), eq(fin))).thenReturn(Map.of(
+                alice, agregat(20, 600, 5),
+                bruno, agregat(25, 300, 40),
+                chloe, agregat(12, 900, 10)));
+        Set<UUID> membres = Set.of(alice, bruno, chloe, david);
+
+        // When
+        List<Entree> regularite = service.topK(fdId, membres, Critere.REGULARITE, debut, fin, 2);
+        List<Entree> priere = service.topK(fdId, membres, Critere.PRIERE, debut, fin, 3);
+        List<Entree> tous = service.topK(fdId, membres, Critere.LECTURE, debut, fin, 10);
+
+        // Then
+        assertEquals(List.of(bruno, alice), ids(regularite));
+        assertEquals(List.of(chloe, alice, bruno), ids(priere));
+        assertEquals(List.of(bruno, chloe, alice, david), ids(tous));
+        assertEquals(Agregat.VIDE, tous.get(3).valeurs());
+        verify(classementRepository, times(1)).sommerParMembre(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Devrait départager les égalités par le nombre de CR")
+    void shouldBreakTiesByNumberOfCRs() {
+        // Given
+        when(classementRepository.sommerParMembre(anyCollection(), eq(debut), eq(fin))).thenReturn(Map.of(
+                alice, agregat(10, 300, 7),
+                bruno, agregat(18, 300, 7)));
+
+        // When
+        List<Entree> top = service.topK(fdId, Set.of(alice, bruno), Critere.PRIERE, debut, fin, 1);
+
+        // Then
+        assertEquals(List.of(bruno), ids(top));
+    }
+
+    @Test
+    @DisplayName("Devrait écarter les classements d'un membre à la réception d'un événement de CR")
+    void shouldInvalidateCachedTablesOnCREvents() {
+        // Given : deux groupes en cache, bruno n'est que dans le premier
+        UUID autreFdId = UUID.randomUUID();
+        when(classementRepository.sommerParMembre(anyCollection(), eq(debut), eq(fin)))
+                .thenReturn(Map.of(alice, agregat(20, 600, 5), bruno, agregat(19, 300, 40)))
+                .thenReturn(Map.of(chloe, agregat(3, 30, 1)))
+                .thenReturn(Map.of(alice, agregat(20, 600, 5), bruno, agregat(21, 330, 42)));
+        service.topK(fdId, Set.of(alice, bruno), Critere.REGULARITE, debut, fin, 1);
+        service.topK(autreFdId, Set.of(chloe), Critere.REGULARITE, debut, fin, 1);
+
+        // When : événement d'un non-membre puis de bruno
+        service.handle(CRDeletedEvent.of(UUID.randomUUID(), david, fdId, LocalDate.of(2026, 2, 10)));
+        assertEquals(2, service.getTailleCache());
+        service.handle(CRCreatedEvent.of(UUID.randomUUID(), bruno, fdId, LocalDate.of(2026, 2, 10), "2h", "BROUILLON"));
+
+        // Then : seul le groupe de bruno est rechargé
+        assertEquals(1, service.getTailleCache());
+        List<Entree> top = service.topK(fdId, Set.of(alice, bruno), Critere.REGULARITE, debut, fin, 1);
+        service.topK(autreFdId, Set.of(chloe), Critere.REGULARITE, debut, fin, 1);
+        assertEquals(List.of(bruno), ids(top));
+        assertEquals(21, top.get(0).valeurs().nombreCRs());
+        verify(classementRepository, times(3)).sommerParMembre(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Devrait traiter les événements de création, modification et suppression de CR")
+    void shouldSupportCRWriteEvents() {
+        // When / Then
+        assertTrue(service.supports(CRCreatedEvent.of(UUID.randomUUID(), alice, fdId, debut, "2h", "BROUILLON")));
+        assertTrue(service.supports(CRDeletedEvent.of(UUID.randomUUID(), alice, fdId, debut)));
+        assertFalse(service.supports(CRValidatedEvent.of(UUID.randomUUID(), alice, fdId, debut)));
+    }
+
+    @Test
+    @DisplayName("Devrait recharger le classement après expiration ou changement du groupe")
+    void shouldReloadAfterExpiryOrMembershipChange() {
+        // Given
+        when(classementRepository.sommerParMembre(anyCollection(), eq(debut), eq(fin)))
+                .thenReturn(Map.of(alice, agregat(5, 60, 1)));
+        service.topK(fdId, Set.of(alice, bruno), Critere.REGULARITE, debut, fin, 1);
+
+        // When
+        horloge.avancer(ClassementService.DUREE_VIE.minusSeconds(1));
+        service.topK(fdId, Set.of(alice, bruno), Critere.REGULARITE, debut, fin, 1);
+        horloge.avancer(Duration.ofSeconds(1));
+        service.topK(fdId, Set.of(alice, bruno), Critere.REGULARITE, debut, fin, 1);
+        service.topK(fdId, Set.of(alice, bruno, chloe), Critere.REGULARITE, debut, fin, 1);
+
+        // Then
+        verify(classementRepository, times(3)).sommerParMembre(anyCollection(), any(), any());
+        assertEquals(1, service.getTailleCache());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser un k nul ou négatif")
+    void shouldRejectNonPositiveK() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> service.topK(fdId, Set.of(alice), Critere.REGULARITE, debut, fin, 0));
+        verifyNoInteractions(classementRepository);
+    }
+
+    private static Agregat agregat(long nombreCRs, long minutesPriere, long chapitresLus) {
+        return new Agregat(nombreCRs, nombreCRs, Duration.ofMinutes(minutesPriere), chapitresLus, 0, 0, 0);
+    }
+
+    private static List<UUID> ids(List<Entree> entrees) {
+        return entrees.stream().map(Entree::utilisateurId).toList();
+    }
+
+    // Horloge que le test fait avancer à la main
+    private static final class HorlogeReglable extends Clock {
+        private Instant maintenant;
+
+        HorlogeReglable(Instant maintenant) {
+            this.maintenant = maintenant;
+        }
+
+        void avancer(Duration duree) {
+            maintenant = maintenant.plus(duree);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return maintenant;
+        }
+    }
+}
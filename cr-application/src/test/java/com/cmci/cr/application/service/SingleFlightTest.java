@@ -0,0 +1,149 @@
+package com.cmci.cr.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SingleFlight
+ */
+class SingleFlightTest {
+
+    private static final int APPELANTS = 8;
+
+    private SingleFlight<ScopePeriode, String> singleFlight;
+    private ExecutorService executor;
+    private ScopePeriode cle;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        executor = Executors.newFixedThreadPool(APPELANTS);
+        cle = new ScopePeriode(UUID.randomUUID(), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Les appels simultanés avec la même clé partagent un seul calcul")
+    void shouldShareInFlightComputation() throws Exception {
+        // Given
+        AtomicInteger calculs = new AtomicInteger();
+        CountDownLatch calculDemarre = new CountDownLatch(1);
+        CountDownLatch libererCalcul = new CountDownLatch(1);
+
+        Future<String> premier = executor.submit(() -> singleFlight.execute(cle, () -> {
+            calculs.incrementAndGet();
+            calculDemarre.countDown();
+            attendre(libererCalcul);
+            return "résultat";
+        }));
+        assertTrue(calculDemarre.await(5, TimeUnit.SECONDS));
+
+        // When
+        List<Future<String>> suivants = new ArrayList<>();
+        for (int i = 1; i < APPELANTS; i++) {
+            suivants.add(executor.submit(() -> singleFlight.execute(cle, () -> {
+                calculs.incrementAndGet();
+                return "autre";
+            })));
+        }
+        attendreAppelantsBloques();
+        libererCalcul.countDown();
+
+        // Then
+        assertEquals("résultat", premier.get(5, TimeUnit.SECONDS));
+        for (Future<String> suivant : suivants) {
+            assertEquals("résultat", suivant.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calculs.get());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("L'exception du calcul est transmise à tous les appelants")
+    void shouldPropagateFailureToAllCallers() throws Exception {
+        // Given
+        CountDownLatch calculDemarre = new CountDownLatch(1);
+        CountDownLatch libererCalcul = new CountDownLatch(1);
+
+        Future<String> premier = executor.submit(() -> singleFlight.execute(cle, () -> {
+            calculDemarre.countDown();
+            attendre(libererCalcul);
+            throw new NoSuchElementException("Responsable non trouvé");
+        }));
+        assertTrue(calculDemarre.await(5, TimeUnit.SECONDS));
+
+        // When
+        Future<String> second = executor.submit(() -> singleFlight.execute(cle, () -> "jamais appelé"));
+        attendreAppelantsBloques();
+        libererCalcul.countDown();
+
+        // Then
+        ExecutionException e1 = assertThrows(ExecutionException.class, () -> premier.get(5, TimeUnit.SECONDS));
+        ExecutionException e2 = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NoSuchElementException.class, e1.getCause());
+        assertInstanceOf(NoSuchElementException.class, e2.getCause());
+    }
+
+    @Test
+    @DisplayName("Un appel après la fin du calcul recalcule (pas de mise en cache)")
+    void shouldRecomputeOnceFinished() {
+        // Given
+        AtomicInteger calculs = new AtomicInteger();
+
+        // When
+        singleFlight.execute(cle, () -> "v" + calculs.incrementAndGet());
+        String second = singleFlight.execute(cle, () -> "v" + calculs.incrementAndGet());
+
+        // Then
+        assertEquals("v2", second);
+        assertEquals(2, calculs.get());
+    }
+
+    @Test
+    @DisplayName("Des clés différentes ne sont pas regroupées")
+    void shouldNotShareAcrossKeys() {
+        // Given
+        ScopePeriode autrePeriode = new ScopePeriode(cle.scopeId(), cle.startDate(), cle.endDate().plusDays(1));
+
+        // When
+        String resultat = singleFlight.execute(cle,
+                () -> singleFlight.execute(autrePeriode, () -> "imbriqué"));
+
+        // Then
+        assertEquals("imbriqué", resultat);
+    }
+
+    private static void attendre(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Laisse aux appelants suivants le temps de rejoindre le calcul en cours
+    private static void attendreAppelantsBloques() throws InterruptedException {
+        Thread.sleep(100);
+    }
+}
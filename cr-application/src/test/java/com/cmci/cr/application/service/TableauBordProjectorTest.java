@@ -0,0 +1,135 @@
+package com.cmci.cr.application.service;
+
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.CRDeletedEvent;
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.CRSubmittedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.CommentaireAddedEvent;
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository.EtatCR;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour TableauBordProjector
+ */
+@ExtendWith(MockitoExtension.class)
+class TableauBordProjectorTest {
+
+    @Mock
+    private TableauBordRepository tableauBordRepository;
+
+    private TableauBordProjector projector;
+    private UUID compteRenduId;
+    private UUID utilisateurId;
+    private UUID fdId;
+    private LocalDate dateCR;
+
+    @BeforeEach
+    void setUp() {
+        projector = new TableauBordProjector(tableauBordRepository);
+        compteRenduId = UUID.randomUUID();
+        utilisateurId = UUID.randomUUID();
+        fdId = UUID.randomUUID();
+        dateCR = LocalDate.of(2026, 3, 10);
+    }
+
+    @Test
+    @DisplayName("Devrait projeter un CR créé comme non vu avec son statut")
+    void shouldProjectCreatedEvent() {
+        // Given
+        CRCreatedEvent event = CRCreatedEvent.of(compteRenduId, utilisateurId, fdId, dateCR, "1/1", "BROUILLON");
+
+        // When
+        projector.handle(event);
+
+        // Then
+        EtatCR etat = captureEtat();
+        assertEquals(compteRenduId, etat.compteRenduId());
+        assertEquals(utilisateurId, etat.utilisateurId());
+        assertEquals(fdId, etat.fdId());
+        assertEquals(dateCR, etat.dateCR());
+        assertEquals("BROUILLON", etat.statut());
+        assertEquals(Boolean.FALSE, etat.vuParFd());
+        assertEquals(event.getOccurredOn(), etat.occurredOn());
+    }
+
+    @Test
+    @DisplayName("Devrait projeter un CR soumis sans modifier l'indicateur vu")
+    void shouldProjectSubmittedEvent() {
+        // When
+        projector.handle(CRSubmittedEvent.of(compteRenduId, utilisateurId, fdId, dateCR));
+
+        // Then
+        EtatCR etat = captureEtat();
+        assertEquals("SOUMIS", etat.statut());
+        assertNull(etat.vuParFd());
+    }
+
+    @Test
+    @DisplayName("Devrait projeter un CR validé comme vu par le FD validateur")
+    void shouldProjectValidatedEvent() {
+        // When
+        projector.handle(CRValidatedEvent.of(compteRenduId, utilisateurId, fdId, dateCR));
+
+        // Then
+        EtatCR etat = captureEtat();
+        assertEquals("VALIDE", etat.statut());
+        assertEquals(Boolean.TRUE, etat.vuParFd());
+        assertEquals(fdId, etat.fdId());
+    }
+
+    @Test
+    @DisplayName("Devrait marquer le CR comme vu sans modifier son statut")
+    void shouldProjectMarkedAsViewedEvent() {
+        // When
+        projector.handle(CRMarkedAsViewedEvent.of(compteRenduId, utilisateurId, fdId, dateCR));
+
+        // Then
+        EtatCR etat = captureEtat();
+        assertNull(etat.statut());
+        assertEquals(Boolean.TRUE, etat.vuParFd());
+    }
+
+    @Test
+    @DisplayName("Devrait retirer un CR supprimé de la projection")
+    void shouldRemoveDeletedCR() {
+        // When
+        projector.handle(CRDeletedEvent.of(compteRenduId, utilisateurId, fdId, dateCR));
+
+        // Then
+        verify(tableauBordRepository).supprimer(compteRenduId);
+        verify(tableauBordRepository, never()).appliquer(any());
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer les événements qui ne concernent pas les CR")
+    void shouldIgnoreUnsupportedEvents() {
+        // Given
+        CommentaireAddedEvent event = CommentaireAddedEvent.of(
+                UUID.randomUUID(), compteRenduId, fdId, utilisateurId, "Bravo");
+
+        // When / Then
+        assertFalse(projector.supports(event));
+        projector.handle(event);
+        verifyNoInteractions(tableauBordRepository);
+    }
+
+    private EtatCR captureEtat() {
+        ArgumentCaptor<EtatCR> captor = ArgumentCaptor.forClass(EtatCR.class);
+        verify(tableauBordRepository).appliquer(captor.capture());
+        return captor.getValue();
+    }
+}
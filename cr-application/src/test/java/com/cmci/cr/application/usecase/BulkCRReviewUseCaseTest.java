@@ -0,0 +1,169 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.RevueCRsResponse;
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.domain.repository.RevueCRRepository;
+import com.cmci.cr.domain.repository.RevueCRRepository.EtatRevue;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour BulkCRReviewUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkCRReviewUseCaseTest {
+
+    @Mock
+    private RevueCRRepository revueCRRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private BulkCRReviewUseCase useCase;
+    private UUID fdId;
+    private UUID discipleId;
+    private LocalDate lundi;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkCRReviewUseCase(revueCRRepository, eventPublisher);
+        fdId = UUID.randomUUID();
+        discipleId = UUID.randomUUID();
+        lundi = LocalDate.of(2026, 3, 2);
+    }
+
+    @Test
+    @DisplayName("Devrait marquer comme vus les CR soumis et ignorer les autres, en un lot")
+    void shouldMarkEligibleCRsAsViewedInOneBatch() {
+        // Given
+        EtatRevue soumis1 = etat(lundi, StatutCR.SOUMIS, false, true);
+        EtatRevue soumis2 = etat(lundi.plusDays(1), StatutCR.SOUMIS, false, true);
+        EtatRevue dejaVu = etat(lundi.plusDays(2), StatutCR.SOUMIS, true, true);
+        EtatRevue brouillon = etat(lundi.plusDays(3), StatutCR.BROUILLON, false, true);
+        List<UUID> ids = ids(soumis1, soumis2, dejaVu, brouillon);
+        when(revueCRRepository.findEtats(eq(fdId), anyCollection()))
+                .thenReturn(List.of(soumis1, soumis2, dejaVu, brouillon));
+        when(revueCRRepository.marquerVus(ids(soumis1, soumis2))).thenReturn(ids(soumis1, soumis2));
+
+        // When
+        RevueCRsResponse response = useCase.markAsViewed(fdId, ids);
+
+        // Then
+        assertEquals(2, response.getNombreTraites());
+        assertEquals(List.of(dejaVu.compteRenduId(), brouillon.compteRenduId()), response.getIgnores());
+        List<DomainEvent> evenements = evenementsPublies();
+        assertEquals(2, evenements.size());
+        CRMarkedAsViewedEvent premier = (CRMarkedAsViewedEvent) evenements.get(0);
+        assertEquals(soumis1.compteRenduId(), premier.getCompteRenduId());
+        assertEquals(fdId, premier.getFdId());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Devrait valider tous les CR soumis d'un disciple jusqu'à la date")
+    void shouldValidateAllSubmittedCRsOfDisciple() {
+        // Given
+        EtatRevue vu = etat(lundi, StatutCR.SOUMIS, true, true);
+        EtatRevue nonVu = etat(lundi.plusDays(1), StatutCR.SOUMIS, false, true);
+        LocalDate dimanche = lundi.plusDays(6);
+        when(revueCRRepository.findEtatsSoumis(fdId, discipleId, dimanche)).thenReturn(List.of(vu, nonVu));
+        when(revueCRRepository.valider(ids(vu, nonVu))).thenReturn(ids(vu, nonVu));
+
+        // When
+        RevueCRsResponse response = useCase.validate(fdId, discipleId, dimanche);
+
+        // Then
+        assertEquals(ids(vu, nonVu), response.getTraites());
+        assertTrue(response.getIgnores().isEmpty());
+        List<DomainEvent> evenements = evenementsPublies();
+        assertTrue(evenements.stream().allMatch(CRValidatedEvent.class::isInstance));
+        assertEquals(fdId, ((CRValidatedEvent) evenements.get(1)).getValidatedByFdId());
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer un CR revu entre la lecture et la mise à jour, sans lui publier d'événement")
+    void shouldIgnoreCRReviewedConcurrently() {
+        // Given : revuAilleurs est validé par un autre relecteur avant la mise à jour
+        EtatRevue valide = etat(lundi, StatutCR.SOUMIS, false, true);
+        EtatRevue revuAilleurs = etat(lundi.plusDays(1), StatutCR.SOUMIS, false, true);
+        when(revueCRRepository.findEtats(eq(fdId), anyCollection())).thenReturn(List.of(valide, revuAilleurs));
+        when(revueCRRepository.valider(ids(valide, revuAilleurs))).thenReturn(ids(valide));
+
+        // When
+        RevueCRsResponse response = useCase.validate(fdId, ids(valide, revuAilleurs));
+
+        // Then
+        assertEquals(1, response.getNombreTraites());
+        assertEquals(ids(valide), response.getTraites());
+        assertEquals(ids(revuAilleurs), response.getIgnores());
+        List<DomainEvent> evenements = evenementsPublies();
+        assertEquals(1, evenements.size());
+        assertEquals(valide.compteRenduId(), ((CRValidatedEvent) evenements.get(0)).getCompteRenduId());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser tout le lot si un CR est hors de la portée du relecteur")
+    void shouldRejectBatchWhenOneCRIsOutOfScope() {
+        // Given
+        EtatRevue autorise = etat(lundi, StatutCR.SOUMIS, false, true);
+        EtatRevue autreGroupe = etat(lundi, StatutCR.SOUMIS, false, false);
+        when(revueCRRepository.findEtats(eq(fdId), anyCollection())).thenReturn(List.of(autorise, autreGroupe));
+
+        // When / Then
+        assertThrows(SecurityException.class, () -> useCase.validate(fdId, ids(autorise, autreGroupe)));
+        verify(revueCRRepository, never()).valider(anyCollection());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser un lot contenant un CR inconnu ou une liste vide")
+    void shouldRejectUnknownOrEmptyIds() {
+        // Given
+        EtatRevue connu = etat(lundi, StatutCR.SOUMIS, false, true);
+        UUID inconnu = UUID.randomUUID();
+        when(revueCRRepository.findEtats(eq(fdId), anyCollection())).thenReturn(List.of(connu));
+
+        // When / Then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> useCase.markAsViewed(fdId, List.of(connu.compteRenduId(), inconnu)));
+        assertTrue(ex.getMessage().contains(inconnu.toString()));
+        assertThrows(IllegalArgumentException.class, () -> useCase.markAsViewed(fdId, List.of()));
+        verify(revueCRRepository, never()).marquerVus(anyCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DomainEvent> evenementsPublies() {
+        ArgumentCaptor<Collection<DomainEvent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(eventPublisher).publishAll(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+
+    private EtatRevue etat(LocalDate date, StatutCR statut, boolean vu, boolean autorise) {
+        return new EtatRevue(UUID.randomUUID(), discipleId, date, statut, vu, autorise);
+    }
+
+    private static List<UUID> ids(EtatRevue... etats) {
+        return Arrays.stream(etats).map(EtatRevue::compteRenduId).toList();
+    }
+}
@@ -2,8 +2,13 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.command.CreateCRCommand;
 import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.RDQD;
 import com.cmci.cr.domain.valueobject.StatutCR;
 import org.junit.jupiter.api.*;
@@ -29,6 +34,21 @@ class CRWorkflowUseCaseTest {
     @Mock
     private CompteRenduRepository compteRenduRepository;
 
+    @Mock
+    private CalendrierSoumissionRepository calendrierRepository;
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    @Mock
+    private StatistiquesPerimetreRepository statistiquesRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
     private CreateCRUseCase createCRUseCase;
     private ValidateCRUseCase validateCRUseCase;
 
@@ -37,8 +57,9 @@ class CRWorkflowUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        createCRUseCase = new CreateCRUseCase(compteRenduRepository);
-        validateCRUseCase = new ValidateCRUseCase(compteRenduRepository);
+        createCRUseCase = new CreateCRUseCase(compteRenduRepository, calendrierRepository, participationRepository,
+                statistiquesRepository, eventPublisher, utilisateurRepository);
+        validateCRUseCase = new ValidateCRUseCase(compteRenduRepository, eventPublisher);
         utilisateurId = UUID.randomUUID();
         fdId = UUID.randomUUID();
     }
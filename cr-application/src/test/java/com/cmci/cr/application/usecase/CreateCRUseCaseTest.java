@@ -2,8 +2,15 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.command.CreateCRCommand;
 import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.RDQD;
 import com.cmci.cr.domain.valueobject.StatutCR;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,11 +40,27 @@ class CreateCRUseCaseTest {
     @Mock
     private CompteRenduRepository compteRenduRepository;
 
+    @Mock
+    private CalendrierSoumissionRepository calendrierRepository;
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    @Mock
+    private StatistiquesPerimetreRepository statistiquesRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
     private CreateCRUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateCRUseCase(compteRenduRepository);
+        useCase = new CreateCRUseCase(compteRenduRepository, calendrierRepository, participationRepository,
+                statistiquesRepository, eventPublisher, utilisateurRepository);
     }
 
     @Test
@@ -249,4 +273,61 @@ class CreateCRUseCaseTest {
         assertEquals(0, capturedCR.getPriereAutres());
         assertEquals(0, capturedCR.getEvangelisation());
     }
+
+    @Test
+    void shouldMarkDayInSubmissionCalendar() {
+        // Given
+        UUID utilisateurId = UUID.randomUUID();
+        LocalDate date = LocalDate.now().minusDays(1);
+
+        CreateCRCommand command = CreateCRCommand.builder()
+                .utilisateurId(utilisateurId)
+                .date(date)
+                .rdqd("1/1")
+                .priereSeule("00:30")
+                .lectureBiblique(2)
+                .build();
+
+        when(compteRenduRepository.existsByUtilisateurIdAndDate(utilisateurId, date)).thenReturn(false);
+        when(compteRenduRepository.save(any(CompteRendu.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        useCase.execute(command);
+
+        // Then
+        verify(calendrierRepository).marquer(utilisateurId, date, true);
+    }
+
+    @Test
+    void shouldPublishCRCreatedEvent() {
+        // Given
+        UUID utilisateurId = UUID.randomUUID();
+        UUID fdId = UUID.randomUUID();
+        when(utilisateurRepository.findById(utilisateurId))
+                .thenReturn(Optional.of(Utilisateur.builder().id(utilisateurId).fdId(fdId).build()));
+        LocalDate date = LocalDate.now();
+
+        CreateCRCommand command = CreateCRCommand.builder()
+                .utilisateurId(utilisateurId)
+                .date(date)
+                .rdqd("1/1")
+                .priereSeule("00:30")
+                .lectureBiblique(2)
+                .build();
+
+        when(compteRenduRepository.existsByUtilisateurIdAndDate(utilisateurId, date)).thenReturn(false);
+        when(compteRenduRepository.save(any(CompteRendu.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        CRResponse response = useCase.execute(command);
+
+        // Then
+        ArgumentCaptor<CRCreatedEvent> eventCaptor = ArgumentCaptor.forClass(CRCreatedEvent.class);
+        verify(eventPublisher).publish(eventCaptor.capture());
+        assertEquals(response.getId(), eventCaptor.getValue().getCompteRenduId());
+        assertEquals(utilisateurId, eventCaptor.getValue().getUtilisateurId());
+        assertEquals(fdId, eventCaptor.getValue().getFdId());
+        assertEquals(date, eventCaptor.getValue().getDateCR());
+        assertEquals("SOUMIS", eventCaptor.getValue().getStatut());
+    }
 }
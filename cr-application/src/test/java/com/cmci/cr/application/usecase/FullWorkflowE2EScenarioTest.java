@@ -2,6 +2,7 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.command.*;
 import com.cmci.cr.application.dto.response.*;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.*;
 import com.cmci.cr.domain.repository.*;
 import com.cmci.cr.domain.valueobject.Role;
@@ -19,6 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 /**
  * Test E2E complet simulant le workflow A-Z de l'application CMCI CR.
@@ -47,6 +49,12 @@ class FullWorkflowE2EScenarioTest {
     private static final InMemoryEgliseMaisonRepository egliseMaisonRepo = new InMemoryEgliseMaisonRepository();
     private static final InMemoryCommentaireRepository commentaireRepo = new InMemoryCommentaireRepository();
 
+    // ===== Index et projections hors du scénario : ports sans effet =====
+    private static final CalendrierSoumissionRepository calendrierRepo = mock(CalendrierSoumissionRepository.class);
+    private static final ParticipationRepository participationRepo = mock(ParticipationRepository.class);
+    private static final StatistiquesPerimetreRepository statistiquesRepo = mock(StatistiquesPerimetreRepository.class);
+    private static final DomainEventPublisher eventPublisher = evenement -> { };
+
     // ===== Use Cases =====
     private static CreateRegionUseCase createRegionUseCase;
     private static CreateZoneUseCase createZoneUseCase;
@@ -85,9 +93,10 @@ class FullWorkflowE2EScenarioTest {
                 egliseMaisonRepo, egliseLocaleRepo, utilisateurRepo);
         createUtilisateurUseCase = new CreateUtilisateurUseCase(utilisateurRepo);
         assignFDUseCase = new AssignFDUseCase(utilisateurRepo);
-        createCRUseCase = new CreateCRUseCase(crRepo);
-        validateCRUseCase = new ValidateCRUseCase(crRepo);
-        addCommentaireUseCase = new AddCommentaireUseCase(commentaireRepo, crRepo);
+        createCRUseCase = new CreateCRUseCase(crRepo, calendrierRepo, participationRepo, statistiquesRepo,
+                eventPublisher, utilisateurRepo);
+        validateCRUseCase = new ValidateCRUseCase(crRepo, eventPublisher);
+        addCommentaireUseCase = new AddCommentaireUseCase(commentaireRepo, crRepo, eventPublisher);
         getCommentairesUseCase = new GetCommentairesUseCase(commentaireRepo);
     }
 
@@ -574,6 +583,7 @@ class FullWorkflowE2EScenarioTest {
         assertFalse(comments.isEmpty());
         assertEquals(1, comments.size());
         assertTrue(comments.get(0).getContenu().contains("Excellent travail"));
+        assertEquals(fd1.getPrenom() + " " + fd1.getNom(), comments.get(0).getAuteurNom());
         System.out.println("  Nombre de commentaires sur CR Fidèle1: " + comments.size());
     }
 
@@ -715,6 +725,25 @@ class FullWorkflowE2EScenarioTest {
         @Override public void deleteById(UUID id) { store.remove(id); }
         @Override public long countByFdId(UUID fdId) { return store.values().stream().filter(u -> fdId.equals(u.getFdId())).count(); }
         @Override public List<Utilisateur> findByEgliseMaisonIdIn(List<UUID> ids) { return store.values().stream().filter(u -> ids.contains(u.getEgliseMaisonId())).collect(Collectors.toList()); }
+        @Override public List<Utilisateur> findAllById(List<UUID> ids) { return ids.stream().distinct().map(store::get).filter(Objects::nonNull).collect(Collectors.toList()); }
+        @Override public List<Utilisateur> findByEgliseMaisonId(UUID id, int page, int size) { return page(findByEgliseMaisonId(id), page, size); }
+        @Override public long countByEgliseMaisonId(UUID id) { return findByEgliseMaisonId(id).size(); }
+        @Override public List<Utilisateur> findByRole(Role role, int page, int size) { return page(findByRole(role), page, size); }
+        @Override public long countByRole(Role role) { return findByRole(role).size(); }
+        @Override public List<Utilisateur> findFidelesSansFd(ParticipationRepository.Perimetre perimetre, UUID perimetreId, UUID apresId, int limite) {
+            if (perimetre != null && perimetre != ParticipationRepository.Perimetre.EGLISE_MAISON) throw new UnsupportedOperationException();
+            List<Utilisateur> fideles = page(findByRole(Role.FIDELE), 0, Integer.MAX_VALUE).stream()
+                    .filter(u -> u.isActif() && u.getFdId() == null && (perimetre == null || perimetreId.equals(u.getEgliseMaisonId())))
+                    .collect(Collectors.toList());
+            int debut = apresId == null ? 0 : fideles.indexOf(store.get(apresId)) + 1;
+            return fideles.stream().skip(debut).limit(limite).collect(Collectors.toList());
+        }
+
+        private List<Utilisateur> page(List<Utilisateur> all, int page, int size) {
+            return all.stream()
+                    .sorted(Comparator.comparing(Utilisateur::getNom).thenComparing(Utilisateur::getPrenom).thenComparing(Utilisateur::getId))
+                    .skip((long) page * size).limit(size).collect(Collectors.toList());
+        }
     }
 
     static class InMemoryCompteRenduRepository implements CompteRenduRepository {
@@ -722,6 +751,7 @@ class FullWorkflowE2EScenarioTest {
 
         @Override public CompteRendu save(CompteRendu cr) { store.put(cr.getId(), cr); return cr; }
         @Override public Optional<CompteRendu> findById(UUID id) { return Optional.ofNullable(store.get(id)); }
+        @Override public Optional<CompteRendu> findByIdPourModification(UUID id) { return findById(id); }
         @Override public Optional<CompteRendu> findByUtilisateurIdAndDate(UUID uid, LocalDate date) { return store.values().stream().filter(cr -> cr.getUtilisateurId().equals(uid) && cr.getDate().equals(date)).findFirst(); }
         @Override public List<CompteRendu> findByUtilisateurId(UUID uid) { return store.values().stream().filter(cr -> cr.getUtilisateurId().equals(uid)).collect(Collectors.toList()); }
         @Override public List<CompteRendu> findByUtilisateurIdAndDateBetween(UUID uid, LocalDate start, LocalDate end) { return store.values().stream().filter(cr -> cr.getUtilisateurId().equals(uid) && !cr.getDate().isBefore(start) && !cr.getDate().isAfter(end)).collect(Collectors.toList()); }
@@ -730,6 +760,34 @@ class FullWorkflowE2EScenarioTest {
         @Override public boolean existsByUtilisateurIdAndDate(UUID uid, LocalDate date) { return store.values().stream().anyMatch(cr -> cr.getUtilisateurId().equals(uid) && cr.getDate().equals(date)); }
         @Override public long countByUtilisateurIdAndDateBetween(UUID uid, LocalDate start, LocalDate end) { return findByUtilisateurIdAndDateBetween(uid, start, end).size(); }
         @Override public List<CompteRendu> findByUtilisateurIdInAndDateBetween(List<UUID> uids, LocalDate start, LocalDate end) { return store.values().stream().filter(cr -> uids.contains(cr.getUtilisateurId()) && !cr.getDate().isBefore(start) && !cr.getDate().isAfter(end)).collect(Collectors.toList()); }
+        @Override public Map<UUID, ResumeCR> resumerByUtilisateurIdInAndDateBetween(List<UUID> uids, LocalDate start, LocalDate end) { return findByUtilisateurIdInAndDateBetween(uids, start, end).stream().collect(Collectors.groupingBy(CompteRendu::getUtilisateurId, Collectors.collectingAndThen(Collectors.toList(), crs -> new ResumeCR(crs.get(0).getUtilisateurId(), crs.stream().map(CompteRendu::getDate).max(LocalDate::compareTo).orElseThrow(), crs.size())))); }
+        @Override public synchronized Optional<ModificationCR> modifierChamps(UUID id, UUID uid, long version, Map<ChampCR, Object> champs, LocalDateTime soumisModifiablesApres) {
+            CompteRendu avant = store.get(id);
+            if (avant == null || !avant.getUtilisateurId().equals(uid) || avant.getVersion() == null || avant.getVersion() != version || !avant.isModifiable()) return Optional.empty();
+            CompteRendu apres = avant.withVersion(version + 1).withUpdatedAt(LocalDateTime.now());
+            for (Map.Entry<ChampCR, Object> champ : champs.entrySet()) apres = appliquer(apres, champ.getKey(), champ.getValue());
+            store.put(id, apres);
+            return Optional.of(new ModificationCR(avant, apres));
+        }
+
+        private static CompteRendu appliquer(CompteRendu cr, ChampCR champ, Object valeur) {
+            return switch (champ) {
+                case RDQD -> cr.withRdqd((RDQD) valeur);
+                case PRIERE_SEULE -> cr.withPriereSeule((Duration) valeur);
+                case LECTURE_BIBLIQUE -> cr.withLectureBiblique((Integer) valeur);
+                case LIVRE_BIBLIQUE -> cr.withLivreBiblique((String) valeur);
+                case LITTERATURE_PAGES -> cr.withLitteraturePages((Integer) valeur);
+                case LITTERATURE_TOTAL -> cr.withLitteratureTotal((Integer) valeur);
+                case LITTERATURE_TITRE -> cr.withLitteratureTitre((String) valeur);
+                case PRIERE_AUTRES -> cr.withPriereAutres((Integer) valeur);
+                case CONFESSION -> cr.withConfession((Boolean) valeur);
+                case JEUNE -> cr.withJeune((Boolean) valeur);
+                case TYPE_JEUNE -> cr.withTypeJeune((String) valeur);
+                case EVANGELISATION -> cr.withEvangelisation((Integer) valeur);
+                case OFFRANDE -> cr.withOffrande((Boolean) valeur);
+                case NOTES -> cr.withNotes((String) valeur);
+            };
+        }
     }
 
     static class InMemoryRegionRepository implements RegionRepository {
@@ -789,5 +847,9 @@ class FullWorkflowE2EScenarioTest {
         @Override public List<Commentaire> findByAuteurId(UUID auteurId) { return store.values().stream().filter(c -> c.getAuteurId().equals(auteurId)).collect(Collectors.toList()); }
         @Override public void deleteById(UUID id) { store.remove(id); }
         @Override public long countByCompteRenduId(UUID crId) { return store.values().stream().filter(c -> c.getCompteRenduId().equals(crId)).count(); }
+        @Override public List<CommentaireAvecAuteur> findThreadByCompteRenduId(UUID crId, int page, int size) { return findByCompteRenduId(crId).stream().sorted(Comparator.comparing(Commentaire::getCreatedAt)).skip((long) page * size).limit(size).map(this::withAuteur).collect(Collectors.toList()); }
+        @Override public List<CommentaireAvecAuteur> findThreadByCompteRenduId(UUID crId) { return findThreadByCompteRenduId(crId, 0, Integer.MAX_VALUE); }
+        @Override public Map<UUID, ResumeCommentaires> findResumesByCompteRenduIds(List<UUID> crIds) { Map<UUID, ResumeCommentaires> result = new HashMap<>(); crIds.forEach(id -> findByCompteRenduId(id).stream().max(Comparator.comparing(Commentaire::getCreatedAt)).ifPresent(last -> result.put(id, new ResumeCommentaires(id, countByCompteRenduId(id), withAuteur(last))))); return result; }
+        private CommentaireAvecAuteur withAuteur(Commentaire c) { Optional<Utilisateur> auteur = utilisateurRepo.findById(c.getAuteurId()); return new CommentaireAvecAuteur(c.getId(), c.getCompteRenduId(), c.getAuteurId(), auteur.map(Utilisateur::getPrenom).orElse(null), auteur.map(Utilisateur::getNom).orElse(null), c.getContenu(), c.getCreatedAt()); }
     }
 }
@@ -2,6 +2,8 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.response.CRResponse;
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
 import com.cmci.cr.domain.valueobject.RDQD;
 import com.cmci.cr.domain.valueobject.StatutCR;
@@ -143,6 +145,39 @@ class GetCRUseCaseTest {
         verify(compteRenduRepository).findByUtilisateurIdAndVuParFdFalse(utilisateurId);
     }
 
+    @Test
+    void shouldReadHistoryThroughReadOnlyRowsWhenAvailable() {
+        // Given
+        CompteRenduLectureRepository lectureRepository = mock(CompteRenduLectureRepository.class);
+        GetCRUseCase lectureUseCase = new GetCRUseCase(compteRenduRepository, lectureRepository);
+        UUID utilisateurId = UUID.randomUUID();
+        LigneCR ligne = new LigneCR(UUID.randomUUID(), utilisateurId, LocalDate.now(), "1/1", "01:30:00",
+                4, "Jean", null, null, null, null, true, null, null, 2, null, "Béni", "SOUMIS", null,
+                LocalDateTime.now(), LocalDateTime.now(), 2L);
+        when(lectureRepository.findByUtilisateurId(utilisateurId)).thenReturn(List.of(ligne));
+
+        // When
+        List<CRResponse> responses = lectureUseCase.getByUtilisateurId(utilisateurId);
+
+        // Then
+        CRResponse response = responses.get(0);
+        assertEquals("1/1", response.getRdqd());
+        assertEquals("01:30", response.getPriereSeule());
+        assertEquals(0, response.getPriereAutres());
+        assertFalse(response.getJeune());
+        assertFalse(response.getVuParFd());
+        assertEquals("SOUMIS", response.getStatut());
+        verifyNoInteractions(compteRenduRepository);
+    }
+
+    @Test
+    void shouldFormatStoredPrayerDurationLikeDomainDuration() {
+        assertEquals("00:45", GetCRUseCase.formatPriereSeule("00:45:00"));
+        assertEquals("01:05", GetCRUseCase.formatPriereSeule("1:05"));
+        assertEquals("125:00", GetCRUseCase.formatPriereSeule("125:00:00"));
+        assertEquals("00:00", GetCRUseCase.formatPriereSeule(null));
+    }
+
     // Helper
     private CompteRendu createTestCR(UUID id) {
         return CompteRendu.builder()
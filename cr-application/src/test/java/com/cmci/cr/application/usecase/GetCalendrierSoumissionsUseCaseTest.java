@@ -0,0 +1,96 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.CalendrierSoumissionsResponse;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
+import com.cmci.cr.domain.service.CRDomainService;
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetCalendrierSoumissionsUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetCalendrierSoumissionsUseCaseTest {
+
+    @Mock
+    private CalendrierSoumissionRepository calendrierSoumissionRepository;
+
+    @Mock
+    private CRDomainService crDomainService;
+
+    private GetCalendrierSoumissionsUseCase useCase;
+    private UUID utilisateurId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetCalendrierSoumissionsUseCase(calendrierSoumissionRepository, crDomainService);
+        utilisateurId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait servir une année passée depuis le calendrier, sans série en cours")
+    void shouldServePastYearFromCalendar() {
+        // Given
+        int annee = LocalDate.now().getYear() - 1;
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(annee)
+                .avec(LocalDate.of(annee, 3, 1), true)
+                .avec(LocalDate.of(annee, 3, 2), true)
+                .avec(LocalDate.of(annee, 3, 3), true)
+                .avec(LocalDate.of(annee, 11, 20), true);
+        when(calendrierSoumissionRepository.findByUtilisateurIdAndAnnee(utilisateurId, annee))
+                .thenReturn(Optional.of(calendrier));
+
+        // When
+        CalendrierSoumissionsResponse response = useCase.execute(utilisateurId, annee);
+
+        // Then
+        assertEquals(annee, response.getAnnee());
+        assertEquals(4, response.getNombreJoursSoumis());
+        assertEquals(LocalDate.of(annee, 3, 1), response.getJoursSoumis().get(0));
+        assertEquals(LocalDate.of(annee, 12, 31).getDayOfYear(), response.getJoursEcoules());
+        assertEquals(4 * 100.0 / response.getJoursEcoules(), response.getTauxRegularite(), 0.0001);
+        assertEquals(3, response.getMeilleureSerie());
+        assertNull(response.getSerieEnCours());
+        verifyNoInteractions(crDomainService);
+    }
+
+    @Test
+    @DisplayName("Devrait renvoyer un calendrier vide et la série en cours pour l'année courante")
+    void shouldReturnEmptyCalendarForCurrentYear() {
+        // Given
+        int annee = LocalDate.now().getYear();
+        when(calendrierSoumissionRepository.findByUtilisateurIdAndAnnee(utilisateurId, annee))
+                .thenReturn(Optional.empty());
+        when(crDomainService.countConsecutiveDays(utilisateurId)).thenReturn(0);
+
+        // When
+        CalendrierSoumissionsResponse response = useCase.execute(utilisateurId, annee);
+
+        // Then
+        assertEquals(List.of(), response.getJoursSoumis());
+        assertEquals(0.0, response.getTauxRegularite());
+        assertEquals(0, response.getSerieEnCours());
+        assertEquals(LocalDate.now().getDayOfYear(), response.getJoursEcoules());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une année future")
+    void shouldRejectFutureYear() {
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(utilisateurId, LocalDate.now().getYear() + 1));
+        verifyNoInteractions(calendrierSoumissionRepository);
+    }
+}
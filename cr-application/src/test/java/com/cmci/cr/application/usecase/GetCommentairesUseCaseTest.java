@@ -0,0 +1,131 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.CommentaireResponse;
+import com.cmci.cr.application.dto.response.CommentaireResumeResponse;
+import com.cmci.cr.domain.repository.CommentaireRepository;
+import com.cmci.cr.domain.repository.CommentaireRepository.CommentaireAvecAuteur;
+import com.cmci.cr.domain.repository.CommentaireRepository.ResumeCommentaires;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetCommentairesUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetCommentairesUseCaseTest {
+
+    @Mock
+    private CommentaireRepository commentaireRepository;
+
+    private GetCommentairesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetCommentairesUseCase(commentaireRepository);
+    }
+
+    @Test
+    void shouldReturnThreadPageWithAuthorName() {
+        // Given
+        UUID crId = UUID.randomUUID();
+        CommentaireAvecAuteur commentaire = createCommentaire(crId, "Jean", "Dupont");
+
+        when(commentaireRepository.findThreadByCompteRenduId(crId, 1, 20))
+                .thenReturn(List.of(commentaire));
+
+        // When
+        List<CommentaireResponse> responses = useCase.getThread(crId, 1, 20);
+
+        // Then
+        assertEquals(1, responses.size());
+        assertEquals("Jean Dupont", responses.get(0).getAuteurNom());
+        assertEquals(commentaire.id(), responses.get(0).getId());
+        verify(commentaireRepository, never()).findByCompteRenduId(any());
+    }
+
+    @Test
+    void shouldReadWholeThreadWithoutPaging() {
+        // Given
+        UUID crId = UUID.randomUUID();
+        CommentaireAvecAuteur commentaire = createCommentaire(crId, "Paul", "Ngono");
+
+        when(commentaireRepository.findThreadByCompteRenduId(crId)).thenReturn(List.of(commentaire));
+
+        // When
+        List<CommentaireResponse> responses = useCase.getByCompteRenduId(crId);
+
+        // Then
+        assertEquals(1, responses.size());
+        assertEquals("Paul Ngono", responses.get(0).getAuteurNom());
+        verify(commentaireRepository, never()).findThreadByCompteRenduId(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldRejectInvalidPageSize() {
+        UUID crId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.getThread(crId, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.getThread(crId, 0, GetCommentairesUseCase.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> useCase.getThread(crId, -1, 10));
+        verify(commentaireRepository, never()).findThreadByCompteRenduId(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldSummarizeManyCRsInOneRepositoryCall() {
+        // Given
+        UUID crAvecCommentaires = UUID.randomUUID();
+        UUID crSansCommentaire = UUID.randomUUID();
+        CommentaireAvecAuteur dernier = createCommentaire(crAvecCommentaires, "Marie", "Martin");
+
+        when(commentaireRepository.findResumesByCompteRenduIds(List.of(crAvecCommentaires, crSansCommentaire)))
+                .thenReturn(Map.of(crAvecCommentaires, new ResumeCommentaires(crAvecCommentaires, 3, dernier)));
+
+        // When
+        List<CommentaireResumeResponse> resumes = useCase.getResumes(
+                List.of(crAvecCommentaires, crSansCommentaire, crAvecCommentaires));
+
+        // Then
+        assertEquals(2, resumes.size());
+        assertEquals(crAvecCommentaires, resumes.get(0).getCompteRenduId());
+        assertEquals(3, resumes.get(0).getNombreCommentaires());
+        assertEquals("Marie Martin", resumes.get(0).getDernierCommentaire().getAuteurNom());
+        assertEquals(crSansCommentaire, resumes.get(1).getCompteRenduId());
+        assertEquals(0, resumes.get(1).getNombreCommentaires());
+        assertNull(resumes.get(1).getDernierCommentaire());
+        verify(commentaireRepository, times(1)).findResumesByCompteRenduIds(anyList());
+        verify(commentaireRepository, never()).countByCompteRenduId(any());
+    }
+
+    @Test
+    void shouldNotQueryRepositoryForEmptySummaryRequest() {
+        assertTrue(useCase.getResumes(List.of()).isEmpty());
+        verifyNoInteractions(commentaireRepository);
+    }
+
+    private CommentaireAvecAuteur createCommentaire(UUID crId, String prenom, String nom) {
+        return new CommentaireAvecAuteur(
+                UUID.randomUUID(),
+                crId,
+                UUID.randomUUID(),
+                prenom,
+                nom,
+                "Bon travail",
+                LocalDateTime.now()
+        );
+    }
+}
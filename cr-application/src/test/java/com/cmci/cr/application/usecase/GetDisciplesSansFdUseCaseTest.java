@@ -0,0 +1,126 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.DisciplesSansFdResponse;
+import com.cmci.cr.domain.model.EgliseMaison;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import com.cmci.cr.domain.valueobject.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetDisciplesSansFdUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetDisciplesSansFdUseCaseTest {
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
+    @Mock
+    private EgliseMaisonRepository egliseMaisonRepository;
+
+    private GetDisciplesSansFdUseCase useCase;
+    private UUID leaderId;
+    private UUID egliseMaisonId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetDisciplesSansFdUseCase(utilisateurRepository, egliseMaisonRepository);
+        leaderId = UUID.randomUUID();
+        egliseMaisonId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait retourner une page pleine avec le curseur de la page suivante")
+    void shouldReturnNextCursorWhenMoreRemain() {
+        // Given : le repository renvoie limite + 1 fidèles
+        Utilisateur f1 = fidele("Abena", "Marc");
+        Utilisateur f2 = fidele("Bilong", "Anne");
+        Utilisateur f3 = fidele("Essomba", "Paul");
+        UUID apres = UUID.randomUUID();
+        when(utilisateurRepository.findFidelesSansFd(null, null, apres, 3)).thenReturn(List.of(f1, f2, f3));
+
+        // When
+        DisciplesSansFdResponse page = useCase.execute(leaderId, null, apres, 2);
+
+        // Then
+        assertEquals(2, page.getDisciples().size());
+        assertEquals(f1.getId(), page.getDisciples().get(0).getId());
+        assertEquals(f2.getId(), page.getSuivant());
+        assertNull(page.getDisciples().get(0).getFdId());
+    }
+
+    @Test
+    @DisplayName("Devrait restreindre la liste à l'église locale du demandeur")
+    void shouldScopeToCallerLocalChurch() {
+        // Given
+        UUID egliseLocaleId = UUID.randomUUID();
+        when(utilisateurRepository.findById(leaderId)).thenReturn(Optional.of(leader()));
+        when(egliseMaisonRepository.findById(egliseMaisonId)).thenReturn(Optional.of(EgliseMaison.builder()
+                .id(egliseMaisonId).nom("EM Centre").egliseLocaleId(egliseLocaleId).build()));
+        Utilisateur f1 = fidele("Ngo", "Sarah");
+        when(utilisateurRepository.findFidelesSansFd(Perimetre.EGLISE_LOCALE, egliseLocaleId, null, 51))
+                .thenReturn(List.of(f1));
+
+        // When
+        DisciplesSansFdResponse page = useCase.execute(leaderId, Perimetre.EGLISE_LOCALE, null, 50);
+
+        // Then
+        assertEquals(1, page.getDisciples().size());
+        assertNull(page.getSuivant());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une limite hors bornes ou une portée non supportée")
+    void shouldRejectInvalidLimitOrScope() {
+        // Given
+        when(utilisateurRepository.findById(leaderId)).thenReturn(Optional.of(leader()));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(leaderId, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(leaderId, null, null, GetDisciplesSansFdUseCase.MAX_LIMITE + 1));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(leaderId, Perimetre.ZONE, null, 20));
+        verify(utilisateurRepository, never()).findFidelesSansFd(any(), any(), any(), anyInt());
+    }
+
+    private Utilisateur leader() {
+        return Utilisateur.builder()
+                .id(leaderId)
+                .email("leader@cmci.org")
+                .nom("Mbarga")
+                .prenom("Jean")
+                .role(Role.LEADER)
+                .egliseMaisonId(egliseMaisonId)
+                .statut(Utilisateur.StatutUtilisateur.ACTIF)
+                .build();
+    }
+
+    private Utilisateur fidele(String nom, String prenom) {
+        return Utilisateur.builder()
+                .id(UUID.randomUUID())
+                .email(prenom.toLowerCase() + "@cmci.org")
+                .nom(nom)
+                .prenom(prenom)
+                .role(Role.FIDELE)
+                .egliseMaisonId(egliseMaisonId)
+                .statut(Utilisateur.StatutUtilisateur.ACTIF)
+                .build();
+    }
+}
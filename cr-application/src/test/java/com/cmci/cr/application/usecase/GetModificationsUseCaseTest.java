@@ -0,0 +1,166 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.ModificationsResponse;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
+import com.cmci.cr.domain.repository.SynchronisationRepository;
+import com.cmci.cr.domain.repository.SynchronisationRepository.CRModifie;
+import com.cmci.cr.domain.repository.SynchronisationRepository.Suppression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetModificationsUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetModificationsUseCaseTest {
+
+    @Mock
+    private SynchronisationRepository synchronisationRepository;
+
+    private GetModificationsUseCase useCase;
+    private UUID utilisateurId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetModificationsUseCase(synchronisationRepository);
+        utilisateurId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait rendre toute la fenêtre et l'horizon comme curseur quand rien ne déborde")
+    void shouldReturnWholeWindowUpToHorizon() {
+        // Given
+        when(synchronisationRepository.horizon()).thenReturn(200L);
+        when(synchronisationRepository.findCompteRendus(utilisateurId, 100L, 200L, 11))
+                .thenReturn(List.of(crModifie(120L, "00:45:00"), crModifie(150L, null)));
+        when(synchronisationRepository.findSuppressions(utilisateurId, 100L, 200L, 11))
+                .thenReturn(List.of(new Suppression(130L, "COMPTE_RENDU", UUID.randomUUID())));
+
+        // When
+        ModificationsResponse response = useCase.execute(utilisateurId, 100L, 10);
+
+        // Then
+        assertEquals(200L, response.getVersion());
+        assertTrue(response.isComplet());
+        assertEquals(2, response.getCompteRendus().size());
+        assertEquals("00:45", response.getCompteRendus().get(0).getPriereSeule());
+        assertEquals("00:00", response.getCompteRendus().get(1).getPriereSeule());
+        assertEquals(1, response.getSuppressions().size());
+        assertEquals("COMPTE_RENDU", response.getSuppressions().get(0).getTypeEntite());
+        assertTrue(response.getCommentaires().isEmpty());
+        assertTrue(response.getUtilisateurs().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Devrait couper toutes les sections à la première version non lue d'une section qui déborde")
+    void shouldCutAllSectionsAtFirstUnreadVersion() {
+        // Given
+        when(synchronisationRepository.horizon()).thenReturn(500L);
+        when(synchronisationRepository.findCompteRendus(utilisateurId, 0L, 500L, 3))
+                .thenReturn(List.of(crModifie(10L, null), crModifie(20L, null), crModifie(30L, null)));
+        when(synchronisationRepository.findSuppressions(utilisateurId, 0L, 500L, 3))
+                .thenReturn(List.of(
+                        new Suppression(15L, "COMMENTAIRE", UUID.randomUUID()),
+                        new Suppression(40L, "COMMENTAIRE", UUID.randomUUID())));
+
+        // When
+        ModificationsResponse response = useCase.execute(utilisateurId, 0L, 2);
+
+        // Then : la suppression de version 40 attend le lot suivant
+        assertEquals(30L, response.getVersion());
+        assertFalse(response.isComplet());
+        assertEquals(2, response.getCompteRendus().size());
+        assertEquals(1, response.getSuppressions().size());
+    }
+
+    @Test
+    @DisplayName("Devrait rendre entière une transaction plus grande que la limite")
+    void shouldReturnWholeOversizedTransaction() {
+        // Given
+        when(synchronisationRepository.horizon()).thenReturn(500L);
+        when(synchronisationRepository.findCompteRendus(utilisateurId, 0L, 500L, 3))
+                .thenReturn(List.of(crModifie(42L, null), crModifie(42L, null), crModifie(42L, null)));
+        when(synchronisationRepository.findCompteRendus(utilisateurId, 42L, 43L, Integer.MAX_VALUE))
+                .thenReturn(List.of(
+                        crModifie(42L, null), crModifie(42L, null), crModifie(42L, null), crModifie(42L, null)));
+
+        // When
+        ModificationsResponse response = useCase.execute(utilisateurId, 0L, 2);
+
+        // Then
+        assertEquals(43L, response.getVersion());
+        assertFalse(response.isComplet());
+        assertEquals(4, response.getCompteRendus().size());
+    }
+
+    @Test
+    @DisplayName("Devrait répondre sans lecture quand le curseur atteint déjà l'horizon")
+    void shouldNotReadWhenCursorReachesHorizon() {
+        // Given
+        when(synchronisationRepository.horizon()).thenReturn(300L);
+
+        // When
+        ModificationsResponse response = useCase.execute(utilisateurId, 300L, 500);
+
+        // Then
+        assertEquals(300L, response.getVersion());
+        assertTrue(response.isComplet());
+        verify(synchronisationRepository, never()).findCompteRendus(any(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Devrait exiger une resynchronisation complète quand des suppressions après le curseur ont été purgées")
+    void shouldRejectCursorBelowPurgeFloor() {
+        // Given
+        when(synchronisationRepository.horizon()).thenReturn(500L);
+        when(synchronisationRepository.plancher()).thenReturn(200L);
+
+        // When / Then
+        IllegalStateException erreur = assertThrows(IllegalStateException.class,
+                () -> useCase.execute(utilisateurId, 100L, 10));
+        assertTrue(erreur.getMessage().contains("depuis=0"));
+    }
+
+    @Test
+    @DisplayName("Devrait accepter une synchronisation complète malgré la purge")
+    void shouldAcceptFullSyncAfterPurge() {
+        // Given
+        when(synchronisationRepository.horizon()).thenReturn(500L);
+
+        // When
+        ModificationsResponse response = useCase.execute(utilisateurId, 0L, 10);
+
+        // Then
+        assertEquals(500L, response.getVersion());
+        verify(synchronisationRepository, never()).plancher();
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une limite hors bornes")
+    void shouldRejectInvalidLimit() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(utilisateurId, 0L, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(utilisateurId, 0L, GetModificationsUseCase.LIMITE_MAX + 1));
+        verify(synchronisationRepository, never()).horizon();
+    }
+
+    private CRModifie crModifie(long version, String priereSeule) {
+        return new CRModifie(version, new LigneCR(
+                UUID.randomUUID(), utilisateurId, LocalDate.now(), "1/1", priereSeule,
+                3, "Jean", null, null, null, 0, false, false, null, 0, false, null,
+                "SOUMIS", false, LocalDateTime.now(), LocalDateTime.now(), 0L));
+    }
+}
@@ -0,0 +1,82 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.ParticipationResponse;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Participation;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetParticipationUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetParticipationUseCaseTest {
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    private GetParticipationUseCase useCase;
+    private UUID egliseLocaleId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetParticipationUseCase(participationRepository);
+        egliseLocaleId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait calculer le taux de participation du périmètre")
+    void shouldComputeParticipationRate() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(participationRepository.compter(Perimetre.EGLISE_LOCALE, egliseLocaleId, today))
+                .thenReturn(new Participation(40, 30));
+
+        // When
+        ParticipationResponse response = useCase.execute(Perimetre.EGLISE_LOCALE, egliseLocaleId, today);
+
+        // Then
+        assertEquals("EGLISE_LOCALE", response.getPerimetre());
+        assertEquals(egliseLocaleId, response.getPerimetreId());
+        assertEquals(40L, response.getNombreMembres());
+        assertEquals(30L, response.getNombreParticipants());
+        assertEquals(75.0, response.getTauxParticipation(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Devrait retourner un taux nul pour un périmètre sans membre actif")
+    void shouldReturnZeroRateForEmptyScope() {
+        // Given
+        LocalDate hier = LocalDate.now().minusDays(1);
+        when(participationRepository.compter(Perimetre.ZONE, egliseLocaleId, hier))
+                .thenReturn(new Participation(0, 0));
+
+        // When
+        ParticipationResponse response = useCase.execute(Perimetre.ZONE, egliseLocaleId, hier);
+
+        // Then
+        assertEquals(0L, response.getNombreMembres());
+        assertEquals(0.0, response.getTauxParticipation());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une date dans le futur")
+    void shouldRejectFutureDate() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(Perimetre.REGION, egliseLocaleId, LocalDate.now().plusDays(1)));
+        verify(participationRepository, never()).compter(any(), any(), any());
+    }
+}
@@ -0,0 +1,99 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.PerimetreStatisticsResponse;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Participation;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetPerimetreStatisticsUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetPerimetreStatisticsUseCaseTest {
+
+    @Mock
+    private StatistiquesPerimetreRepository statistiquesPerimetreRepository;
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    private GetPerimetreStatisticsUseCase useCase;
+    private UUID regionId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetPerimetreStatisticsUseCase(statistiquesPerimetreRepository, participationRepository);
+        regionId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les statistiques d'une région depuis ses agrégats")
+    void shouldComputeRegionStatisticsFromRollup() {
+        // Given : 10 membres, 10 jours, 50 CR dont 40 avec RDQD complet
+        LocalDate debut = LocalDate.of(2026, 3, 1);
+        LocalDate fin = LocalDate.of(2026, 3, 10);
+        when(statistiquesPerimetreRepository.sommer(Perimetre.REGION, regionId, debut, fin))
+                .thenReturn(new Agregat(50, 40, Duration.ofHours(25), 120, 7, 3, 2));
+        when(participationRepository.compter(eq(Perimetre.REGION), eq(regionId), any()))
+                .thenReturn(new Participation(10, 6));
+
+        // When
+        PerimetreStatisticsResponse response = useCase.execute(Perimetre.REGION, regionId, debut, fin);
+
+        // Then
+        assertEquals("REGION", response.getPerimetre());
+        assertEquals(10L, response.getNombreMembres());
+        assertEquals(6L, response.getNombreCRsAujourdhui());
+        assertEquals(60.0, response.getTauxSoumissionJour(), 0.001);
+        assertEquals(50L, response.getTotalCRsPeriode());
+        assertEquals(50.0, response.getTauxRegularite(), 0.001);
+        assertEquals(80.0, response.getTauxRDQD(), 0.001);
+        assertEquals("25:00", response.getDureeTotalePriere());
+        assertEquals("02:30", response.getMoyennePriereParMembre());
+        assertEquals(120L, response.getTotalChapitresLus());
+    }
+
+    @Test
+    @DisplayName("Devrait retourner des taux nuls pour un périmètre vide")
+    void shouldHandleEmptyScope() {
+        // Given
+        LocalDate jour = LocalDate.of(2026, 3, 1);
+        when(statistiquesPerimetreRepository.sommer(Perimetre.ZONE, regionId, jour, jour))
+                .thenReturn(Agregat.VIDE);
+        when(participationRepository.compter(eq(Perimetre.ZONE), eq(regionId), any()))
+                .thenReturn(new Participation(0, 0));
+
+        // When
+        PerimetreStatisticsResponse response = useCase.execute(Perimetre.ZONE, regionId, jour, jour);
+
+        // Then
+        assertEquals(0L, response.getTotalCRsPeriode());
+        assertEquals(0.0, response.getTauxRegularite());
+        assertEquals(0.0, response.getTauxRDQD());
+        assertEquals("00:00", response.getMoyennePriereParMembre());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une période inversée")
+    void shouldRejectInvertedPeriod() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(
+                Perimetre.REGION, regionId, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 1)));
+        verifyNoInteractions(statistiquesPerimetreRepository);
+    }
+}
@@ -0,0 +1,205 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.SubordinateWithCRsResponse;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
+import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.CompteRenduRepository.ResumeCR;
+import com.cmci.cr.domain.repository.EgliseLocaleRepository;
+import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import com.cmci.cr.domain.valueobject.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetSubordinatesCRUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetSubordinatesCRUseCaseTest {
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
+    @Mock
+    private CompteRenduRepository compteRenduRepository;
+
+    @Mock
+    private EgliseMaisonRepository egliseMaisonRepository;
+
+    @Mock
+    private EgliseLocaleRepository egliseLocaleRepository;
+
+    @Mock
+    private TableauBordRepository tableauBordRepository;
+
+    @Mock
+    private CompteRenduLectureRepository lectureRepository;
+
+    private GetSubordinatesCRUseCase useCase;
+    private UUID fdId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetSubordinatesCRUseCase(utilisateurRepository, compteRenduRepository,
+                egliseMaisonRepository, egliseLocaleRepository, tableauBordRepository, lectureRepository, false);
+        fdId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait construire le résumé depuis l'agrégation sans charger de CR")
+    void shouldBuildSummaryFromAggregateWithoutLoadingCRs() {
+        // Given
+        Utilisateur regulier = disciple("Atangana", "Paul");
+        Utilisateur absent = disciple("Bella", "Marie");
+        LocalDate debut = LocalDate.now().minusDays(9);
+        LocalDate fin = LocalDate.now();
+        when(utilisateurRepository.findById(fdId)).thenReturn(Optional.of(fd()));
+        when(utilisateurRepository.findByFdId(fdId)).thenReturn(List.of(absent, regulier));
+        when(compteRenduRepository.resumerByUtilisateurIdInAndDateBetween(
+                List.of(absent.getId(), regulier.getId()), debut, fin))
+                .thenReturn(Map.of(regulier.getId(), new ResumeCR(regulier.getId(), fin.minusDays(1), 8)));
+
+        // When
+        List<SubordinateWithCRsResponse> responses = useCase.executeSummary(fdId, debut, fin);
+
+        // Then
+        assertEquals(2, responses.size());
+        SubordinateWithCRsResponse premier = responses.get(0);
+        assertEquals("Marie Bella", premier.getNomComplet());
+        assertEquals(0, premier.getTotalCRs());
+        assertNull(premier.getLastCRDate());
+        assertEquals("CRITICAL", premier.getAlertLevel());
+
+        SubordinateWithCRsResponse second = responses.get(1);
+        assertEquals(8, second.getTotalCRs());
+        assertEquals(80.0, second.getRegularityRate(), 0.001);
+        assertEquals(1, second.getDaysSinceLastCR());
+        assertEquals("NONE", second.getAlertLevel());
+        assertTrue(second.getCompteRendus().isEmpty());
+        verify(compteRenduRepository, never()).findByUtilisateurIdInAndDateBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Devrait retourner un résumé vide sans requête lorsqu'il n'y a aucun subordonné")
+    void shouldReturnEmptySummaryWithoutQueryWhenNoSubordinates() {
+        // Given
+        when(utilisateurRepository.findById(fdId)).thenReturn(Optional.of(fd()));
+        when(utilisateurRepository.findByFdId(fdId)).thenReturn(List.of());
+
+        // When
+        List<SubordinateWithCRsResponse> responses = useCase.executeSummary(
+                fdId, LocalDate.now().minusDays(6), LocalDate.now());
+
+        // Then
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(compteRenduRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait construire le détail depuis les lignes en lecture seule, le plus récent en premier")
+    void shouldBuildDetailFromReadOnlyRows() {
+        // Given
+        Utilisateur disciple = disciple("Atangana", "Paul");
+        LocalDate fin = LocalDate.now();
+        LocalDate debut = fin.minusDays(3);
+        when(utilisateurRepository.findById(fdId)).thenReturn(Optional.of(fd()));
+        when(utilisateurRepository.findByFdId(fdId)).thenReturn(List.of(disciple));
+        when(lectureRepository.findByUtilisateurIdInAndDateBetween(List.of(disciple.getId()), debut, fin))
+                .thenReturn(List.of(ligne(disciple.getId(), fin.minusDays(1)), ligne(disciple.getId(), debut)));
+
+        // When
+        List<SubordinateWithCRsResponse> responses = useCase.execute(fdId, debut, fin);
+
+        // Then
+        SubordinateWithCRsResponse response = responses.get(0);
+        assertEquals(2, response.getTotalCRs());
+        assertEquals(50.0, response.getRegularityRate(), 0.001);
+        assertEquals(fin.minusDays(1), response.getLastCRDate());
+        assertEquals(fin.minusDays(1), response.getCompteRendus().get(0).getDate());
+        assertEquals("00:45", response.getCompteRendus().get(0).getPriereSeule());
+        verifyNoInteractions(compteRenduRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait émettre chaque membre avec ses CR dans l'ordre des noms, membres sans CR compris")
+    void shouldStreamMembersInNameOrderWithTheirCRs() {
+        // Given
+        Utilisateur paul = disciple("Atangana", "Paul");
+        Utilisateur marie = disciple("Bella", "Marie");
+        Utilisateur zoe = disciple("Abena", "Zoé");
+        LocalDate fin = LocalDate.now();
+        LocalDate debut = fin.minusDays(6);
+        when(utilisateurRepository.findById(fdId)).thenReturn(Optional.of(fd()));
+        when(utilisateurRepository.findByFdId(fdId)).thenReturn(List.of(zoe, paul, marie));
+        doAnswer(invocation -> {
+            Consumer<LigneCR> consommateur = invocation.getArgument(3);
+            consommateur.accept(ligne(paul.getId(), fin));
+            consommateur.accept(ligne(paul.getId(), debut));
+            consommateur.accept(ligne(zoe.getId(), fin.minusDays(2)));
+            return null;
+        }).when(lectureRepository).parcourirByUtilisateurIdsOrdonnes(
+                eq(List.of(marie.getId(), paul.getId(), zoe.getId())), eq(debut), eq(fin), any());
+
+        // When
+        List<SubordinateWithCRsResponse> emis = new ArrayList<>();
+        useCase.executeStream(fdId, debut, fin, emis::add);
+
+        // Then
+        assertEquals(List.of("Marie Bella", "Paul Atangana", "Zoé Abena"),
+                emis.stream().map(SubordinateWithCRsResponse::getNomComplet).toList());
+        assertEquals(0, emis.get(0).getTotalCRs());
+        assertEquals(2, emis.get(1).getTotalCRs());
+        assertEquals(fin, emis.get(1).getLastCRDate());
+        assertEquals(1, emis.get(2).getTotalCRs());
+        verifyNoInteractions(compteRenduRepository);
+    }
+
+    private static LigneCR ligne(UUID utilisateurId, LocalDate date) {
+        return new LigneCR(UUID.randomUUID(), utilisateurId, date, "1/1", "00:45:00", 3, null, null, null,
+                null, 0, false, false, null, 0, false, null, "SOUMIS", false,
+                date.atTime(21, 0), date.atTime(21, 0), 0L);
+    }
+
+    private Utilisateur fd() {
+        return Utilisateur.builder()
+                .id(fdId)
+                .email("fd@cmci.org")
+                .nom("Essomba")
+                .prenom("Luc")
+                .role(Role.FD)
+                .statut(Utilisateur.StatutUtilisateur.ACTIF)
+                .build();
+    }
+
+    private Utilisateur disciple(String nom, String prenom) {
+        return Utilisateur.builder()
+                .id(UUID.randomUUID())
+                .email(prenom.toLowerCase() + "@cmci.org")
+                .nom(nom)
+                .prenom(prenom)
+                .role(Role.FIDELE)
+                .fdId(fdId)
+                .statut(Utilisateur.StatutUtilisateur.ACTIF)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.PointTendanceResponse;
+import com.cmci.cr.application.dto.response.TendancesResponse;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.TendanceRepository;
+import com.cmci.cr.domain.repository.TendanceRepository.Granularite;
+import com.cmci.cr.domain.repository.TendanceRepository.Point;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetTendancesUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetTendancesUseCaseTest {
+
+    @Mock
+    private TendanceRepository tendanceRepository;
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
+    private GetTendancesUseCase useCase;
+    private UUID utilisateurId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetTendancesUseCase(tendanceRepository, utilisateurRepository);
+        utilisateurId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait aligner les semaines sur le lundi et compléter les semaines sans CR")
+    void shouldAlignWeeksAndFillGaps() {
+        // Given : mercredi 4 mars 2026 -> semaine du lundi 2 mars ; CR uniquement la 1re et la 3e semaine
+        LocalDate lundi = LocalDate.of(2026, 3, 2);
+        LocalDate fin = LocalDate.of(2026, 3, 18);
+        when(tendanceRepository.findSerieUtilisateurs(List.of(utilisateurId), Granularite.SEMAINE, lundi, fin))
+                .thenReturn(List.of(
+                        new Point(lundi, agregat(5, 4, 150)),
+                        new Point(lundi.plusWeeks(2), agregat(2, 1, 30))));
+
+        // When
+        TendancesResponse response = useCase.executePersonnel(
+                utilisateurId, Granularite.SEMAINE, LocalDate.of(2026, 3, 4), fin, false);
+
+        // Then
+        assertEquals(lundi, response.getStartDate());
+        assertEquals(3, response.getPoints().size());
+
+        PointTendanceResponse premiere = response.getPoints().get(0);
+        assertEquals(lundi, premiere.getDebut());
+        assertEquals(lundi.plusDays(6), premiere.getFin());
+        assertEquals(5L, premiere.getNombreCRs());
+        assertEquals(150L, premiere.getMinutesPriere());
+        assertEquals(80.0, premiere.getTauxRDQD(), 0.001);
+        assertNull(premiere.getVariationCRs());
+
+        assertEquals(0L, response.getPoints().get(1).getNombreCRs());
+
+        PointTendanceResponse derniere = response.getPoints().get(2);
+        assertEquals(fin, derniere.getFin()); // intervalle tronqué à la fin demandée
+        assertEquals(2L, derniere.getNombreCRs());
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les variations en lisant l'intervalle précédant la période")
+    void shouldComputeDeltasIncludingPreviousInterval() {
+        // Given
+        UUID zoneId = UUID.randomUUID();
+        LocalDate janvier = LocalDate.of(2026, 1, 1);
+        LocalDate decembre = LocalDate.of(2025, 12, 1);
+        LocalDate fin = LocalDate.of(2026, 2, 28);
+        when(tendanceRepository.findSeriePerimetre(Perimetre.ZONE, zoneId, Granularite.MOIS, decembre, fin))
+                .thenReturn(List.of(
+                        new Point(decembre, agregat(100, 50, 3000)),
+                        new Point(janvier, agregat(120, 90, 3600)),
+                        new Point(janvier.plusMonths(1), agregat(110, 88, 3300))));
+
+        // When
+        TendancesResponse response = useCase.executePerimetre(
+                Perimetre.ZONE, zoneId, Granularite.MOIS, LocalDate.of(2026, 1, 15), fin, true);
+
+        // Then
+        assertEquals(2, response.getPoints().size());
+        PointTendanceResponse janv = response.getPoints().get(0);
+        assertEquals(20L, janv.getVariationCRs());
+        assertEquals(600L, janv.getVariationMinutesPriere());
+        assertEquals(25.0, janv.getVariationTauxRDQD(), 0.001);
+
+        PointTendanceResponse fev = response.getPoints().get(1);
+        assertEquals(-10L, fev.getVariationCRs());
+        assertEquals(5.0, fev.getVariationTauxRDQD(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Devrait cumuler les CR des disciples du FD")
+    void shouldReadGroupSeriesFromDisciples() {
+        // Given
+        UUID fdId = UUID.randomUUID();
+        Utilisateur disciple = mock(Utilisateur.class);
+        when(disciple.getId()).thenReturn(utilisateurId);
+        when(utilisateurRepository.findByFdId(fdId)).thenReturn(List.of(disciple));
+        LocalDate jour = LocalDate.of(2026, 3, 2);
+        when(tendanceRepository.findSerieUtilisateurs(List.of(utilisateurId), Granularite.JOUR, jour, jour))
+                .thenReturn(List.of(new Point(jour, agregat(1, 1, 45))));
+
+        // When
+        TendancesResponse response = useCase.executeGroupe(fdId, Granularite.JOUR, jour, jour, false);
+
+        // Then
+        assertEquals("GROUPE", response.getScope());
+        assertEquals(1, response.getPoints().size());
+        assertEquals(45L, response.getPoints().get(0).getMinutesPriere());
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une série journalière de plus de 400 points")
+    void shouldRejectTooManyIntervals() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.executePersonnel(
+                utilisateurId, Granularite.JOUR, LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1), false));
+        verifyNoInteractions(tendanceRepository);
+    }
+
+    private static Agregat agregat(long crs, long rdqdComplets, long minutesPriere) {
+        return new Agregat(crs, rdqdComplets, Duration.ofMinutes(minutesPriere), 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.UtilisateurResponse;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import com.cmci.cr.domain.valueobject.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour GetUtilisateurUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class GetUtilisateurUseCaseTest {
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
+    private GetUtilisateurUseCase useCase;
+    private Utilisateur fd1;
+    private Utilisateur fd2;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetUtilisateurUseCase(utilisateurRepository);
+        fd1 = utilisateur("Kamga", "Pierre", Role.FD, null);
+        fd2 = utilisateur("Tchinda", "Marie", Role.FD, null);
+    }
+
+    @Test
+    @DisplayName("Devrait résoudre les noms des FD en une seule requête pour toute la liste")
+    @SuppressWarnings("unchecked")
+    void shouldResolveFdNamesInOneQuery() {
+        // Given
+        Utilisateur a = utilisateur("Ndongo", "Jean", Role.FIDELE, fd1.getId());
+        Utilisateur b = utilisateur("Tagne", "Paul", Role.FIDELE, fd1.getId());
+        Utilisateur c = utilisateur("Mbarga", "Luc", Role.FIDELE, fd2.getId());
+        Utilisateur sansFd = utilisateur("Essomba", "Anne", Role.FIDELE, null);
+        when(utilisateurRepository.findByRole(Role.FIDELE)).thenReturn(List.of(a, b, c, sansFd));
+        when(utilisateurRepository.findAllById(anyList())).thenReturn(List.of(fd1, fd2));
+
+        // When
+        List<UtilisateurResponse> result = useCase.getByRole("FIDELE");
+
+        // Then
+        assertEquals(4, result.size());
+        assertEquals("Pierre Kamga", result.get(0).getFdNom());
+        assertEquals("Pierre Kamga", result.get(1).getFdNom());
+        assertEquals("Marie Tchinda", result.get(2).getFdNom());
+        assertNull(result.get(3).getFdNom());
+
+        ArgumentCaptor<List<UUID>> idsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(utilisateurRepository, times(1)).findAllById(idsCaptor.capture());
+        assertEquals(2, idsCaptor.getValue().size(), "Les fdId doivent être dédoublonnés");
+        verify(utilisateurRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas requêter les FD si aucun membre n'en a")
+    void shouldSkipFdQueryWhenNoFd() {
+        // Given
+        UUID egliseMaisonId = UUID.randomUUID();
+        when(utilisateurRepository.findByEgliseMaisonId(egliseMaisonId))
+                .thenReturn(List.of(utilisateur("Essomba", "Anne", Role.FIDELE, null)));
+
+        // When
+        List<UtilisateurResponse> result = useCase.getByEgliseMaisonId(egliseMaisonId);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(utilisateurRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("Devrait retourner une page de membres d'une église de maison")
+    void shouldReturnPageOfEgliseMaisonMembers() {
+        // Given
+        UUID egliseMaisonId = UUID.randomUUID();
+        Utilisateur membre = utilisateur("Ndongo", "Jean", Role.FIDELE, fd1.getId());
+        when(utilisateurRepository.findByEgliseMaisonId(egliseMaisonId, 2, 10)).thenReturn(List.of(membre));
+        when(utilisateurRepository.findAllById(List.of(fd1.getId()))).thenReturn(List.of(fd1));
+        when(utilisateurRepository.countByEgliseMaisonId(egliseMaisonId)).thenReturn(21L);
+
+        // When
+        List<UtilisateurResponse> page = useCase.getByEgliseMaisonId(egliseMaisonId, 2, 10);
+        long total = useCase.countByEgliseMaisonId(egliseMaisonId);
+
+        // Then
+        assertEquals(1, page.size());
+        assertEquals("Pierre Kamga", page.get(0).getFdNom());
+        assertEquals(21L, total);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une taille de page invalide")
+    void shouldRejectInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.getByRole("FIDELE", 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.getByRole("FIDELE", 0, GetUtilisateurUseCase.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> useCase.getByRole("FIDELE", -1, 20));
+        verifyNoInteractions(utilisateurRepository);
+    }
+
+    private Utilisateur utilisateur(String nom, String prenom, Role role, UUID fdId) {
+        return Utilisateur.builder()
+                .id(UUID.randomUUID())
+                .email(prenom.toLowerCase() + "." + nom.toLowerCase() + "@cmci.org")
+                .nom(nom)
+                .prenom(prenom)
+                .role(role)
+                .fdId(fdId)
+                .statut(Utilisateur.StatutUtilisateur.ACTIF)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
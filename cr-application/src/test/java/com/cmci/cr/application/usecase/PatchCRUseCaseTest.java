@@ -0,0 +1,204 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.command.PatchCRCommand;
+import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.CompteRenduRepository.ChampCR;
+import com.cmci.cr.domain.repository.CompteRenduRepository.ModificationCR;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import com.cmci.cr.domain.valueobject.RDQD;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour PatchCRUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class PatchCRUseCaseTest {
+
+    @Mock
+    private CompteRenduRepository compteRenduRepository;
+
+    @Mock
+    private StatistiquesPerimetreRepository statistiquesRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
+    private PatchCRUseCase useCase;
+    private UUID crId;
+    private UUID utilisateurId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new PatchCRUseCase(compteRenduRepository, statistiquesRepository, eventPublisher,
+                utilisateurRepository);
+        crId = UUID.randomUUID();
+        utilisateurId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Devrait écrire uniquement les champs présents, en une requête, et reporter la différence")
+    @SuppressWarnings("unchecked")
+    void shouldWriteOnlyPresentFieldsAndApplyDifference() {
+        // Given
+        CompteRendu avant = createTestCR(3L);
+        CompteRendu apres = avant.withLectureBiblique(8).withNotes(null).withVersion(4L);
+        Map<String, Object> champs = new HashMap<>();
+        champs.put("lectureBiblique", 8);
+        champs.put("notes", null);
+        when(compteRenduRepository.modifierChamps(eq(crId), eq(utilisateurId), eq(3L), anyMap(), any()))
+                .thenReturn(Optional.of(new ModificationCR(avant, apres)));
+
+        // When
+        CRResponse response = useCase.execute(command(3L, champs));
+
+        // Then
+        ArgumentCaptor<Map<ChampCR, Object>> ecrits = ArgumentCaptor.forClass(Map.class);
+        verify(compteRenduRepository).modifierChamps(eq(crId), eq(utilisateurId), eq(3L), ecrits.capture(), any());
+        assertEquals(2, ecrits.getValue().size());
+        assertEquals(8, ecrits.getValue().get(ChampCR.LECTURE_BIBLIQUE));
+        assertTrue(ecrits.getValue().containsKey(ChampCR.NOTES));
+        assertNull(ecrits.getValue().get(ChampCR.NOTES));
+
+        assertEquals(4L, response.getVersion());
+        assertEquals(8, response.getLectureBiblique());
+        verify(compteRenduRepository, never()).findById(any());
+        verify(compteRenduRepository, never()).save(any());
+        verify(statistiquesRepository).appliquer(utilisateurId, avant.getDate(),
+                new Agregat(0, 0, Duration.ZERO, 3, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Devrait convertir rdqd et priereSeule vers les types du domaine")
+    @SuppressWarnings("unchecked")
+    void shouldConvertDomainTypes() {
+        // Given
+        CompteRendu avant = createTestCR(1L);
+        when(compteRenduRepository.modifierChamps(eq(crId), eq(utilisateurId), eq(1L), anyMap(), any()))
+                .thenReturn(Optional.of(new ModificationCR(avant, avant.withVersion(2L))));
+
+        // When
+        useCase.execute(command(1L, Map.of("rdqd", "2/3", "priereSeule", "01:30")));
+
+        // Then
+        ArgumentCaptor<Map<ChampCR, Object>> ecrits = ArgumentCaptor.forClass(Map.class);
+        verify(compteRenduRepository).modifierChamps(any(), any(), anyLong(), ecrits.capture(), any());
+        assertEquals(RDQD.of(2, 3), ecrits.getValue().get(ChampCR.RDQD));
+        assertEquals(Duration.ofMinutes(90), ecrits.getValue().get(ChampCR.PRIERE_SEULE));
+    }
+
+    @Test
+    @DisplayName("Devrait refuser un champ inconnu, non modifiable ou un obligatoire effacé sans écrire")
+    void shouldRejectInvalidFields() {
+        // Given
+        Map<String, Object> obligatoireEfface = new HashMap<>();
+        obligatoireEfface.put("rdqd", null);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(command(1L, Map.of("statut", "VALIDE"))));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(command(1L, Map.of("inconnu", 1))));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(command(1L, obligatoireEfface)));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(command(1L, Map.of("lectureBiblique", -1))));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(command(1L, Map.of("confession", "oui"))));
+        verifyNoInteractions(compteRenduRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait signaler une version périmée quand le CR a changé entre-temps")
+    void shouldRejectStaleVersion() {
+        // Given
+        when(compteRenduRepository.modifierChamps(eq(crId), eq(utilisateurId), eq(3L), anyMap(), any()))
+                .thenReturn(Optional.empty());
+        when(compteRenduRepository.findById(crId)).thenReturn(Optional.of(createTestCR(5L)));
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> useCase.execute(command(3L, Map.of("notes", "Nouvelles notes"))));
+
+        // Then
+        assertTrue(exception.getMessage().contains("périmée"));
+        verifyNoInteractions(statistiquesRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser le patch d'un CR d'un autre utilisateur")
+    void shouldRejectOtherOwner() {
+        // Given
+        when(compteRenduRepository.modifierChamps(eq(crId), eq(utilisateurId), eq(3L), anyMap(), any()))
+                .thenReturn(Optional.empty());
+        when(compteRenduRepository.findById(crId))
+                .thenReturn(Optional.of(createTestCR(3L).withUtilisateurId(UUID.randomUUID())));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(command(3L, Map.of("notes", "Nouvelles notes"))));
+    }
+
+    @Test
+    @DisplayName("Devrait signaler un CR validé comme non modifiable")
+    void shouldRejectNonModifiableCR() {
+        // Given
+        when(compteRenduRepository.modifierChamps(eq(crId), eq(utilisateurId), eq(3L), anyMap(), any()))
+                .thenReturn(Optional.empty());
+        when(compteRenduRepository.findById(crId))
+                .thenReturn(Optional.of(createTestCR(3L).withStatut(StatutCR.VALIDE)));
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> useCase.execute(command(3L, Map.of("notes", "Nouvelles notes"))));
+
+        // Then
+        assertTrue(exception.getMessage().contains("ne peut plus être modifié"));
+    }
+
+    private PatchCRCommand command(long version, Map<String, Object> champs) {
+        return PatchCRCommand.builder()
+                .id(crId)
+                .utilisateurId(utilisateurId)
+                .version(version)
+                .champs(champs)
+                .build();
+    }
+
+    private CompteRendu createTestCR(long version) {
+        return CompteRendu.builder()
+                .id(crId)
+                .utilisateurId(utilisateurId)
+                .date(LocalDate.now())
+                .rdqd(RDQD.of(1, 1))
+                .priereSeule(Duration.ofMinutes(60))
+                .lectureBiblique(5)
+                .notes("Notes")
+                .statut(StatutCR.BROUILLON)
+                .vuParFd(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(version)
+                .build();
+    }
+}
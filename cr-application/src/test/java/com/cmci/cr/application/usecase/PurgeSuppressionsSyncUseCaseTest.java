@@ -0,0 +1,54 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.domain.repository.SynchronisationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour PurgeSuppressionsSyncUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class PurgeSuppressionsSyncUseCaseTest {
+
+    @Mock
+    private SynchronisationRepository synchronisationRepository;
+
+    private PurgeSuppressionsSyncUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new PurgeSuppressionsSyncUseCase(synchronisationRepository, Duration.ofDays(90));
+    }
+
+    @Test
+    @DisplayName("Devrait purger les suppressions plus anciennes que la rétention")
+    void shouldPurgeBeyondRetention() {
+        // Given
+        LocalDateTime maintenant = LocalDateTime.of(2026, 6, 1, 3, 30);
+        when(synchronisationRepository.purgerSuppressions(LocalDateTime.of(2026, 3, 3, 3, 30))).thenReturn(12);
+
+        // When
+        int purgees = useCase.execute(maintenant);
+
+        // Then
+        assertEquals(12, purgees);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une date de référence absente")
+    void shouldRejectMissingDate() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
+        verifyNoInteractions(synchronisationRepository);
+    }
+}
@@ -0,0 +1,217 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.dto.response.RappelCRResultResponse;
+import com.cmci.cr.domain.model.EgliseLocale;
+import com.cmci.cr.domain.port.NotificationPort;
+import com.cmci.cr.domain.port.NotificationPort.Notification;
+import com.cmci.cr.domain.repository.EgliseLocaleRepository;
+import com.cmci.cr.domain.repository.RappelCRRepository;
+import com.cmci.cr.domain.repository.RappelCRRepository.MembreSansCR;
+import com.cmci.cr.domain.valueobject.TypeNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour SendCRRemindersUseCase
+ * Les notifications sont capturées par un sink en mémoire à la place de Kafka.
+ */
+@ExtendWith(MockitoExtension.class)
+class SendCRRemindersUseCaseTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private RappelCRRepository rappelCRRepository;
+
+    @Mock
+    private EgliseLocaleRepository egliseLocaleRepository;
+
+    private InMemoryNotificationSink sink;
+    private SendCRRemindersUseCase useCase;
+    private UUID egliseLocaleId;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryNotificationSink();
+        useCase = new SendCRRemindersUseCase(rappelCRRepository, egliseLocaleRepository, sink);
+        egliseLocaleId = UUID.randomUUID();
+        lenient().when(egliseLocaleRepository.findAll())
+                .thenReturn(List.of(EgliseLocale.builder().id(egliseLocaleId).nom("Paris Centre").build()));
+    }
+
+    @Test
+    @DisplayName("Devrait envoyer un rappel à chaque membre et escalader au FD à 3 et 7 jours")
+    void shouldSendRemindersAndEscalations() {
+        // Given
+        UUID fdId = UUID.randomUUID();
+        MembreSansCR hier = new MembreSansCR(UUID.randomUUID(), fdId, DATE.minusDays(1));
+        MembreSansCR troisJours = new MembreSansCR(UUID.randomUUID(), fdId, DATE.minusDays(3));
+        MembreSansCR septJours = new MembreSansCR(UUID.randomUUID(), fdId, DATE.minusDays(7));
+        MembreSansCR jamais = new MembreSansCR(UUID.randomUUID(), fdId, null);
+
+        when(rappelCRRepository.findMembresActifsSansCR(egliseLocaleId, DATE))
+                .thenReturn(List.of(hier, troisJours, septJours, jamais));
+        when(rappelCRRepository.findMembresActifsSansCR(isNull(), eq(DATE))).thenReturn(List.of());
+        reservationsToutesNouvelles();
+
+        // When
+        RappelCRResultResponse result = useCase.execute(DATE);
+
+        // Then
+        assertEquals(4, result.getMembresSansCR());
+        assertEquals(4, result.getRappelsEnvoyes());
+        assertEquals(1, result.getEscalades3Jours());
+        assertEquals(1, result.getEscalades7Jours());
+        assertEquals(2, result.getLotsTraites());
+
+        List<Notification> escalades = sink.notifications.stream()
+                .filter(n -> n.type().isEscalade())
+                .collect(Collectors.toList());
+        assertEquals(2, escalades.size());
+        assertTrue(escalades.stream().allMatch(n -> fdId.equals(n.destinataireId())));
+        assertEquals(1, sink.lots, "Les notifications d'une église doivent partir en un seul lot");
+    }
+
+    @Test
+    @DisplayName("Ne devrait rien renvoyer si les envois du jour sont déjà réservés")
+    void shouldBeIdempotentPerDay() {
+        // Given
+        MembreSansCR membre = new MembreSansCR(UUID.randomUUID(), UUID.randomUUID(), DATE.minusDays(3));
+        when(rappelCRRepository.findMembresActifsSansCR(egliseLocaleId, DATE)).thenReturn(List.of(membre));
+        when(rappelCRRepository.findMembresActifsSansCR(isNull(), eq(DATE))).thenReturn(List.of());
+        when(rappelCRRepository.reserverEnvois(eq(DATE), any(), any())).thenReturn(Set.of());
+
+        // When
+        RappelCRResultResponse result = useCase.execute(DATE);
+
+        // Then
+        assertEquals(0, result.getRappelsEnvoyes());
+        assertEquals(2, result.getDejaEnvoyes());
+        assertTrue(sink.notifications.isEmpty());
+        assertEquals(0, sink.lots);
+    }
+
+    @Test
+    @DisplayName("Devrait découper les gros volumes en lots d'envoi")
+    void shouldSplitLargeVolumesIntoBatches() {
+        // Given
+        int total = SendCRRemindersUseCase.TAILLE_LOT_ENVOI + 10;
+        List<MembreSansCR> membres = IntStream.range(0, total)
+                .mapToObj(i -> new MembreSansCR(UUID.randomUUID(), null, DATE.minusDays(1)))
+                .collect(Collectors.toList());
+        when(rappelCRRepository.findMembresActifsSansCR(egliseLocaleId, DATE)).thenReturn(membres);
+        when(rappelCRRepository.findMembresActifsSansCR(isNull(), eq(DATE))).thenReturn(List.of());
+        reservationsToutesNouvelles();
+
+        // When
+        RappelCRResultResponse result = useCase.execute(DATE);
+
+        // Then
+        assertEquals(total, result.getRappelsEnvoyes());
+        assertEquals(total, sink.notifications.size());
+        assertEquals(2, sink.lots);
+        verify(rappelCRRepository, times(1)).reserverEnvois(eq(DATE), eq(TypeNotification.RAPPEL_CR), any());
+    }
+
+    @Test
+    @DisplayName("Ne devrait confirmer une réservation qu'après l'acquittement de son lot")
+    void shouldConfirmReservationsOnlyAfterAcknowledgement() {
+        // Given
+        MembreSansCR membre = new MembreSansCR(UUID.randomUUID(), null, DATE.minusDays(1));
+        when(rappelCRRepository.findMembresActifsSansCR(egliseLocaleId, DATE)).thenReturn(List.of(membre));
+        when(rappelCRRepository.findMembresActifsSansCR(isNull(), eq(DATE))).thenReturn(List.of());
+        reservationsToutesNouvelles();
+
+        // When
+        RappelCRResultResponse result = useCase.execute(DATE);
+
+        // Then
+        assertEquals(1, result.getRappelsEnvoyes());
+        assertEquals(0, result.getEnvoisEchoues());
+        verify(rappelCRRepository).confirmerEnvois(DATE, TypeNotification.RAPPEL_CR, List.of(membre.utilisateurId()));
+        verify(rappelCRRepository, never()).libererEnvois(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Devrait libérer les réservations d'un lot dont l'envoi échoue et poursuivre les autres églises")
+    void shouldReleaseReservationsWhenSendFails() {
+        // Given : l'envoi de la première église échoue, celui des membres sans église réussit
+        UUID fdId = UUID.randomUUID();
+        MembreSansCR troisJours = new MembreSansCR(UUID.randomUUID(), fdId, DATE.minusDays(3));
+        MembreSansCR sansEglise = new MembreSansCR(UUID.randomUUID(), null, DATE.minusDays(1));
+        when(rappelCRRepository.findMembresActifsSansCR(egliseLocaleId, DATE)).thenReturn(List.of(troisJours));
+        when(rappelCRRepository.findMembresActifsSansCR(isNull(), eq(DATE))).thenReturn(List.of(sansEglise));
+        reservationsToutesNouvelles();
+        sink.echecsRestants = 1;
+
+        // When
+        RappelCRResultResponse result = useCase.execute(DATE);
+
+        // Then
+        assertEquals(2, result.getEnvoisEchoues());
+        assertEquals(1, result.getRappelsEnvoyes());
+        assertEquals(0, result.getEscalades3Jours());
+        verify(rappelCRRepository).libererEnvois(DATE, TypeNotification.RAPPEL_CR, List.of(troisJours.utilisateurId()));
+        verify(rappelCRRepository).libererEnvois(DATE, TypeNotification.ESCALADE_3_JOURS, List.of(troisJours.utilisateurId()));
+        verify(rappelCRRepository, never()).confirmerEnvois(any(), any(), eq(List.of(troisJours.utilisateurId())));
+        verify(rappelCRRepository).confirmerEnvois(DATE, TypeNotification.RAPPEL_CR, List.of(sansEglise.utilisateurId()));
+    }
+
+    @Test
+    void shouldRejectNullDate() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
+    }
+
+    /**
+     * Simule une base vide : chaque réservation est nouvelle, puis devient un doublon
+     */
+    private void reservationsToutesNouvelles() {
+        Map<TypeNotification, Set<UUID>> reserves = new HashMap<>();
+        when(rappelCRRepository.reserverEnvois(eq(DATE), any(), any())).thenAnswer(invocation -> {
+            TypeNotification type = invocation.getArgument(1);
+            List<UUID> ids = invocation.getArgument(2);
+            Set<UUID> deja = reserves.computeIfAbsent(type, t -> new HashSet<>());
+            return ids.stream().filter(deja::add).collect(Collectors.toSet());
+        });
+    }
+
+    /**
+     * Sink en mémoire remplaçant Kafka
+     */
+    private static class InMemoryNotificationSink implements NotificationPort {
+        private final List<Notification> notifications = new ArrayList<>();
+        private int lots;
+        private int echecsRestants;
+
+        @Override
+        public void envoyer(List<Notification> lot) {
+            if (echecsRestants > 0) {
+                echecsRestants--;
+                throw new IllegalStateException("Broker indisponible");
+            }
+            notifications.addAll(lot);
+            lots++;
+        }
+    }
+}
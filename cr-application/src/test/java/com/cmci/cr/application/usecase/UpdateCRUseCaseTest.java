@@ -2,8 +2,12 @@ package com.cmci.cr.application.usecase;
 
 import com.cmci.cr.application.dto.command.UpdateCRCommand;
 import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.model.CompteRendu;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.service.CRDomainService;
 import com.cmci.cr.domain.valueobject.RDQD;
 import com.cmci.cr.domain.valueobject.StatutCR;
@@ -35,11 +39,21 @@ class UpdateCRUseCaseTest {
     @Mock
     private CRDomainService crDomainService;
 
+    @Mock
+    private StatistiquesPerimetreRepository statistiquesRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private UtilisateurRepository utilisateurRepository;
+
     private UpdateCRUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new UpdateCRUseCase(compteRenduRepository, crDomainService);
+        useCase = new UpdateCRUseCase(compteRenduRepository, crDomainService, statistiquesRepository,
+                eventPublisher, utilisateurRepository);
     }
 
     @Test
@@ -58,7 +72,7 @@ class UpdateCRUseCaseTest {
                 .lectureBiblique(10)
                 .build();
 
-        when(compteRenduRepository.findById(crId))
+        when(compteRenduRepository.findByIdPourModification(crId))
                 .thenReturn(Optional.of(existingCR));
         when(crDomainService.canModifyCR(existingCR))
                 .thenReturn(true);
@@ -74,7 +88,7 @@ class UpdateCRUseCaseTest {
         assertEquals("02:00", response.getPriereSeule());
         assertEquals(10, response.getLectureBiblique());
 
-        verify(compteRenduRepository).findById(crId);
+        verify(compteRenduRepository).findByIdPourModification(crId);
         verify(crDomainService).canModifyCR(existingCR);
         verify(compteRenduRepository).save(any(CompteRendu.class));
     }
@@ -92,7 +106,7 @@ class UpdateCRUseCaseTest {
                 .lectureBiblique(5)
                 .build();
 
-        when(compteRenduRepository.findById(crId))
+        when(compteRenduRepository.findByIdPourModification(crId))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -122,7 +136,7 @@ class UpdateCRUseCaseTest {
                 .lectureBiblique(5)
                 .build();
 
-        when(compteRenduRepository.findById(crId))
+        when(compteRenduRepository.findByIdPourModification(crId))
                 .thenReturn(Optional.of(existingCR));
 
         // When & Then
@@ -151,7 +165,7 @@ class UpdateCRUseCaseTest {
                 .lectureBiblique(5)
                 .build();
 
-        when(compteRenduRepository.findById(crId))
+        when(compteRenduRepository.findByIdPourModification(crId))
                 .thenReturn(Optional.of(existingCR));
         when(crDomainService.canModifyCR(existingCR))
                 .thenReturn(false);
@@ -166,6 +180,38 @@ class UpdateCRUseCaseTest {
         verify(compteRenduRepository, never()).save(any());
     }
 
+    @Test
+    void shouldRejectStaleVersion() {
+        // Given : le CR a été modifié (PATCH, validation) depuis la lecture du client
+        UUID crId = UUID.randomUUID();
+        UUID utilisateurId = UUID.randomUUID();
+
+        CompteRendu existingCR = createTestCR(crId, utilisateurId).withVersion(4L);
+
+        UpdateCRCommand command = UpdateCRCommand.builder()
+                .id(crId)
+                .utilisateurId(utilisateurId)
+                .rdqd("1/1")
+                .priereSeule("01:00")
+                .lectureBiblique(5)
+                .version(3L)
+                .build();
+
+        when(compteRenduRepository.findByIdPourModification(crId))
+                .thenReturn(Optional.of(existingCR));
+        when(crDomainService.canModifyCR(existingCR))
+                .thenReturn(true);
+
+        // When & Then
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(command)
+        );
+
+        assertTrue(exception.getMessage().contains("version 3 périmée"));
+        verify(compteRenduRepository, never()).save(any());
+    }
+
     @Test
     void shouldOnlyUpdateProvidedFields() {
         // Given
@@ -181,7 +227,7 @@ class UpdateCRUseCaseTest {
                 .notes("Nouvelles notes") // Only update notes
                 .build();
 
-        when(compteRenduRepository.findById(crId))
+        when(compteRenduRepository.findByIdPourModification(crId))
                 .thenReturn(Optional.of(existingCR));
         when(crDomainService.canModifyCR(existingCR))
                 .thenReturn(true);
@@ -199,6 +245,33 @@ class UpdateCRUseCaseTest {
     }
 
     // Helper method
+    @Test
+    void shouldApplyOnlyDifferenceToPerimetreStatistics() {
+        // Given
+        UUID crId = UUID.randomUUID();
+        UUID utilisateurId = UUID.randomUUID();
+        CompteRendu existingCR = createTestCR(crId, utilisateurId);
+
+        UpdateCRCommand command = UpdateCRCommand.builder()
+                .id(crId)
+                .utilisateurId(utilisateurId)
+                .priereSeule("02:00")
+                .lectureBiblique(10)
+                .build();
+
+        when(compteRenduRepository.findByIdPourModification(crId)).thenReturn(Optional.of(existingCR));
+        when(crDomainService.canModifyCR(existingCR)).thenReturn(true);
+        when(compteRenduRepository.save(any(CompteRendu.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        useCase.execute(command);
+
+        // Then : même nombre de CR, +60 min de prière, +5 chapitres
+        verify(statistiquesRepository).appliquer(utilisateurId, existingCR.getDate(),
+                new Agregat(0, 0, Duration.ofMinutes(60), 5, 0, 0, 0));
+    }
+
     private CompteRendu createTestCR(UUID id, UUID utilisateurId) {
         return CompteRendu.builder()
                 .id(id)
@@ -0,0 +1,72 @@
+package com.cmci.cr.application.usecase;
+
+import com.cmci.cr.application.usecase.UserAdministrationUseCase.UserStatistics;
+import com.cmci.cr.domain.port.IdentityProviderPort;
+import com.cmci.cr.domain.port.IdentityProviderPort.FournisseurIndisponibleException;
+import com.cmci.cr.domain.valueobject.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour UserAdministrationUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+class UserAdministrationUseCaseTest {
+
+    @Mock
+    private IdentityProviderPort identityProvider;
+
+    private UserAdministrationUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new UserAdministrationUseCase(identityProvider);
+    }
+
+    @Test
+    @DisplayName("Devrait lancer tous les comptages avant d'en attendre un seul")
+    void shouldStartAllCountsBeforeWaiting() {
+        // Given : le total ne se termine qu'une fois tous les comptages par rôle lancés
+        CompletableFuture<Integer> total = new CompletableFuture<>();
+        when(identityProvider.countUsersAsync()).thenReturn(total);
+        when(identityProvider.countUsersByRoleAsync(any(Role.class))).thenAnswer(invocation -> {
+            Role role = invocation.getArgument(0);
+            if (role == Role.ADMIN) {
+                total.complete(42);
+            }
+            return CompletableFuture.completedFuture(role.ordinal() + 1);
+        });
+
+        // When
+        UserStatistics stats = useCase.getUserStatistics();
+
+        // Then
+        assertEquals(42, stats.totalUsers());
+        assertEquals(Role.FIDELE.ordinal() + 1, stats.fideles());
+        assertEquals(Role.ADMIN.ordinal() + 1, stats.admins());
+        verify(identityProvider, never()).countUsers();
+        verify(identityProvider, never()).countUsersByRole(any());
+    }
+
+    @Test
+    @DisplayName("Devrait propager l'indisponibilité du fournisseur d'identité au lieu de compter zéro")
+    void shouldPropagateUnavailability() {
+        // Given
+        when(identityProvider.countUsersAsync()).thenReturn(CompletableFuture.completedFuture(10));
+        when(identityProvider.countUsersByRoleAsync(any(Role.class))).thenReturn(CompletableFuture.completedFuture(1));
+        when(identityProvider.countUsersByRoleAsync(Role.LEADER)).thenReturn(CompletableFuture.failedFuture(
+                new FournisseurIndisponibleException("Keycloak indisponible", null)));
+
+        // When / Then
+        assertThrows(FournisseurIndisponibleException.class, () -> useCase.getUserStatistics());
+    }
+}
@@ -1,22 +1,38 @@
 package com.cmci.cr.config;
 
+import com.cmci.cr.application.service.ClassementService;
 import com.cmci.cr.application.service.ExportService;
+import com.cmci.cr.application.service.TableauBordProjector;
 import com.cmci.cr.application.usecase.*;
 import com.cmci.cr.domain.event.DomainEventPublisher;
 import com.cmci.cr.domain.port.CountryDataPort;
 import com.cmci.cr.domain.port.IdentityProviderPort;
+import com.cmci.cr.domain.port.NotificationPort;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
+import com.cmci.cr.domain.repository.ClassementRepository;
 import com.cmci.cr.domain.repository.CommentaireRepository;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
 import com.cmci.cr.domain.repository.EgliseLocaleRepository;
 import com.cmci.cr.domain.repository.EgliseMaisonRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.RappelCRRepository;
 import com.cmci.cr.domain.repository.RegionRepository;
+import com.cmci.cr.domain.repository.RevueCRRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.SynchronisationRepository;
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.repository.TendanceRepository;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.repository.ZoneRepository;
 import com.cmci.cr.domain.service.CRDomainService;
 import com.cmci.cr.domain.service.StatisticsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Configuration des beans Use Cases
  * Wire les dépendances entre les couches
@@ -28,60 +44,118 @@ public class BeanConfiguration {
 
     @Bean
     public CRDomainService crDomainService(
-            CompteRenduRepository compteRenduRepository) {
-        return new CRDomainService(compteRenduRepository);
+            CompteRenduRepository compteRenduRepository,
+            CalendrierSoumissionRepository calendrierSoumissionRepository) {
+        return new CRDomainService(compteRenduRepository, calendrierSoumissionRepository);
     }
 
     @Bean
     public StatisticsService statisticsService(
-            CompteRenduRepository compteRenduRepository) {
-        return new StatisticsService(compteRenduRepository);
+            CompteRenduRepository compteRenduRepository,
+            CalendrierSoumissionRepository calendrierSoumissionRepository) {
+        return new StatisticsService(compteRenduRepository, calendrierSoumissionRepository);
+    }
+
+    @Bean
+    public ClassementService classementService(ClassementRepository classementRepository) {
+        return new ClassementService(classementRepository);
     }
 
     // ===== Use Cases =====
 
     @Bean
     public CreateCRUseCase createCRUseCase(
-            CompteRenduRepository compteRenduRepository) {
-        return new CreateCRUseCase(compteRenduRepository);
+            CompteRenduRepository compteRenduRepository,
+            CalendrierSoumissionRepository calendrierSoumissionRepository,
+            ParticipationRepository participationRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository,
+            DomainEventPublisher domainEventPublisher,
+            UtilisateurRepository utilisateurRepository) {
+        return new CreateCRUseCase(compteRenduRepository, calendrierSoumissionRepository, participationRepository,
+                statistiquesPerimetreRepository, domainEventPublisher, utilisateurRepository);
     }
 
     @Bean
     public UpdateCRUseCase updateCRUseCase(
             CompteRenduRepository compteRenduRepository,
-            CRDomainService crDomainService) {
-        return new UpdateCRUseCase(compteRenduRepository, crDomainService);
+            CRDomainService crDomainService,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository,
+            DomainEventPublisher domainEventPublisher,
+            UtilisateurRepository utilisateurRepository) {
+        return new UpdateCRUseCase(compteRenduRepository, crDomainService, statistiquesPerimetreRepository,
+                domainEventPublisher, utilisateurRepository);
     }
 
     @Bean
-    public GetCRUseCase getCRUseCase(CompteRenduRepository compteRenduRepository) {
-        return new GetCRUseCase(compteRenduRepository);
+    public PatchCRUseCase patchCRUseCase(
+            CompteRenduRepository compteRenduRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository,
+            DomainEventPublisher domainEventPublisher,
+            UtilisateurRepository utilisateurRepository) {
+        return new PatchCRUseCase(compteRenduRepository, statistiquesPerimetreRepository,
+                domainEventPublisher, utilisateurRepository);
+    }
+
+    @Bean
+    public GetCRUseCase getCRUseCase(
+            CompteRenduRepository compteRenduRepository,
+            CompteRenduLectureRepository compteRenduLectureRepository) {
+        return new GetCRUseCase(compteRenduRepository, compteRenduLectureRepository);
+    }
+
+    @Bean
+    public GetModificationsUseCase getModificationsUseCase(SynchronisationRepository synchronisationRepository) {
+        return new GetModificationsUseCase(synchronisationRepository);
+    }
+
+    @Bean
+    public PurgeSuppressionsSyncUseCase purgeSuppressionsSyncUseCase(
+            SynchronisationRepository synchronisationRepository,
+            @Value("${app.sync.purge.retention:P90D}") Duration retention) {
+        return new PurgeSuppressionsSyncUseCase(synchronisationRepository, retention);
     }
 
     @Bean
     public DeleteCRUseCase deleteCRUseCase(
             CompteRenduRepository compteRenduRepository,
-            CRDomainService crDomainService) {
-        return new DeleteCRUseCase(compteRenduRepository, crDomainService);
+            CRDomainService crDomainService,
+            CalendrierSoumissionRepository calendrierSoumissionRepository,
+            ParticipationRepository participationRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository,
+            DomainEventPublisher domainEventPublisher,
+            UtilisateurRepository utilisateurRepository) {
+        return new DeleteCRUseCase(compteRenduRepository, crDomainService, calendrierSoumissionRepository,
+                participationRepository, statistiquesPerimetreRepository,
+                domainEventPublisher, utilisateurRepository);
     }
 
     @Bean
     public ValidateCRUseCase validateCRUseCase(
-            CompteRenduRepository compteRenduRepository) {
-        return new ValidateCRUseCase(compteRenduRepository);
+            CompteRenduRepository compteRenduRepository,
+            DomainEventPublisher domainEventPublisher) {
+        return new ValidateCRUseCase(compteRenduRepository, domainEventPublisher);
     }
 
     @Bean
     public MarkCRAsViewedUseCase markCRAsViewedUseCase(
-            CompteRenduRepository compteRenduRepository) {
-        return new MarkCRAsViewedUseCase(compteRenduRepository);
+            CompteRenduRepository compteRenduRepository,
+            DomainEventPublisher domainEventPublisher) {
+        return new MarkCRAsViewedUseCase(compteRenduRepository, domainEventPublisher);
+    }
+
+    @Bean
+    public BulkCRReviewUseCase bulkCRReviewUseCase(
+            RevueCRRepository revueCRRepository,
+            DomainEventPublisher domainEventPublisher) {
+        return new BulkCRReviewUseCase(revueCRRepository, domainEventPublisher);
     }
 
     @Bean
     public AddCommentaireUseCase addCommentaireUseCase(
             CommentaireRepository commentaireRepository,
-            CompteRenduRepository compteRenduRepository) {
-        return new AddCommentaireUseCase(commentaireRepository, compteRenduRepository);
+            CompteRenduRepository compteRenduRepository,
+            DomainEventPublisher domainEventPublisher) {
+        return new AddCommentaireUseCase(commentaireRepository, compteRenduRepository, domainEventPublisher);
     }
 
     @Bean
@@ -93,9 +167,11 @@ public class BeanConfiguration {
     @Bean
     public ViewDisciplesCRUseCase viewDisciplesCRUseCase(
             UtilisateurRepository utilisateurRepository,
-            CompteRenduRepository compteRenduRepository,
-            CRDomainService crDomainService) {
-        return new ViewDisciplesCRUseCase(utilisateurRepository, compteRenduRepository, crDomainService);
+            TableauBordRepository tableauBordRepository,
+            CalendrierSoumissionRepository calendrierSoumissionRepository,
+            @Value("${app.projections.tableau-bord.lecture:false}") boolean lectureProjection) {
+        return new ViewDisciplesCRUseCase(utilisateurRepository, tableauBordRepository,
+                calendrierSoumissionRepository, lectureProjection);
     }
 
     @Bean
@@ -103,9 +179,13 @@ public class BeanConfiguration {
             UtilisateurRepository utilisateurRepository,
             CompteRenduRepository compteRenduRepository,
             EgliseMaisonRepository egliseMaisonRepository,
-            EgliseLocaleRepository egliseLocaleRepository) {
+            EgliseLocaleRepository egliseLocaleRepository,
+            TableauBordRepository tableauBordRepository,
+            CompteRenduLectureRepository compteRenduLectureRepository,
+            @Value("${app.projections.tableau-bord.lecture:false}") boolean lectureProjection) {
         return new GetSubordinatesCRUseCase(
-                utilisateurRepository, compteRenduRepository, egliseMaisonRepository, egliseLocaleRepository);
+                utilisateurRepository, compteRenduRepository, egliseMaisonRepository, egliseLocaleRepository,
+                tableauBordRepository, compteRenduLectureRepository, lectureProjection);
     }
 
     @Bean
@@ -126,13 +206,65 @@ public class BeanConfiguration {
         return new GetPersonalStatisticsUseCase(statisticsService);
     }
 
+    @Bean
+    public GetCalendrierSoumissionsUseCase getCalendrierSoumissionsUseCase(
+            CalendrierSoumissionRepository calendrierSoumissionRepository,
+            CRDomainService crDomainService) {
+        return new GetCalendrierSoumissionsUseCase(calendrierSoumissionRepository, crDomainService);
+    }
+
+    @Bean
+    public GetPerimetreStatisticsUseCase getPerimetreStatisticsUseCase(
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository,
+            ParticipationRepository participationRepository) {
+        return new GetPerimetreStatisticsUseCase(statistiquesPerimetreRepository, participationRepository);
+    }
+
+    @Bean
+    public GetTendancesUseCase getTendancesUseCase(
+            TendanceRepository tendanceRepository,
+            UtilisateurRepository utilisateurRepository) {
+        return new GetTendancesUseCase(tendanceRepository, utilisateurRepository);
+    }
+
+    @Bean
+    public GetParticipationUseCase getParticipationUseCase(ParticipationRepository participationRepository) {
+        return new GetParticipationUseCase(participationRepository);
+    }
+
     @Bean
     public GetGroupStatisticsUseCase getGroupStatisticsUseCase(
             UtilisateurRepository utilisateurRepository,
             CompteRenduRepository compteRenduRepository,
-            StatisticsService statisticsService) {
+            StatisticsService statisticsService,
+            ClassementService classementService) {
         return new GetGroupStatisticsUseCase(
-                utilisateurRepository, compteRenduRepository, statisticsService);
+                utilisateurRepository, compteRenduRepository, statisticsService, classementService);
+    }
+
+    @Bean
+    public GetClassementUseCase getClassementUseCase(
+            UtilisateurRepository utilisateurRepository,
+            ClassementService classementService) {
+        return new GetClassementUseCase(utilisateurRepository, classementService);
+    }
+
+    // ===== Rappels CR manquants =====
+
+    @Bean
+    public SendCRRemindersUseCase sendCRRemindersUseCase(
+            RappelCRRepository rappelCRRepository,
+            EgliseLocaleRepository egliseLocaleRepository,
+            NotificationPort notificationPort) {
+        return new SendCRRemindersUseCase(rappelCRRepository, egliseLocaleRepository, notificationPort);
+    }
+
+    // ===== Projections (tableaux de bord) =====
+
+    @Bean
+    public TableauBordProjector tableauBordProjector(
+            TableauBordRepository tableauBordRepository) {
+        return new TableauBordProjector(tableauBordRepository);
     }
 
     // ===== Export Use Cases (US4.4) =====
@@ -176,8 +308,9 @@ public class BeanConfiguration {
 
     @Bean
     public UpdateUtilisateurUseCase updateUtilisateurUseCase(
-            UtilisateurRepository utilisateurRepository) {
-        return new UpdateUtilisateurUseCase(utilisateurRepository);
+            UtilisateurRepository utilisateurRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository) {
+        return new UpdateUtilisateurUseCase(utilisateurRepository, statistiquesPerimetreRepository);
     }
 
     @Bean
@@ -186,6 +319,13 @@ public class BeanConfiguration {
         return new AssignFDUseCase(utilisateurRepository);
     }
 
+    @Bean
+    public GetDisciplesSansFdUseCase getDisciplesSansFdUseCase(
+            UtilisateurRepository utilisateurRepository,
+            EgliseMaisonRepository egliseMaisonRepository) {
+        return new GetDisciplesSansFdUseCase(utilisateurRepository, egliseMaisonRepository);
+    }
+
     @Bean
     public ChangeRoleUseCase changeRoleUseCase(
             UtilisateurRepository utilisateurRepository) {
@@ -252,8 +392,10 @@ public class BeanConfiguration {
     public UpdateZoneUseCase updateZoneUseCase(
             ZoneRepository zoneRepository,
             RegionRepository regionRepository,
-            EgliseLocaleRepository egliseLocaleRepository) {
-        return new UpdateZoneUseCase(zoneRepository, regionRepository, egliseLocaleRepository);
+            EgliseLocaleRepository egliseLocaleRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository) {
+        return new UpdateZoneUseCase(zoneRepository, regionRepository, egliseLocaleRepository,
+                statistiquesPerimetreRepository);
     }
 
     @Bean
@@ -290,9 +432,11 @@ public class BeanConfiguration {
             EgliseLocaleRepository egliseLocaleRepository,
             ZoneRepository zoneRepository,
             EgliseMaisonRepository egliseMaisonRepository,
-            UtilisateurRepository utilisateurRepository) {
+            UtilisateurRepository utilisateurRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository) {
         return new UpdateEgliseLocaleUseCase(
-                egliseLocaleRepository, zoneRepository, egliseMaisonRepository, utilisateurRepository);
+                egliseLocaleRepository, zoneRepository, egliseMaisonRepository, utilisateurRepository,
+                statistiquesPerimetreRepository);
     }
 
     @Bean
@@ -336,9 +480,11 @@ public class BeanConfiguration {
     public UpdateEgliseMaisonUseCase updateEgliseMaisonUseCase(
             EgliseMaisonRepository egliseMaisonRepository,
             EgliseLocaleRepository egliseLocaleRepository,
-            UtilisateurRepository utilisateurRepository) {
+            UtilisateurRepository utilisateurRepository,
+            StatistiquesPerimetreRepository statistiquesPerimetreRepository) {
         return new UpdateEgliseMaisonUseCase(
-                egliseMaisonRepository, egliseLocaleRepository, utilisateurRepository);
+                egliseMaisonRepository, egliseLocaleRepository, utilisateurRepository,
+                statistiquesPerimetreRepository);
     }
 
     @Bean
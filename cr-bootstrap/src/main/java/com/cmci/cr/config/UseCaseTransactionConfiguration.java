@@ -0,0 +1,79 @@
+package com.cmci.cr.config;
+
+import com.cmci.cr.application.usecase.AddCommentaireUseCase;
+import com.cmci.cr.application.usecase.BulkCRReviewUseCase;
+import com.cmci.cr.application.usecase.CreateCRUseCase;
+import com.cmci.cr.application.usecase.DeleteCRUseCase;
+import com.cmci.cr.application.usecase.MarkCRAsViewedUseCase;
+import com.cmci.cr.application.usecase.PatchCRUseCase;
+import com.cmci.cr.application.usecase.UpdateCRUseCase;
+import com.cmci.cr.application.usecase.UpdateEgliseLocaleUseCase;
+import com.cmci.cr.application.usecase.UpdateEgliseMaisonUseCase;
+import com.cmci.cr.application.usecase.UpdateUtilisateurUseCase;
+import com.cmci.cr.application.usecase.UpdateZoneUseCase;
+import com.cmci.cr.application.usecase.ValidateCRUseCase;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Frontière transactionnelle des use cases d'écriture.
+ *
+ * Les use cases restent des classes sans dépendance à Spring : la transaction est posée ici,
+ * autour de leurs méthodes d'écriture. L'écriture et ce qui en dérive (calendrier des soumissions,
+ * deltas de statistiques_perimetre_jour, déplacement des agrégats d'un périmètre rattaché
+ * ailleurs) sont validés ou annulés ensemble, et les événements
+ * publiés pendant l'écriture ne partent qu'après le commit (AsyncDomainEventBus).
+ */
+@Configuration(proxyBeanMethods = false)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class UseCaseTransactionConfiguration {
+
+    private static final Set<String> EXECUTE = Set.of("execute");
+
+    private static final Map<Class<?>, Set<String>> METHODES_TRANSACTIONNELLES = Map.ofEntries(
+            Map.entry(CreateCRUseCase.class, EXECUTE),
+            Map.entry(UpdateCRUseCase.class, EXECUTE),
+            Map.entry(PatchCRUseCase.class, EXECUTE),
+            Map.entry(DeleteCRUseCase.class, EXECUTE),
+            Map.entry(ValidateCRUseCase.class, EXECUTE),
+            Map.entry(MarkCRAsViewedUseCase.class, EXECUTE),
+            Map.entry(AddCommentaireUseCase.class, EXECUTE),
+            Map.entry(BulkCRReviewUseCase.class, Set.of("markAsViewed", "validate")),
+            Map.entry(UpdateUtilisateurUseCase.class, EXECUTE),
+            Map.entry(UpdateEgliseMaisonUseCase.class, EXECUTE),
+            Map.entry(UpdateEgliseLocaleUseCase.class, EXECUTE),
+            Map.entry(UpdateZoneUseCase.class, EXECUTE));
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public TransactionInterceptor useCaseTransactionInterceptor() {
+        TransactionInterceptor interceptor = new TransactionInterceptor();
+        interceptor.setTransactionAttributeSource(new MatchAlwaysTransactionAttributeSource());
+        interceptor.setTransactionManagerBeanName("transactionManager");
+        return interceptor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor useCaseTransactionAdvisor(
+            @Qualifier("useCaseTransactionInterceptor") TransactionInterceptor useCaseTransactionInterceptor) {
+        return new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return METHODES_TRANSACTIONNELLES.getOrDefault(targetClass, Set.of()).contains(method.getName());
+            }
+        }, useCaseTransactionInterceptor);
+    }
+}
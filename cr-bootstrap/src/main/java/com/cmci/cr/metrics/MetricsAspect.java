@@ -0,0 +1,97 @@
+package com.cmci.cr.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Instrumentation Micrometer des use cases et des adaptateurs de persistance.
+ *
+ * Métriques publiées :
+ * - cr.usecase.execution : latence de chaque méthode publique de use case
+ * - cr.repository.call : latence de chaque appel aux adaptateurs de repository
+ * - cr.repository.result.size : nombre d'éléments retournés (listes, maps, optionnels)
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.cmci.cr.application.usecase..*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("cr.usecase.execution")
+                    .description("Durée d'exécution des use cases")
+                    .tag("usecase", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(public * com.cmci.cr.infrastructure.persistence.adapter..*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestMetricsContext.incrementRepositoryCalls();
+
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Object result = joinPoint.proceed();
+            recordResultSize(repository, method, result);
+            return result;
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("cr.repository.call")
+                    .description("Durée des appels aux repositories")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordResultSize(String repository, String method, Object result) {
+        int size;
+        if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (result instanceof Map<?, ?> map) {
+            size = map.size();
+        } else if (result instanceof Optional<?> optional) {
+            size = optional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+
+        DistributionSummary.builder("cr.repository.result.size")
+                .description("Nombre d'éléments retournés par les repositories")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(size);
+    }
+}
@@ -0,0 +1,34 @@
+package com.cmci.cr.metrics;
+
+/**
+ * Compteur d'appels repository pour la requête HTTP en cours (thread courant).
+ * Ouvert et fermé par RequestMetricsFilter, incrémenté par MetricsAspect.
+ */
+public final class RequestMetricsContext {
+
+    private static final ThreadLocal<int[]> REPOSITORY_CALLS = new ThreadLocal<>();
+
+    private RequestMetricsContext() {
+        // Classe utilitaire, constructeur privé
+    }
+
+    static void open() {
+        REPOSITORY_CALLS.set(new int[1]);
+    }
+
+    /**
+     * @return le nombre d'appels comptés depuis open()
+     */
+    static int close() {
+        int[] calls = REPOSITORY_CALLS.get();
+        REPOSITORY_CALLS.remove();
+        return calls != null ? calls[0] : 0;
+    }
+
+    static void incrementRepositoryCalls() {
+        int[] calls = REPOSITORY_CALLS.get();
+        if (calls != null) {
+            calls[0]++;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.cmci.cr.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publie le nombre d'appels repository par requête HTTP (cr.request.repository.calls),
+ * par endpoint : une distribution qui croît avec le nombre de subordonnés signale un N+1.
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestMetricsContext.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int calls = RequestMetricsContext.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                DistributionSummary.builder("cr.request.repository.calls")
+                        .description("Nombre d'appels repository par requête HTTP")
+                        .baseUnit("calls")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern.toString())
+                        .register(meterRegistry)
+                        .record(calls);
+            }
+        }
+    }
+}
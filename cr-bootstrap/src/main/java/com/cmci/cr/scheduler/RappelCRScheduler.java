@@ -0,0 +1,55 @@
+package com.cmci.cr.scheduler;
+
+import com.cmci.cr.application.dto.response.RappelCRResultResponse;
+import com.cmci.cr.application.usecase.SendCRRemindersUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Déclenche chaque soir le moteur de rappels des CR manquants.
+ * Le traitement est idempotent par jour : plusieurs instances ou une relance
+ * manuelle n'envoient pas de doublons.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rappels.enabled", havingValue = "true")
+public class RappelCRScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RappelCRScheduler.class);
+
+    private final SendCRRemindersUseCase sendCRRemindersUseCase;
+
+    @Value("${app.rappels.zone:Europe/Paris}")
+    private String zone;
+
+    public RappelCRScheduler(SendCRRemindersUseCase sendCRRemindersUseCase) {
+        this.sendCRRemindersUseCase = sendCRRemindersUseCase;
+    }
+
+    @Scheduled(cron = "${app.rappels.cron:0 0 20 * * *}", zone = "${app.rappels.zone:Europe/Paris}")
+    public void envoyerRappels() {
+        LocalDate date = LocalDate.now(ZoneId.of(zone));
+        long start = System.currentTimeMillis();
+
+        try {
+            RappelCRResultResponse result = sendCRRemindersUseCase.execute(date);
+            log.info("CR reminders for {}: {} members without CR, {} reminders, {} 3-day and {} 7-day escalations, " +
+                            "{} already sent ({} batches, {} ms)",
+                    date, result.getMembresSansCR(), result.getRappelsEnvoyes(), result.getEscalades3Jours(),
+                    result.getEscalades7Jours(), result.getDejaEnvoyes(), result.getLotsTraites(),
+                    System.currentTimeMillis() - start);
+            if (result.getEnvoisEchoues() > 0) {
+                log.warn("{} CR reminders for {} could not be sent and were released for a later run",
+                        result.getEnvoisEchoues(), date);
+            }
+        } catch (RuntimeException e) {
+            log.error("CR reminder run failed for {}: {}", date, e.getMessage(), e);
+        }
+    }
+}
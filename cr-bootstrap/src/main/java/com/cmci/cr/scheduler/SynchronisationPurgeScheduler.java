@@ -0,0 +1,36 @@
+package com.cmci.cr.scheduler;
+
+import com.cmci.cr.application.usecase.PurgeSuppressionsSyncUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Purge chaque nuit les suppressions du flux de synchronisation plus anciennes que la rétention
+ */
+@Component
+@ConditionalOnProperty(name = "app.sync.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class SynchronisationPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SynchronisationPurgeScheduler.class);
+
+    private final PurgeSuppressionsSyncUseCase purgeSuppressionsSyncUseCase;
+
+    public SynchronisationPurgeScheduler(PurgeSuppressionsSyncUseCase purgeSuppressionsSyncUseCase) {
+        this.purgeSuppressionsSyncUseCase = purgeSuppressionsSyncUseCase;
+    }
+
+    @Scheduled(cron = "${app.sync.purge.cron:0 30 3 * * *}")
+    public void purger() {
+        try {
+            int purgees = purgeSuppressionsSyncUseCase.execute(LocalDateTime.now());
+            log.info("Sync tombstone purge: {} rows removed", purgees);
+        } catch (RuntimeException e) {
+            log.error("Sync tombstone purge failed: {}", e.getMessage(), e);
+        }
+    }
+}
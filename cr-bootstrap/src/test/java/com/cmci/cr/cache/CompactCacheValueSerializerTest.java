@@ -0,0 +1,241 @@
+package com.cmci.cr.cache;
+
+import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.valueobject.RDQD;
+import com.cmci.cr.domain.valueobject.Role;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import com.cmci.cr.infrastructure.cache.codec.CompactCacheValueSerializer;
+import com.cmci.cr.infrastructure.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du sérialiseur binaire des valeurs de cache et comparaison (taille, débit)
+ * avec le sérialiseur JSON historique configuré dans RedisConfig.
+ */
+class CompactCacheValueSerializerTest {
+
+    private RedisSerializer<Object> json;
+    private CompactCacheValueSerializer compact;
+
+    @BeforeEach
+    void setUp() {
+        json = new GenericJackson2JsonRedisSerializer(new RedisConfig().redisObjectMapper());
+        compact = new CompactCacheValueSerializer(json, 1024);
+    }
+
+    @Test
+    @DisplayName("Un CR complet est restitué à l'identique")
+    void shouldRoundTripCompteRendu() {
+        // Given
+        CompteRendu cr = compteRendu(LocalDate.of(2026, 3, 14));
+
+        // When
+        Object restored = compact.deserialize(compact.serialize(cr));
+
+        // Then
+        assertThat(restored).isEqualTo(cr);
+    }
+
+    @Test
+    @DisplayName("Les champs optionnels nuls restent nuls")
+    void shouldRoundTripPartialCompteRendu() {
+        // Given
+        CompteRendu cr = CompteRendu.builder()
+                .id(UUID.randomUUID())
+                .utilisateurId(UUID.randomUUID())
+                .date(LocalDate.of(2026, 1, 2))
+                .rdqd(RDQD.of(0, 1))
+                .priereSeule(Duration.ZERO)
+                .lectureBiblique(0)
+                .statut(StatutCR.BROUILLON)
+                .build();
+
+        // When
+        Object restored = compact.deserialize(compact.serialize(cr));
+
+        // Then
+        assertThat(restored).isEqualTo(cr);
+    }
+
+    @Test
+    @DisplayName("Une liste d'utilisateurs est restituée à l'identique et compressée au-delà du seuil")
+    void shouldRoundTripAndCompressUtilisateurList() {
+        // Given
+        List<Utilisateur> utilisateurs = utilisateurs(200);
+
+        // When
+        byte[] bytes = compact.serialize(utilisateurs);
+        Object restored = compact.deserialize(bytes);
+
+        // Then
+        assertThat(restored).isEqualTo(utilisateurs);
+        assertThat(bytes[2] & 0x01).as("drapeau LZ4").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Les compteurs et valeurs non couvertes par le schéma sont restitués")
+    void shouldRoundTripScalarsAndJsonFallback() {
+        assertThat(compact.deserialize(compact.serialize(42L))).isEqualTo(42L);
+        assertThat(compact.deserialize(compact.serialize(Map.of("total", 3))))
+                .isEqualTo(Map.of("total", 3));
+    }
+
+    @Test
+    @DisplayName("Une valeur JSON écrite par une version précédente reste lisible")
+    void shouldReadLegacyJsonValues() {
+        // Given
+        byte[] legacy = json.serialize(Map.of("nom", "Dupont"));
+
+        // When
+        Object restored = compact.deserialize(legacy);
+
+        // Then
+        assertThat(restored).isEqualTo(Map.of("nom", "Dupont"));
+    }
+
+    @Test
+    @DisplayName("En écriture JSON, les valeurs sont écrites au format historique et les valeurs compactes restent lisibles")
+    void shouldWriteJsonAndReadCompactValues() {
+        // Given
+        CompactCacheValueSerializer ecritureJson = CompactCacheValueSerializer.ecritureJson(json, 1024);
+        CompteRendu cr = compteRendu(LocalDate.of(2026, 3, 14));
+
+        // When
+        byte[] ecrit = ecritureJson.serialize(Map.of("nom", "Dupont"));
+
+        // Then
+        assertThat(ecrit).isEqualTo(json.serialize(Map.of("nom", "Dupont")));
+        assertThat(ecritureJson.deserialize(compact.serialize(cr))).isEqualTo(cr);
+    }
+
+    @Test
+    @DisplayName("Une version de format inconnue est traitée comme une absence de cache")
+    void shouldTreatUnknownVersionAsMiss() {
+        // Given
+        byte[] bytes = compact.serialize(compteRendu(LocalDate.of(2026, 3, 14)));
+        bytes[1] = (byte) 99;
+
+        // When / Then
+        assertThat(compact.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("Benchmark : taille et débit du format compact face au JSON")
+    void benchmarkAgainstJson() {
+        // Given : 30 jours de CR d'un disciple, et une liste de 100 disciples
+        List<CompteRendu> crs = new ArrayList<>();
+        LocalDate debut = LocalDate.of(2026, 2, 1);
+        for (int i = 0; i < 30; i++) {
+            crs.add(compteRendu(debut.plusDays(i)));
+        }
+        List<Utilisateur> disciples = utilisateurs(100);
+
+        // When
+        Resultat crJson = mesurer("List<CompteRendu> json", json, crs);
+        Resultat crCompact = mesurer("List<CompteRendu> compact", compact, crs);
+        Resultat uJson = mesurer("List<Utilisateur> json", json, disciples);
+        Resultat uCompact = mesurer("List<Utilisateur> compact", compact, disciples);
+
+        // Then
+        assertThat(crCompact.taille).isLessThan(crJson.taille / 2);
+        assertThat(uCompact.taille).isLessThan(uJson.taille / 2);
+    }
+
+    // ---------------------------------------------------------------- utilitaires
+
+    private record Resultat(int taille, double serialisationsParMs, double deserialisationsParMs) {
+    }
+
+    private static Resultat mesurer(String libelle, RedisSerializer<Object> serializer, Object valeur) {
+        int iterations = 2_000;
+        byte[] bytes = serializer.serialize(valeur);
+
+        // Préchauffage JIT
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(serializer.serialize(valeur));
+        }
+
+        double serialisations = debit(iterations, () -> serializer.serialize(valeur));
+        double deserialisations = debit(iterations, () -> serializer.deserialize(bytes));
+
+        System.out.printf("%-28s %7d octets %10.1f ser/ms %10.1f deser/ms%n",
+                libelle, bytes.length, serialisations, deserialisations);
+        return new Resultat(bytes.length, serialisations, deserialisations);
+    }
+
+    private static double debit(int iterations, Supplier<Object> operation) {
+        Object puits = null;
+        long debut = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            puits = operation.get();
+        }
+        long duree = Math.max(1, System.nanoTime() - debut);
+        assertThat(puits).isNotNull();
+        return iterations / (duree / 1_000_000.0);
+    }
+
+    private static CompteRendu compteRendu(LocalDate date) {
+        LocalDateTime createdAt = date.atTime(21, 4, 12, 345_678_000);
+        return CompteRendu.builder()
+                .id(UUID.randomUUID())
+                .utilisateurId(UUID.randomUUID())
+                .date(date)
+                .rdqd(RDQD.of(1, 1))
+                .priereSeule(Duration.ofMinutes(45))
+                .lectureBiblique(3)
+                .livreBiblique("Jean")
+                .litteraturePages(12)
+                .litteratureTotal(250)
+                .litteratureTitre("La prière")
+                .priereAutres(2)
+                .confession(true)
+                .jeune(false)
+                .evangelisation(1)
+                .offrande(true)
+                .notes("Temps de prière béni ce soir")
+                .statut(StatutCR.SOUMIS)
+                .vuParFd(false)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private static List<Utilisateur> utilisateurs(int nombre) {
+        UUID fdId = UUID.randomUUID();
+        UUID egliseMaisonId = UUID.randomUUID();
+        List<Utilisateur> utilisateurs = new ArrayList<>();
+        for (int i = 0; i < nombre; i++) {
+            utilisateurs.add(Utilisateur.builder()
+                    .id(UUID.randomUUID())
+                    .email("disciple" + i + "@cmci.org")
+                    .nom("Nom" + i)
+                    .prenom("Prénom" + i)
+                    .role(Role.FIDELE)
+                    .egliseMaisonId(egliseMaisonId)
+                    .fdId(fdId)
+                    .telephone("+33600000" + String.format("%03d", i))
+                    .dateBapteme(LocalDate.of(2015, 6, 7))
+                    .statut(Utilisateur.StatutUtilisateur.ACTIF)
+                    .createdAt(LocalDateTime.of(2024, 9, 1, 10, 0))
+                    .updatedAt(LocalDateTime.of(2025, 1, 15, 18, 30, 5))
+                    .build());
+        }
+        return utilisateurs;
+    }
+}
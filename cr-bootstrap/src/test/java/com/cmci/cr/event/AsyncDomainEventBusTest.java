@@ -0,0 +1,151 @@
+package com.cmci.cr.event;
+
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.infrastructure.event.AsyncDomainEventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bus d'événements après commit : livraison hors du thread appelant, ordre par agrégat,
+ * événements retenus jusqu'au commit et contre-pression quand une voie est pleine.
+ */
+class AsyncDomainEventBusTest {
+
+    private AsyncDomainEventBus bus;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (bus != null) {
+            bus.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Les événements d'un même CR sont livrés dans l'ordre, hors du thread appelant")
+    void shouldDeliverInOrderPerAggregateOffCallerThread() throws Exception {
+        // Given
+        BrokerEnregistreur broker = new BrokerEnregistreur(0);
+        bus = new AsyncDomainEventBus(broker, 4, 100, Duration.ofSeconds(1));
+        UUID crA = UUID.randomUUID();
+        UUID crB = UUID.randomUUID();
+        List<DomainEvent> attendusA = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            DomainEvent a = vu(crA);
+            attendusA.add(a);
+            bus.publish(a);
+            bus.publish(vu(crB));
+        }
+
+        // Then
+        broker.attendre(100);
+        assertThat(broker.recus.stream().filter(e -> ((CRMarkedAsViewedEvent) e).getCompteRenduId().equals(crA)))
+                .containsExactlyElementsOf(attendusA);
+        assertThat(broker.threads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Dans une transaction, les événements attendent le commit et sont abandonnés au rollback")
+    void shouldDeferUntilCommitAndDropOnRollback() throws Exception {
+        // Given
+        BrokerEnregistreur broker = new BrokerEnregistreur(0);
+        bus = new AsyncDomainEventBus(broker, 2, 100, Duration.ofSeconds(1));
+        DomainEvent validation = CRValidatedEvent.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), LocalDate.now());
+
+        // When : transaction annulée
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(vu(UUID.randomUUID()));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When : transaction validée
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(validation);
+        Thread.sleep(100);
+        assertThat(broker.recus).isEmpty();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        broker.attendre(1);
+        assertThat(broker.recus).containsExactly(validation);
+    }
+
+    @Test
+    @DisplayName("Une voie pleine fait attendre l'appelant puis livre sans perte")
+    void shouldApplyBackpressureWithoutLoss() throws Exception {
+        // Given : une voie, une place, un broker lent
+        BrokerEnregistreur broker = new BrokerEnregistreur(100);
+        bus = new AsyncDomainEventBus(broker, 1, 1, Duration.ofMillis(50));
+
+        // When
+        long debut = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bus.publish(vu(UUID.randomUUID()));
+        }
+        long dureeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut);
+
+        // Then : l'appelant a été freiné et aucun événement n'est perdu
+        assertThat(dureeMs).isGreaterThanOrEqualTo(50);
+        broker.attendre(5);
+        assertThat(broker.recus).hasSize(5);
+    }
+
+    private static DomainEvent vu(UUID compteRenduId) {
+        return CRMarkedAsViewedEvent.of(compteRenduId, UUID.randomUUID(), UUID.randomUUID(), LocalDate.now());
+    }
+
+    /**
+     * Broker qui enregistre les événements reçus et le thread de livraison
+     */
+    private static final class BrokerEnregistreur implements DomainEventPublisher {
+
+        final List<DomainEvent> recus = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        private final long delaiMs;
+
+        BrokerEnregistreur(long delaiMs) {
+            this.delaiMs = delaiMs;
+        }
+
+        @Override
+        public void publish(DomainEvent event) {
+            try {
+                Thread.sleep(delaiMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            threads.add(Thread.currentThread().getName());
+            recus.add(event);
+        }
+
+        void attendre(int nombre) throws InterruptedException {
+            long echeance = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (recus.size() < nombre && System.nanoTime() < echeance) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
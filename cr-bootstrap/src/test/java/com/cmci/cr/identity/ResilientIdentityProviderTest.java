@@ -0,0 +1,294 @@
+package com.cmci.cr.identity;
+
+import com.cmci.cr.domain.port.IdentityProviderPort.FournisseurIndisponibleException;
+import com.cmci.cr.domain.port.IdentityProviderPort.IdentityUser;
+import com.cmci.cr.domain.valueobject.Role;
+import com.cmci.cr.infrastructure.identity.KeycloakAdminService;
+import com.cmci.cr.infrastructure.identity.ResilientIdentityProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.ClientBuilderWrapper;
+import org.keycloak.admin.client.JacksonProvider;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Appels d'administration Keycloak contre un Keycloak de test à latence injectée :
+ * délai rendu à l'appelant, repli sur le dernier résultat connu, ouverture du circuit
+ * et refus des appels au-delà de la cloison.
+ */
+class ResilientIdentityProviderTest {
+
+    private static final String REALM = "cmci";
+
+    private HttpServer serveur;
+    private ExecutorService threadsServeur;
+    private Keycloak keycloak;
+    private ResilientIdentityProvider provider;
+
+    private final AtomicInteger appelsAdmin = new AtomicInteger();
+    private final AtomicInteger enCours = new AtomicInteger();
+    private final AtomicInteger maxEnCours = new AtomicInteger();
+    private volatile long latenceMs;
+    private volatile int statut = 200;
+    private volatile String reessaiApres;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        serveur = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        threadsServeur = Executors.newCachedThreadPool();
+        serveur.setExecutor(threadsServeur);
+        serveur.createContext("/realms/master/protocol/openid-connect/token", echange -> repondre(echange, 200,
+                "{\"access_token\":\"jeton\",\"expires_in\":300,\"refresh_expires_in\":0,\"token_type\":\"Bearer\"}"));
+        serveur.createContext("/admin/realms/" + REALM + "/", this::admin);
+        serveur.start();
+
+        keycloak = KeycloakBuilder.builder()
+                .serverUrl("http://127.0.0.1:" + serveur.getAddress().getPort())
+                .realm("master")
+                .username("admin")
+                .password("admin")
+                .clientId("admin-cli")
+                .resteasyClient(ClientBuilderWrapper.create(null, false)
+                        .connectTimeout(1, TimeUnit.SECONDS)
+                        .readTimeout(5, TimeUnit.SECONDS)
+                        .register(JacksonProvider.class, 100)
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.destroy();
+        }
+        keycloak.close();
+        serveur.stop(0);
+        threadsServeur.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Un Keycloak lent libère l'appelant au délai, bien avant le délai de lecture HTTP")
+    void shouldReleaseCallerAtDeadline() {
+        // Given
+        provider = provider(4, 4, Duration.ofMillis(300), 5, Duration.ofSeconds(30));
+        latenceMs = 1500;
+
+        // When
+        long debut = System.nanoTime();
+        assertThatThrownBy(() -> provider.countUsers())
+                .isInstanceOf(FournisseurIndisponibleException.class)
+                .hasMessageContaining("300 ms");
+        long dureeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut);
+
+        // Then
+        assertThat(dureeMs).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("Une lecture en échec rend le dernier résultat connu")
+    void shouldServeLastKnownResultWhenKeycloakIsSlow() {
+        // Given : client HTTP et jeton d'accès chauffés sans délai, le délai de 300 ms
+        // ne borne ensuite que l'appel qui mémorise le résultat
+        new KeycloakAdminService(keycloak, REALM).countUsers();
+        provider = provider(4, 4, Duration.ofMillis(300), 5, Duration.ofSeconds(30));
+        List<IdentityUser> frais = provider.getUsersByRole(Role.FIDELE);
+        assertThat(frais).extracting(IdentityUser::username).containsExactly("jean");
+        assertThat(frais.get(0).roles()).containsExactly("FIDELE");
+
+        // When
+        latenceMs = 1500;
+        long debut = System.nanoTime();
+        List<IdentityUser> repli = provider.getUsersByRole(Role.FIDELE);
+
+        // Then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut)).isLessThan(1000);
+        assertThat(repli).isEqualTo(frais);
+    }
+
+    @Test
+    @DisplayName("Le circuit s'ouvre après les échecs consécutifs puis se referme sur un essai réussi")
+    void shouldOpenCircuitAfterConsecutiveFailures() throws Exception {
+        // Given
+        provider = provider(4, 4, Duration.ofSeconds(2), 2, Duration.ofMillis(400));
+        statut = 500;
+        assertThatThrownBy(() -> provider.countUsers()).isInstanceOf(FournisseurIndisponibleException.class);
+        assertThatThrownBy(() -> provider.countUsers()).isInstanceOf(FournisseurIndisponibleException.class);
+        int appelsAvantOuverture = appelsAdmin.get();
+
+        // When : circuit ouvert, Keycloak n'est plus sollicité
+        assertThatThrownBy(() -> provider.countUsers())
+                .isInstanceOf(FournisseurIndisponibleException.class)
+                .satisfies(e -> assertThat(((FournisseurIndisponibleException) e).getReessaiApres()).isPresent());
+        assertThat(appelsAdmin.get()).isEqualTo(appelsAvantOuverture);
+
+        // Then : Keycloak rétabli, l'essai après la durée d'ouverture referme le circuit
+        statut = 200;
+        Thread.sleep(500);
+        assertThat(provider.countUsers()).isEqualTo(3);
+        assertThat(provider.countUsersByRole(Role.FIDELE)).isEqualTo(1);
+        assertThat(appelsAdmin.get()).isEqualTo(appelsAvantOuverture + 2);
+    }
+
+    @Test
+    @DisplayName("Une requête refusée (4xx) est rendue à l'appelant sans repli ni ouverture du circuit")
+    void shouldNotCountClientErrorsAsUnavailability() {
+        // Given : un résultat connu, puis Keycloak refuse les requêtes
+        provider = provider(4, 4, Duration.ofSeconds(2), 2, Duration.ofSeconds(30));
+        assertThat(provider.countUsers()).isEqualTo(3);
+        statut = 409;
+
+        // When / Then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> provider.countUsers())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("409");
+        }
+        assertThat(appelsAdmin.get()).isEqualTo(4);
+
+        statut = 404;
+        assertThatThrownBy(() -> provider.assignRole("u1", Role.FD)).isInstanceOf(NoSuchElementException.class);
+        assertThat(appelsAdmin.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Compte de service refusé (401/403) : Keycloak est indisponible et le circuit s'ouvre")
+    void shouldTreatAuthorizationFailuresAsUnavailability() {
+        // Given
+        provider = provider(4, 4, Duration.ofSeconds(2), 2, Duration.ofSeconds(30));
+
+        // When
+        statut = 401;
+        assertThatThrownBy(() -> provider.countUsers())
+                .isInstanceOf(FournisseurIndisponibleException.class)
+                .hasMessageContaining("401");
+        statut = 403;
+        assertThatThrownBy(() -> provider.countUsers())
+                .isInstanceOf(FournisseurIndisponibleException.class)
+                .hasMessageContaining("403");
+        int appelsAvantOuverture = appelsAdmin.get();
+
+        // Then
+        assertThatThrownBy(() -> provider.countUsers())
+                .isInstanceOf(FournisseurIndisponibleException.class)
+                .hasMessageContaining("circuit ouvert");
+        assertThat(appelsAdmin.get()).isEqualTo(appelsAvantOuverture);
+    }
+
+    @Test
+    @DisplayName("Limitation (429) : Keycloak est indisponible et son Retry-After est transmis")
+    void shouldPropagateRetryAfterOnRateLimit() {
+        // Given
+        provider = provider(4, 4, Duration.ofSeconds(2), 5, Duration.ofSeconds(30));
+        statut = 429;
+        reessaiApres = "7";
+
+        // When / Then
+        assertThatThrownBy(() -> provider.countUsers())
+                .isInstanceOf(FournisseurIndisponibleException.class)
+                .satisfies(e -> assertThat(((FournisseurIndisponibleException) e).getReessaiApres())
+                        .contains(Duration.ofSeconds(7)));
+    }
+
+    @Test
+    @DisplayName("La cloison borne les appels simultanés et refuse immédiatement le surplus")
+    void shouldBoundConcurrentCallsWithBulkhead() {
+        // Given : 2 appels simultanés, 1 en attente
+        provider = provider(2, 1, Duration.ofSeconds(3), 5, Duration.ofSeconds(30));
+        latenceMs = 500;
+
+        // When
+        List<CompletableFuture<Integer>> appels = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            appels.add(provider.countUsersAsync());
+        }
+        long refusesImmediatement = appels.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+        CompletableFuture.allOf(appels.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        // Then
+        assertThat(refusesImmediatement).isEqualTo(3);
+        assertThat(appels.stream().filter(a -> !a.isCompletedExceptionally()).map(CompletableFuture::join))
+                .containsOnly(3)
+                .hasSize(3);
+        assertThat(maxEnCours.get()).isLessThanOrEqualTo(2);
+        assertThatThrownBy(() -> appels.get(5).join())
+                .hasCauseInstanceOf(FournisseurIndisponibleException.class);
+    }
+
+    private ResilientIdentityProvider provider(int concurrence, int file, Duration delai,
+                                               int seuilEchecs, Duration dureeOuverture) {
+        return new ResilientIdentityProvider(
+                new KeycloakAdminService(keycloak, REALM),
+                concurrence, file, delai, seuilEchecs, dureeOuverture,
+                Duration.ofMinutes(30), 100, Clock.systemUTC());
+    }
+
+    /**
+     * API d'administration du realm : compte, membres d'un rôle et rôles effectifs d'un utilisateur
+     */
+    private void admin(HttpExchange echange) throws IOException {
+        appelsAdmin.incrementAndGet();
+        int actifs = enCours.incrementAndGet();
+        maxEnCours.accumulateAndGet(actifs, Math::max);
+        try {
+            Thread.sleep(latenceMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            enCours.decrementAndGet();
+        }
+
+        if (statut != 200) {
+            if (reessaiApres != null) {
+                echange.getResponseHeaders().add("Retry-After", reessaiApres);
+            }
+            repondre(echange, statut, "{\"error\":\"panne\"}");
+            return;
+        }
+
+        String chemin = echange.getRequestURI().getPath().substring(("/admin/realms/" + REALM).length());
+        if (chemin.equals("/users/count")) {
+            repondre(echange, 200, "3");
+        } else if (chemin.equals("/roles/FIDELE/users")) {
+            repondre(echange, 200, "[{\"id\":\"u1\",\"username\":\"jean\",\"email\":\"jean@cmci.org\","
+                    + "\"firstName\":\"Jean\",\"lastName\":\"Ndongo\",\"enabled\":true,"
+                    + "\"emailVerified\":true,\"createdTimestamp\":1700000000000}]");
+        } else if (chemin.equals("/users/u1/role-mappings/realm/composite")) {
+            repondre(echange, 200, "[{\"name\":\"FIDELE\"},{\"name\":\"offline_access\"}]");
+        } else {
+            repondre(echange, 404, "{\"error\":\"introuvable\"}");
+        }
+    }
+
+    private static void repondre(HttpExchange echange, int statut, String json) throws IOException {
+        byte[] corps = json.getBytes(StandardCharsets.UTF_8);
+        echange.getResponseHeaders().add("Content-Type", "application/json");
+        echange.sendResponseHeaders(statut, corps.length);
+        try (OutputStream sortie = echange.getResponseBody()) {
+            sortie.write(corps);
+        }
+        echange.close();
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.cache.CacheManager;
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static com.cmci.cr.integration.QueryBudgetMatchers.maxQueries;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -93,6 +95,9 @@ class FullApiIntegrationTest {
 
     static final PostgreSQLContainer<?> POSTGRES;
 
+    /** Même valeur que app.query-budget.max-per-request */
+    static final int BUDGET_REQUETES_PAR_DEFAUT = 30;
+
     static {
         POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
                 .withDatabaseName("cmci_cr_test")
@@ -154,6 +159,15 @@ class FullApiIntegrationTest {
             return new HikariDataSource(config);
         }
 
+        /**
+         * Budget de requêtes SQL vérifié sur chaque appel de l'API, en plus des budgets
+         * plus serrés posés endpoint par endpoint avec maxQueries(...)
+         */
+        @Bean
+        public MockMvcBuilderCustomizer queryBudgetCustomizer() {
+            return builder -> builder.alwaysExpect(maxQueries(BUDGET_REQUETES_PAR_DEFAUT));
+        }
+
         /** Remplace RedisCacheManager par ConcurrentMapCacheManager. */
         @Bean
         @Primary
@@ -524,9 +538,12 @@ class FullApiIntegrationTest {
     @Order(33)
     @DisplayName("3.4 — FD1 lit la liste de ses disciples (doit en avoir 2)")
     void testListFD1Disciples() throws Exception {
+        // FD + disciples, quel que soit le nombre de disciples
         mockMvc.perform(get("/v1/disciples/fd/{fdId}", fd1Id).with(asFD1()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)));
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].fdNom").isNotEmpty())
+                .andExpect(maxQueries(2));
 
         System.out.println("  ✓ FD1 a 2 disciples");
     }
@@ -548,7 +565,8 @@ class FullApiIntegrationTest {
     void testMyDisciples() throws Exception {
         mockMvc.perform(get("/v1/disciples/my-disciples").with(asFD1()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)));
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(maxQueries(2));
 
         System.out.println("  ✓ my-disciples FD1 = 2 OK");
     }
@@ -559,11 +577,13 @@ class FullApiIntegrationTest {
     void testCountDisciples() throws Exception {
         mockMvc.perform(get("/v1/disciples/count/fd/{fdId}", fd1Id).with(asFD1()))
                 .andExpect(status().isOk())
-                .andExpect(content().string("2"));
+                .andExpect(content().string("2"))
+                .andExpect(maxQueries(1));
 
         mockMvc.perform(get("/v1/disciples/count/fd/{fdId}", fd2Id).with(asFD2()))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1"));
+                .andExpect(content().string("1"))
+                .andExpect(maxQueries(1));
 
         System.out.println("  ✓ Comptage disciples : FD1=2, FD2=1");
     }
@@ -725,7 +745,8 @@ class FullApiIntegrationTest {
                 .andExpect(jsonPath("$.id").value(cr1Id.toString()))
                 .andExpect(jsonPath("$.utilisateurId").value(fidele1Id.toString()))
                 .andExpect(jsonPath("$.rdqd").value("1/1"))
-                .andExpect(jsonPath("$.statut").value("SOUMIS"));
+                .andExpect(jsonPath("$.statut").value("SOUMIS"))
+                .andExpect(maxQueries(1));
 
         System.out.println("  ✓ Lecture CR1 par ID OK");
     }
@@ -737,7 +758,8 @@ class FullApiIntegrationTest {
         mockMvc.perform(get("/v1/cr/user/{utilisateurId}", fidele1Id).with(asFD1()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].id").value(cr1Id.toString()));
+                .andExpect(jsonPath("$[0].id").value(cr1Id.toString()))
+                .andExpect(maxQueries(2));
 
         System.out.println("  ✓ FD1 lit les CRs de Fidèle1 (1 CR)");
     }
@@ -1008,7 +1030,8 @@ class FullApiIntegrationTest {
                         .param("startDate", startDate.toString())
                         .param("endDate", endDate.toString()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))));
+                .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))))
+                .andExpect(maxQueries(2));
 
         System.out.println("  ✓ CRs de Fidèle1 sur 30 jours récupérés");
     }
@@ -0,0 +1,60 @@
+package com.cmci.cr.integration;
+
+import com.cmci.cr.api.filter.QueryBudgetFilter;
+import com.cmci.cr.infrastructure.persistence.monitoring.RequestQueryStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions MockMvc sur le nombre de requêtes SQL d'un endpoint.
+ * Les statistiques sont celles collectées par QueryBudgetFilter pour la requête testée.
+ *
+ * <pre>
+ * mockMvc.perform(get("/v1/disciples/my-disciples").with(asFD1()))
+ *         .andExpect(maxQueries(3));
+ * </pre>
+ */
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {
+        // Classe utilitaire, constructeur privé
+    }
+
+    /**
+     * L'endpoint ne doit pas exécuter plus de {@code max} requêtes SQL
+     */
+    public static ResultMatcher maxQueries(int max) {
+        return result -> {
+            RequestQueryStats stats = stats(result);
+            assertThat(stats.getTotal())
+                    .as("Requêtes SQL de %s %s : %s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI(), stats.getCountsByStatement())
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+
+    /**
+     * Aucune requête SQL ne doit être exécutée {@code threshold} fois ou plus (N+1)
+     */
+    public static ResultMatcher noRepeatedQueries(int threshold) {
+        return result -> {
+            Map<String, Integer> repeated = stats(result).getRepeatedStatements(threshold);
+            assertThat(repeated)
+                    .as("Requêtes répétées sur %s %s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI())
+                    .isEmpty();
+        };
+    }
+
+    private static RequestQueryStats stats(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(QueryBudgetFilter.STATS_ATTRIBUTE);
+        assertThat(stats)
+                .as("QueryBudgetFilter inactif (app.query-budget.enabled)")
+                .isInstanceOf(RequestQueryStats.class);
+        return (RequestQueryStats) stats;
+    }
+}
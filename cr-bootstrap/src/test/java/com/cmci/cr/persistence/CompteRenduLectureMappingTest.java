@@ -0,0 +1,107 @@
+package com.cmci.cr.persistence;
+
+import com.cmci.cr.application.dto.response.CRResponse;
+import com.cmci.cr.application.usecase.GetCRUseCase;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
+import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.infrastructure.persistence.entity.CompteRenduJpaEntity;
+import com.cmci.cr.infrastructure.persistence.mapper.CompteRenduMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Lecture seule de l'historique : à valeurs de colonnes égales, une LigneCR doit produire
+ * la même CRResponse que le chemin entité (entité JPA, agrégat CompteRendu, CRResponse)
+ */
+class CompteRenduLectureMappingTest {
+
+    private static final UUID UTILISATEUR_ID = UUID.randomUUID();
+    private static final LocalDateTime CREE_LE = LocalDateTime.of(2024, 3, 12, 21, 4, 12);
+
+    private final CompteRenduMapper mapper = new CompteRenduMapper();
+    private CompteRenduRepository compteRenduRepository;
+    private CompteRenduLectureRepository lectureRepository;
+    private GetCRUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        compteRenduRepository = mock(CompteRenduRepository.class);
+        lectureRepository = mock(CompteRenduLectureRepository.class);
+        useCase = new GetCRUseCase(compteRenduRepository, lectureRepository);
+    }
+
+    @Test
+    @DisplayName("Devrait rendre un CR complet comme le chemin entité")
+    void shouldMapCompleteRowLikeEntityPath() {
+        Object[] colonnes = {UUID.randomUUID(), UTILISATEUR_ID, LocalDate.of(2024, 3, 12), "1/1", "00:45:00", 3,
+                "Jean", 12, 250, "La prière", 2, true, true, "PARTIEL", 1, true, "Temps de prière béni ce soir",
+                "SOUMIS", false, CREE_LE, CREE_LE.plusHours(1), 3L};
+
+        assertMemeReponse(colonnes);
+    }
+
+    @Test
+    @DisplayName("Devrait rendre les champs facultatifs absents comme le chemin entité")
+    void shouldMapOptionalNullsLikeEntityPath() {
+        Object[] colonnes = {UUID.randomUUID(), UTILISATEUR_ID, LocalDate.of(2024, 3, 13), "0/1", "00:00:00", 0,
+                null, null, null, null, 0, false, false, null, 0, false, null,
+                "BROUILLON", false, CREE_LE, CREE_LE, 0L};
+
+        assertMemeReponse(colonnes);
+    }
+
+    @Test
+    @DisplayName("Devrait réduire une longue durée de prière validée au format HH:mm comme le chemin entité")
+    void shouldFormatLongPrayerDurationLikeEntityPath() {
+        Object[] colonnes = {UUID.randomUUID(), UTILISATEUR_ID, LocalDate.of(2024, 3, 14), "1/2", "10:05:00", 5,
+                "Psaumes", null, null, null, 1, false, false, null, 3, false, null,
+                "VALIDE", true, CREE_LE, CREE_LE.plusDays(1), 7L};
+
+        assertMemeReponse(colonnes);
+    }
+
+    // ---------------------------------------------------------------- utilitaires
+
+    private void assertMemeReponse(Object[] colonnes) {
+        // Given : les mêmes colonnes lues par les deux chemins
+        UUID crId = (UUID) colonnes[0];
+        when(compteRenduRepository.findById(crId)).thenReturn(Optional.of(mapper.toDomain(entite(colonnes))));
+        when(lectureRepository.findByUtilisateurId(UTILISATEUR_ID)).thenReturn(List.of(ligneCR(colonnes)));
+
+        // When
+        CRResponse parEntite = useCase.getById(crId);
+        List<CRResponse> parLecture = useCase.getByUtilisateurId(UTILISATEUR_ID);
+
+        // Then
+        assertThat(parLecture).hasSize(1);
+        assertThat(parLecture.get(0)).usingRecursiveComparison().isEqualTo(parEntite);
+    }
+
+    private static CompteRenduJpaEntity entite(Object[] c) {
+        return new CompteRenduJpaEntity((UUID) c[0], (UUID) c[1], (LocalDate) c[2],
+                (String) c[3], (String) c[4], (Integer) c[5], (String) c[6], (Integer) c[7], (Integer) c[8],
+                (String) c[9], (Integer) c[10], (Boolean) c[11], (Boolean) c[12], (String) c[13], (Integer) c[14],
+                (Boolean) c[15], (String) c[16], CompteRenduJpaEntity.StatutCREnum.valueOf((String) c[17]),
+                (Boolean) c[18], (LocalDateTime) c[19], (LocalDateTime) c[20], (Long) c[21]);
+    }
+
+    private static LigneCR ligneCR(Object[] c) {
+        return new LigneCR((UUID) c[0], (UUID) c[1], (LocalDate) c[2], (String) c[3], (String) c[4],
+                (Integer) c[5], (String) c[6], (Integer) c[7], (Integer) c[8], (String) c[9], (Integer) c[10],
+                (Boolean) c[11], (Boolean) c[12], (String) c[13], (Integer) c[14], (Boolean) c[15],
+                (String) c[16], (String) c[17], (Boolean) c[18], (LocalDateTime) c[19], (LocalDateTime) c[20],
+                (Long) c[21]);
+    }
+}
@@ -0,0 +1,91 @@
+package com.cmci.cr.persistence;
+
+import com.cmci.cr.infrastructure.persistence.monitoring.QueryBudgetExceededException;
+import com.cmci.cr.infrastructure.persistence.monitoring.QueryCounter;
+import com.cmci.cr.infrastructure.persistence.monitoring.QueryCountingDataSource;
+import com.cmci.cr.infrastructure.persistence.monitoring.RequestQueryStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Comptage des requêtes SQL au niveau JDBC : requêtes préparées (Hibernate, JdbcTemplate
+ * avec paramètres) et statements simples (JdbcTemplate sans paramètre)
+ */
+class QueryCountingDataSourceTest {
+
+    private DataSource cible;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Connection connexion = mock(Connection.class);
+        when(connexion.createStatement()).thenReturn(mock(Statement.class));
+        cible = mock(DataSource.class);
+        when(cible.getConnection()).thenReturn(connexion);
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    @DisplayName("Compte les requêtes préparées et les statements simples de la requête HTTP en cours")
+    void shouldCountPreparedAndPlainStatements() throws Exception {
+        // Given
+        RequestQueryStats stats = QueryCounter.start();
+        QueryCountingDataSource dataSource = new QueryCountingDataSource(cible, 30, false);
+
+        // When
+        try (Connection connexion = dataSource.getConnection()) {
+            connexion.prepareStatement("SELECT * FROM compte_rendu WHERE id = ?");
+            connexion.prepareStatement("SELECT * FROM compte_rendu WHERE id = ?");
+            connexion.createStatement().executeQuery("SELECT count(*) FROM utilisateur");
+        }
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getRepeatedStatements(2)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Ne compte rien hors requête HTTP")
+    void shouldIgnoreQueriesOutsideRequest() throws Exception {
+        // Given
+        QueryCountingDataSource dataSource = new QueryCountingDataSource(cible, 1, true);
+
+        // When / Then : pas de compteur ouvert, pas de rejet
+        try (Connection connexion = dataSource.getConnection()) {
+            connexion.prepareStatement("SELECT 1");
+            connexion.prepareStatement("SELECT 2");
+        }
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("En mode rejet, la requête qui dépasse le budget échoue")
+    void shouldRejectQueryOverBudget() throws Exception {
+        // Given
+        QueryCounter.start();
+        QueryCountingDataSource dataSource = new QueryCountingDataSource(cible, 1, true);
+
+        // When / Then
+        try (Connection connexion = dataSource.getConnection()) {
+            connexion.prepareStatement("SELECT 1");
+            assertThatThrownBy(() -> connexion.prepareStatement("SELECT 2"))
+                    .isInstanceOf(QueryBudgetExceededException.class)
+                    .isNotInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("budget 1");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.cmci.cr.persistence;
+
+import com.cmci.cr.domain.repository.SynchronisationRepository.CRModifie;
+import com.cmci.cr.infrastructure.persistence.adapter.SynchronisationRepositoryAdapter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requêtes du flux de synchronisation exécutées sur un vrai PostgreSQL (schéma Flyway) :
+ * la version de concurrence du CR et la version de synchronisation sont deux colonnes distinctes.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SynchronisationRepositoryAdapterTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("cmci_cr_test")
+            .withUsername("test_user")
+            .withPassword("test_pass");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static SynchronisationRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl() + "?stringtype=unspecified", POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        adapter = new SynchronisationRepositoryAdapter(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("Devrait rendre la version du CR et sa version de synchronisation sans les confondre")
+    void shouldReturnCRVersionAndSyncVersionSeparately() {
+        // Given : un disciple et son CR modifié deux fois (version 2)
+        UUID fdId = UUID.randomUUID();
+        UUID discipleId = UUID.randomUUID();
+        UUID crId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO utilisateur (id, email, nom, prenom, role) VALUES (?, ?, 'Essomba', 'Luc', 'FD')",
+                fdId, "fd-" + fdId + "@cmci.org");
+        jdbcTemplate.update("INSERT INTO utilisateur (id, email, nom, prenom, role, fd_id) "
+                        + "VALUES (?, ?, 'Bella', 'Marie', 'FIDELE', ?)",
+                discipleId, "disciple-" + discipleId + "@cmci.org", fdId);
+        jdbcTemplate.update("INSERT INTO compte_rendu (id, utilisateur_id, date, rdqd, priere_seule, lecture_biblique) "
+                + "VALUES (?, ?, ?, '1/1', '00:30:00', 2)", crId, discipleId, LocalDate.of(2026, 3, 2));
+        jdbcTemplate.update("UPDATE compte_rendu SET lecture_biblique = 3 WHERE id = ?", crId);
+        jdbcTemplate.update("UPDATE compte_rendu SET notes = 'relu' WHERE id = ?", crId);
+        Long versionSync = jdbcTemplate.queryForObject(
+                "SELECT version_sync FROM compte_rendu WHERE id = ?", Long.class, crId);
+
+        // When
+        List<CRModifie> modifies = adapter.findCompteRendus(fdId, 0, adapter.horizon(), 10);
+
+        // Then
+        assertThat(modifies).hasSize(1);
+        assertThat(modifies.get(0).compteRendu().id()).isEqualTo(crId);
+        assertThat(modifies.get(0).compteRendu().version()).isEqualTo(2L);
+        assertThat(modifies.get(0).version()).isEqualTo(versionSync);
+    }
+
+    @Test
+    @DisplayName("Devrait purger les suppressions anciennes et relever le plancher au-delà de la dernière purgée")
+    void shouldPurgeOldTombstonesAndRaiseFloor() {
+        // Given : une suppression ancienne et une récente
+        UUID perimetreId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO suppression_sync (type_entite, entite_id, perimetre_utilisateur_id, supprime_le) "
+                + "VALUES ('COMPTE_RENDU', ?, ?, ?)", UUID.randomUUID(), perimetreId, LocalDateTime.of(2025, 1, 1, 0, 0));
+        Long versionAncienne = jdbcTemplate.queryForObject(
+                "SELECT MAX(version_sync) FROM suppression_sync WHERE supprime_le < ?", Long.class,
+                LocalDateTime.of(2025, 6, 1, 0, 0));
+        UUID recenteId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO suppression_sync (type_entite, entite_id, perimetre_utilisateur_id) "
+                + "VALUES ('COMPTE_RENDU', ?, ?)", recenteId, perimetreId);
+
+        // When
+        int purgees = adapter.purgerSuppressions(LocalDateTime.of(2025, 6, 1, 0, 0));
+
+        // Then
+        assertThat(purgees).isEqualTo(1);
+        assertThat(adapter.plancher()).isEqualTo(versionAncienne + 1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT entite_id FROM suppression_sync WHERE perimetre_utilisateur_id = ?", UUID.class, perimetreId))
+                .containsExactly(recenteId);
+    }
+}
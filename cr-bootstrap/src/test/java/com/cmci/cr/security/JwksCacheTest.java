@@ -0,0 +1,271 @@
+package com.cmci.cr.security;
+
+import com.cmci.cr.infrastructure.security.CachedJwkSetSource;
+import com.cmci.cr.infrastructure.security.CachingJwtDecoder;
+import com.cmci.cr.infrastructure.security.SecurityConfig;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Vérification locale des jetons contre un serveur JWKS de test : clés en cache,
+ * service des anciennes clés quand Keycloak ne répond plus, rotation et cache des jetons vérifiés.
+ */
+class JwksCacheTest {
+
+    private static final String ISSUER = "http://localhost/realms/test";
+
+    private HttpServer serveur;
+    private final AtomicInteger appels = new AtomicInteger();
+    private volatile int statut = 200;
+    private volatile JWKSet publie;
+    private RSAKey cle;
+    private CachedJwkSetSource source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cle = new RSAKeyGenerator(2048).keyID("cle-1").generate();
+        publie = new JWKSet(cle.toPublicJWK());
+
+        serveur = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serveur.createContext("/certs", echange -> {
+            appels.incrementAndGet();
+            byte[] corps = publie.toString().getBytes(StandardCharsets.UTF_8);
+            echange.getResponseHeaders().add("Content-Type", "application/json");
+            echange.sendResponseHeaders(statut, statut == 200 ? corps.length : -1);
+            if (statut == 200) {
+                try (OutputStream sortie = echange.getResponseBody()) {
+                    sortie.write(corps);
+                }
+            }
+            echange.close();
+        });
+        serveur.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (source != null) {
+            source.close();
+        }
+        serveur.stop(0);
+    }
+
+    @Test
+    @DisplayName("Les jetons sont vérifiés localement : le JWKS n'est téléchargé qu'une fois")
+    void shouldVerifyLocallyWithCachedKeys() throws Exception {
+        // Given
+        JwtDecoder decoder = decoder(Duration.ofSeconds(30));
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            Jwt jwt = decoder.decode(jeton(cle, "utilisateur-" + i));
+            assertThat(jwt.getSubject()).isEqualTo("utilisateur-" + i);
+        }
+
+        // Then
+        assertThat(appels.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Keycloak indisponible : les clés déjà chargées continuent de valider les jetons")
+    void shouldServeStaleKeysWhenRefreshFails() throws Exception {
+        // Given
+        JwtDecoder decoder = decoder(Duration.ofMillis(50));
+        decoder.decode(jeton(cle, "avant-panne"));
+
+        // When : les rechargements périodiques échouent
+        statut = 503;
+        int appelsAvantPanne = appels.get();
+        attendre(() -> appels.get() > appelsAvantPanne + 2);
+
+        // Then
+        assertThat(decoder.decode(jeton(cle, "pendant-panne")).getSubject()).isEqualTo("pendant-panne");
+        assertThat(source.getJeu().getKeyByKeyId("cle-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Une clé inconnue déclenche un rechargement (rotation), une clé étrangère reste refusée")
+    void shouldReloadOnUnknownKeyId() throws Exception {
+        // Given
+        JwtDecoder decoder = decoder(Duration.ofHours(1));
+        decoder.decode(jeton(cle, "ancienne-cle"));
+        RSAKey nouvelle = new RSAKeyGenerator(2048).keyID("cle-2").generate();
+        publie = new JWKSet(List.of(cle.toPublicJWK(), nouvelle.toPublicJWK()));
+
+        // When
+        Jwt jwt = decoder.decode(jeton(nouvelle, "nouvelle-cle"));
+
+        // Then
+        assertThat(jwt.getSubject()).isEqualTo("nouvelle-cle");
+        assertThat(appels.get()).isEqualTo(2);
+        RSAKey etrangere = new RSAKeyGenerator(2048).keyID("cle-1").generate();
+        assertThatThrownBy(() -> decoder.decode(jeton(etrangere, "faussaire"))).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Keycloak indisponible au démarrage : un afflux de requêtes ne déclenche qu'un seul chargement")
+    void shouldRateLimitColdFetchUnderConcurrency() throws Exception {
+        // Given
+        statut = 503;
+        JwtDecoder decoder = decoder(Duration.ofHours(1), Duration.ofMinutes(1));
+        String jwt = jeton(cle, "demarrage");
+        int requetes = 32;
+        ExecutorService executeur = Executors.newFixedThreadPool(requetes);
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger refusees = new AtomicInteger();
+
+        // When
+        List<Future<?>> resultats = new ArrayList<>();
+        for (int i = 0; i < requetes; i++) {
+            resultats.add(executeur.submit(() -> {
+                depart.await();
+                try {
+                    decoder.decode(jwt);
+                } catch (JwtException e) {
+                    refusees.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> resultat : resultats) {
+            resultat.get(5, TimeUnit.SECONDS);
+        }
+        executeur.shutdown();
+
+        // Then : toutes refusées, Keycloak appelé une fois au plus (chargement de fond ou requête)
+        assertThat(refusees.get()).isEqualTo(requetes);
+        assertThat(appels.get()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Un jeton déjà vérifié est servi depuis le cache jusqu'à son expiration")
+    void shouldCacheDecodedTokensUntilExpiry() {
+        // Given
+        JwtDecoder delegate = mock(JwtDecoder.class);
+        Instant maintenant = Instant.parse("2026-03-01T10:00:00Z");
+        Jwt jwt = Jwt.withTokenValue("jeton")
+                .header("alg", "RS256")
+                .subject("fidele")
+                .issuedAt(maintenant)
+                .expiresAt(maintenant.plusSeconds(60))
+                .build();
+        when(delegate.decode("jeton")).thenReturn(jwt);
+        MutableClock horloge = new MutableClock(maintenant);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, Duration.ofMinutes(5), 100, horloge);
+
+        // When
+        decoder.decode("jeton");
+        decoder.decode("jeton");
+        horloge.instant = maintenant.plusSeconds(61);
+        decoder.decode("jeton");
+
+        // Then : une vérification, un succès de cache, puis une nouvelle vérification après expiration
+        verify(delegate, times(2)).decode("jeton");
+    }
+
+    /**
+     * Décodeur dont le chargement initial a abouti : une requête arrivée pendant ce chargement est refusée
+     */
+    private JwtDecoder decoder(Duration intervalle) throws InterruptedException {
+        JwtDecoder decoder = decoder(intervalle, Duration.ZERO);
+        attendre(() -> source.getJeu() != null);
+        return decoder;
+    }
+
+    private JwtDecoder decoder(Duration intervalle, Duration intervalleMin) {
+        source = new CachedJwkSetSource(URI.create("http://127.0.0.1:" + serveur.getAddress().getPort() + "/certs"),
+                intervalle, intervalleMin, Duration.ofSeconds(2));
+        SecurityConfig config = new SecurityConfig();
+        ReflectionTestUtils.setField(config, "issuerUri", ISSUER);
+        return config.jwtDecoder(source, Duration.ofMinutes(5), 1000);
+    }
+
+    private static String jeton(RSAKey cleSignature, String sujet) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(cleSignature.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .issuer(ISSUER)
+                        .subject(sujet)
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                        .build());
+        jwt.sign(new RSASSASigner(cleSignature));
+        return jwt.serialize();
+    }
+
+    private static void attendre(BooleanSupplier condition) throws InterruptedException {
+        long echeance = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < echeance) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
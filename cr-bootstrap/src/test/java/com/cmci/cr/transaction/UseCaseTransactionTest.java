@@ -0,0 +1,167 @@
+package com.cmci.cr.transaction;
+
+import com.cmci.cr.application.dto.command.CreateCRCommand;
+import com.cmci.cr.application.dto.command.UpdateZoneCommand;
+import com.cmci.cr.application.usecase.BulkCRReviewUseCase;
+import com.cmci.cr.application.usecase.CreateCRUseCase;
+import com.cmci.cr.application.usecase.GetSubordinatesCRUseCase;
+import com.cmci.cr.application.usecase.MarkCRAsViewedUseCase;
+import com.cmci.cr.application.usecase.UpdateZoneUseCase;
+import com.cmci.cr.application.usecase.ValidateCRUseCase;
+import com.cmci.cr.config.UseCaseTransactionConfiguration;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Region;
+import com.cmci.cr.domain.model.Zone;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
+import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.repository.EgliseLocaleRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.RegionRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.domain.repository.UtilisateurRepository;
+import com.cmci.cr.domain.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Frontière transactionnelle des use cases d'écriture : l'écriture et ses index dérivés
+ * sont validés ou annulés ensemble
+ */
+class UseCaseTransactionTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CompteRenduRepository compteRenduRepository = mock(CompteRenduRepository.class);
+    private final CalendrierSoumissionRepository calendrierRepository = mock(CalendrierSoumissionRepository.class);
+
+    private CreateCRUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+        when(compteRenduRepository.save(any(CompteRendu.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        UseCaseTransactionConfiguration configuration = new UseCaseTransactionConfiguration();
+        TransactionInterceptor interceptor = configuration.useCaseTransactionInterceptor();
+        interceptor.setTransactionManager(transactionManager);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new CreateCRUseCase(compteRenduRepository, calendrierRepository,
+                mock(ParticipationRepository.class), mock(StatistiquesPerimetreRepository.class),
+                mock(DomainEventPublisher.class), mock(UtilisateurRepository.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(configuration.useCaseTransactionAdvisor(interceptor));
+        useCase = (CreateCRUseCase) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("La création du CR et le marquage du calendrier sont validés dans une seule transaction")
+    void shouldCommitWriteAndCalendarTogether() {
+        // When
+        useCase.execute(commande());
+
+        // Then
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager).commit(any());
+        verify(calendrierRepository).marquer(any(), eq(LocalDate.of(2026, 3, 14)), eq(true));
+    }
+
+    @Test
+    @DisplayName("Un échec du calendrier annule aussi la création du CR")
+    void shouldRollbackWriteWhenCalendarFails() {
+        // Given
+        doThrow(new IllegalStateException("calendrier")).when(calendrierRepository)
+                .marquer(any(), any(), anyBoolean());
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(commande())).isInstanceOf(IllegalStateException.class);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Un échec du déplacement des agrégats annule aussi le rattachement de la zone")
+    void shouldRollbackZoneReparentingWhenRollupMoveFails() {
+        // Given : la zone passe d'une région à l'autre, le déplacement des agrégats échoue
+        ZoneRepository zoneRepository = mock(ZoneRepository.class);
+        RegionRepository regionRepository = mock(RegionRepository.class);
+        StatistiquesPerimetreRepository statistiquesRepository = mock(StatistiquesPerimetreRepository.class);
+        UUID zoneId = UUID.randomUUID();
+        UUID ancienneRegion = UUID.randomUUID();
+        UUID nouvelleRegion = UUID.randomUUID();
+        when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(Zone.builder()
+                .id(zoneId).nom("Afrique centrale").regionId(ancienneRegion).build()));
+        when(zoneRepository.save(any(Zone.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(regionRepository.findById(nouvelleRegion)).thenReturn(Optional.of(Region.builder()
+                .id(nouvelleRegion).nom("Afrique").build()));
+        doThrow(new IllegalStateException("agrégats")).when(statistiquesRepository)
+                .deplacerPerimetre(Perimetre.ZONE, zoneId, ancienneRegion, nouvelleRegion);
+
+        UseCaseTransactionConfiguration configuration = new UseCaseTransactionConfiguration();
+        TransactionInterceptor interceptor = configuration.useCaseTransactionInterceptor();
+        interceptor.setTransactionManager(transactionManager);
+        ProxyFactory proxyFactory = new ProxyFactory(new UpdateZoneUseCase(zoneRepository, regionRepository,
+                mock(EgliseLocaleRepository.class), statistiquesRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(configuration.useCaseTransactionAdvisor(interceptor));
+        UpdateZoneUseCase updateZone = (UpdateZoneUseCase) proxyFactory.getProxy();
+
+        // When / Then : l'enregistrement de la zone et le déplacement forment une seule transaction
+        assertThatThrownBy(() -> updateZone.execute(UpdateZoneCommand.builder()
+                .id(zoneId).regionId(nouvelleRegion).build())).isInstanceOf(IllegalStateException.class);
+        verify(zoneRepository).save(any(Zone.class));
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Les use cases qui publient des événements écrivent et publient dans une transaction")
+    void shouldWrapEventPublishingUseCases() throws Exception {
+        // Given
+        UseCaseTransactionConfiguration configuration = new UseCaseTransactionConfiguration();
+        MethodMatcher matcher = ((PointcutAdvisor) configuration.useCaseTransactionAdvisor(
+                configuration.useCaseTransactionInterceptor())).getPointcut().getMethodMatcher();
+
+        // When / Then
+        assertThat(matcher.matches(ValidateCRUseCase.class.getMethod("execute", UUID.class, UUID.class),
+                ValidateCRUseCase.class)).isTrue();
+        assertThat(matcher.matches(MarkCRAsViewedUseCase.class.getMethod("execute", UUID.class, UUID.class),
+                MarkCRAsViewedUseCase.class)).isTrue();
+        assertThat(matcher.matches(BulkCRReviewUseCase.class.getMethod("validate", UUID.class, Collection.class),
+                BulkCRReviewUseCase.class)).isTrue();
+        assertThat(matcher.matches(BulkCRReviewUseCase.class.getMethod("markAsViewed", UUID.class, UUID.class,
+                LocalDate.class), BulkCRReviewUseCase.class)).isTrue();
+        assertThat(matcher.matches(GetSubordinatesCRUseCase.class.getMethod("execute", UUID.class, LocalDate.class,
+                LocalDate.class), GetSubordinatesCRUseCase.class)).isFalse();
+    }
+
+    private static CreateCRCommand commande() {
+        return CreateCRCommand.builder()
+                .utilisateurId(UUID.randomUUID())
+                .date(LocalDate.of(2026, 3, 14))
+                .rdqd("1/1")
+                .priereSeule("00:30")
+                .lectureBiblique(2)
+                .build();
+    }
+}
@@ -0,0 +1,262 @@
+package com.cmci.cr.web;
+
+import com.cmci.cr.api.config.WebConfig;
+import com.cmci.cr.api.dto.response.CompteRenduResponse;
+import com.cmci.cr.api.dto.response.StatisticsResponse;
+import com.cmci.cr.api.dto.response.SubordinateCRApiResponse;
+import com.cmci.cr.api.dto.response.SubordinateWithCRsApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Négociation des encodages binaires (CBOR, Smile) configurés dans WebConfig
+ * et comparaison (taille, temps de sérialisation) avec le JSON par type de réponse.
+ */
+class BinaryContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Test
+    @DisplayName("Le JSON reste servi par défaut, CBOR et Smile uniquement sur demande explicite")
+    void shouldServeBinaryOnlyWhenExplicitlyAccepted() throws Exception {
+        // Given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CompteRendusTestController())
+                .setMessageConverters(converters().toArray(HttpMessageConverter[]::new))
+                .build();
+
+        // When / Then
+        mockMvc.perform(get("/crs").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/crs").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/crs").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE));
+    }
+
+    @Test
+    @DisplayName("Les encodages binaires relisent les mêmes DTO que le JSON")
+    void shouldRoundTripSameDtos() throws Exception {
+        // Given
+        List<CompteRenduResponse> crs = compteRendus(UUID.randomUUID(), 3);
+        ObjectMapper json = builder().build();
+
+        // When / Then
+        for (ObjectMapper binaire : binaires()) {
+            byte[] octets = binaire.writeValueAsBytes(crs);
+            CompteRenduResponse[] relus = binaire.readValue(octets, CompteRenduResponse[].class);
+            assertThat(json.writeValueAsString(relus)).isEqualTo(json.writeValueAsString(crs));
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark : taille et temps de sérialisation JSON / CBOR / Smile par réponse")
+    void benchmarkPayloads() throws Exception {
+        // Given : historique de 30 CR, CR de 25 subordonnés sur 30 jours, statistiques personnelles
+        List<CompteRenduResponse> historique = compteRendus(UUID.randomUUID(), 30);
+        List<SubordinateWithCRsApiResponse> subordonnes = subordonnes(25, 30);
+        StatisticsResponse statistiques = statistiques();
+
+        ObjectMapper json = builder().build();
+        List<ObjectMapper> binaires = binaires();
+
+        // When / Then
+        for (Object[] reponse : new Object[][]{
+                {"GET /v1/cr/user/{id}", historique},
+                {"GET /v1/subordinates/cr", subordonnes},
+                {"GET /v1/statistics/personal", statistiques}}) {
+            int tailleJson = mesurer(reponse[0] + " json", json, reponse[1]);
+            int tailleCbor = mesurer(reponse[0] + " cbor", binaires.get(0), reponse[1]);
+            int tailleSmile = mesurer(reponse[0] + " smile", binaires.get(1), reponse[1]);
+            assertThat(tailleCbor).isLessThan(tailleJson);
+            assertThat(tailleSmile).isLessThan(tailleJson);
+        }
+        // Smile référence les noms de champs déjà vus : le gain est le plus fort sur les listes
+        assertThat(binaires.get(1).writeValueAsBytes(subordonnes).length)
+                .isLessThan(json.writeValueAsBytes(subordonnes).length / 2);
+    }
+
+    // ---------------------------------------------------------------- utilitaires
+
+    /**
+     * Convertisseurs tels que WebConfig les laisse : JSON en premier, binaires à la suite
+     */
+    private static List<HttpMessageConverter<?>> converters() {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(builder().build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter());
+        new WebConfig(builder()).extendMessageConverters(converters);
+
+        assertThat(converters).hasSize(3);
+        assertThat(converters.get(0)).isInstanceOf(MappingJackson2HttpMessageConverter.class);
+        assertThat(converters.get(1)).isInstanceOf(MappingJackson2CborHttpMessageConverter.class);
+        assertThat(converters.get(2)).isInstanceOf(MappingJackson2SmileHttpMessageConverter.class);
+        return converters;
+    }
+
+    private static List<ObjectMapper> binaires() {
+        return converters().stream()
+                .skip(1)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter)
+                        .getObjectMapper())
+                .toList();
+    }
+
+    // Mêmes réglages que le Jackson2ObjectMapperBuilder de Spring Boot
+    private static Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    }
+
+    private static int mesurer(String libelle, ObjectMapper mapper, Object valeur) throws Exception {
+        int iterations = 2_000;
+        byte[] octets = mapper.writeValueAsBytes(valeur);
+
+        // Préchauffage JIT
+        for (int i = 0; i < iterations; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(valeur));
+        }
+
+        long debut = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            octets = mapper.writeValueAsBytes(valeur);
+        }
+        double microsSerialisation = (System.nanoTime() - debut) / 1_000.0 / iterations;
+
+        debut = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.readTree(octets);
+        }
+        double microsLecture = (System.nanoTime() - debut) / 1_000.0 / iterations;
+
+        System.out.printf("%-38s %8d octets %9.1f µs écriture %9.1f µs lecture%n",
+                libelle, octets.length, microsSerialisation, microsLecture);
+        return octets.length;
+    }
+
+    private static List<CompteRenduResponse> compteRendus(UUID utilisateurId, int jours) {
+        List<CompteRenduResponse> crs = new ArrayList<>();
+        LocalDate debut = LocalDate.of(2026, 2, 1);
+        for (int i = 0; i < jours; i++) {
+            LocalDateTime createdAt = debut.plusDays(i).atTime(21, 4, 12);
+            crs.add(CompteRenduResponse.builder()
+                    .id(UUID.randomUUID())
+                    .utilisateurId(utilisateurId)
+                    .date(debut.plusDays(i))
+                    .rdqd("1/1")
+                    .priereSeule("00:45")
+                    .lectureBiblique(3)
+                    .livreBiblique("Jean")
+                    .litteraturePages(12)
+                    .litteratureTotal(250)
+                    .litteratureTitre("La prière")
+                    .priereAutres(2)
+                    .confession(true)
+                    .jeune(false)
+                    .evangelisation(1)
+                    .offrande(true)
+                    .notes("Temps de prière béni ce soir")
+                    .statut("SOUMIS")
+                    .vuParFd(false)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return crs;
+    }
+
+    private static List<SubordinateWithCRsApiResponse> subordonnes(int membres, int jours) {
+        List<SubordinateWithCRsApiResponse> subordonnes = new ArrayList<>();
+        LocalDate debut = LocalDate.of(2026, 2, 1);
+        for (int m = 0; m < membres; m++) {
+            List<SubordinateCRApiResponse> crs = new ArrayList<>();
+            for (int i = 0; i < jours; i++) {
+                crs.add(SubordinateCRApiResponse.builder()
+                        .id(UUID.randomUUID())
+                        .date(debut.plusDays(i))
+                        .rdqd("1/1")
+                        .priereSeule("00:30")
+                        .lectureBiblique(2)
+                        .statut("SOUMIS")
+                        .vuParFd(true)
+                        .createdAt(debut.plusDays(i).atTime(22, 15))
+                        .build());
+            }
+            subordonnes.add(SubordinateWithCRsApiResponse.builder()
+                    .utilisateurId(UUID.randomUUID())
+                    .nom("Nom" + m)
+                    .prenom("Prénom" + m)
+                    .nomComplet("Prénom" + m + " Nom" + m)
+                    .email("membre" + m + "@cmci.org")
+                    .role("FIDELE")
+                    .roleDisplayName("Fidèle")
+                    .lastCRDate(debut.plusDays(jours - 1))
+                    .daysSinceLastCR(1)
+                    .regularityRate(100.0)
+                    .totalCRs(jours)
+                    .alertLevel("NONE")
+                    .hasAlert(false)
+                    .compteRendus(crs)
+                    .build());
+        }
+        return subordonnes;
+    }
+
+    private static StatisticsResponse statistiques() {
+        return StatisticsResponse.builder()
+                .startDate(LocalDate.of(2026, 2, 1))
+                .endDate(LocalDate.of(2026, 2, 28))
+                .totalCRSoumis(26)
+                .totalCRValides(20)
+                .tauxCompletion(92.86)
+                .totalRDQDAccomplis(25)
+                .totalRDQDAttendus(28)
+                .moyenneRDQD(0.89)
+                .totalPriereSeuleMinutes(1260)
+                .totalPriereCoupleMinutes(0)
+                .totalPriereAvecEnfantsMinutes(0)
+                .totalTempsEtudeParoleMinutes(840)
+                .totalContactsUtiles(4)
+                .totalInvitationsCulte(2)
+                .totalOffrandes(new BigDecimal("15000"))
+                .totalEvangelisations(6)
+                .build();
+    }
+
+    @RestController
+    static class CompteRendusTestController {
+
+        @GetMapping("/crs")
+        List<CompteRenduResponse> compteRendus() {
+            return BinaryContentNegotiationTest.compteRendus(UUID.randomUUID(), 2);
+        }
+    }
+}
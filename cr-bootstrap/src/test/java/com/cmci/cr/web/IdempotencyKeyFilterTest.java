@@ -0,0 +1,185 @@
+package com.cmci.cr.web;
+
+import com.cmci.cr.api.filter.IdempotencyKeyFilter;
+import com.cmci.cr.infrastructure.idempotence.InMemoryIdempotenceStore;
+import com.cmci.cr.infrastructure.security.SecurityContextService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Idempotency-Key sur les créations : rejeu des réponses, refus d'une clé réutilisée
+ * pour une autre requête et sérialisation des doublons concurrents.
+ */
+class IdempotencyKeyFilterTest {
+
+    private static final String CORPS = "{\"date\":\"2026-02-17\",\"rdqd\":\"1/1\"}";
+
+    private CreationTestController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextService securityContextService = mock(SecurityContextService.class);
+        when(securityContextService.getCurrentUserSubject()).thenReturn(Optional.of("sujet-fidele"));
+
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(
+                new InMemoryIdempotenceStore(),
+                securityContextService,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5));
+
+        controller = new CreationTestController();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(filter)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Une requête rejouée avec la même clé reçoit la réponse d'origine sans nouvelle création")
+    void shouldReplayOriginalResponse() throws Exception {
+        // Given
+        String cle = UUID.randomUUID().toString();
+
+        // When
+        MvcResult premiere = creer("/crs", cle, CORPS);
+        MvcResult rejouee = creer("/crs", cle, CORPS);
+
+        // Then
+        assertThat(controller.creations.get()).isEqualTo(1);
+        assertThat(premiere.getResponse().getStatus()).isEqualTo(201);
+        assertThat(rejouee.getResponse().getStatus()).isEqualTo(201);
+        assertThat(rejouee.getResponse().getContentAsString())
+                .isEqualTo(premiere.getResponse().getContentAsString());
+        assertThat(rejouee.getResponse().getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(premiere.getResponse().getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Une clé réutilisée pour un autre corps est refusée")
+    void shouldRejectKeyReusedForAnotherRequest() throws Exception {
+        // Given
+        String cle = UUID.randomUUID().toString();
+        creer("/crs", cle, CORPS);
+
+        // When
+        MvcResult autre = creer("/crs", cle, "{\"date\":\"2026-02-18\",\"rdqd\":\"1/1\"}");
+
+        // Then
+        assertThat(autre.getResponse().getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(controller.creations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Un échec n'est pas conservé : le nouvel essai avec la même clé est réexécuté")
+    void shouldNotReplayFailures() throws Exception {
+        // Given
+        String cle = UUID.randomUUID().toString();
+
+        // When
+        creer("/echecs", cle, CORPS);
+        creer("/echecs", cle, CORPS);
+
+        // Then
+        assertThat(controller.echecs.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Les doublons concurrents attendent la requête d'origine : une seule création")
+    void shouldSerializeConcurrentDuplicates() throws Exception {
+        // Given
+        String cle = UUID.randomUUID().toString();
+        controller.delaiMs = 200;
+        int clients = 8;
+        CountDownLatch depart = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        try {
+            List<Future<MvcResult>> resultats = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                resultats.add(executor.submit((Callable<MvcResult>) () -> {
+                    depart.await();
+                    return creer("/crs", cle, CORPS);
+                }));
+            }
+
+            // When
+            depart.countDown();
+            List<String> corps = new ArrayList<>();
+            for (Future<MvcResult> resultat : resultats) {
+                MvcResult mvcResult = resultat.get();
+                assertThat(mvcResult.getResponse().getStatus()).isEqualTo(201);
+                corps.add(mvcResult.getResponse().getContentAsString());
+            }
+
+            // Then
+            assertThat(controller.creations.get()).isEqualTo(1);
+            assertThat(corps).allMatch(c -> c.equals(corps.get(0)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MvcResult creer(String chemin, String cle, String corps) throws Exception {
+        return mockMvc.perform(post(chemin)
+                        .header(IdempotencyKeyFilter.HEADER, cle)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corps))
+                .andReturn();
+    }
+
+    @RestController
+    static class CreationTestController {
+
+        final AtomicInteger creations = new AtomicInteger();
+        final AtomicInteger echecs = new AtomicInteger();
+        volatile long delaiMs;
+
+        @PostMapping("/crs")
+        ResponseEntity<Map<String, Object>> creer(@RequestBody Map<String, Object> requete) throws InterruptedException {
+            creations.incrementAndGet();
+            Thread.sleep(delaiMs);
+            Map<String, Object> cr = new LinkedHashMap<>(requete);
+            cr.put("id", UUID.randomUUID().toString());
+            return ResponseEntity.status(HttpStatus.CREATED).body(cr);
+        }
+
+        @PostMapping("/echecs")
+        ResponseEntity<Void> echouer(@RequestBody Map<String, Object> requete) {
+            echecs.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
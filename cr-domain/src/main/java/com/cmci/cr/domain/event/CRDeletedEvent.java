@@ -0,0 +1,48 @@
+package com.cmci.cr.domain.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Événement émis lors de la suppression d'un Compte Rendu
+ */
+@Value
+@Builder
+public class CRDeletedEvent implements DomainEvent {
+    UUID eventId;
+    LocalDateTime occurredOn;
+
+    // Données de l'événement
+    UUID compteRenduId;
+    UUID utilisateurId;
+    UUID fdId;
+    LocalDate dateCR;
+
+    @Override
+    public String getEventType() {
+        return "CR_DELETED";
+    }
+
+    /**
+     * Crée un nouvel événement de suppression de CR
+     */
+    public static CRDeletedEvent of(
+            UUID compteRenduId,
+            UUID utilisateurId,
+            UUID fdId,
+            LocalDate dateCR
+    ) {
+        return CRDeletedEvent.builder()
+                .eventId(UUID.randomUUID())
+                .occurredOn(LocalDateTime.now())
+                .compteRenduId(compteRenduId)
+                .utilisateurId(utilisateurId)
+                .fdId(fdId)
+                .dateCR(dateCR)
+                .build();
+    }
+}
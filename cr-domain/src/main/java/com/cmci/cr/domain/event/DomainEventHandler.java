@@ -0,0 +1,22 @@
+package com.cmci.cr.domain.event;
+
+/**
+ * Port pour les consommateurs d'événements du domaine (projections, notifications...)
+ * Les implémentations sont appelées par l'infrastructure de messagerie
+ * (consumer Kafka ou broker en mémoire) pour chaque événement reçu.
+ *
+ * Un handler doit être idempotent : un même événement peut être livré
+ * plusieurs fois (relance, rejeu depuis un offset).
+ */
+public interface DomainEventHandler {
+
+    /**
+     * Indique si ce handler traite l'événement
+     */
+    boolean supports(DomainEvent event);
+
+    /**
+     * Traite l'événement
+     */
+    void handle(DomainEvent event);
+}
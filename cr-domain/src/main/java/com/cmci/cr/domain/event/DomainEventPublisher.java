@@ -1,5 +1,7 @@
 package com.cmci.cr.domain.event;
 
+import java.util.Collection;
+
 /**
  * Port pour publier des événements de domaine
  * Implémenté par l'infrastructure (Kafka, etc.)
@@ -12,4 +14,13 @@ public interface DomainEventPublisher {
      * @param event l'événement à publier
      */
     void publish(DomainEvent event);
+
+    /**
+     * Publie un lot d'événements, dans l'ordre, en un seul envoi quand le support le permet
+     *
+     * @param events les événements à publier
+     */
+    default void publishAll(Collection<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
 }
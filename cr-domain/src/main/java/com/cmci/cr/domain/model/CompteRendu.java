@@ -19,6 +19,12 @@ import java.util.UUID;
 @Builder
 @With
 public class CompteRendu {
+
+    /**
+     * Délai pendant lequel un CR soumis reste modifiable après sa création
+     */
+    public static final int JOURS_MODIFICATION_SOUMIS = 7;
+
     UUID id;
     UUID utilisateurId;
     LocalDate date;
@@ -46,6 +52,7 @@ public class CompteRendu {
     Boolean vuParFd;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
+    Long version; // Incrémentée à chaque écriture (concurrence optimiste)
 
     /**
      * Validation métier: un CR doit avoir les champs obligatoires
@@ -76,7 +83,7 @@ public class CompteRendu {
      */
     public boolean isModifiable() {
         return statut == StatutCR.BROUILLON ||
-                (statut == StatutCR.SOUMIS && createdAt.isAfter(LocalDateTime.now().minusDays(7)));
+                (statut == StatutCR.SOUMIS && createdAt.isAfter(LocalDateTime.now().minusDays(JOURS_MODIFICATION_SOUMIS)));
     }
 
     /**
@@ -2,12 +2,17 @@ package com.cmci.cr.domain.port;
 
 import com.cmci.cr.domain.valueobject.Role;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Port pour l'interaction avec le fournisseur d'identité (Keycloak)
  * Permet de gérer les utilisateurs et leurs rôles
+ *
+ * Un fournisseur injoignable lève {@link FournisseurIndisponibleException} : une panne
+ * n'est jamais rendue comme une liste vide ou un compteur à zéro.
  */
 public interface IdentityProviderPort {
 
@@ -26,6 +31,27 @@ public interface IdentityProviderPort {
             Long createdTimestamp
     ) {}
 
+    /**
+     * Le fournisseur d'identité ne répond pas (panne, délai dépassé, circuit ouvert, saturation)
+     */
+    class FournisseurIndisponibleException extends RuntimeException {
+
+        private final Duration reessaiApres; // null si inconnu
+
+        public FournisseurIndisponibleException(String message, Throwable cause) {
+            this(message, null, cause);
+        }
+
+        public FournisseurIndisponibleException(String message, Duration reessaiApres, Throwable cause) {
+            super(message, cause);
+            this.reessaiApres = reessaiApres;
+        }
+
+        public Optional<Duration> getReessaiApres() {
+            return Optional.ofNullable(reessaiApres);
+        }
+    }
+
     /**
      * Récupère tous les utilisateurs avec un rôle spécifique
      */
@@ -75,4 +101,32 @@ public interface IdentityProviderPort {
      * Compte le nombre d'utilisateurs avec un rôle spécifique
      */
     int countUsersByRole(Role role);
+
+    /**
+     * Variantes asynchrones : l'appelant peut lancer plusieurs appels en parallèle et ne bloque
+     * pas un thread de requête pendant l'attente. Par défaut, exécution sur le thread appelant.
+     */
+    default CompletableFuture<List<IdentityUser>> getUsersByRoleAsync(Role role) {
+        return CompletableFuture.supplyAsync(() -> getUsersByRole(role), Runnable::run);
+    }
+
+    default CompletableFuture<List<IdentityUser>> getAllUsersAsync(int first, int max) {
+        return CompletableFuture.supplyAsync(() -> getAllUsers(first, max), Runnable::run);
+    }
+
+    default CompletableFuture<Optional<IdentityUser>> getUserByIdAsync(String userId) {
+        return CompletableFuture.supplyAsync(() -> getUserById(userId), Runnable::run);
+    }
+
+    default CompletableFuture<List<IdentityUser>> searchUsersAsync(String search, int first, int max) {
+        return CompletableFuture.supplyAsync(() -> searchUsers(search, first, max), Runnable::run);
+    }
+
+    default CompletableFuture<Integer> countUsersAsync() {
+        return CompletableFuture.supplyAsync(this::countUsers, Runnable::run);
+    }
+
+    default CompletableFuture<Integer> countUsersByRoleAsync(Role role) {
+        return CompletableFuture.supplyAsync(() -> countUsersByRole(role), Runnable::run);
+    }
 }
@@ -0,0 +1,36 @@
+package com.cmci.cr.domain.port;
+
+import com.cmci.cr.domain.valueobject.TypeNotification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port pour l'envoi des notifications (rappels et escalades)
+ * Implémenté dans le module infrastructure (Kafka, ou sink en mémoire pour les tests)
+ */
+public interface NotificationPort {
+
+    /**
+     * Envoie un lot de notifications en un seul envoi groupé
+     * @throws IllegalStateException si le lot n'a pas pu être transmis
+     */
+    void envoyer(List<Notification> notifications);
+
+    /**
+     * Notification adressée à un destinataire à propos d'un membre
+     *
+     * @param destinataireId utilisateur qui reçoit la notification (le membre ou son FD)
+     * @param concerneId     membre concerné par la notification
+     * @param joursSansCR    nombre de jours depuis le dernier CR (null si aucun CR)
+     */
+    record Notification(
+            UUID id,
+            TypeNotification type,
+            UUID destinataireId,
+            UUID concerneId,
+            LocalDate date,
+            Integer joursSansCR,
+            String message) {}
+}
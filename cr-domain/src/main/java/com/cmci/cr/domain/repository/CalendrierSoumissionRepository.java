@@ -0,0 +1,30 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour l'index des jours soumis par utilisateur et par année
+ * Implémenté dans le module infrastructure
+ */
+public interface CalendrierSoumissionRepository {
+
+    /**
+     * Marque (ou démarque) atomiquement un jour dans le calendrier de l'utilisateur,
+     * en créant le calendrier de l'année s'il n'existe pas encore
+     */
+    void marquer(UUID utilisateurId, LocalDate date, boolean soumis);
+
+    Optional<CalendrierSoumissions> findByUtilisateurIdAndAnnee(UUID utilisateurId, int annee);
+
+    /**
+     * Charge en une requête les calendriers d'une année pour plusieurs utilisateurs.
+     * Les utilisateurs sans aucun CR dans l'année sont absents du résultat.
+     */
+    Map<UUID, CalendrierSoumissions> findByUtilisateurIdsAndAnnee(Collection<UUID> utilisateurIds, int annee);
+}
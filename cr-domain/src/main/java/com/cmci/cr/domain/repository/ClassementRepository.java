@@ -0,0 +1,21 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour les agrégats de CR par membre servant aux classements.
+ * Implémenté dans le module infrastructure
+ */
+public interface ClassementRepository {
+
+    /**
+     * Agrégats des CR de chaque membre entre deux dates incluses, en une seule requête.
+     * Les membres sans CR sur la période sont absents de la map.
+     */
+    Map<UUID, Agregat> sommerParMembre(Collection<UUID> utilisateurIds, LocalDate debut, LocalDate fin);
+}
@@ -2,7 +2,9 @@ package com.cmci.cr.domain.repository;
 
 import com.cmci.cr.domain.model.Commentaire;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,4 +43,50 @@ public interface CommentaireRepository {
      * Compte le nombre de commentaires d'un compte rendu
      */
     long countByCompteRenduId(UUID compteRenduId);
+
+    /**
+     * Trouve une page du fil de commentaires d'un compte rendu, avec les données
+     * d'affichage de l'auteur obtenues par jointure (tri par date croissante)
+     */
+    List<CommentaireAvecAuteur> findThreadByCompteRenduId(UUID compteRenduId, int page, int size);
+
+    /**
+     * Trouve le fil complet de commentaires d'un compte rendu, avec les données
+     * d'affichage de l'auteur obtenues par jointure (tri par date croissante)
+     */
+    List<CommentaireAvecAuteur> findThreadByCompteRenduId(UUID compteRenduId);
+
+    /**
+     * Calcule en une seule requête, pour chaque compte rendu donné, le nombre de
+     * commentaires et le dernier commentaire. Les CR sans commentaire sont absents de la map.
+     */
+    Map<UUID, ResumeCommentaires> findResumesByCompteRenduIds(List<UUID> compteRenduIds);
+
+    /**
+     * Commentaire enrichi des données d'affichage de son auteur
+     */
+    record CommentaireAvecAuteur(
+            UUID id,
+            UUID compteRenduId,
+            UUID auteurId,
+            String auteurPrenom,
+            String auteurNom,
+            String contenu,
+            LocalDateTime createdAt) {
+
+        public String getAuteurNomComplet() {
+            if (auteurPrenom == null && auteurNom == null) {
+                return null;
+            }
+            if (auteurPrenom == null) {
+                return auteurNom;
+            }
+            return auteurNom == null ? auteurPrenom : auteurPrenom + " " + auteurNom;
+        }
+    }
+
+    /**
+     * Résumé des commentaires d'un compte rendu (badge des listes de CR)
+     */
+    record ResumeCommentaires(UUID compteRenduId, long nombreCommentaires, CommentaireAvecAuteur dernierCommentaire) {}
 }
@@ -0,0 +1,70 @@
+package com.cmci.cr.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Port (interface) de lecture seule des Comptes Rendus pour les listes (historique, subordonnés).
+ * Les lignes sont lues telles que stockées, sans entité gérée ni passage par l'agrégat CompteRendu.
+ * Implémenté dans le module infrastructure
+ */
+public interface CompteRenduLectureRepository {
+
+    /**
+     * Trouve tous les CR d'un utilisateur, du plus récent au plus ancien
+     */
+    List<LigneCR> findByUtilisateurId(UUID utilisateurId);
+
+    /**
+     * Trouve les CR d'un utilisateur entre deux dates, du plus récent au plus ancien
+     */
+    List<LigneCR> findByUtilisateurIdAndDateBetween(UUID utilisateurId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Trouve les CR de plusieurs utilisateurs entre deux dates, du plus récent au plus ancien
+     */
+    List<LigneCR> findByUtilisateurIdInAndDateBetween(List<UUID> utilisateurIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Parcourt par tranches de membres les CR de plusieurs utilisateurs entre deux dates, sans les accumuler :
+     * groupés par utilisateur dans l'ordre de la liste fournie, puis du plus récent au plus ancien.
+     * Aucune transaction n'est tenue pendant l'appel du consommateur
+     */
+    void parcourirByUtilisateurIdsOrdonnes(
+            List<UUID> utilisateurIds, LocalDate startDate, LocalDate endDate, Consumer<LigneCR> consommateur);
+
+    /**
+     * Ligne de la table compte_rendu, valeurs au format de stockage
+     *
+     * @param rdqd        au format "accompli/attendu"
+     * @param priereSeule au format "HH:mm:ss"
+     * @param statut      BROUILLON, SOUMIS ou VALIDE
+     * @param version     version courante (concurrence optimiste)
+     */
+    record LigneCR(
+            UUID id,
+            UUID utilisateurId,
+            LocalDate date,
+            String rdqd,
+            String priereSeule,
+            Integer lectureBiblique,
+            String livreBiblique,
+            Integer litteraturePages,
+            Integer litteratureTotal,
+            String litteratureTitre,
+            Integer priereAutres,
+            Boolean confession,
+            Boolean jeune,
+            String typeJeune,
+            Integer evangelisation,
+            Boolean offrande,
+            String notes,
+            String statut,
+            Boolean vuParFd,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            Long version) {}
+}
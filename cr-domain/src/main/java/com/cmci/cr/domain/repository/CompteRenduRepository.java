@@ -2,8 +2,11 @@ package com.cmci.cr.domain.repository;
 
 import com.cmci.cr.domain.model.CompteRendu;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +26,12 @@ public interface CompteRenduRepository {
      */
     Optional<CompteRendu> findById(UUID id);
 
+    /**
+     * Trouve un CR pour le modifier : lu en base (jamais en cache) et verrouillé jusqu'à la fin
+     * de la transaction, pour que la différence reportée dans les agrégats parte de l'état réel
+     */
+    Optional<CompteRendu> findByIdPourModification(UUID id);
+
     /**
      * Trouve un CR par utilisateur et date
      */
@@ -74,4 +83,74 @@ public interface CompteRenduRepository {
             LocalDate startDate,
             LocalDate endDate
     );
+
+    /**
+     * Calcule, en une seule requête d'agrégation, le nombre de CR et la date du dernier CR
+     * de plusieurs utilisateurs sur une période, sans charger les CR.
+     * Les utilisateurs sans aucun CR sur la période sont absents de la map.
+     */
+    Map<UUID, ResumeCR> resumerByUtilisateurIdInAndDateBetween(
+            List<UUID> utilisateurIds,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    /**
+     * Modifie uniquement les champs fournis, en une seule requête et sans lecture préalable,
+     * si le CR appartient à l'utilisateur, est encore modifiable et est à la version attendue.
+     *
+     * @param champs                 nouvelles valeurs par champ (null efface un champ facultatif)
+     * @param soumisModifiablesApres date de création au-delà de laquelle un CR soumis reste modifiable
+     * @return le CR avant et après modification, vide si aucun CR ne remplit ces conditions
+     */
+    Optional<ModificationCR> modifierChamps(
+            UUID id,
+            UUID utilisateurId,
+            long version,
+            Map<ChampCR, Object> champs,
+            LocalDateTime soumisModifiablesApres
+    );
+
+    /**
+     * Résumé des CR d'un utilisateur sur une période
+     *
+     * @param dernierCRDate date du dernier CR de la période
+     * @param nombreCR      nombre de CR sur la période
+     */
+    record ResumeCR(UUID utilisateurId, LocalDate dernierCRDate, int nombreCR) {}
+
+    /**
+     * Champs modifiables d'un CR et type de leur valeur
+     */
+    enum ChampCR {
+        RDQD(com.cmci.cr.domain.valueobject.RDQD.class),
+        PRIERE_SEULE(Duration.class),
+        LECTURE_BIBLIQUE(Integer.class),
+        LIVRE_BIBLIQUE(String.class),
+        LITTERATURE_PAGES(Integer.class),
+        LITTERATURE_TOTAL(Integer.class),
+        LITTERATURE_TITRE(String.class),
+        PRIERE_AUTRES(Integer.class),
+        CONFESSION(Boolean.class),
+        JEUNE(Boolean.class),
+        TYPE_JEUNE(String.class),
+        EVANGELISATION(Integer.class),
+        OFFRANDE(Boolean.class),
+        NOTES(String.class);
+
+        private final Class<?> type;
+
+        ChampCR(Class<?> type) {
+            this.type = type;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+    }
+
+    /**
+     * CR avant et après une modification partielle
+     */
+    record ModificationCR(CompteRendu avant, CompteRendu apres) {}
 }
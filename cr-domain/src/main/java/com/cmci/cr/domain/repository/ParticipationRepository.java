@@ -0,0 +1,42 @@
+package com.cmci.cr.domain.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour l'index de participation journalière
+ * (« qui a soumis son CR ce jour ») par périmètre de l'organisation.
+ * Implémenté dans le module infrastructure
+ */
+public interface ParticipationRepository {
+
+    /**
+     * Marque (ou démarque) la participation d'un utilisateur pour un jour
+     */
+    void marquer(UUID utilisateurId, LocalDate date, boolean soumis);
+
+    /**
+     * Compte les membres actifs du périmètre et ceux d'entre eux ayant un CR à la date donnée
+     */
+    Participation compter(Perimetre perimetre, UUID perimetreId, LocalDate date);
+
+    /**
+     * Niveaux de l'organisation pour lesquels la participation est calculée
+     */
+    enum Perimetre {
+        EGLISE_MAISON,
+        EGLISE_LOCALE,
+        ZONE,
+        REGION
+    }
+
+    /**
+     * Participation d'un périmètre pour un jour
+     */
+    record Participation(long membres, long participants) {
+
+        public double taux() {
+            return membres > 0 ? participants * 100.0 / membres : 0.0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.valueobject.TypeNotification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour le moteur de rappels des CR manquants
+ * Implémenté dans le module infrastructure
+ */
+public interface RappelCRRepository {
+
+    /**
+     * Trouve, en une seule requête (anti-jointure), les membres actifs d'une église locale
+     * qui n'ont pas de CR à la date donnée, avec la date de leur dernier CR.
+     * Si egliseLocaleId est null, traite les membres sans église de maison.
+     */
+    List<MembreSansCR> findMembresActifsSansCR(UUID egliseLocaleId, LocalDate date);
+
+    /**
+     * Réserve l'envoi d'une notification du type donné pour chaque membre concerné à la date donnée.
+     * Retourne uniquement les membres dont la réservation est nouvelle : un membre déjà
+     * réservé (même jour, même type) n'est jamais retourné deux fois, ce qui rend
+     * l'envoi idempotent par jour, y compris entre plusieurs instances.
+     * Une réservation restée sans confirmation au-delà d'un délai d'expiration (instance
+     * arrêtée pendant l'envoi) est considérée abandonnée et peut être reprise.
+     */
+    Set<UUID> reserverEnvois(LocalDate date, TypeNotification type, List<UUID> utilisateurIds);
+
+    /**
+     * Marque comme envoyées les réservations dont le lot a été acquitté
+     */
+    void confirmerEnvois(LocalDate date, TypeNotification type, List<UUID> utilisateurIds);
+
+    /**
+     * Supprime les réservations non confirmées dont l'envoi a échoué
+     */
+    void libererEnvois(LocalDate date, TypeNotification type, List<UUID> utilisateurIds);
+
+    /**
+     * Membre actif sans CR pour la date traitée
+     */
+    record MembreSansCR(UUID utilisateurId, UUID fdId, LocalDate dernierCRDate) {}
+}
@@ -0,0 +1,53 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.valueobject.StatutCR;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour la revue des CR en lot par un FD, Leader, Pasteur ou Admin :
+ * lecture des états et droits en une requête, puis mise à jour ensembliste.
+ * Implémenté dans le module infrastructure
+ */
+public interface RevueCRRepository {
+
+    /**
+     * État et droit du relecteur pour chacun des CR donnés ; les ID inconnus sont absents du résultat
+     */
+    List<EtatRevue> findEtats(UUID relecteurId, Collection<UUID> compteRenduIds);
+
+    /**
+     * État et droit du relecteur pour les CR soumis d'un disciple jusqu'à la date incluse
+     */
+    List<EtatRevue> findEtatsSoumis(UUID relecteurId, UUID discipleId, LocalDate jusquA);
+
+    /**
+     * Marque comme vus les CR donnés encore soumis et non vus
+     *
+     * @return les ID des CR modifiés
+     */
+    List<UUID> marquerVus(Collection<UUID> compteRenduIds);
+
+    /**
+     * Valide (et marque comme vus) les CR donnés encore soumis
+     *
+     * @return les ID des CR modifiés
+     */
+    List<UUID> valider(Collection<UUID> compteRenduIds);
+
+    /**
+     * État d'un CR pour la revue ; autorise reprend la règle de Utilisateur.canViewCROf
+     * (un relecteur ne revoit jamais ses propres CR)
+     */
+    record EtatRevue(
+            UUID compteRenduId,
+            UUID utilisateurId,
+            LocalDate date,
+            StatutCR statut,
+            boolean vuParFd,
+            boolean autorise) {
+    }
+}
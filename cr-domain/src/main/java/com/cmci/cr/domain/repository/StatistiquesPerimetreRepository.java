@@ -0,0 +1,103 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour les agrégats journaliers de CR maintenus à chaque niveau de
+ * l'organisation (église de maison → église locale → zone → région).
+ *
+ * Chaque écriture de CR ajoute sa contribution à la ligne du jour de chacun des quatre
+ * périmètres ancêtres de son auteur ; les statistiques d'une zone ou d'une région se
+ * lisent alors sur une ligne par jour, sans parcourir les membres.
+ * Implémenté dans le module infrastructure
+ */
+public interface StatistiquesPerimetreRepository {
+
+    /**
+     * Ajoute une contribution (éventuellement négative) aux agrégats du jour de tous les
+     * périmètres ancêtres de l'utilisateur. Sans effet si l'utilisateur n'a pas d'église de maison.
+     */
+    void appliquer(UUID utilisateurId, LocalDate date, Agregat contribution);
+
+    /**
+     * Transfère toutes les contributions des CR d'un membre d'une église de maison à une autre
+     * (null = aucune)
+     */
+    void deplacerMembre(UUID utilisateurId, UUID ancienneEgliseMaisonId, UUID nouvelleEgliseMaisonId);
+
+    /**
+     * Transfère les agrégats d'un périmètre de son ancien parent (et de ses ancêtres) vers le nouveau,
+     * lors du rattachement d'une église de maison, d'une église locale ou d'une zone à un autre parent
+     */
+    void deplacerPerimetre(Perimetre niveau, UUID perimetreId, UUID ancienParentId, UUID nouveauParentId);
+
+    /**
+     * Somme des agrégats journaliers d'un périmètre entre deux dates incluses
+     */
+    Agregat sommer(Perimetre niveau, UUID perimetreId, LocalDate debut, LocalDate fin);
+
+    /**
+     * Agrégat additif de CR : contribution d'un CR, différence entre deux versions,
+     * ou somme sur une période
+     */
+    record Agregat(
+            long nombreCRs,
+            long rdqdComplets,
+            Duration dureePriere,
+            long chapitresLus,
+            long personnesEvangelisees,
+            long confessions,
+            long jeunes) {
+
+        public static final Agregat VIDE = new Agregat(0, 0, Duration.ZERO, 0, 0, 0, 0);
+
+        /**
+         * Contribution d'un CR aux agrégats
+         */
+        public static Agregat de(CompteRendu cr) {
+            return new Agregat(
+                    1,
+                    cr.getRdqd() != null && cr.getRdqd().isComplete() ? 1 : 0,
+                    cr.getPriereSeule() != null ? cr.getPriereSeule() : Duration.ZERO,
+                    cr.getLectureBiblique() != null ? cr.getLectureBiblique() : 0,
+                    cr.getEvangelisation() != null ? cr.getEvangelisation() : 0,
+                    Boolean.TRUE.equals(cr.getConfession()) ? 1 : 0,
+                    Boolean.TRUE.equals(cr.getJeune()) ? 1 : 0);
+        }
+
+        public Agregat plus(Agregat autre) {
+            return new Agregat(
+                    nombreCRs + autre.nombreCRs,
+                    rdqdComplets + autre.rdqdComplets,
+                    dureePriere.plus(autre.dureePriere),
+                    chapitresLus + autre.chapitresLus,
+                    personnesEvangelisees + autre.personnesEvangelisees,
+                    confessions + autre.confessions,
+                    jeunes + autre.jeunes);
+        }
+
+        public Agregat moins(Agregat autre) {
+            return new Agregat(
+                    nombreCRs - autre.nombreCRs,
+                    rdqdComplets - autre.rdqdComplets,
+                    dureePriere.minus(autre.dureePriere),
+                    chapitresLus - autre.chapitresLus,
+                    personnesEvangelisees - autre.personnesEvangelisees,
+                    confessions - autre.confessions,
+                    jeunes - autre.jeunes);
+        }
+
+        public Agregat oppose() {
+            return VIDE.moins(this);
+        }
+
+        public boolean estVide() {
+            return equals(VIDE);
+        }
+    }
+}
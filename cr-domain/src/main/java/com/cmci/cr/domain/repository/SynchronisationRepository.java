@@ -0,0 +1,104 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port (interface) du flux de modifications pour la synchronisation incrémentale.
+ *
+ * Chaque ligne porte une version croissante d'une transaction à l'autre. Le périmètre
+ * d'un utilisateur comprend ses propres CR et ceux de ses disciples, les commentaires
+ * de ces CR, l'utilisateur lui-même et ses disciples.
+ *
+ * Le référentiel (régions, zones, églises locales et de maison) n'en fait pas partie : commun
+ * à tous, petit et rarement modifié, il est rechargé en entier depuis ses propres endpoints
+ * plutôt que suivi ligne à ligne pour chaque utilisateur.
+ * Implémenté dans le module infrastructure
+ */
+public interface SynchronisationRepository {
+
+    /**
+     * Version en dessous de laquelle toutes les écritures sont terminées :
+     * aucune ligne de version inférieure ne peut encore apparaître ou changer de version
+     */
+    long horizon();
+
+    /**
+     * Première version dont aucune suppression n'a été purgée : un curseur non nul inférieur
+     * a pu manquer des suppressions
+     */
+    long plancher();
+
+    /**
+     * Purge les suppressions enregistrées avant la date donnée et relève le plancher
+     *
+     * @return nombre de suppressions purgées
+     */
+    int purgerSuppressions(LocalDateTime avant);
+
+    /**
+     * CR du périmètre modifiés dans [depuis, horizon), par version croissante.
+     * L'historique d'un disciple nouvellement rattaché prend la version du rattachement.
+     */
+    List<CRModifie> findCompteRendus(UUID utilisateurId, long depuis, long horizon, int limite);
+
+    /**
+     * Commentaires des CR du périmètre modifiés dans [depuis, horizon), par version croissante
+     */
+    List<CommentaireModifie> findCommentaires(UUID utilisateurId, long depuis, long horizon, int limite);
+
+    /**
+     * Utilisateur et disciples modifiés dans [depuis, horizon), par version croissante
+     */
+    List<UtilisateurModifie> findUtilisateurs(UUID utilisateurId, long depuis, long horizon, int limite);
+
+    /**
+     * Suppressions et sorties de périmètre dans [depuis, horizon), par version croissante
+     */
+    List<Suppression> findSuppressions(UUID utilisateurId, long depuis, long horizon, int limite);
+
+    /**
+     * Élément du flux, ordonné par version
+     */
+    interface Versionne {
+        long version();
+    }
+
+    record CRModifie(long version, LigneCR compteRendu) implements Versionne {}
+
+    record CommentaireModifie(
+            long version,
+            UUID id,
+            UUID compteRenduId,
+            UUID auteurId,
+            String auteurNom,
+            String contenu,
+            LocalDateTime createdAt) implements Versionne {}
+
+    record UtilisateurModifie(
+            long version,
+            UUID id,
+            String email,
+            String nom,
+            String prenom,
+            String role,
+            UUID egliseMaisonId,
+            UUID fdId,
+            String fdNom,
+            String avatarUrl,
+            String telephone,
+            LocalDate dateNaissance,
+            LocalDate dateBapteme,
+            String statut,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) implements Versionne {}
+
+    /**
+     * @param typeEntite COMPTE_RENDU, COMMENTAIRE ou UTILISATEUR
+     */
+    record Suppression(long version, String typeEntite, UUID entiteId) implements Versionne {}
+}
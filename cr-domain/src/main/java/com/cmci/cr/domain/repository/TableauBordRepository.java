@@ -0,0 +1,63 @@
+package com.cmci.cr.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour la projection dénormalisée des tableaux de bord.
+ * Alimentée par les événements du topic cr-events, lue par les vues responsables.
+ * Implémenté dans le module infrastructure
+ */
+public interface TableauBordRepository {
+
+    /**
+     * Applique l'état d'un CR issu d'un événement puis recalcule la ligne du membre.
+     * Idempotent : un événement plus ancien que le dernier état appliqué est ignoré,
+     * ce qui permet de rejouer le topic depuis n'importe quel offset.
+     */
+    void appliquer(EtatCR etat);
+
+    /**
+     * Retire un CR supprimé de la projection puis recalcule la ligne de son membre.
+     * Sans effet si le CR n'est pas (ou plus) projeté.
+     */
+    void supprimer(UUID compteRenduId);
+
+    /**
+     * Trouve, en une seule requête, le résumé de plusieurs membres pour une période.
+     * Les membres sans aucun CR projeté sont absents de la map.
+     */
+    Map<UUID, ResumeMembre> findResumesByUtilisateurIds(List<UUID> utilisateurIds, LocalDate debut, LocalDate fin);
+
+    /**
+     * État d'un CR porté par un événement. Un champ null signifie "inchangé".
+     */
+    record EtatCR(
+            UUID compteRenduId,
+            UUID utilisateurId,
+            UUID fdId,
+            LocalDate dateCR,
+            String statut,
+            Boolean vuParFd,
+            LocalDateTime occurredOn) {}
+
+    /**
+     * Résumé d'un membre pour les tableaux de bord
+     *
+     * @param dernierCRDate    date du dernier CR (toutes périodes confondues, jusqu'à la fin de période)
+     * @param nombreCRPeriode  nombre de CR sur la période demandée
+     * @param nombreCR7Jours   nombre de CR sur les 7 derniers jours de la période
+     * @param nombreCR30Jours  nombre de CR sur les 30 derniers jours de la période
+     * @param nombreNonVus     nombre de CR non vus par le FD
+     */
+    record ResumeMembre(
+            UUID utilisateurId,
+            LocalDate dernierCRDate,
+            int nombreCRPeriode,
+            int nombreCR7Jours,
+            int nombreCR30Jours,
+            int nombreNonVus) {}
+}
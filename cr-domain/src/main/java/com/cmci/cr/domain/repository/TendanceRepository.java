@@ -0,0 +1,73 @@
+package com.cmci.cr.domain.repository;
+
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port (interface) pour les séries temporelles de CR agrégées par intervalle
+ * (jour, semaine ISO, mois), calculées côté base.
+ * Implémenté dans le module infrastructure
+ */
+public interface TendanceRepository {
+
+    /**
+     * Série des CR d'un ou plusieurs utilisateurs entre deux dates incluses.
+     * Seuls les intervalles contenant au moins un CR sont retournés, triés par date.
+     */
+    List<Point> findSerieUtilisateurs(Collection<UUID> utilisateurIds, Granularite granularite,
+                                      LocalDate debut, LocalDate fin);
+
+    /**
+     * Série d'un périmètre de l'organisation, lue dans les agrégats journaliers
+     */
+    List<Point> findSeriePerimetre(Perimetre perimetre, UUID perimetreId, Granularite granularite,
+                                   LocalDate debut, LocalDate fin);
+
+    /**
+     * Taille des intervalles d'une série
+     */
+    enum Granularite {
+        JOUR,
+        SEMAINE,
+        MOIS;
+
+        /**
+         * Premier jour de l'intervalle contenant la date (semaines commençant le lundi, comme date_trunc)
+         */
+        public LocalDate debutIntervalle(LocalDate date) {
+            return switch (this) {
+                case JOUR -> date;
+                case SEMAINE -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MOIS -> date.withDayOfMonth(1);
+            };
+        }
+
+        public LocalDate suivant(LocalDate debutIntervalle) {
+            return switch (this) {
+                case JOUR -> debutIntervalle.plusDays(1);
+                case SEMAINE -> debutIntervalle.plusWeeks(1);
+                case MOIS -> debutIntervalle.plusMonths(1);
+            };
+        }
+
+        public LocalDate precedent(LocalDate debutIntervalle) {
+            return switch (this) {
+                case JOUR -> debutIntervalle.minusDays(1);
+                case SEMAINE -> debutIntervalle.minusWeeks(1);
+                case MOIS -> debutIntervalle.minusMonths(1);
+            };
+        }
+    }
+
+    /**
+     * Agrégat d'un intervalle commençant à la date donnée
+     */
+    record Point(LocalDate debut, Agregat valeurs) {}
+}
@@ -1,6 +1,7 @@
 package com.cmci.cr.domain.repository;
 
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
 import com.cmci.cr.domain.valueobject.Role;
 
 import java.util.List;
@@ -23,6 +24,12 @@ public interface UtilisateurRepository {
      */
     Optional<Utilisateur> findById(UUID id);
 
+    /**
+     * Trouve plusieurs utilisateurs par leurs IDs en une seule requête.
+     * Les IDs inconnus sont ignorés ; l'ordre du résultat n'est pas garanti.
+     */
+    List<Utilisateur> findAllById(List<UUID> ids);
+
     /**
      * Trouve un utilisateur par son email
      */
@@ -33,6 +40,16 @@ public interface UtilisateurRepository {
      */
     List<Utilisateur> findByEgliseMaisonId(UUID egliseMaisonId);
 
+    /**
+     * Trouve une page des utilisateurs d'une église de maison (tri par nom, prénom)
+     */
+    List<Utilisateur> findByEgliseMaisonId(UUID egliseMaisonId, int page, int size);
+
+    /**
+     * Compte les utilisateurs d'une église de maison
+     */
+    long countByEgliseMaisonId(UUID egliseMaisonId);
+
     /**
      * Trouve tous les disciples d'un FD
      */
@@ -43,6 +60,25 @@ public interface UtilisateurRepository {
      */
     List<Utilisateur> findByRole(Role role);
 
+    /**
+     * Trouve une page des utilisateurs avec un rôle spécifique (tri par nom, prénom)
+     */
+    List<Utilisateur> findByRole(Role role, int page, int size);
+
+    /**
+     * Compte les utilisateurs avec un rôle spécifique
+     */
+    long countByRole(Role role);
+
+    /**
+     * Trouve une page de fidèles actifs sans FD, triés par nom, prénom puis ID.
+     * La page commence juste après le fidèle apresId (pagination par curseur) ;
+     * un périmètre null couvre toute l'organisation.
+     *
+     * @throws IllegalArgumentException si apresId ne correspond à aucun utilisateur
+     */
+    List<Utilisateur> findFidelesSansFd(Perimetre perimetre, UUID perimetreId, UUID apresId, int limite);
+
     /**
      * Vérifie si un email existe déjà
      */
@@ -2,21 +2,33 @@ package com.cmci.cr.domain.service;
 
 import com.cmci.cr.domain.model.CompteRendu;
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
-import lombok.RequiredArgsConstructor;
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Service métier pour la gestion des Comptes Rendus
  * Contient la logique métier complexe liée aux CR
+ *
+ * Régularité et séries sont calculées sur les bits du calendrier des soumissions
+ * (une lecture par année) au lieu des CR.
  */
-@RequiredArgsConstructor
 public class CRDomainService {
 
     private final CompteRenduRepository compteRenduRepository;
+    private final CalendrierSoumissionRepository calendrierSoumissionRepository;
+
+    public CRDomainService(
+            CompteRenduRepository compteRenduRepository,
+            CalendrierSoumissionRepository calendrierSoumissionRepository) {
+        this.compteRenduRepository = compteRenduRepository;
+        this.calendrierSoumissionRepository = calendrierSoumissionRepository;
+    }
 
     /**
      * Vérifie si un utilisateur peut créer un CR pour une date donnée
@@ -66,15 +78,18 @@ public class CRDomainService {
      * Retourne le pourcentage de jours avec CR soumis
      */
     public double calculateRegularityRate(UUID utilisateurId, LocalDate startDate, LocalDate endDate) {
-        long totalDays = startDate.until(endDate).getDays() + 1;
-        long crCount = compteRenduRepository.countByUtilisateurIdAndDateBetween(
-                utilisateurId, startDate, endDate
-        );
-
-        if (totalDays == 0) {
+        long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (totalDays <= 0) {
             return 0.0;
         }
 
+        long crCount = 0;
+        for (int annee = startDate.getYear(); annee <= endDate.getYear(); annee++) {
+            crCount += calendrierSoumissionRepository.findByUtilisateurIdAndAnnee(utilisateurId, annee)
+                    .map(calendrier -> calendrier.compter(startDate, endDate))
+                    .orElse(0);
+        }
+
         return (double) crCount / totalDays * 100.0;
     }
 
@@ -100,18 +115,30 @@ public class CRDomainService {
      * (pour gamification - séries)
      */
     public int countConsecutiveDays(UUID utilisateurId) {
-        LocalDate currentDate = LocalDate.now();
+        return countConsecutiveDaysFromCalendar(utilisateurId, LocalDate.now());
+    }
+
+    /**
+     * Série se terminant à la date donnée : parcours des bits de l'année, puis de
+     * l'année précédente uniquement si la série remonte jusqu'au 1er janvier
+     */
+    private int countConsecutiveDaysFromCalendar(UUID utilisateurId, LocalDate date) {
         int consecutiveDays = 0;
+        LocalDate currentDate = date;
 
         while (true) {
-            if (compteRenduRepository.existsByUtilisateurIdAndDate(utilisateurId, currentDate)) {
-                consecutiveDays++;
-                currentDate = currentDate.minusDays(1);
-            } else {
-                break;
+            Optional<CalendrierSoumissions> calendrier = calendrierSoumissionRepository
+                    .findByUtilisateurIdAndAnnee(utilisateurId, currentDate.getYear());
+            if (calendrier.isEmpty()) {
+                return consecutiveDays;
             }
-        }
 
-        return consecutiveDays;
+            int serie = calendrier.get().serieJusquA(currentDate);
+            consecutiveDays += serie;
+            if (serie < currentDate.getDayOfYear()) {
+                return consecutiveDays;
+            }
+            currentDate = currentDate.withDayOfYear(1).minusDays(1);
+        }
     }
 }
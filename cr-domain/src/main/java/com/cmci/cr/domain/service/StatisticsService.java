@@ -1,24 +1,33 @@
 package com.cmci.cr.domain.service;
 
 import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
 import com.cmci.cr.domain.repository.CompteRenduRepository;
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
 import com.cmci.cr.domain.valueobject.StatutCR;
 import lombok.Builder;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Service métier pour les statistiques des Comptes Rendus
  */
-@RequiredArgsConstructor
 public class StatisticsService {
 
     private final CompteRenduRepository compteRenduRepository;
+    private final CalendrierSoumissionRepository calendrierSoumissionRepository;
+
+    public StatisticsService(
+            CompteRenduRepository compteRenduRepository,
+            CalendrierSoumissionRepository calendrierSoumissionRepository) {
+        this.compteRenduRepository = compteRenduRepository;
+        this.calendrierSoumissionRepository = calendrierSoumissionRepository;
+    }
 
     /**
      * Calcule les statistiques personnelles d'un utilisateur sur une période
@@ -80,6 +89,11 @@ public class StatisticsService {
         Duration totalPriere = Duration.ZERO;
         int totalCRs = 0;
 
+        // Soumissions du jour : une seule lecture des calendriers au lieu d'une requête par membre
+        LocalDate today = LocalDate.now();
+        Map<UUID, CalendrierSoumissions> calendriers =
+                calendrierSoumissionRepository.findByUtilisateurIdsAndAnnee(membresIds, today.getYear());
+
         for (UUID membreId : membresIds) {
             List<CompteRendu> crs = compteRenduRepository.findByUtilisateurIdAndDateBetween(
                     membreId, startDate, endDate
@@ -88,7 +102,7 @@ public class StatisticsService {
             totalCRs += crs.size();
 
             // Vérifier si a soumis aujourd'hui
-            if (compteRenduRepository.existsByUtilisateurIdAndDate(membreId, LocalDate.now())) {
+            if (aSoumis(calendriers, membreId, today)) {
                 membersWithCRToday++;
             }
 
@@ -118,6 +132,11 @@ public class StatisticsService {
                 .build();
     }
 
+    private boolean aSoumis(Map<UUID, CalendrierSoumissions> calendriers, UUID membreId, LocalDate date) {
+        CalendrierSoumissions calendrier = calendriers.get(membreId);
+        return calendrier != null && calendrier.estSoumis(date);
+    }
+
     /**
      * DTO pour les statistiques personnelles
      */
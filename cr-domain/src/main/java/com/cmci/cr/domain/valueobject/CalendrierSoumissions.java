@@ -0,0 +1,231 @@
+package com.cmci.cr.domain.valueobject;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Value Object représentant les jours d'une année pour lesquels un utilisateur a un CR.
+ *
+ * Un bit par jour (bit n = jour de l'année n + 1), 366 bits au plus. La régularité
+ * devient un comptage de bits sur une plage, une série un parcours de bits, sans relire
+ * les comptes rendus. Le format octets (46 octets, bit n dans l'octet n / 8 en partant du
+ * bit de poids faible) est celui de get_bit/set_bit sur un bytea PostgreSQL.
+ */
+public final class CalendrierSoumissions {
+
+    public static final int TAILLE_OCTETS = 46;
+
+    private static final int MOTS = 6;
+
+    private final int annee;
+    private final long[] mots;
+
+    private CalendrierSoumissions(int annee, long[] mots) {
+        this.annee = annee;
+        this.mots = mots;
+    }
+
+    /**
+     * Calendrier sans aucun jour soumis
+     */
+    public static CalendrierSoumissions vide(int annee) {
+        return new CalendrierSoumissions(annee, new long[MOTS]);
+    }
+
+    /**
+     * Reconstruit un calendrier depuis sa forme stockée
+     */
+    public static CalendrierSoumissions fromBytes(int annee, byte[] octets) {
+        long[] mots = new long[MOTS];
+        int longueur = Math.min(octets.length, TAILLE_OCTETS);
+        for (int i = 0; i < longueur; i++) {
+            mots[i >>> 3] |= (octets[i] & 0xFFL) << ((i & 7) * 8);
+        }
+        return new CalendrierSoumissions(annee, mots);
+    }
+
+    public byte[] toBytes() {
+        byte[] octets = new byte[TAILLE_OCTETS];
+        for (int i = 0; i < TAILLE_OCTETS; i++) {
+            octets[i] = (byte) (mots[i >>> 3] >>> ((i & 7) * 8));
+        }
+        return octets;
+    }
+
+    public int getAnnee() {
+        return annee;
+    }
+
+    /**
+     * Retourne un nouveau calendrier avec le jour marqué (ou démarqué)
+     */
+    public CalendrierSoumissions avec(LocalDate date, boolean soumis) {
+        int bit = bit(date);
+        long[] copie = Arrays.copyOf(mots, MOTS);
+        if (soumis) {
+            copie[bit >>> 6] |= 1L << bit;
+        } else {
+            copie[bit >>> 6] &= ~(1L << bit);
+        }
+        return new CalendrierSoumissions(annee, copie);
+    }
+
+    public boolean estSoumis(LocalDate date) {
+        if (date.getYear() != annee) {
+            return false;
+        }
+        int bit = bit(date);
+        return (mots[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Nombre de jours soumis entre deux dates incluses, restreint à l'année du calendrier
+     */
+    public int compter(LocalDate debut, LocalDate fin) {
+        LocalDate premierJour = LocalDate.ofYearDay(annee, 1);
+        LocalDate dernierJour = LocalDate.ofYearDay(annee, joursDansAnnee());
+        LocalDate borneDebut = debut.isBefore(premierJour) ? premierJour : debut;
+        LocalDate borneFin = fin.isAfter(dernierJour) ? dernierJour : fin;
+        if (borneDebut.isAfter(borneFin)) {
+            return 0;
+        }
+
+        int de = bit(borneDebut);
+        int a = bit(borneFin);
+
+        int total = 0;
+        for (int mot = de >>> 6; mot <= a >>> 6; mot++) {
+            long masque = -1L;
+            if (mot == de >>> 6) {
+                masque &= -1L << (de & 63);
+            }
+            if (mot == a >>> 6) {
+                masque &= -1L >>> (63 - (a & 63));
+            }
+            total += Long.bitCount(mots[mot] & masque);
+        }
+        return total;
+    }
+
+    /**
+     * Nombre total de jours soumis dans l'année
+     */
+    public int compterTout() {
+        int total = 0;
+        for (long mot : mots) {
+            total += Long.bitCount(mot);
+        }
+        return total;
+    }
+
+    /**
+     * Nombre de jours soumis consécutifs se terminant à la date donnée (incluse),
+     * sans remonter avant le 1er janvier de l'année du calendrier
+     */
+    public int serieJusquA(LocalDate date) {
+        if (date.getYear() != annee) {
+            return 0;
+        }
+        int bit = bit(date);
+        int serie = 0;
+        for (int mot = bit >>> 6; mot >= 0; mot--) {
+            int haut = mot == bit >>> 6 ? bit & 63 : 63;
+            // Bits au-dessus de la position courante forcés à 1 pour ne compter que vers le bas
+            long inverse = ~(mots[mot] | (haut == 63 ? 0 : -1L << (haut + 1)));
+            if (inverse == 0) {
+                serie += haut + 1;
+                continue;
+            }
+            int premierTrou = 63 - Long.numberOfLeadingZeros(inverse);
+            return serie + haut - premierTrou;
+        }
+        return serie;
+    }
+
+    /**
+     * Plus longue série de jours consécutifs soumis dans l'année
+     */
+    public int meilleureSerie() {
+        int meilleure = 0;
+        int courante = 0;
+        for (int bit = 0; bit < joursDansAnnee(); bit++) {
+            if ((mots[bit >>> 6] & (1L << bit)) != 0) {
+                courante++;
+                meilleure = Math.max(meilleure, courante);
+            } else {
+                courante = 0;
+            }
+        }
+        return meilleure;
+    }
+
+    /**
+     * Dernier jour soumis à la date donnée ou avant, dans l'année du calendrier
+     *
+     * @return le jour, ou null si aucun
+     */
+    public LocalDate dernierJourSoumis(LocalDate auPlusTard) {
+        if (auPlusTard.getYear() < annee) {
+            return null;
+        }
+        int bit = auPlusTard.getYear() > annee ? joursDansAnnee() - 1 : bit(auPlusTard);
+        for (int mot = bit >>> 6; mot >= 0; mot--) {
+            long valeur = mots[mot];
+            if (mot == bit >>> 6 && (bit & 63) < 63) {
+                valeur &= ~(-1L << ((bit & 63) + 1));
+            }
+            if (valeur != 0) {
+                int trouve = mot * 64 + 63 - Long.numberOfLeadingZeros(valeur);
+                return LocalDate.ofYearDay(annee, trouve + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Liste ordonnée des jours soumis de l'année
+     */
+    public List<LocalDate> joursSoumis() {
+        List<LocalDate> jours = new ArrayList<>(compterTout());
+        for (int mot = 0; mot < MOTS; mot++) {
+            long valeur = mots[mot];
+            while (valeur != 0) {
+                int bit = mot * 64 + Long.numberOfTrailingZeros(valeur);
+                jours.add(LocalDate.ofYearDay(annee, bit + 1));
+                valeur &= valeur - 1;
+            }
+        }
+        return jours;
+    }
+
+    private int joursDansAnnee() {
+        return Year.isLeap(annee) ? 366 : 365;
+    }
+
+    private int bit(LocalDate date) {
+        if (date.getYear() != annee) {
+            throw new IllegalArgumentException("La date " + date + " n'appartient pas à l'année " + annee);
+        }
+        return date.getDayOfYear() - 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CalendrierSoumissions that)) return false;
+        return annee == that.annee && Arrays.equals(mots, that.mots);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * annee + Arrays.hashCode(mots);
+    }
+
+    @Override
+    public String toString() {
+        return "CalendrierSoumissions(" + annee + ", " + compterTout() + " jours)";
+    }
+}
@@ -0,0 +1,44 @@
+package com.cmci.cr.domain.valueobject;
+
+/**
+ * Value Object représentant le type d'une notification de suivi des CR
+ */
+public enum TypeNotification {
+    /**
+     * Rappel envoyé au membre qui n'a pas encore soumis son CR du jour
+     */
+    RAPPEL_CR("Rappel CR du jour", 0),
+
+    /**
+     * Alerte envoyée au FD lorsqu'un disciple n'a pas soumis de CR depuis 3 jours
+     */
+    ESCALADE_3_JOURS("Escalade 3 jours sans CR", 3),
+
+    /**
+     * Alerte envoyée au FD lorsqu'un disciple n'a pas soumis de CR depuis 7 jours
+     */
+    ESCALADE_7_JOURS("Escalade 7 jours sans CR", 7);
+
+    private final String displayName;
+    private final int joursSansCR;
+
+    TypeNotification(String displayName, int joursSansCR) {
+        this.displayName = displayName;
+        this.joursSansCR = joursSansCR;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getJoursSansCR() {
+        return joursSansCR;
+    }
+
+    /**
+     * Vérifie si la notification est une escalade vers le FD
+     */
+    public boolean isEscalade() {
+        return this != RAPPEL_CR;
+    }
+}
@@ -0,0 +1,129 @@
+package com.cmci.cr.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le Value Object CalendrierSoumissions
+ */
+class CalendrierSoumissionsTest {
+
+    private static final int ANNEE = 2024; // bissextile : 366 bits utilisés
+
+    @Test
+    void shouldMarkAndUnmarkDays() {
+        // Given
+        LocalDate jour = LocalDate.of(ANNEE, 3, 15);
+
+        // When
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE).avec(jour, true);
+
+        // Then
+        assertTrue(calendrier.estSoumis(jour));
+        assertFalse(calendrier.estSoumis(jour.plusDays(1)));
+        assertFalse(calendrier.avec(jour, false).estSoumis(jour));
+        assertFalse(calendrier.estSoumis(jour.withYear(ANNEE + 1)));
+    }
+
+    @Test
+    void shouldCountDaysInRangeAcrossWordBoundaries() {
+        // Given : jours 60 à 70 de l'année (bits 59..69, à cheval sur deux mots de 64 bits)
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE);
+        for (int jour = 60; jour <= 70; jour++) {
+            calendrier = calendrier.avec(LocalDate.ofYearDay(ANNEE, jour), true);
+        }
+
+        // When / Then
+        assertEquals(11, calendrier.compter(LocalDate.ofYearDay(ANNEE, 1), LocalDate.ofYearDay(ANNEE, 366)));
+        assertEquals(5, calendrier.compter(LocalDate.ofYearDay(ANNEE, 62), LocalDate.ofYearDay(ANNEE, 66)));
+        assertEquals(11, calendrier.compter(LocalDate.of(ANNEE - 1, 12, 1), LocalDate.of(ANNEE + 1, 1, 31)));
+        assertEquals(0, calendrier.compter(LocalDate.of(ANNEE + 1, 1, 1), LocalDate.of(ANNEE + 1, 2, 1)));
+        assertEquals(11, calendrier.compterTout());
+    }
+
+    @Test
+    void shouldComputeStreakEndingAtDate() {
+        // Given : série de 80 jours se terminant le jour 150, trou le jour 70
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE);
+        for (int jour = 60; jour <= 150; jour++) {
+            if (jour != 70) {
+                calendrier = calendrier.avec(LocalDate.ofYearDay(ANNEE, jour), true);
+            }
+        }
+
+        // When / Then
+        assertEquals(80, calendrier.serieJusquA(LocalDate.ofYearDay(ANNEE, 150)));
+        assertEquals(10, calendrier.serieJusquA(LocalDate.ofYearDay(ANNEE, 69)));
+        assertEquals(0, calendrier.serieJusquA(LocalDate.ofYearDay(ANNEE, 151)));
+        assertEquals(80, calendrier.meilleureSerie());
+    }
+
+    @Test
+    void shouldCountStreakUpToFirstOfJanuary() {
+        // Given
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE);
+        for (int jour = 1; jour <= 130; jour++) {
+            calendrier = calendrier.avec(LocalDate.ofYearDay(ANNEE, jour), true);
+        }
+
+        // When / Then
+        assertEquals(130, calendrier.serieJusquA(LocalDate.ofYearDay(ANNEE, 130)));
+    }
+
+    @Test
+    void shouldFindLastSubmittedDay() {
+        // Given
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE)
+                .avec(LocalDate.of(ANNEE, 1, 10), true)
+                .avec(LocalDate.of(ANNEE, 12, 31), true);
+
+        // When / Then
+        assertEquals(LocalDate.of(ANNEE, 1, 10), calendrier.dernierJourSoumis(LocalDate.of(ANNEE, 6, 1)));
+        assertEquals(LocalDate.of(ANNEE, 12, 31), calendrier.dernierJourSoumis(LocalDate.of(ANNEE + 1, 3, 1)));
+        assertNull(calendrier.dernierJourSoumis(LocalDate.of(ANNEE, 1, 9)));
+        assertNull(calendrier.dernierJourSoumis(LocalDate.of(ANNEE - 1, 12, 31)));
+    }
+
+    @Test
+    void shouldRoundTripThroughPostgresBitLayout() {
+        // Given
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE)
+                .avec(LocalDate.ofYearDay(ANNEE, 1), true)
+                .avec(LocalDate.ofYearDay(ANNEE, 10), true)
+                .avec(LocalDate.ofYearDay(ANNEE, 366), true);
+
+        // When
+        byte[] octets = calendrier.toBytes();
+
+        // Then : set_bit(bytea, n) -> octet n / 8, bit n % 8 (poids faible en premier)
+        assertEquals(CalendrierSoumissions.TAILLE_OCTETS, octets.length);
+        assertEquals(0x01, octets[0]);
+        assertEquals(0x02, octets[1]);
+        assertEquals(0x20, octets[45]);
+        assertEquals(calendrier, CalendrierSoumissions.fromBytes(ANNEE, octets));
+    }
+
+    @Test
+    void shouldListSubmittedDaysInOrder() {
+        // Given
+        CalendrierSoumissions calendrier = CalendrierSoumissions.vide(ANNEE)
+                .avec(LocalDate.of(ANNEE, 7, 4), true)
+                .avec(LocalDate.of(ANNEE, 2, 29), true);
+
+        // When
+        List<LocalDate> jours = calendrier.joursSoumis();
+
+        // Then
+        assertEquals(List.of(LocalDate.of(ANNEE, 2, 29), LocalDate.of(ANNEE, 7, 4)), jours);
+    }
+
+    @Test
+    void shouldRejectDateOfAnotherYear() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CalendrierSoumissions.vide(ANNEE).avec(LocalDate.of(ANNEE + 1, 1, 1), true));
+    }
+}
@@ -9,7 +9,9 @@ import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -39,6 +41,11 @@ public class CacheableCompteRenduRepositoryDecorator implements CompteRenduRepos
         return delegate.findById(id);
     }
 
+    @Override
+    public Optional<CompteRendu> findByIdPourModification(UUID id) {
+        return delegate.findByIdPourModification(id);
+    }
+
     @Override
     @Cacheable(value = CacheNames.COMPTES_RENDUS,
                key = "'user:' + #utilisateurId + ':date:' + #date",
@@ -104,4 +111,28 @@ public class CacheableCompteRenduRepositoryDecorator implements CompteRenduRepos
             LocalDate endDate) {
         return delegate.findByUtilisateurIdInAndDateBetween(utilisateurIds, startDate, endDate);
     }
+
+    @Override
+    public Map<UUID, ResumeCR> resumerByUtilisateurIdInAndDateBetween(
+            List<UUID> utilisateurIds,
+            LocalDate startDate,
+            LocalDate endDate) {
+        return delegate.resumerByUtilisateurIdInAndDateBetween(utilisateurIds, startDate, endDate);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.COMPTES_RENDUS, key = "#id"),
+            @CacheEvict(value = CacheNames.COMPTES_RENDUS,
+                       key = "'user:' + #utilisateurId + ':date:' + #result?.apres()?.getDate()"),
+            @CacheEvict(value = CacheNames.STATISTIQUES, allEntries = true)
+    })
+    public Optional<ModificationCR> modifierChamps(
+            UUID id,
+            UUID utilisateurId,
+            long version,
+            Map<ChampCR, Object> champs,
+            LocalDateTime soumisModifiablesApres) {
+        return delegate.modifierChamps(id, utilisateurId, version, champs, soumisModifiablesApres);
+    }
 }
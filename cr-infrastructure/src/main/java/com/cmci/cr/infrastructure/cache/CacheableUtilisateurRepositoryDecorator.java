@@ -1,6 +1,7 @@
 package com.cmci.cr.infrastructure.cache;
 
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.Role;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +38,11 @@ public class CacheableUtilisateurRepositoryDecorator implements UtilisateurRepos
         return delegate.findById(id);
     }
 
+    @Override
+    public List<Utilisateur> findAllById(List<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
     @Override
     @Cacheable(value = CacheNames.UTILISATEURS,
                key = "'email:' + #email",
@@ -52,6 +58,16 @@ public class CacheableUtilisateurRepositoryDecorator implements UtilisateurRepos
         return delegate.findByEgliseMaisonId(egliseMaisonId);
     }
 
+    @Override
+    public List<Utilisateur> findByEgliseMaisonId(UUID egliseMaisonId, int page, int size) {
+        return delegate.findByEgliseMaisonId(egliseMaisonId, page, size);
+    }
+
+    @Override
+    public long countByEgliseMaisonId(UUID egliseMaisonId) {
+        return delegate.countByEgliseMaisonId(egliseMaisonId);
+    }
+
     @Override
     @Cacheable(value = CacheNames.UTILISATEURS,
                key = "'fd:' + #fdId + ':disciples'")
@@ -66,6 +82,22 @@ public class CacheableUtilisateurRepositoryDecorator implements UtilisateurRepos
         return delegate.findByRole(role);
     }
 
+    @Override
+    public List<Utilisateur> findByRole(Role role, int page, int size) {
+        return delegate.findByRole(role, page, size);
+    }
+
+    @Override
+    public long countByRole(Role role) {
+        return delegate.countByRole(role);
+    }
+
+    @Override
+    public List<Utilisateur> findFidelesSansFd(Perimetre perimetre, UUID perimetreId, UUID apresId, int limite) {
+        // Liste modifiée par chaque assignation : jamais mise en cache
+        return delegate.findFidelesSansFd(perimetre, perimetreId, apresId, limite);
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return delegate.existsByEmail(email);
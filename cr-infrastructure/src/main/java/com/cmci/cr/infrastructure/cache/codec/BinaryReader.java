@@ -0,0 +1,107 @@
+package com.cmci.cr.infrastructure.cache.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Lecture du format binaire compact produit par {@link BinaryWriter}.
+ */
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Varint mal formé dans la valeur de cache");
+    }
+
+    int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    String readString() {
+        int length = readVarInt();
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    UUID readUuid() {
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    LocalDate readDate() {
+        return LocalDate.ofEpochDay(readSignedVarLong());
+    }
+
+    LocalDateTime readDateTime() {
+        long seconds = readSignedVarLong();
+        return LocalDateTime.ofEpochSecond(seconds, readVarInt(), ZoneOffset.UTC);
+    }
+
+    Duration readDuration() {
+        long seconds = readSignedVarLong();
+        return Duration.ofSeconds(seconds, readVarInt());
+    }
+
+    int remaining() {
+        return limit - position;
+    }
+
+    private long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > limit) {
+            throw new IllegalStateException("Valeur de cache tronquée");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.cmci.cr.infrastructure.cache.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Tampon d'écriture du format binaire compact : entiers en varint (zigzag pour les
+ * valeurs signées), chaînes UTF-8 préfixées par leur longueur, UUID sur 16 octets.
+ */
+final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    void writeUuid(UUID value) {
+        writeFixedLong(value.getMostSignificantBits());
+        writeFixedLong(value.getLeastSignificantBits());
+    }
+
+    void writeDate(LocalDate value) {
+        writeSignedVarLong(value.toEpochDay());
+    }
+
+    void writeDateTime(LocalDateTime value) {
+        writeSignedVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(value.getNano());
+    }
+
+    void writeDuration(Duration value) {
+        writeSignedVarLong(value.getSeconds());
+        writeVarLong(value.getNano());
+    }
+
+    int size() {
+        return position;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.cmci.cr.infrastructure.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Sérialiseur binaire compact des valeurs de cache Redis.
+ *
+ * Format : [MAGIC][version][flags][longueur d'origine si LZ4][charge utile]. La charge
+ * utile suit le schéma de la version ({@link CompactSchemaV1}) et n'est compressée en
+ * LZ4 qu'au-delà du seuil configuré, et seulement si le résultat est plus petit.
+ *
+ * Compatibilité entre versions :
+ * <ul>
+ *   <li>une valeur sans MAGIC a été écrite par le sérialiseur JSON historique et est
+ *       relue par celui-ci ;</li>
+ *   <li>une version inconnue (écrite par une instance plus récente) est traitée comme
+ *       une absence de cache : la valeur est recalculée puis réécrite.</li>
+ * </ul>
+ * En écriture JSON ({@link #ecritureJson}), les valeurs sont écrites au format historique
+ * mais les valeurs compactes restent lisibles : c'est le mode de la première livraison,
+ * avant la bascule des écritures.
+ */
+@Slf4j
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCE;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_SIZE = 3;
+
+    private final RedisSerializer<Object> legacyJson;
+    private final CompactSchemaV1 schema;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+    private final boolean ecritureCompacte;
+
+    public CompactCacheValueSerializer(RedisSerializer<Object> legacyJson, int compressionThreshold) {
+        this(legacyJson, compressionThreshold, true);
+    }
+
+    private CompactCacheValueSerializer(RedisSerializer<Object> legacyJson, int compressionThreshold,
+                                        boolean ecritureCompacte) {
+        this.ecritureCompacte = ecritureCompacte;
+        this.legacyJson = legacyJson;
+        this.schema = new CompactSchemaV1(legacyJson);
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    /**
+     * Écrit au format JSON historique, relit les deux formats
+     */
+    public static CompactCacheValueSerializer ecritureJson(RedisSerializer<Object> legacyJson,
+                                                           int compressionThreshold) {
+        return new CompactCacheValueSerializer(legacyJson, compressionThreshold, false);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!ecritureCompacte) {
+            return legacyJson.serialize(value);
+        }
+        try {
+            BinaryWriter payload = new BinaryWriter(256);
+            schema.write(payload, value);
+
+            if (payload.size() >= compressionThreshold) {
+                byte[] compressed = compress(payload);
+                if (compressed != null) {
+                    return compressed;
+                }
+            }
+
+            BinaryWriter out = new BinaryWriter(HEADER_SIZE + payload.size());
+            writeHeader(out, 0);
+            out.writeBytes(payload.buffer(), 0, payload.size());
+            return out.toByteArray();
+        } catch (RuntimeException e) {
+            throw new SerializationException("Impossible de sérialiser la valeur de cache "
+                    + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacyJson.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("En-tête de valeur de cache tronqué");
+        }
+
+        int version = bytes[1] & 0xFF;
+        if (version != FORMAT_VERSION) {
+            log.debug("Valeur de cache au format v{} ignorée (format supporté : v{})",
+                    version, FORMAT_VERSION);
+            return null;
+        }
+
+        try {
+            int flags = bytes[2] & 0xFF;
+            BinaryReader in;
+            if ((flags & FLAG_LZ4) != 0) {
+                BinaryReader header = new BinaryReader(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+                int originalLength = header.readVarInt();
+                int offset = bytes.length - header.remaining();
+                byte[] restored = new byte[originalLength];
+                decompressor.decompress(bytes, offset, restored, 0, originalLength);
+                in = new BinaryReader(restored, 0, originalLength);
+            } else {
+                in = new BinaryReader(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+            }
+            return schema.read(in);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Valeur de cache binaire illisible", e);
+        }
+    }
+
+    private byte[] compress(BinaryWriter payload) {
+        int maxLength = compressor.maxCompressedLength(payload.size());
+        byte[] target = new byte[maxLength];
+        int compressedLength = compressor.compress(payload.buffer(), 0, payload.size(), target, 0, maxLength);
+
+        BinaryWriter out = new BinaryWriter(HEADER_SIZE + 5 + compressedLength);
+        writeHeader(out, FLAG_LZ4);
+        out.writeVarLong(payload.size());
+        if (out.size() + compressedLength >= HEADER_SIZE + payload.size()) {
+            return null;
+        }
+        out.writeBytes(target, 0, compressedLength);
+        return out.toByteArray();
+    }
+
+    private static void writeHeader(BinaryWriter out, int flags) {
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(flags);
+    }
+}
@@ -0,0 +1,229 @@
+package com.cmci.cr.infrastructure.cache.codec;
+
+import com.cmci.cr.domain.model.CompteRendu;
+import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.valueobject.RDQD;
+import com.cmci.cr.domain.valueobject.Role;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Schéma binaire v1 des valeurs de cache.
+ *
+ * Chaque valeur est précédée d'une étiquette de type. Les entités écrivent un masque
+ * de présence (un bit par champ non nul) puis les seuls champs présents, dans l'ordre
+ * de déclaration. Les énumérations sont écrites par ordinal : ajouter, retirer ou
+ * réordonner un champ ou une constante impose un nouveau schéma et l'incrément de
+ * {@link CompactCacheValueSerializer#FORMAT_VERSION}.
+ *
+ * Les types non couverts (statistiques, DTO...) sont encapsulés en JSON.
+ */
+final class CompactSchemaV1 {
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_COMPTE_RENDU = 1;
+    private static final int TAG_UTILISATEUR = 2;
+    private static final int TAG_LIST = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_STRING = 5;
+    private static final int TAG_JSON = 6;
+
+    private static final StatutCR[] STATUTS_CR = StatutCR.values();
+    private static final Role[] ROLES = Role.values();
+    private static final Utilisateur.StatutUtilisateur[] STATUTS_UTILISATEUR =
+            Utilisateur.StatutUtilisateur.values();
+
+    private final RedisSerializer<Object> jsonFallback;
+
+    CompactSchemaV1(RedisSerializer<Object> jsonFallback) {
+        this.jsonFallback = jsonFallback;
+    }
+
+    void write(BinaryWriter out, Object value) {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof CompteRendu compteRendu) {
+            out.writeByte(TAG_COMPTE_RENDU);
+            writeCompteRendu(out, compteRendu);
+        } else if (value instanceof Utilisateur utilisateur) {
+            out.writeByte(TAG_UTILISATEUR);
+            writeUtilisateur(out, utilisateur);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                write(out, element);
+            }
+        } else if (value instanceof Long number) {
+            out.writeByte(TAG_LONG);
+            out.writeSignedVarLong(number);
+        } else if (value instanceof String text) {
+            out.writeByte(TAG_STRING);
+            out.writeString(text);
+        } else {
+            byte[] json = jsonFallback.serialize(value);
+            out.writeByte(TAG_JSON);
+            out.writeVarLong(json.length);
+            out.writeBytes(json, 0, json.length);
+        }
+    }
+
+    Object read(BinaryReader in) {
+        int tag = in.readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_COMPTE_RENDU -> readCompteRendu(in);
+            case TAG_UTILISATEUR -> readUtilisateur(in);
+            case TAG_LIST -> readList(in);
+            case TAG_LONG -> in.readSignedVarLong();
+            case TAG_STRING -> in.readString();
+            case TAG_JSON -> jsonFallback.deserialize(in.readBytes(in.readVarInt()));
+            default -> throw new IllegalStateException("Type de valeur de cache inconnu : " + tag);
+        };
+    }
+
+    private List<Object> readList(BinaryReader in) {
+        int size = in.readVarInt();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(read(in));
+        }
+        return list;
+    }
+
+    // ---------------------------------------------------------------- CompteRendu
+
+    private void writeCompteRendu(BinaryWriter out, CompteRendu cr) {
+        out.writeVarLong(presence(
+                cr.getId(), cr.getUtilisateurId(), cr.getDate(), cr.getRdqd(), cr.getPriereSeule(),
+                cr.getLectureBiblique(), cr.getLivreBiblique(), cr.getLitteraturePages(),
+                cr.getLitteratureTotal(), cr.getLitteratureTitre(), cr.getPriereAutres(),
+                cr.getConfession(), cr.getJeune(), cr.getTypeJeune(), cr.getEvangelisation(),
+                cr.getOffrande(), cr.getNotes(), cr.getStatut(), cr.getVuParFd(),
+                cr.getCreatedAt(), cr.getUpdatedAt()));
+
+        if (cr.getId() != null) out.writeUuid(cr.getId());
+        if (cr.getUtilisateurId() != null) out.writeUuid(cr.getUtilisateurId());
+        if (cr.getDate() != null) out.writeDate(cr.getDate());
+        if (cr.getRdqd() != null) {
+            out.writeVarLong(cr.getRdqd().getAccompli());
+            out.writeVarLong(cr.getRdqd().getAttendu());
+        }
+        if (cr.getPriereSeule() != null) out.writeDuration(cr.getPriereSeule());
+        if (cr.getLectureBiblique() != null) out.writeSignedVarLong(cr.getLectureBiblique());
+        if (cr.getLivreBiblique() != null) out.writeString(cr.getLivreBiblique());
+        if (cr.getLitteraturePages() != null) out.writeSignedVarLong(cr.getLitteraturePages());
+        if (cr.getLitteratureTotal() != null) out.writeSignedVarLong(cr.getLitteratureTotal());
+        if (cr.getLitteratureTitre() != null) out.writeString(cr.getLitteratureTitre());
+        if (cr.getPriereAutres() != null) out.writeSignedVarLong(cr.getPriereAutres());
+        if (cr.getConfession() != null) out.writeBoolean(cr.getConfession());
+        if (cr.getJeune() != null) out.writeBoolean(cr.getJeune());
+        if (cr.getTypeJeune() != null) out.writeString(cr.getTypeJeune());
+        if (cr.getEvangelisation() != null) out.writeSignedVarLong(cr.getEvangelisation());
+        if (cr.getOffrande() != null) out.writeBoolean(cr.getOffrande());
+        if (cr.getNotes() != null) out.writeString(cr.getNotes());
+        if (cr.getStatut() != null) out.writeVarLong(cr.getStatut().ordinal());
+        if (cr.getVuParFd() != null) out.writeBoolean(cr.getVuParFd());
+        if (cr.getCreatedAt() != null) out.writeDateTime(cr.getCreatedAt());
+        if (cr.getUpdatedAt() != null) out.writeDateTime(cr.getUpdatedAt());
+    }
+
+    private CompteRendu readCompteRendu(BinaryReader in) {
+        long mask = in.readVarLong();
+        CompteRendu.CompteRenduBuilder builder = CompteRendu.builder();
+
+        if (has(mask, 0)) builder.id(in.readUuid());
+        if (has(mask, 1)) builder.utilisateurId(in.readUuid());
+        if (has(mask, 2)) builder.date(in.readDate());
+        if (has(mask, 3)) builder.rdqd(RDQD.of(in.readVarInt(), in.readVarInt()));
+        if (has(mask, 4)) builder.priereSeule(in.readDuration());
+        if (has(mask, 5)) builder.lectureBiblique(readInt(in));
+        if (has(mask, 6)) builder.livreBiblique(in.readString());
+        if (has(mask, 7)) builder.litteraturePages(readInt(in));
+        if (has(mask, 8)) builder.litteratureTotal(readInt(in));
+        if (has(mask, 9)) builder.litteratureTitre(in.readString());
+        if (has(mask, 10)) builder.priereAutres(readInt(in));
+        if (has(mask, 11)) builder.confession(in.readBoolean());
+        if (has(mask, 12)) builder.jeune(in.readBoolean());
+        if (has(mask, 13)) builder.typeJeune(in.readString());
+        if (has(mask, 14)) builder.evangelisation(readInt(in));
+        if (has(mask, 15)) builder.offrande(in.readBoolean());
+        if (has(mask, 16)) builder.notes(in.readString());
+        if (has(mask, 17)) builder.statut(STATUTS_CR[in.readVarInt()]);
+        if (has(mask, 18)) builder.vuParFd(in.readBoolean());
+        if (has(mask, 19)) builder.createdAt(in.readDateTime());
+        if (has(mask, 20)) builder.updatedAt(in.readDateTime());
+
+        return builder.build();
+    }
+
+    // ---------------------------------------------------------------- Utilisateur
+
+    private void writeUtilisateur(BinaryWriter out, Utilisateur u) {
+        out.writeVarLong(presence(
+                u.getId(), u.getEmail(), u.getNom(), u.getPrenom(), u.getRole(),
+                u.getEgliseMaisonId(), u.getFdId(), u.getAvatarUrl(), u.getTelephone(),
+                u.getDateNaissance(), u.getDateBapteme(), u.getStatut(),
+                u.getCreatedAt(), u.getUpdatedAt()));
+
+        if (u.getId() != null) out.writeUuid(u.getId());
+        if (u.getEmail() != null) out.writeString(u.getEmail());
+        if (u.getNom() != null) out.writeString(u.getNom());
+        if (u.getPrenom() != null) out.writeString(u.getPrenom());
+        if (u.getRole() != null) out.writeVarLong(u.getRole().ordinal());
+        if (u.getEgliseMaisonId() != null) out.writeUuid(u.getEgliseMaisonId());
+        if (u.getFdId() != null) out.writeUuid(u.getFdId());
+        if (u.getAvatarUrl() != null) out.writeString(u.getAvatarUrl());
+        if (u.getTelephone() != null) out.writeString(u.getTelephone());
+        if (u.getDateNaissance() != null) out.writeDate(u.getDateNaissance());
+        if (u.getDateBapteme() != null) out.writeDate(u.getDateBapteme());
+        if (u.getStatut() != null) out.writeVarLong(u.getStatut().ordinal());
+        if (u.getCreatedAt() != null) out.writeDateTime(u.getCreatedAt());
+        if (u.getUpdatedAt() != null) out.writeDateTime(u.getUpdatedAt());
+    }
+
+    private Utilisateur readUtilisateur(BinaryReader in) {
+        long mask = in.readVarLong();
+        Utilisateur.UtilisateurBuilder builder = Utilisateur.builder();
+
+        if (has(mask, 0)) builder.id(in.readUuid());
+        if (has(mask, 1)) builder.email(in.readString());
+        if (has(mask, 2)) builder.nom(in.readString());
+        if (has(mask, 3)) builder.prenom(in.readString());
+        if (has(mask, 4)) builder.role(ROLES[in.readVarInt()]);
+        if (has(mask, 5)) builder.egliseMaisonId(in.readUuid());
+        if (has(mask, 6)) builder.fdId(in.readUuid());
+        if (has(mask, 7)) builder.avatarUrl(in.readString());
+        if (has(mask, 8)) builder.telephone(in.readString());
+        if (has(mask, 9)) builder.dateNaissance(in.readDate());
+        if (has(mask, 10)) builder.dateBapteme(in.readDate());
+        if (has(mask, 11)) builder.statut(STATUTS_UTILISATEUR[in.readVarInt()]);
+        if (has(mask, 12)) builder.createdAt(in.readDateTime());
+        if (has(mask, 13)) builder.updatedAt(in.readDateTime());
+
+        return builder.build();
+    }
+
+    // ---------------------------------------------------------------- utilitaires
+
+    private static long presence(Object... fields) {
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean has(long mask, int bit) {
+        return (mask & (1L << bit)) != 0;
+    }
+
+    private static int readInt(BinaryReader in) {
+        return Math.toIntExact(in.readSignedVarLong());
+    }
+}
@@ -1,6 +1,7 @@
 package com.cmci.cr.infrastructure.config;
 
 import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.port.NotificationPort;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -79,6 +80,41 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    /**
+     * Configuration du Producer Kafka pour les notifications.
+     * Les rappels sont envoyés en masse : on privilégie le regroupement en batchs.
+     */
+    @Bean
+    public ProducerFactory<String, NotificationPort.Notification> notificationProducerFactory(
+            ObjectMapper kafkaObjectMapper) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + "-notifications");
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 20); // Attendre 20ms pour remplir les batchs
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+
+        DefaultKafkaProducerFactory<String, NotificationPort.Notification> factory =
+                new DefaultKafkaProducerFactory<>(configProps);
+        factory.setValueSerializer(new JsonSerializer<>(kafkaObjectMapper));
+
+        return factory;
+    }
+
+    /**
+     * KafkaTemplate pour envoyer les notifications
+     */
+    @Bean
+    public KafkaTemplate<String, NotificationPort.Notification> notificationKafkaTemplate(
+            ProducerFactory<String, NotificationPort.Notification> notificationProducerFactory) {
+        return new KafkaTemplate<>(notificationProducerFactory);
+    }
+
     /**
      * Topic pour les événements de Compte Rendu
      */
@@ -1,17 +1,25 @@
 package com.cmci.cr.infrastructure.config;
 
+import org.keycloak.admin.client.ClientBuilderWrapper;
+import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configuration pour le client admin Keycloak
  * Permet de gérer les utilisateurs et les rôles via l'API Admin
  *
  * Utilise les credentials admin pour avoir accès complet à la gestion des utilisateurs.
  * En production, utiliser un client service account avec les permissions appropriées.
+ *
+ * Les délais de connexion et de lecture bornent le temps qu'un thread de la cloison
+ * (voir ResilientIdentityProvider) reste bloqué sur un Keycloak qui ne répond plus.
  */
 @Configuration
 public class KeycloakAdminConfig {
@@ -28,6 +36,12 @@ public class KeycloakAdminConfig {
     @Value("${keycloak.admin.password:admin123}")
     private String adminPassword;
 
+    @Value("${keycloak.admin.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${keycloak.admin.read-timeout:PT5S}")
+    private Duration readTimeout;
+
     @Bean
     public Keycloak keycloakAdminClient() {
         return KeycloakBuilder.builder()
@@ -36,6 +50,11 @@ public class KeycloakAdminConfig {
                 .username(adminUsername)
                 .password(adminPassword)
                 .clientId("admin-cli")
+                .resteasyClient(ClientBuilderWrapper.create(null, false)
+                        .connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .readTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .register(JacksonProvider.class, 100)
+                        .build())
                 .build();
     }
 
@@ -0,0 +1,36 @@
+package com.cmci.cr.infrastructure.config;
+
+import com.cmci.cr.infrastructure.persistence.monitoring.QueryCountingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Budget de requêtes SQL par requête HTTP (compteur ouvert par QueryBudgetFilter dans cr-api).
+ * Le comptage se fait sur la DataSource : les lectures JdbcTemplate sont comptées comme celles d'Hibernate.
+ * Mode "log" : journalise les dépassements et les N+1 ; mode "reject" (dev/test) : fait échouer la requête.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(
+            @Value("${app.query-budget.max-per-request:30}") int maxPerRequest,
+            @Value("${app.query-budget.mode:log}") String mode) {
+        boolean reject = "reject".equalsIgnoreCase(mode);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource, maxPerRequest, reject);
+                }
+                return bean;
+            }
+        };
+    }
+}
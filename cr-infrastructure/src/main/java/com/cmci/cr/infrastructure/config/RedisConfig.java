@@ -1,5 +1,6 @@
 package com.cmci.cr.infrastructure.config;
 
+import com.cmci.cr.infrastructure.cache.codec.CompactCacheValueSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -16,6 +17,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -38,6 +40,12 @@ public class RedisConfig {
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
 
+    @Value("${app.cache.codec:json}")
+    private String cacheCodec;
+
+    @Value("${app.cache.compression-threshold:1024}")
+    private int compressionThreshold;
+
     /**
      * Configuration de la connexion Redis avec Lettuce
      */
@@ -68,12 +76,29 @@ public class RedisConfig {
     }
 
     /**
-     * RedisTemplate configuré pour utiliser JSON
+     * Sérialiseur des valeurs de cache selon app.cache.codec :
+     * compact (binaire versionné, LZ4 au-delà du seuil) ou json (format historique).
+     * Les deux modes relisent les deux formats : une instance en json tolère les valeurs
+     * compactes écrites par les instances déjà basculées.
+     */
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(ObjectMapper redisObjectMapper) {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        return switch (cacheCodec) {
+            case "compact" -> new CompactCacheValueSerializer(json, compressionThreshold);
+            case "json" -> CompactCacheValueSerializer.ecritureJson(json, compressionThreshold);
+            default -> throw new IllegalStateException("Codec de cache inconnu : " + cacheCodec
+                    + " (valeurs possibles : compact, json)");
+        };
+    }
+
+    /**
+     * RedisTemplate configuré avec le sérialiseur de valeurs de cache
      */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(
             RedisConnectionFactory connectionFactory,
-            ObjectMapper redisObjectMapper) {
+            RedisSerializer<Object> cacheValueSerializer) {
 
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
@@ -83,11 +108,8 @@ public class RedisConfig {
         template.setKeySerializer(keySerializer);
         template.setHashKeySerializer(keySerializer);
 
-        // Utilisation de GenericJackson2JsonRedisSerializer pour les valeurs
-        GenericJackson2JsonRedisSerializer valueSerializer =
-                new GenericJackson2JsonRedisSerializer(redisObjectMapper);
-        template.setValueSerializer(valueSerializer);
-        template.setHashValueSerializer(valueSerializer);
+        template.setValueSerializer(cacheValueSerializer);
+        template.setHashValueSerializer(cacheValueSerializer);
 
         template.afterPropertiesSet();
         return template;
@@ -99,10 +121,7 @@ public class RedisConfig {
     @Bean
     public CacheManager cacheManager(
             RedisConnectionFactory connectionFactory,
-            ObjectMapper redisObjectMapper) {
-
-        GenericJackson2JsonRedisSerializer serializer =
-                new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+            RedisSerializer<Object> cacheValueSerializer) {
 
         // Configuration par défaut : 1 heure de TTL
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration
@@ -112,7 +131,7 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(
                                 new StringRedisSerializer()))
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                        RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer))
                 .disableCachingNullValues();
 
         // Configurations spécifiques par cache
@@ -142,6 +161,7 @@ public class RedisConfig {
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .transactionAware()
+                .enableStatistics() // Hits/misses exposés par cache (métriques cache.gets)
                 .build();
     }
 }
@@ -0,0 +1,201 @@
+package com.cmci.cr.infrastructure.event;
+
+import com.cmci.cr.domain.event.CRCreatedEvent;
+import com.cmci.cr.domain.event.CRDeletedEvent;
+import com.cmci.cr.domain.event.CRMarkedAsViewedEvent;
+import com.cmci.cr.domain.event.CRSubmittedEvent;
+import com.cmci.cr.domain.event.CRUpdatedEvent;
+import com.cmci.cr.domain.event.CRValidatedEvent;
+import com.cmci.cr.domain.event.CommentaireAddedEvent;
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import com.cmci.cr.domain.event.UtilisateurCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bus d'événements de domaine en mémoire placé devant le broker (Kafka ou mémoire).
+ *
+ * Les événements publiés pendant une transaction sont retenus et ne partent qu'après
+ * son commit (abandonnés en cas de rollback) ; hors transaction, l'écriture est déjà
+ * validée et ils partent aussitôt. La livraison au broker, et donc aux handlers, se fait
+ * sur des voies à un seul thread : les événements d'un même agrégat sont toujours livrés
+ * dans l'ordre, ceux d'agrégats différents en parallèle.
+ *
+ * Chaque voie a une file bornée. Quand elle est pleine, l'appelant attend une place au plus
+ * {@code app.events.bus.attente-max} (contre-pression) puis livre lui-même l'événement
+ * plutôt que de le perdre ; l'ordre de cette voie n'est alors plus garanti, ce que les
+ * handlers idempotents et datés (occurredOn) absorbent.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.events.bus.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AsyncDomainEventBus implements DomainEventPublisher, DisposableBean {
+
+    private static final long ARRET_MAX_SECONDES = 10;
+
+    private final DomainEventPublisher broker;
+    private final ThreadPoolExecutor[] voies;
+
+    public AsyncDomainEventBus(
+            @Qualifier("brokerEventPublisher") DomainEventPublisher broker,
+            @Value("${app.events.bus.voies:4}") int nombreVoies,
+            @Value("${app.events.bus.capacite:1000}") int capacite,
+            @Value("${app.events.bus.attente-max:PT2S}") Duration attenteMax) {
+        if (nombreVoies < 1 || capacite < 1) {
+            throw new IllegalArgumentException("Le bus d'événements doit avoir au moins une voie et une place par voie");
+        }
+        this.broker = broker;
+        this.voies = new ThreadPoolExecutor[nombreVoies];
+        for (int i = 0; i < nombreVoies; i++) {
+            voies[i] = creerVoie(i, capacite, attenteMax);
+        }
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<DomainEvent> lot = List.copyOf(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Les synchronisations s'exécutent dans l'ordre d'enregistrement : l'ordre de publication est conservé
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    soumettre(lot);
+                }
+            });
+            return;
+        }
+        soumettre(lot);
+    }
+
+    /**
+     * Répartit le lot par voie (ordre conservé dans chaque voie) : une tâche par voie,
+     * qui transmet ses événements au broker en un seul envoi
+     */
+    private void soumettre(List<DomainEvent> events) {
+        Map<Integer, List<DomainEvent>> parVoie = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            parVoie.computeIfAbsent(voie(event), v -> new ArrayList<>()).add(event);
+        }
+        parVoie.forEach((voie, lot) -> voies[voie].execute(() -> livrer(lot)));
+    }
+
+    private void livrer(List<DomainEvent> lot) {
+        try {
+            if (lot.size() == 1) {
+                broker.publish(lot.get(0));
+            } else {
+                broker.publishAll(lot);
+            }
+        } catch (RuntimeException e) {
+            // Un handler en échec ne doit ni bloquer la voie ni remonter à la requête déjà validée
+            log.error("Failed to deliver {} domain event(s) starting with {}: {}",
+                    lot.size(), lot.get(0).getEventType(), e.getMessage(), e);
+        }
+    }
+
+    private int voie(DomainEvent event) {
+        UUID agregat = agregat(event);
+        Object cle = agregat != null ? agregat : event.getEventId();
+        return Math.floorMod(cle.hashCode(), voies.length);
+    }
+
+    /**
+     * Agrégat dont les événements doivent rester ordonnés (le CR pour ses commentaires)
+     */
+    private static UUID agregat(DomainEvent event) {
+        if (event instanceof CRCreatedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof CRSubmittedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof CRValidatedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof CRMarkedAsViewedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof CRUpdatedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof CRDeletedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof CommentaireAddedEvent e) {
+            return e.getCompteRenduId();
+        } else if (event instanceof UtilisateurCreatedEvent e) {
+            return e.getUtilisateurId();
+        }
+        return null;
+    }
+
+    private static ThreadPoolExecutor creerVoie(int numero, int capacite, Duration attenteMax) {
+        AtomicInteger threads = new AtomicInteger();
+        RejectedExecutionHandler filePleine = (tache, voie) -> {
+            if (voie.isShutdown()) {
+                log.warn("Domain event bus stopped, delivering on caller thread");
+                tache.run();
+                return;
+            }
+            try {
+                if (voie.getQueue().offer(tache, attenteMax.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                log.warn("Domain event lane {} full for {}, delivering on caller thread", numero, attenteMax);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tache.run();
+        };
+        ThreadPoolExecutor voie = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacite),
+                tache -> {
+                    Thread thread = new Thread(tache, "domain-events-" + numero + "-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                filePleine);
+        voie.prestartAllCoreThreads();
+        return voie;
+    }
+
+    /**
+     * Arrêt : les événements déjà en file sont livrés avant la fermeture
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ThreadPoolExecutor voie : voies) {
+            voie.shutdown();
+        }
+        for (ThreadPoolExecutor voie : voies) {
+            if (!voie.awaitTermination(ARRET_MAX_SECONDES, TimeUnit.SECONDS)) {
+                log.warn("Domain event lane did not drain in {}s, {} event batch(es) dropped",
+                        ARRET_MAX_SECONDES, voie.shutdownNow().size());
+            }
+        }
+    }
+}
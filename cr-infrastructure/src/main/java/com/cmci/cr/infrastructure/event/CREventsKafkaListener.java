@@ -0,0 +1,73 @@
+package com.cmci.cr.infrastructure.event;
+
+import com.cmci.cr.infrastructure.config.KafkaTopics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Consommateur du topic cr-events qui alimente les projections.
+ *
+ * app.events.consumer.replay-from permet de reconstruire une projection :
+ * "beginning" rejoue tout le topic, un nombre repositionne chaque partition sur cet offset.
+ * Le repositionnement n'est appliqué qu'à la première affectation des partitions.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.consumer.enabled", havingValue = "true")
+@Slf4j
+public class CREventsKafkaListener implements ConsumerSeekAware {
+
+    private final DomainEventJsonMapper eventJsonMapper;
+    private final DomainEventDispatcher dispatcher;
+    private final String replayFrom;
+    private final AtomicBoolean replayApplied = new AtomicBoolean(false);
+
+    public CREventsKafkaListener(
+            DomainEventJsonMapper eventJsonMapper,
+            DomainEventDispatcher dispatcher,
+            @Value("${app.events.consumer.replay-from:}") String replayFrom) {
+        this.eventJsonMapper = eventJsonMapper;
+        this.dispatcher = dispatcher;
+        this.replayFrom = replayFrom;
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CR_EVENTS,
+            groupId = "${app.events.consumer.group-id:cr-projections}",
+            containerFactory = "eventsListenerContainerFactory")
+    public void onMessage(ConsumerRecord<String, String> record) {
+        eventJsonMapper.fromJson(record.value()).ifPresentOrElse(
+                dispatcher::dispatch,
+                () -> log.debug("Message ignoré (type inconnu) à l'offset {}", record.offset()));
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (replayFrom == null || replayFrom.isBlank() || !replayApplied.compareAndSet(false, true)) {
+            return;
+        }
+
+        if ("beginning".equalsIgnoreCase(replayFrom)) {
+            log.info("Rejeu de {} depuis le début", KafkaTopics.CR_EVENTS);
+            callback.seekToBeginning(assignments.keySet());
+            return;
+        }
+
+        long offset;
+        try {
+            offset = Long.parseLong(replayFrom.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("app.events.consumer.replay-from invalide: " + replayFrom, e);
+        }
+        log.info("Rejeu de {} depuis l'offset {}", KafkaTopics.CR_EVENTS, offset);
+        assignments.keySet().forEach(partition -> callback.seek(partition.topic(), partition.partition(), offset));
+    }
+}
@@ -0,0 +1,32 @@
+package com.cmci.cr.infrastructure.event;
+
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Distribue un événement de domaine reçu aux handlers qui le supportent
+ * (projections, etc.), quelle que soit la source (Kafka ou broker en mémoire)
+ */
+@Component
+@Slf4j
+public class DomainEventDispatcher {
+
+    private final List<DomainEventHandler> handlers;
+
+    public DomainEventDispatcher(List<DomainEventHandler> handlers) {
+        this.handlers = handlers;
+    }
+
+    public void dispatch(DomainEvent event) {
+        for (DomainEventHandler handler : handlers) {
+            if (handler.supports(event)) {
+                log.debug("Dispatching {} to {}", event.getEventType(), handler.getClass().getSimpleName());
+                handler.handle(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.cmci.cr.infrastructure.event;
+
+import com.cmci.cr.domain.event.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reconstruit les événements de CR à partir du JSON publié sur cr-events.
+ * Le producteur n'ajoute pas d'en-têtes de type : le type est lu dans le champ eventType.
+ */
+@Component
+public class DomainEventJsonMapper {
+
+    private final ObjectMapper kafkaObjectMapper;
+
+    public DomainEventJsonMapper(ObjectMapper kafkaObjectMapper) {
+        this.kafkaObjectMapper = kafkaObjectMapper;
+    }
+
+    /**
+     * @return l'événement, ou vide si le type n'est pas un événement de CR connu
+     * @throws IllegalArgumentException si le message n'est pas un JSON valide
+     */
+    public Optional<DomainEvent> fromJson(String json) {
+        JsonNode node;
+        try {
+            node = kafkaObjectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Message d'événement illisible", e);
+        }
+
+        String eventType = text(node, "eventType");
+        if (eventType == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(switch (eventType) {
+            case "CR_CREATED" -> CRCreatedEvent.builder()
+                    .eventId(uuid(node, "eventId"))
+                    .occurredOn(dateTime(node, "occurredOn"))
+                    .compteRenduId(uuid(node, "compteRenduId"))
+                    .utilisateurId(uuid(node, "utilisateurId"))
+                    .fdId(uuid(node, "fdId"))
+                    .dateCR(date(node, "dateCR"))
+                    .rdqd(text(node, "rdqd"))
+                    .statut(text(node, "statut"))
+                    .build();
+            case "CR_SUBMITTED" -> CRSubmittedEvent.builder()
+                    .eventId(uuid(node, "eventId"))
+                    .occurredOn(dateTime(node, "occurredOn"))
+                    .compteRenduId(uuid(node, "compteRenduId"))
+                    .utilisateurId(uuid(node, "utilisateurId"))
+                    .fdId(uuid(node, "fdId"))
+                    .dateCR(date(node, "dateCR"))
+                    .build();
+            case "CR_VALIDATED" -> CRValidatedEvent.builder()
+                    .eventId(uuid(node, "eventId"))
+                    .occurredOn(dateTime(node, "occurredOn"))
+                    .compteRenduId(uuid(node, "compteRenduId"))
+                    .utilisateurId(uuid(node, "utilisateurId"))
+                    .validatedByFdId(uuid(node, "validatedByFdId"))
+                    .dateCR(date(node, "dateCR"))
+                    .build();
+            case "CR_MARKED_AS_VIEWED" -> CRMarkedAsViewedEvent.builder()
+                    .eventId(uuid(node, "eventId"))
+                    .occurredOn(dateTime(node, "occurredOn"))
+                    .compteRenduId(uuid(node, "compteRenduId"))
+                    .utilisateurId(uuid(node, "utilisateurId"))
+                    .fdId(uuid(node, "fdId"))
+                    .dateCR(date(node, "dateCR"))
+                    .build();
+            case "CR_UPDATED" -> CRUpdatedEvent.builder()
+                    .eventId(uuid(node, "eventId"))
+                    .occurredOn(dateTime(node, "occurredOn"))
+                    .compteRenduId(uuid(node, "compteRenduId"))
+                    .utilisateurId(uuid(node, "utilisateurId"))
+                    .fdId(uuid(node, "fdId"))
+                    .dateCR(date(node, "dateCR"))
+                    .nouveauStatut(text(node, "nouveauStatut"))
+                    .ancienStatut(text(node, "ancienStatut"))
+                    .build();
+            case "CR_DELETED" -> CRDeletedEvent.builder()
+                    .eventId(uuid(node, "eventId"))
+                    .occurredOn(dateTime(node, "occurredOn"))
+                    .compteRenduId(uuid(node, "compteRenduId"))
+                    .utilisateurId(uuid(node, "utilisateurId"))
+                    .fdId(uuid(node, "fdId"))
+                    .dateCR(date(node, "dateCR"))
+                    .build();
+            default -> null;
+        });
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static UUID uuid(JsonNode node, String field) {
+        String value = text(node, field);
+        return value != null ? UUID.fromString(value) : null;
+    }
+
+    private static LocalDate date(JsonNode node, String field) {
+        String value = text(node, field);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    private static LocalDateTime dateTime(JsonNode node, String field) {
+        String value = text(node, field);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
@@ -4,13 +4,17 @@ import com.cmci.cr.domain.event.DomainEvent;
 import com.cmci.cr.domain.event.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 /**
  * Adaptateur qui implémente le port DomainEventPublisher
  * en utilisant Kafka comme système de messagerie
  */
-@Component
+@Component("brokerEventPublisher")
+@ConditionalOnProperty(name = "app.events.broker", havingValue = "kafka", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DomainEventPublisherAdapter implements DomainEventPublisher {
@@ -22,4 +26,10 @@ public class DomainEventPublisherAdapter implements DomainEventPublisher {
         log.debug("Publishing domain event: {}", event.getClass().getSimpleName());
         kafkaEventPublisher.publish(event);
     }
+
+    @Override
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        log.debug("Publishing {} domain events", events.size());
+        kafkaEventPublisher.publishAll(events);
+    }
 }
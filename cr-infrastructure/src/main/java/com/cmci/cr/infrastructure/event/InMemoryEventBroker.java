@@ -0,0 +1,76 @@
+package com.cmci.cr.infrastructure.event;
+
+import com.cmci.cr.domain.event.DomainEvent;
+import com.cmci.cr.domain.event.DomainEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Broker en mémoire remplaçant Kafka (tests, développement local).
+ * Les événements sont ajoutés à un journal ordonné et distribués de façon synchrone ;
+ * replayFrom rejoue le journal depuis un offset, comme un consommateur Kafka repositionné.
+ * Activé par app.events.broker=memory
+ */
+@Component("brokerEventPublisher")
+@ConditionalOnProperty(name = "app.events.broker", havingValue = "memory")
+@Slf4j
+public class InMemoryEventBroker implements DomainEventPublisher {
+
+    private final DomainEventDispatcher dispatcher;
+    private final List<DomainEvent> journal = new ArrayList<>();
+
+    public InMemoryEventBroker(DomainEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        synchronized (journal) {
+            journal.add(event);
+        }
+        log.debug("Event {} stored in memory at offset {}", event.getEventType(), journal.size() - 1);
+        dispatcher.dispatch(event);
+    }
+
+    @Override
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        // Le lot occupe des offsets consécutifs du journal
+        synchronized (journal) {
+            journal.addAll(events);
+        }
+        log.debug("{} events stored in memory", events.size());
+        events.forEach(dispatcher::dispatch);
+    }
+
+    /**
+     * Rejoue les événements du journal à partir de l'offset donné (inclus)
+     */
+    public void replayFrom(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("L'offset doit être positif");
+        }
+        getEvents().stream()
+                .skip(offset)
+                .forEach(dispatcher::dispatch);
+    }
+
+    /**
+     * Copie du journal des événements publiés
+     */
+    public List<DomainEvent> getEvents() {
+        synchronized (journal) {
+            return List.copyOf(journal);
+        }
+    }
+
+    public void clear() {
+        synchronized (journal) {
+            journal.clear();
+        }
+    }
+}
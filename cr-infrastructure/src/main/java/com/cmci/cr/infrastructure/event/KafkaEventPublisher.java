@@ -8,6 +8,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -50,6 +51,18 @@ public class KafkaEventPublisher {
         });
     }
 
+    /**
+     * Publie un lot d'événements : les envois partent dans les mêmes batches du producteur,
+     * puis un seul flush les pousse vers le broker
+     */
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        events.forEach(this::publish);
+        kafkaTemplate.flush();
+    }
+
     /**
      * Détermine le topic Kafka en fonction du type d'événement
      */
@@ -57,7 +70,9 @@ public class KafkaEventPublisher {
         if (event instanceof CRCreatedEvent ||
             event instanceof CRSubmittedEvent ||
             event instanceof CRValidatedEvent ||
-            event instanceof CRMarkedAsViewedEvent) {
+            event instanceof CRMarkedAsViewedEvent ||
+            event instanceof CRUpdatedEvent ||
+            event instanceof CRDeletedEvent) {
             return KafkaTopics.CR_EVENTS;
         } else if (event instanceof CommentaireAddedEvent) {
             return KafkaTopics.COMMENTAIRE_EVENTS;
@@ -83,6 +98,10 @@ public class KafkaEventPublisher {
             aggregateId = crEvent.getCompteRenduId();
         } else if (event instanceof CRMarkedAsViewedEvent crEvent) {
             aggregateId = crEvent.getCompteRenduId();
+        } else if (event instanceof CRUpdatedEvent crEvent) {
+            aggregateId = crEvent.getCompteRenduId();
+        } else if (event instanceof CRDeletedEvent crEvent) {
+            aggregateId = crEvent.getCompteRenduId();
         } else if (event instanceof CommentaireAddedEvent commentEvent) {
             aggregateId = commentEvent.getCommentaireId();
         }
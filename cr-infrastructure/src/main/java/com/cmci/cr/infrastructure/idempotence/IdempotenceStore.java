@@ -0,0 +1,29 @@
+package com.cmci.cr.infrastructure.idempotence;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Stockage à durée de vie courte des réponses associées aux Idempotency-Key.
+ * La réservation est atomique : une seule requête exécute le traitement pour une clé.
+ */
+public interface IdempotenceStore {
+
+    /**
+     * Réserve la clé si elle est libre.
+     *
+     * @return vide si la clé vient d'être réservée par l'appelant,
+     *         sinon l'entrée existante (en cours ou terminée)
+     */
+    Optional<ReponseIdempotente> reserver(String cle, String empreinte, Duration ttlReservation);
+
+    /**
+     * Remplace la réservation par la réponse terminée
+     */
+    void enregistrer(String cle, ReponseIdempotente reponse, Duration ttl);
+
+    /**
+     * Libère la clé sans réponse (échec du traitement) : un nouvel essai réexécute la requête
+     */
+    void liberer(String cle);
+}
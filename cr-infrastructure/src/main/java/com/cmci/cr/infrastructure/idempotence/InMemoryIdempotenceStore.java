@@ -0,0 +1,55 @@
+package com.cmci.cr.infrastructure.idempotence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Réponses idempotentes en mémoire locale, utilisées à la place de Redis dans les tests
+ * et en instance unique (app.idempotence.store=memory), et comme repli du stockage Redis
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotence.store", havingValue = "memory")
+public class InMemoryIdempotenceStore implements IdempotenceStore {
+
+    // Les entrées expirées sont purgées toutes les N réservations
+    private static final int INTERVALLE_PURGE = 1024;
+
+    private final ConcurrentMap<String, Entree> entrees = new ConcurrentHashMap<>();
+    private final AtomicInteger reservations = new AtomicInteger();
+
+    @Override
+    public Optional<ReponseIdempotente> reserver(String cle, String empreinte, Duration ttlReservation) {
+        long maintenant = System.currentTimeMillis();
+        if (reservations.incrementAndGet() % INTERVALLE_PURGE == 0) {
+            entrees.values().removeIf(entree -> entree.expireA() <= maintenant);
+        }
+
+        ReponseIdempotente[] existante = new ReponseIdempotente[1];
+        entrees.compute(cle, (k, entree) -> {
+            if (entree != null && entree.expireA() > maintenant) {
+                existante[0] = entree.reponse();
+                return entree;
+            }
+            return new Entree(ReponseIdempotente.enCours(empreinte), maintenant + ttlReservation.toMillis());
+        });
+        return Optional.ofNullable(existante[0]);
+    }
+
+    @Override
+    public void enregistrer(String cle, ReponseIdempotente reponse, Duration ttl) {
+        entrees.put(cle, new Entree(reponse, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void liberer(String cle) {
+        entrees.remove(cle);
+    }
+
+    private record Entree(ReponseIdempotente reponse, long expireA) {}
+}
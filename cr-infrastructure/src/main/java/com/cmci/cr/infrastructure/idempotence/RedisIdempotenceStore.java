@@ -0,0 +1,98 @@
+package com.cmci.cr.infrastructure.idempotence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Réponses idempotentes partagées entre instances dans Redis.
+ *
+ * La réservation est un SET NX avec expiration : la clé se libère seule si l'instance
+ * qui traite la requête tombe. Si Redis est indisponible, le stockage bascule sur une
+ * mémoire locale : les doublons arrivant sur la même instance restent dédoublonnés.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotence.store", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisIdempotenceStore implements IdempotenceStore {
+
+    private static final String PREFIXE = "idempotence:";
+
+    // Tentatives de réservation lorsque l'entrée lue expire entre le SET NX et le GET
+    private static final int TENTATIVES_RESERVATION = 3;
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final InMemoryIdempotenceStore repli = new InMemoryIdempotenceStore();
+
+    public RedisIdempotenceStore(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        this.redis = new StringRedisTemplate(connectionFactory);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<ReponseIdempotente> reserver(String cle, String empreinte, Duration ttlReservation) {
+        try {
+            String reservation = serialiser(ReponseIdempotente.enCours(empreinte));
+            for (int tentative = 0; tentative < TENTATIVES_RESERVATION; tentative++) {
+                if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(PREFIXE + cle, reservation, ttlReservation))) {
+                    return Optional.empty();
+                }
+                String existante = redis.opsForValue().get(PREFIXE + cle);
+                if (existante != null) {
+                    return Optional.of(deserialiser(existante));
+                }
+            }
+            throw new IllegalStateException("Réservation impossible de la clé d'idempotence " + cle);
+        } catch (RuntimeException e) {
+            log.warn("Redis indisponible pour l'idempotence, repli en mémoire locale : {}", e.getMessage());
+            return repli.reserver(cle, empreinte, ttlReservation);
+        }
+    }
+
+    @Override
+    public void enregistrer(String cle, ReponseIdempotente reponse, Duration ttl) {
+        try {
+            redis.opsForValue().set(PREFIXE + cle, serialiser(reponse), ttl);
+            repli.liberer(cle); // Réservation éventuellement prise en repli pendant une panne
+        } catch (RuntimeException e) {
+            log.warn("Redis indisponible pour l'idempotence, repli en mémoire locale : {}", e.getMessage());
+            repli.enregistrer(cle, reponse, ttl);
+        }
+    }
+
+    @Override
+    public void liberer(String cle) {
+        repli.liberer(cle);
+        try {
+            redis.delete(PREFIXE + cle);
+        } catch (RuntimeException e) {
+            // La réservation expirera d'elle-même
+            log.warn("Clé d'idempotence {} non libérée : {}", cle, e.getMessage());
+        }
+    }
+
+    private String serialiser(ReponseIdempotente reponse) {
+        try {
+            return objectMapper.writeValueAsString(reponse);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ReponseIdempotente deserialiser(String valeur) {
+        try {
+            return objectMapper.readValue(valeur, ReponseIdempotente.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
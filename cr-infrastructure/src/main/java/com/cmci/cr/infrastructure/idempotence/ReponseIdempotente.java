@@ -0,0 +1,30 @@
+package com.cmci.cr.infrastructure.idempotence;
+
+/**
+ * Réponse conservée pour une Idempotency-Key : réservation en cours de traitement,
+ * puis réponse terminée rejouée telle quelle aux requêtes en double
+ *
+ * @param empreinte   empreinte de la requête d'origine (méthode, chemin, corps)
+ * @param enCours     true tant que la requête d'origine n'a pas répondu
+ * @param statut      code HTTP de la réponse d'origine
+ * @param contentType type de contenu de la réponse d'origine, null si absent
+ * @param location    en-tête Location de la réponse d'origine, null si absent
+ * @param corps       corps de la réponse d'origine
+ */
+public record ReponseIdempotente(
+        String empreinte,
+        boolean enCours,
+        int statut,
+        String contentType,
+        String location,
+        byte[] corps) {
+
+    public static ReponseIdempotente enCours(String empreinte) {
+        return new ReponseIdempotente(empreinte, true, 0, null, null, new byte[0]);
+    }
+
+    public static ReponseIdempotente terminee(
+            String empreinte, int statut, String contentType, String location, byte[] corps) {
+        return new ReponseIdempotente(empreinte, false, statut, contentType, location, corps);
+    }
+}
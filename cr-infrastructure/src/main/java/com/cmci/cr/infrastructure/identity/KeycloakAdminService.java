@@ -2,6 +2,9 @@ package com.cmci.cr.infrastructure.identity;
 
 import com.cmci.cr.domain.port.IdentityProviderPort;
 import com.cmci.cr.domain.valueobject.Role;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.HttpHeaders;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.keycloak.admin.client.Keycloak;
@@ -14,20 +17,36 @@ import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service d'administration Keycloak
  * Implémente le port IdentityProviderPort pour gérer les utilisateurs et rôles
+ *
+ * Appels synchrones bruts : une ressource absente (404) est rendue vide en lecture et lève
+ * NoSuchElementException en écriture, une requête refusée (autre 4xx) lève
+ * IllegalArgumentException. Seules les erreurs de transport et les 5xx lèvent
+ * FournisseurIndisponibleException. Cloison, délais et disjoncteur sont posés par
+ * {@link ResilientIdentityProvider}.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class KeycloakAdminService implements IdentityProviderPort {
 
+    // Réponses qui mettent en cause la requête elle-même, pas la disponibilité de Keycloak
+    private static final Set<Integer> STATUTS_REQUETE_INVALIDE = Set.of(400, 404, 409, 422);
+
     private final Keycloak keycloak;
 
     @Qualifier("keycloakRealm")
@@ -58,9 +77,10 @@ public class KeycloakAdminService implements IdentityProviderPort {
             return users.stream()
                     .map(this::toIdentityUser)
                     .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error fetching users by role {}: {}", role.name(), e.getMessage());
+        } catch (NotFoundException e) {
             return Collections.emptyList();
+        } catch (Exception e) {
+            throw traduire("fetching users by role " + role.name(), e);
         }
     }
 
@@ -75,8 +95,7 @@ public class KeycloakAdminService implements IdentityProviderPort {
                     .map(this::toIdentityUser)
                     .collect(Collectors.toList());
         } catch (Exception e) {
-            log.error("Error fetching all users: {}", e.getMessage());
-            return Collections.emptyList();
+            throw traduire("fetching all users", e);
         }
     }
 
@@ -87,9 +106,10 @@ public class KeycloakAdminService implements IdentityProviderPort {
 
             UserRepresentation user = getUsersResource().get(userId).toRepresentation();
             return Optional.of(toIdentityUser(user));
-        } catch (Exception e) {
-            log.error("Error fetching user by ID {}: {}", userId, e.getMessage());
+        } catch (NotFoundException e) {
             return Optional.empty();
+        } catch (Exception e) {
+            throw traduire("fetching user by ID " + userId, e);
         }
     }
 
@@ -106,8 +126,7 @@ public class KeycloakAdminService implements IdentityProviderPort {
 
             return Optional.of(toIdentityUser(users.get(0)));
         } catch (Exception e) {
-            log.error("Error fetching user by email {}: {}", email, e.getMessage());
-            return Optional.empty();
+            throw traduire("fetching user by email " + email, e);
         }
     }
 
@@ -123,8 +142,7 @@ public class KeycloakAdminService implements IdentityProviderPort {
 
             log.info("Successfully assigned role {} to user {}", role.name(), userId);
         } catch (Exception e) {
-            log.error("Error assigning role {} to user {}: {}", role.name(), userId, e.getMessage());
-            throw new RuntimeException("Failed to assign role: " + e.getMessage(), e);
+            throw traduire("assigning role " + role.name() + " to user " + userId, e);
         }
     }
 
@@ -140,8 +158,7 @@ public class KeycloakAdminService implements IdentityProviderPort {
 
             log.info("Successfully removed role {} from user {}", role.name(), userId);
         } catch (Exception e) {
-            log.error("Error removing role {} from user {}: {}", role.name(), userId, e.getMessage());
-            throw new RuntimeException("Failed to remove role: " + e.getMessage(), e);
+            throw traduire("removing role " + role.name() + " from user " + userId, e);
         }
     }
 
@@ -158,9 +175,10 @@ public class KeycloakAdminService implements IdentityProviderPort {
                     .filter(this::isApplicationRole)
                     .map(Role::valueOf)
                     .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error fetching roles for user {}: {}", userId, e.getMessage());
+        } catch (NotFoundException e) {
             return Collections.emptyList();
+        } catch (Exception e) {
+            throw traduire("fetching roles for user " + userId, e);
         }
     }
 
@@ -175,8 +193,7 @@ public class KeycloakAdminService implements IdentityProviderPort {
                     .map(this::toIdentityUser)
                     .collect(Collectors.toList());
         } catch (Exception e) {
-            log.error("Error searching users: {}", e.getMessage());
-            return Collections.emptyList();
+            throw traduire("searching users", e);
         }
     }
 
@@ -185,8 +202,7 @@ public class KeycloakAdminService implements IdentityProviderPort {
         try {
             return getUsersResource().count();
         } catch (Exception e) {
-            log.error("Error counting users: {}", e.getMessage());
-            return 0;
+            throw traduire("counting users", e);
         }
     }
 
@@ -198,9 +214,10 @@ public class KeycloakAdminService implements IdentityProviderPort {
                     .get(role.name())
                     .getUserMembers()
                     .size();
-        } catch (Exception e) {
-            log.error("Error counting users by role {}: {}", role.name(), e.getMessage());
+        } catch (NotFoundException e) {
             return 0;
+        } catch (Exception e) {
+            throw traduire("counting users by role " + role.name(), e);
         }
     }
 
@@ -222,6 +239,55 @@ public class KeycloakAdminService implements IdentityProviderPort {
         );
     }
 
+    /**
+     * Traduit une erreur d'appel. Seuls 400, 404, 409 et 422 disent que la requête est fausse :
+     * ils ne deviennent ni des 503 ni des échecs pour le disjoncteur. 401/403 (compte de service
+     * refusé), 429 (limitation, avec son Retry-After) et les autres réponses disent que Keycloak
+     * ne nous sert pas et rendent le fournisseur indisponible.
+     */
+    private RuntimeException traduire(String operation, Exception e) {
+        if (e instanceof FournisseurIndisponibleException dejaTraduite) {
+            return dejaTraduite;
+        }
+        if (e instanceof NotFoundException) {
+            return new NoSuchElementException("Ressource Keycloak introuvable: " + operation);
+        }
+        if (e instanceof ClientErrorException refus) {
+            int statut = refus.getResponse().getStatus();
+            if (STATUTS_REQUETE_INVALIDE.contains(statut)) {
+                log.warn("Keycloak refused {}: HTTP {}", operation, statut);
+                return new IllegalArgumentException("Requête refusée par Keycloak (HTTP "
+                        + statut + "): " + operation, e);
+            }
+            log.error("Keycloak rejected {}: HTTP {}", operation, statut);
+            return new FournisseurIndisponibleException("Keycloak indisponible (HTTP " + statut + "): " + operation,
+                    statut == 429 ? reessaiApres(refus.getResponse().getHeaderString(HttpHeaders.RETRY_AFTER)) : null,
+                    e);
+        }
+        log.error("Error {}: {}", operation, e.getMessage());
+        return new FournisseurIndisponibleException("Keycloak indisponible: " + operation, e);
+    }
+
+    /**
+     * Retry-After en secondes ou en date HTTP ; null si absent ou illisible
+     */
+    private static Duration reessaiApres(String entete) {
+        if (entete == null || entete.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(entete.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delai = Duration.between(Instant.now(),
+                        ZonedDateTime.parse(entete.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return delai.isNegative() ? Duration.ZERO : delai;
+            } catch (DateTimeParseException illisible) {
+                return null;
+            }
+        }
+    }
+
     private boolean isApplicationRole(String roleName) {
         try {
             Role.valueOf(roleName);
@@ -0,0 +1,390 @@
+package com.cmci.cr.infrastructure.identity;
+
+import com.cmci.cr.domain.port.IdentityProviderPort;
+import com.cmci.cr.domain.valueobject.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Appels d'administration Keycloak protégés, posé devant {@link KeycloakAdminService}
+ *
+ * - Cloison : les appels s'exécutent sur un pool borné (threads et file d'attente) ; une
+ *   cloison pleine refuse l'appel au lieu d'accumuler des threads Tomcat bloqués.
+ * - Délai par appel : passé le délai, l'appelant est libéré même si Keycloak n'a pas répondu.
+ * - Disjoncteur : après N échecs consécutifs, les appels sont refusés sans toucher Keycloak
+ *   pendant la durée d'ouverture, puis un seul appel d'essai décide de la refermeture.
+ * - Repli : une lecture en échec rend le dernier résultat connu (borné en âge et en nombre) ;
+ *   sans résultat connu, FournisseurIndisponibleException (503).
+ *
+ * Les rôles d'un utilisateur et les écritures ne sont jamais servis depuis le repli :
+ * ils décident des droits d'attribution. Une requête refusée par Keycloak (4xx, traduite en
+ * IllegalArgumentException ou NoSuchElementException) est une réponse : elle est rendue telle
+ * quelle, sans repli, et ne compte pas comme un échec du disjoncteur.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "keycloak.admin.resilience.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ResilientIdentityProvider implements IdentityProviderPort, DisposableBean {
+
+    private final IdentityProviderPort delegate;
+    private final ThreadPoolExecutor cloison;
+    private final Duration delai;
+    private final Disjoncteur disjoncteur;
+    private final Duration ageMaxRepli;
+    private final Map<String, ResultatConnu> derniersResultats;
+    private final Clock clock;
+
+    @Autowired
+    public ResilientIdentityProvider(
+            KeycloakAdminService delegate,
+            @Value("${keycloak.admin.resilience.concurrence:8}") int concurrence,
+            @Value("${keycloak.admin.resilience.file:16}") int capaciteFile,
+            @Value("${keycloak.admin.resilience.delai:PT3S}") Duration delai,
+            @Value("${keycloak.admin.resilience.seuil-echecs:5}") int seuilEchecs,
+            @Value("${keycloak.admin.resilience.duree-ouverture:PT30S}") Duration dureeOuverture,
+            @Value("${keycloak.admin.resilience.repli.age-max:PT30M}") Duration ageMaxRepli,
+            @Value("${keycloak.admin.resilience.repli.max-entrees:500}") int maxEntreesRepli) {
+        this(delegate, concurrence, capaciteFile, delai, seuilEchecs, dureeOuverture,
+                ageMaxRepli, maxEntreesRepli, Clock.systemUTC());
+    }
+
+    public ResilientIdentityProvider(
+            IdentityProviderPort delegate,
+            int concurrence,
+            int capaciteFile,
+            Duration delai,
+            int seuilEchecs,
+            Duration dureeOuverture,
+            Duration ageMaxRepli,
+            int maxEntreesRepli,
+            Clock clock) {
+        this.delegate = delegate;
+        this.delai = delai;
+        this.ageMaxRepli = ageMaxRepli;
+        this.clock = clock;
+        this.disjoncteur = new Disjoncteur(seuilEchecs, dureeOuverture, clock);
+        this.derniersResultats = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, ResultatConnu> plusAncienne) {
+                        return size() > maxEntreesRepli;
+                    }
+                });
+
+        AtomicInteger compteur = new AtomicInteger();
+        this.cloison = new ThreadPoolExecutor(
+                concurrence, concurrence,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capaciteFile),
+                tache -> {
+                    Thread thread = new Thread(tache, "keycloak-admin-" + compteur.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // ==================== Variantes asynchrones ====================
+
+    @Override
+    public CompletableFuture<List<IdentityUser>> getUsersByRoleAsync(Role role) {
+        return lire("role:" + role.name(), () -> delegate.getUsersByRole(role));
+    }
+
+    @Override
+    public CompletableFuture<List<IdentityUser>> getAllUsersAsync(int first, int max) {
+        return lire("utilisateurs:" + first + ":" + max, () -> delegate.getAllUsers(first, max));
+    }
+
+    @Override
+    public CompletableFuture<Optional<IdentityUser>> getUserByIdAsync(String userId) {
+        return lire("utilisateur:" + userId, () -> delegate.getUserById(userId));
+    }
+
+    @Override
+    public CompletableFuture<List<IdentityUser>> searchUsersAsync(String search, int first, int max) {
+        return appeler(() -> delegate.searchUsers(search, first, max));
+    }
+
+    @Override
+    public CompletableFuture<Integer> countUsersAsync() {
+        return lire("compte", delegate::countUsers);
+    }
+
+    @Override
+    public CompletableFuture<Integer> countUsersByRoleAsync(Role role) {
+        return lire("compte:" + role.name(), () -> delegate.countUsersByRole(role));
+    }
+
+    // ==================== Variantes synchrones (bornées par le délai) ====================
+
+    @Override
+    public List<IdentityUser> getUsersByRole(Role role) {
+        return attendre(getUsersByRoleAsync(role));
+    }
+
+    @Override
+    public List<IdentityUser> getAllUsers(int first, int max) {
+        return attendre(getAllUsersAsync(first, max));
+    }
+
+    @Override
+    public Optional<IdentityUser> getUserById(String userId) {
+        return attendre(getUserByIdAsync(userId));
+    }
+
+    @Override
+    public Optional<IdentityUser> getUserByEmail(String email) {
+        return attendre(appeler(() -> delegate.getUserByEmail(email)));
+    }
+
+    @Override
+    public void assignRole(String userId, Role role) {
+        attendre(appeler(() -> {
+            delegate.assignRole(userId, role);
+            return null;
+        }));
+        oublier(userId);
+    }
+
+    @Override
+    public void removeRole(String userId, Role role) {
+        attendre(appeler(() -> {
+            delegate.removeRole(userId, role);
+            return null;
+        }));
+        oublier(userId);
+    }
+
+    @Override
+    public List<Role> getUserRoles(String userId) {
+        return attendre(appeler(() -> delegate.getUserRoles(userId)));
+    }
+
+    @Override
+    public List<IdentityUser> searchUsers(String search, int first, int max) {
+        return attendre(searchUsersAsync(search, first, max));
+    }
+
+    @Override
+    public int countUsers() {
+        return attendre(countUsersAsync());
+    }
+
+    @Override
+    public int countUsersByRole(Role role) {
+        return attendre(countUsersByRoleAsync(role));
+    }
+
+    /**
+     * Arrête la cloison sans attendre les appels en vol : ils sont bornés par les délais HTTP du client
+     */
+    @Override
+    public void destroy() {
+        cloison.shutdownNow();
+    }
+
+    // ==================== Mécanique ====================
+
+    /**
+     * Lecture avec repli : un succès mémorise le résultat, un échec rend le dernier résultat connu
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> lire(String cle, Supplier<T> appel) {
+        return appeler(appel)
+                .thenApply(resultat -> {
+                    derniersResultats.put(cle, new ResultatConnu(resultat, clock.instant()));
+                    return resultat;
+                })
+                .exceptionallyCompose(erreur -> {
+                    if (estRefus(cause(erreur))) {
+                        return CompletableFuture.failedFuture(cause(erreur));
+                    }
+                    ResultatConnu connu = derniersResultats.get(cle);
+                    if (connu != null && !connu.date().plus(ageMaxRepli).isBefore(clock.instant())) {
+                        log.warn("Keycloak unavailable, serving last known result for {} ({})", cle, connu.date());
+                        return CompletableFuture.completedFuture((T) connu.valeur());
+                    }
+                    return CompletableFuture.failedFuture(cause(erreur));
+                });
+    }
+
+    /**
+     * Appel protégé par le disjoncteur, la cloison et le délai
+     */
+    private <T> CompletableFuture<T> appeler(Supplier<T> appel) {
+        if (!disjoncteur.autoriser()) {
+            return CompletableFuture.failedFuture(new FournisseurIndisponibleException(
+                    "Keycloak indisponible: circuit ouvert", disjoncteur.reessaiApres(), null));
+        }
+
+        CompletableFuture<T> resultat;
+        try {
+            resultat = CompletableFuture.supplyAsync(appel, cloison);
+        } catch (RejectedExecutionException e) {
+            // Saturation locale : ne dit rien de la santé de Keycloak
+            disjoncteur.abandonner();
+            log.warn("Keycloak admin bulkhead full ({} running, {} queued)",
+                    cloison.getActiveCount(), cloison.getQueue().size());
+            return CompletableFuture.failedFuture(new FournisseurIndisponibleException(
+                    "Keycloak indisponible: trop d'appels en cours", e));
+        }
+
+        return resultat
+                .orTimeout(delai.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((valeur, erreur) -> {
+                    if (erreur == null) {
+                        disjoncteur.succes();
+                        return valeur;
+                    }
+                    Throwable cause = cause(erreur);
+                    if (estRefus(cause)) {
+                        // Keycloak a répondu : la requête est en cause, pas sa disponibilité
+                        disjoncteur.succes();
+                        throw (RuntimeException) cause;
+                    }
+                    disjoncteur.echec();
+                    if (cause instanceof TimeoutException) {
+                        throw new FournisseurIndisponibleException(
+                                "Keycloak indisponible: pas de réponse en " + delai.toMillis() + " ms", cause);
+                    }
+                    if (cause instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    throw new FournisseurIndisponibleException("Keycloak indisponible", cause);
+                });
+    }
+
+    private <T> T attendre(CompletableFuture<T> resultat) {
+        try {
+            return resultat.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FournisseurIndisponibleException("Appel Keycloak interrompu", e);
+        } catch (ExecutionException e) {
+            Throwable cause = cause(e);
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new FournisseurIndisponibleException("Keycloak indisponible", cause);
+        }
+    }
+
+    private void oublier(String userId) {
+        synchronized (derniersResultats) {
+            derniersResultats.keySet().removeIf(cle ->
+                    cle.equals("utilisateur:" + userId) || cle.startsWith("role:") || cle.startsWith("compte"));
+        }
+    }
+
+    private static boolean estRefus(Throwable cause) {
+        return cause instanceof IllegalArgumentException || cause instanceof NoSuchElementException;
+    }
+
+    private static Throwable cause(Throwable erreur) {
+        Throwable cause = erreur;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private record ResultatConnu(Object valeur, Instant date) {}
+
+    /**
+     * Disjoncteur fermé / ouvert / semi-ouvert compté en échecs consécutifs
+     */
+    static final class Disjoncteur {
+
+        enum Etat { FERME, OUVERT, SEMI_OUVERT }
+
+        private final int seuilEchecs;
+        private final Duration dureeOuverture;
+        private final Clock clock;
+
+        private Etat etat = Etat.FERME;
+        private int echecsConsecutifs;
+        private Instant ouvertJusqua = Instant.MIN;
+        private boolean essaiEnCours;
+
+        Disjoncteur(int seuilEchecs, Duration dureeOuverture, Clock clock) {
+            this.seuilEchecs = seuilEchecs;
+            this.dureeOuverture = dureeOuverture;
+            this.clock = clock;
+        }
+
+        synchronized boolean autoriser() {
+            if (etat == Etat.OUVERT && !clock.instant().isBefore(ouvertJusqua)) {
+                etat = Etat.SEMI_OUVERT;
+            }
+            if (etat == Etat.SEMI_OUVERT) {
+                if (essaiEnCours) {
+                    return false;
+                }
+                essaiEnCours = true;
+                return true;
+            }
+            return etat == Etat.FERME;
+        }
+
+        synchronized void succes() {
+            if (etat != Etat.FERME) {
+                log.info("Keycloak admin circuit closed");
+            }
+            etat = Etat.FERME;
+            echecsConsecutifs = 0;
+            essaiEnCours = false;
+        }
+
+        synchronized void echec() {
+            echecsConsecutifs++;
+            if (etat == Etat.SEMI_OUVERT || echecsConsecutifs >= seuilEchecs) {
+                if (etat != Etat.OUVERT) {
+                    log.warn("Keycloak admin circuit opened after {} consecutive failures", echecsConsecutifs);
+                }
+                etat = Etat.OUVERT;
+                ouvertJusqua = clock.instant().plus(dureeOuverture);
+            }
+            essaiEnCours = false;
+        }
+
+        /**
+         * L'appel autorisé n'a pas pu partir : libère l'essai du mode semi-ouvert
+         */
+        synchronized void abandonner() {
+            essaiEnCours = false;
+        }
+
+        synchronized Duration reessaiApres() {
+            Duration reste = Duration.between(clock.instant(), ouvertJusqua);
+            return reste.isNegative() ? Duration.ZERO : reste;
+        }
+    }
+}
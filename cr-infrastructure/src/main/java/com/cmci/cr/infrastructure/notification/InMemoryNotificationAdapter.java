@@ -0,0 +1,55 @@
+package com.cmci.cr.infrastructure.notification;
+
+import com.cmci.cr.domain.port.NotificationPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sink en mémoire pour les notifications, utilisé à la place de Kafka
+ * dans les tests et en local (app.notifications.sink=memory)
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sink", havingValue = "memory")
+@Slf4j
+public class InMemoryNotificationAdapter implements NotificationPort {
+
+    private final List<Notification> notifications = new ArrayList<>();
+    private final AtomicInteger nombreLots = new AtomicInteger();
+
+    @Override
+    public synchronized void envoyer(List<Notification> lot) {
+        if (lot == null || lot.isEmpty()) {
+            return;
+        }
+        notifications.addAll(lot);
+        nombreLots.incrementAndGet();
+        log.debug("{} notifications stored in memory", lot.size());
+    }
+
+    /**
+     * Retourne une copie des notifications reçues
+     */
+    public synchronized List<Notification> getNotifications() {
+        return List.copyOf(notifications);
+    }
+
+    /**
+     * Retourne le nombre de lots reçus
+     */
+    public int getNombreLots() {
+        return nombreLots.get();
+    }
+
+    /**
+     * Vide le sink
+     */
+    public synchronized void clear() {
+        notifications.clear();
+        nombreLots.set(0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.cmci.cr.infrastructure.notification;
+
+import com.cmci.cr.domain.port.NotificationPort;
+import com.cmci.cr.infrastructure.config.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Adaptateur qui implémente le port NotificationPort en publiant
+ * sur le topic Kafka des notifications.
+ *
+ * Les messages d'un lot sont envoyés sans attente individuelle (le producer les
+ * regroupe en batchs), puis le lot est confirmé en une seule attente.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sink", havingValue = "kafka", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaNotificationAdapter implements NotificationPort {
+
+    private static final long TIMEOUT_ENVOI_SECONDES = 30;
+
+    private final KafkaTemplate<String, Notification> notificationKafkaTemplate;
+
+    @Override
+    public void envoyer(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
+        }
+
+        // Clé = destinataire : les notifications d'un même utilisateur restent ordonnées
+        CompletableFuture<?>[] futures = notifications.stream()
+                .map(notification -> notificationKafkaTemplate.send(
+                        KafkaTopics.NOTIFICATIONS,
+                        notification.destinataireId().toString(),
+                        notification))
+                .toArray(CompletableFuture[]::new);
+        notificationKafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(futures).get(TIMEOUT_ENVOI_SECONDES, TimeUnit.SECONDS);
+            log.info("{} notifications published to topic {}", notifications.size(), KafkaTopics.NOTIFICATIONS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Envoi des notifications interrompu", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(
+                    "Échec de l'envoi de " + notifications.size() + " notifications", e);
+        }
+    }
+}
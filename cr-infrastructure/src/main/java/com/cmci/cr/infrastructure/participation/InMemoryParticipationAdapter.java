@@ -0,0 +1,95 @@
+package com.cmci.cr.infrastructure.participation;
+
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.infrastructure.persistence.repository.ParticipationJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index de participation journalière en mémoire (BitSet par jour et par périmètre),
+ * utilisé à la place de Redis dans les tests et en instance unique
+ * (app.participation.store=memory)
+ */
+@Component
+@ConditionalOnProperty(name = "app.participation.store", havingValue = "memory")
+public class InMemoryParticipationAdapter implements ParticipationRepository {
+
+    private static final int JOURS_CONSERVES = 40;
+
+    private final ParticipationJpaRepository participationJpaRepository;
+    private final Duration ttlPerimetre;
+
+    private final ConcurrentMap<LocalDate, BitSet> jours = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MembresPerimetre> perimetres = new ConcurrentHashMap<>();
+
+    public InMemoryParticipationAdapter(
+            ParticipationJpaRepository participationJpaRepository,
+            @Value("${app.participation.perimetre-ttl:PT10M}") Duration ttlPerimetre) {
+        this.participationJpaRepository = participationJpaRepository;
+        this.ttlPerimetre = ttlPerimetre;
+    }
+
+    @Override
+    public void marquer(UUID utilisateurId, LocalDate date, boolean soumis) {
+        // Un jour pas encore chargé sera lu depuis la base (CR déjà enregistré) au premier comptage
+        jours.computeIfPresent(date, (d, bits) -> {
+            participationJpaRepository.findNumeroMembre(utilisateurId)
+                    .ifPresent(numero -> bits.set(numero, soumis));
+            return bits;
+        });
+    }
+
+    @Override
+    public Participation compter(Perimetre perimetre, UUID perimetreId, LocalDate date) {
+        BitSet membres = membres(perimetre, perimetreId);
+        BitSet communs = (BitSet) membres.clone();
+        jours.compute(date, (d, bits) -> {
+            BitSet jour = bits != null ? bits : charger(participationJpaRepository.findNumerosMembresParticipants(d));
+            communs.and(jour);
+            return jour;
+        });
+        purgerJoursAnciens(date);
+        return new Participation(membres.cardinality(), communs.cardinality());
+    }
+
+    private BitSet membres(Perimetre perimetre, UUID perimetreId) {
+        String cle = perimetre.name() + ":" + perimetreId;
+        Instant maintenant = Instant.now();
+        MembresPerimetre enCache = perimetres.get(cle);
+        if (enCache != null && enCache.expireA().isAfter(maintenant)) {
+            return enCache.bits();
+        }
+        BitSet bits = charger(participationJpaRepository.findNumerosMembresActifs(perimetre, perimetreId));
+        perimetres.put(cle, new MembresPerimetre(bits, maintenant.plus(ttlPerimetre)));
+        return bits;
+    }
+
+    private void purgerJoursAnciens(LocalDate reference) {
+        LocalDate limite = reference.minusDays(JOURS_CONSERVES);
+        jours.keySet().removeIf(jour -> jour.isBefore(limite));
+    }
+
+    private static BitSet charger(List<Integer> numeros) {
+        BitSet bits = new BitSet();
+        for (Integer numero : numeros) {
+            if (numero != null) {
+                bits.set(numero);
+            }
+        }
+        return bits;
+    }
+
+    // Bitmap d'un périmètre, jamais modifié après construction
+    private record MembresPerimetre(BitSet bits, Instant expireA) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.cmci.cr.infrastructure.participation;
+
+import com.cmci.cr.domain.repository.ParticipationRepository;
+import com.cmci.cr.infrastructure.persistence.repository.ParticipationJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Index de participation journalière sous forme de bitmaps Redis.
+ *
+ * Chaque utilisateur a un numéro de membre dense (colonne numero_membre) qui sert de
+ * position de bit. Deux familles de clés :
+ * - participation:jour:{date} : un bit par membre ayant soumis son CR ce jour,
+ *   maintenu par SETBIT à chaque création/suppression de CR ;
+ * - participation:perimetre:{type}:{id} : un bit par membre actif du périmètre,
+ *   reconstruit depuis la base à expiration.
+ * La participation d'un périmètre est le nombre de bits du ET des deux bitmaps,
+ * calculé ici sur les octets lus en un seul MGET.
+ *
+ * Un bitmap de jour absent (expiré, Redis vidé) est reconstruit depuis la base ;
+ * un marqueur :complet indique que le bitmap contient tout le jour. Chaque marquage
+ * incrémente, dans le même script Lua que le SETBIT, un compteur :generation du jour :
+ * une reconstruction qui a lu la base avant un marquage concurrent est abandonnée au lieu
+ * d'écraser ce marquage.
+ */
+@Component
+@ConditionalOnProperty(name = "app.participation.store", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisParticipationAdapter implements ParticipationRepository {
+
+    private static final String PREFIXE_JOUR = "participation:jour:";
+    private static final String PREFIXE_PERIMETRE = "participation:perimetre:";
+    private static final String SUFFIXE_COMPLET = ":complet";
+    private static final String SUFFIXE_GENERATION = ":generation";
+
+    /**
+     * Publie le bitmap reconstruit (RENAME) et pose le marqueur :complet, sauf si un marquage
+     * a eu lieu depuis la lecture de la base (génération changée) : la clé temporaire est alors jetée.
+     * KEYS : temporaire, jour, génération, complet. ARGV : génération lue, TTL en ms.
+     */
+    private static final RedisScript<Long> PUBLIER_JOUR = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[3]) or '') ~= ARGV[1] then "
+                    + "redis.call('DEL', KEYS[1]) return 0 end "
+                    + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+                    + "redis.call('SET', KEYS[4], '1', 'PX', ARGV[2]) "
+                    + "return 1",
+            Long.class);
+    /**
+     * Pose le bit du membre et incrémente la génération en une seule opération : PUBLIER_JOUR
+     * s'exécute soit avant (le bit atterrit sur le bitmap publié), soit après (génération changée,
+     * reconstruction abandonnée), jamais entre les deux.
+     * KEYS : jour, génération. ARGV : position, valeur (0/1), TTL en ms.
+     */
+    private static final RedisScript<Long> MARQUER_JOUR = new DefaultRedisScript<>(
+            "redis.call('SETBIT', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+                    + "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+                    + "return 1",
+            Long.class);
+    private static final Duration TTL_JOUR = Duration.ofDays(40);
+
+    private final StringRedisTemplate redis;
+    private final ParticipationJpaRepository participationJpaRepository;
+    private final Duration ttlPerimetre;
+
+    public RedisParticipationAdapter(
+            RedisConnectionFactory connectionFactory,
+            ParticipationJpaRepository participationJpaRepository,
+            @Value("${app.participation.perimetre-ttl:PT10M}") Duration ttlPerimetre) {
+        this.redis = new StringRedisTemplate(connectionFactory);
+        this.participationJpaRepository = participationJpaRepository;
+        this.ttlPerimetre = ttlPerimetre;
+    }
+
+    @Override
+    public void marquer(UUID utilisateurId, LocalDate date, boolean soumis) {
+        Integer numero = participationJpaRepository.findNumeroMembre(utilisateurId).orElse(null);
+        if (numero == null) {
+            return;
+        }
+        // Appelé dans la transaction d'écriture du CR : le bit n'est posé qu'une fois le CR
+        // visible en base, sinon une reconstruction concurrente pourrait le manquer
+        apresCommit(() -> ecrireBit(utilisateurId, numero, date, soumis));
+    }
+
+    private void ecrireBit(UUID utilisateurId, int numero, LocalDate date, boolean soumis) {
+        String cle = cleJour(date);
+        try {
+            redis.execute(MARQUER_JOUR, List.of(cle, cle + SUFFIXE_GENERATION),
+                    String.valueOf(numero), soumis ? "1" : "0", String.valueOf(TTL_JOUR.toMillis()));
+        } catch (RuntimeException e) {
+            // Le bitmap est un index dérivé : en cas d'échec il sera reconstruit depuis la base
+            log.warn("Participation non indexée pour {} le {} : {}", utilisateurId, date, e.getMessage());
+            invaliderJour(date);
+        }
+    }
+
+    @Override
+    public Participation compter(Perimetre perimetre, UUID perimetreId, LocalDate date) {
+        String cleJour = assurerJour(date);
+        String clePerimetre = assurerPerimetre(perimetre, perimetreId);
+
+        List<byte[]> bitmaps = redis.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(octets(cleJour), octets(clePerimetre)));
+
+        byte[] jour = bitmaps != null ? bitmaps.get(0) : null;
+        byte[] membres = bitmaps != null ? bitmaps.get(1) : null;
+        return new Participation(compterBits(membres), compterBitsCommuns(jour, membres));
+    }
+
+    private String assurerJour(LocalDate date) {
+        String cle = cleJour(date);
+        if (Boolean.TRUE.equals(redis.hasKey(cle + SUFFIXE_COMPLET))) {
+            return cle;
+        }
+
+        // Construit dans une clé temporaire puis RENAME, comme les périmètres : un bit resté
+        // à 1 après un démarquage en échec est effacé par la reconstruction. La génération est
+        // lue avant la base : un marquage survenu entre-temps fait abandonner la publication.
+        String generation = redis.opsForValue().get(cle + SUFFIXE_GENERATION);
+        List<Integer> numeros = participationJpaRepository.findNumerosMembresParticipants(date);
+        String temporaire = cle + ":construction:" + UUID.randomUUID();
+        ecrireBits(temporaire, numeros);
+        Long publie = redis.execute(PUBLIER_JOUR,
+                List.of(temporaire, cle, cle + SUFFIXE_GENERATION, cle + SUFFIXE_COMPLET),
+                generation != null ? generation : "", String.valueOf(TTL_JOUR.toMillis()));
+
+        if (publie != null && publie == 1) {
+            log.debug("Bitmap de participation du {} reconstruit ({} membres)", date, numeros.size());
+        } else {
+            // Lu tel quel pour cette fois : la prochaine lecture retentera la reconstruction
+            log.debug("Reconstruction du bitmap du {} abandonnée : marquage concurrent", date);
+        }
+        return cle;
+    }
+
+    private String assurerPerimetre(Perimetre perimetre, UUID perimetreId) {
+        String cle = PREFIXE_PERIMETRE + perimetre.name() + ":" + perimetreId;
+        if (Boolean.TRUE.equals(redis.hasKey(cle))) {
+            return cle;
+        }
+
+        // Construit dans une clé temporaire puis RENAME : le périmètre est remplacé d'un bloc,
+        // membres partis compris, sans jamais être lu à moitié construit
+        String temporaire = cle + ":construction:" + UUID.randomUUID();
+        ecrireBits(temporaire, participationJpaRepository.findNumerosMembresActifs(perimetre, perimetreId));
+        redis.rename(temporaire, cle);
+        redis.expire(cle, ttlPerimetre);
+        return cle;
+    }
+
+    private void ecrireBits(String cle, List<Integer> numeros) {
+        byte[] cleBrute = octets(cle);
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            // Le bit 0 n'est jamais attribué : il garantit l'existence de la clé même vide
+            connection.stringCommands().setBit(cleBrute, 0, false);
+            for (Integer numero : numeros) {
+                if (numero != null) {
+                    connection.stringCommands().setBit(cleBrute, numero, true);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Force la reconstruction du jour et fait abandonner une reconstruction en cours
+     */
+    private void invaliderJour(LocalDate date) {
+        try {
+            redis.opsForValue().increment(cleJour(date) + SUFFIXE_GENERATION);
+            redis.delete(cleJour(date) + SUFFIXE_COMPLET);
+        } catch (RuntimeException ignored) {
+            // Redis indisponible : le marqueur expirera de lui-même
+        }
+    }
+
+    private static void apresCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long compterBits(byte[] bitmap) {
+        if (bitmap == null) {
+            return 0;
+        }
+        long total = 0;
+        for (byte octet : bitmap) {
+            total += Integer.bitCount(octet & 0xFF);
+        }
+        return total;
+    }
+
+    private static long compterBitsCommuns(byte[] a, byte[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        int longueur = Math.min(a.length, b.length);
+        long total = 0;
+        for (int i = 0; i < longueur; i++) {
+            total += Integer.bitCount(a[i] & b[i] & 0xFF);
+        }
+        return total;
+    }
+
+    private static String cleJour(LocalDate date) {
+        return PREFIXE_JOUR + date;
+    }
+
+    private static byte[] octets(String cle) {
+        return cle.getBytes(StandardCharsets.UTF_8);
+    }
+}
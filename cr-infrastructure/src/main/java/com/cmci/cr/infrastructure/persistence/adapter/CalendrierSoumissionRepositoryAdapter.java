@@ -0,0 +1,50 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.CalendrierSoumissionRepository;
+import com.cmci.cr.domain.valueobject.CalendrierSoumissions;
+import com.cmci.cr.infrastructure.persistence.entity.CalendrierSoumissionJpaEntity;
+import com.cmci.cr.infrastructure.persistence.repository.CalendrierSoumissionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptateur qui implémente le port CalendrierSoumissionRepository
+ * en utilisant Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendrierSoumissionRepositoryAdapter implements CalendrierSoumissionRepository {
+
+    private final CalendrierSoumissionJpaRepository jpaRepository;
+
+    @Override
+    public void marquer(UUID utilisateurId, LocalDate date, boolean soumis) {
+        jpaRepository.marquer(utilisateurId, date.getYear(), date.getDayOfYear() - 1, soumis ? 1 : 0);
+    }
+
+    @Override
+    public Optional<CalendrierSoumissions> findByUtilisateurIdAndAnnee(UUID utilisateurId, int annee) {
+        return jpaRepository.findById(new CalendrierSoumissionJpaEntity.CalendrierSoumissionId(utilisateurId, annee))
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Map<UUID, CalendrierSoumissions> findByUtilisateurIdsAndAnnee(Collection<UUID> utilisateurIds, int annee) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findByUtilisateurIdInAndAnnee(utilisateurIds, annee).stream()
+                .collect(Collectors.toMap(CalendrierSoumissionJpaEntity::getUtilisateurId, this::toDomain));
+    }
+
+    private CalendrierSoumissions toDomain(CalendrierSoumissionJpaEntity entity) {
+        return CalendrierSoumissions.fromBytes(entity.getAnnee(), entity.getJours());
+    }
+}
@@ -0,0 +1,44 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.ClassementRepository;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.infrastructure.persistence.repository.CompteRenduJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adaptateur qui implémente le port ClassementRepository
+ * en utilisant Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class ClassementRepositoryAdapter implements ClassementRepository {
+
+    private final CompteRenduJpaRepository compteRenduJpaRepository;
+
+    @Override
+    public Map<UUID, Agregat> sommerParMembre(Collection<UUID> utilisateurIds, LocalDate debut, LocalDate fin) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Agregat> agregats = new HashMap<>();
+        for (Object[] row : compteRenduJpaRepository.aggregateByUtilisateur(utilisateurIds, debut, fin)) {
+            agregats.put((UUID) row[0], new Agregat(
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(),
+                    Duration.ofSeconds(((Number) row[3]).longValue()),
+                    ((Number) row[4]).longValue(),
+                    ((Number) row[5]).longValue(),
+                    ((Number) row[6]).longValue(),
+                    ((Number) row[7]).longValue()));
+        }
+        return agregats;
+    }
+}
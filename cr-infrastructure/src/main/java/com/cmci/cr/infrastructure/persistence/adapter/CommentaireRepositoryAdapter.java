@@ -6,9 +6,13 @@ import com.cmci.cr.infrastructure.persistence.entity.CommentaireJpaEntity;
 import com.cmci.cr.infrastructure.persistence.mapper.CommentaireMapper;
 import com.cmci.cr.infrastructure.persistence.repository.CommentaireJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -62,4 +66,53 @@ public class CommentaireRepositoryAdapter implements CommentaireRepository {
     public long countByCompteRenduId(UUID compteRenduId) {
         return jpaRepository.countByCompteRenduId(compteRenduId);
     }
+
+    @Override
+    public List<CommentaireAvecAuteur> findThreadByCompteRenduId(UUID compteRenduId, int page, int size) {
+        return jpaRepository.findThreadByCompteRenduId(compteRenduId, PageRequest.of(page, size))
+                .stream()
+                .map(this::toCommentaireAvecAuteur)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CommentaireAvecAuteur> findThreadByCompteRenduId(UUID compteRenduId) {
+        return jpaRepository.findThreadByCompteRenduId(compteRenduId)
+                .stream()
+                .map(this::toCommentaireAvecAuteur)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<UUID, ResumeCommentaires> findResumesByCompteRenduIds(List<UUID> compteRenduIds) {
+        if (compteRenduIds == null || compteRenduIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<UUID, ResumeCommentaires> resumes = new HashMap<>();
+        for (Object[] row : jpaRepository.findDerniersCommentairesByCompteRenduIdIn(compteRenduIds)) {
+            CommentaireAvecAuteur dernier = toCommentaireAvecAuteur(row);
+            long nombre = ((Number) row[3]).longValue();
+            // En cas d'égalité sur created_at, la première ligne (id le plus grand) est retenue
+            resumes.putIfAbsent(dernier.compteRenduId(),
+                    new ResumeCommentaires(dernier.compteRenduId(), nombre, dernier));
+        }
+        return resumes;
+    }
+
+    /**
+     * Convertit une ligne [CommentaireJpaEntity, prenom, nom, ...] en CommentaireAvecAuteur
+     */
+    private CommentaireAvecAuteur toCommentaireAvecAuteur(Object[] row) {
+        CommentaireJpaEntity entity = (CommentaireJpaEntity) row[0];
+        return new CommentaireAvecAuteur(
+                entity.getId(),
+                entity.getCompteRenduId(),
+                entity.getAuteurId(),
+                (String) row[1],
+                (String) row[2],
+                entity.getContenu(),
+                entity.getCreatedAt()
+        );
+    }
 }
@@ -0,0 +1,130 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptateur qui implémente le port CompteRenduLectureRepository en JDBC :
+ * chaque ligne du ResultSet devient directement une LigneCR, sans entité JPA,
+ * contexte de persistance ni copie de snapshot pour le dirty checking.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompteRenduLectureRepositoryAdapter implements CompteRenduLectureRepository {
+
+    private static final String COLONNES = "SELECT cr.id, cr.utilisateur_id, cr.date, cr.rdqd, cr.priere_seule, " +
+            "cr.lecture_biblique, cr.livre_biblique, cr.litterature_pages, cr.litterature_total, " +
+            "cr.litterature_titre, cr.priere_autres, cr.confession, cr.jeune, cr.type_jeune, cr.evangelisation, " +
+            "cr.offrande, cr.notes, CAST(cr.statut AS text) AS statut, cr.vu_par_fd, cr.created_at, cr.updated_at, cr.version " +
+            "FROM compte_rendu cr ";
+
+    private static final RowMapper<LigneCR> LIGNE_CR = CompteRenduLectureRepositoryAdapter::toLigne;
+
+    // Membres lus par requête lors d'un parcours
+    private static final int TAILLE_TRANCHE = 100;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LigneCR> findByUtilisateurId(UUID utilisateurId) {
+        return jdbcTemplate.query(
+                COLONNES + "WHERE cr.utilisateur_id = :utilisateurId ORDER BY cr.date DESC",
+                new MapSqlParameterSource("utilisateurId", utilisateurId),
+                LIGNE_CR);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LigneCR> findByUtilisateurIdAndDateBetween(UUID utilisateurId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(
+                COLONNES + "WHERE cr.utilisateur_id = :utilisateurId AND cr.date BETWEEN :startDate AND :endDate " +
+                        "ORDER BY cr.date DESC",
+                new MapSqlParameterSource("utilisateurId", utilisateurId)
+                        .addValue("startDate", startDate)
+                        .addValue("endDate", endDate),
+                LIGNE_CR);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LigneCR> findByUtilisateurIdInAndDateBetween(
+            List<UUID> utilisateurIds, LocalDate startDate, LocalDate endDate) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                COLONNES + "WHERE cr.utilisateur_id IN (:utilisateurIds) AND cr.date BETWEEN :startDate AND :endDate " +
+                        "ORDER BY cr.date DESC",
+                new MapSqlParameterSource("utilisateurIds", utilisateurIds)
+                        .addValue("startDate", startDate)
+                        .addValue("endDate", endDate),
+                LIGNE_CR);
+    }
+
+    /**
+     * Lit les CR par tranches consécutives de la liste de membres : une requête par tranche,
+     * triée par date, dont les lignes sont regroupées par membre dans l'ordre de la liste.
+     * Chaque requête ne porte que sur sa tranche, le coût total reste linéaire en nombre de CR.
+     * Volontairement hors transaction : aucune connexion ni curseur n'est retenu pendant que
+     * le consommateur écrit vers un client lent.
+     */
+    @Override
+    public void parcourirByUtilisateurIdsOrdonnes(
+            List<UUID> utilisateurIds, LocalDate startDate, LocalDate endDate, Consumer<LigneCR> consommateur) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return;
+        }
+        List<UUID> membres = utilisateurIds.stream().distinct().toList();
+        for (int debut = 0; debut < membres.size(); debut += TAILLE_TRANCHE) {
+            List<UUID> tranche = membres.subList(debut, Math.min(debut + TAILLE_TRANCHE, membres.size()));
+            Map<UUID, List<LigneCR>> parMembre = findByUtilisateurIdInAndDateBetween(tranche, startDate, endDate)
+                    .stream()
+                    .collect(Collectors.groupingBy(LigneCR::utilisateurId));
+            for (UUID membre : tranche) {
+                parMembre.getOrDefault(membre, List.of()).forEach(consommateur);
+            }
+        }
+    }
+
+    private static LigneCR toLigne(ResultSet rs, int rowNum) throws SQLException {
+        return new LigneCR(
+                rs.getObject("id", UUID.class),
+                rs.getObject("utilisateur_id", UUID.class),
+                rs.getObject("date", LocalDate.class),
+                rs.getString("rdqd"),
+                rs.getString("priere_seule"),
+                rs.getObject("lecture_biblique", Integer.class),
+                rs.getString("livre_biblique"),
+                rs.getObject("litterature_pages", Integer.class),
+                rs.getObject("litterature_total", Integer.class),
+                rs.getString("litterature_titre"),
+                rs.getObject("priere_autres", Integer.class),
+                rs.getObject("confession", Boolean.class),
+                rs.getObject("jeune", Boolean.class),
+                rs.getString("type_jeune"),
+                rs.getObject("evangelisation", Integer.class),
+                rs.getObject("offrande", Boolean.class),
+                rs.getString("notes"),
+                rs.getString("statut"),
+                rs.getObject("vu_par_fd", Boolean.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("version", Long.class));
+    }
+}
@@ -5,25 +5,48 @@ import com.cmci.cr.domain.repository.CompteRenduRepository;
 import com.cmci.cr.infrastructure.persistence.entity.CompteRenduJpaEntity;
 import com.cmci.cr.infrastructure.persistence.mapper.CompteRenduMapper;
 import com.cmci.cr.infrastructure.persistence.repository.CompteRenduJpaRepository;
+import com.cmci.cr.domain.valueobject.RDQD;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptateur qui implémente le port CompteRenduRepository
- * en utilisant Spring Data JPA
+ * en utilisant Spring Data JPA, et en JDBC pour la modification partielle
  */
 @Component
 @RequiredArgsConstructor
 public class CompteRenduRepositoryAdapter implements CompteRenduRepository {
 
+    private static final List<String> COLONNES = List.of("id", "utilisateur_id", "date", "rdqd", "priere_seule",
+            "lecture_biblique", "livre_biblique", "litterature_pages", "litterature_total", "litterature_titre",
+            "priere_autres", "confession", "jeune", "type_jeune", "evangelisation", "offrande", "notes", "statut",
+            "vu_par_fd", "created_at", "updated_at", "version");
+
+    // Ligne avant modification (préfixe avant_) puis après, renvoyées par le même UPDATE
+    private static final String RETOUR_MODIFICATION = Stream.concat(
+                    COLONNES.stream().map(c -> colonne("avant", c) + " AS avant_" + c),
+                    COLONNES.stream().map(c -> colonne("cr", c) + " AS " + c))
+            .collect(Collectors.joining(", "));
+
     private final CompteRenduJpaRepository jpaRepository;
     private final CompteRenduMapper mapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public CompteRendu save(CompteRendu compteRendu) {
@@ -38,6 +61,12 @@ public class CompteRenduRepositoryAdapter implements CompteRenduRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<CompteRendu> findByIdPourModification(UUID id) {
+        return jpaRepository.findByIdForUpdate(id)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Optional<CompteRendu> findByUtilisateurIdAndDate(UUID utilisateurId, LocalDate date) {
         return jpaRepository.findByUtilisateurIdAndDate(utilisateurId, date)
@@ -102,4 +131,109 @@ public class CompteRenduRepositoryAdapter implements CompteRenduRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Map<UUID, ResumeCR> resumerByUtilisateurIdInAndDateBetween(
+            List<UUID> utilisateurIds,
+            LocalDate startDate,
+            LocalDate endDate) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, ResumeCR> resumes = new HashMap<>();
+        for (Object[] row : jpaRepository.resumerByUtilisateurIdInAndDateBetween(utilisateurIds, startDate, endDate)) {
+            UUID utilisateurId = (UUID) row[0];
+            resumes.put(utilisateurId, new ResumeCR(utilisateurId, (LocalDate) row[2], ((Number) row[1]).intValue()));
+        }
+        return resumes;
+    }
+
+    /**
+     * Un seul UPDATE : seules les colonnes fournies sont écrites, la version attendue, le propriétaire
+     * et la règle de modification sont vérifiés dans le WHERE ; la sous-requête verrouillée fournit
+     * l'état précédent (agrégats de statistiques) sans aller-retour supplémentaire.
+     */
+    @Override
+    public Optional<ModificationCR> modifierChamps(
+            UUID id,
+            UUID utilisateurId,
+            long version,
+            Map<ChampCR, Object> champs,
+            LocalDateTime soumisModifiablesApres) {
+        MapSqlParameterSource parametres = new MapSqlParameterSource("id", id)
+                .addValue("utilisateurId", utilisateurId)
+                .addValue("version", version)
+                .addValue("soumisModifiablesApres", soumisModifiablesApres)
+                .addValue("maintenant", LocalDateTime.now());
+
+        StringBuilder affectations = new StringBuilder();
+        champs.forEach((champ, valeur) -> {
+            // Les noms des champs sont ceux des colonnes
+            String colonne = champ.name().toLowerCase();
+            affectations.append(colonne).append(" = :").append(colonne).append(", ");
+            parametres.addValue(colonne, valeurColonne(valeur), typeSql(champ));
+        });
+
+        String sql = "UPDATE compte_rendu cr SET " + affectations + "updated_at = :maintenant " +
+                "FROM (SELECT * FROM compte_rendu WHERE id = :id FOR UPDATE) avant " +
+                "WHERE cr.id = avant.id AND cr.utilisateur_id = :utilisateurId AND cr.version = :version " +
+                "AND (cr.statut = 'BROUILLON' OR (cr.statut = 'SOUMIS' AND cr.created_at > :soumisModifiablesApres)) " +
+                "RETURNING " + RETOUR_MODIFICATION;
+
+        return jdbcTemplate.query(sql, parametres,
+                        (rs, rowNum) -> new ModificationCR(lireLigne(rs, "avant_"), lireLigne(rs, "")))
+                .stream()
+                .findFirst();
+    }
+
+    private Object valeurColonne(Object valeur) {
+        if (valeur instanceof RDQD rdqd) {
+            return rdqd.toString();
+        }
+        if (valeur instanceof Duration duree) {
+            return mapper.durationToString(duree);
+        }
+        return valeur;
+    }
+
+    private static int typeSql(ChampCR champ) {
+        if (champ.getType() == Integer.class) {
+            return Types.INTEGER;
+        }
+        if (champ.getType() == Boolean.class) {
+            return Types.BOOLEAN;
+        }
+        return Types.VARCHAR;
+    }
+
+    private static String colonne(String table, String colonne) {
+        return "statut".equals(colonne) ? "CAST(" + table + ".statut AS text)" : table + "." + colonne;
+    }
+
+    private CompteRendu lireLigne(ResultSet rs, String prefixe) throws SQLException {
+        return mapper.toDomain(CompteRenduJpaEntity.builder()
+                .id(rs.getObject(prefixe + "id", UUID.class))
+                .utilisateurId(rs.getObject(prefixe + "utilisateur_id", UUID.class))
+                .date(rs.getObject(prefixe + "date", LocalDate.class))
+                .rdqd(rs.getString(prefixe + "rdqd"))
+                .priereSeule(rs.getString(prefixe + "priere_seule"))
+                .lectureBiblique(rs.getObject(prefixe + "lecture_biblique", Integer.class))
+                .livreBiblique(rs.getString(prefixe + "livre_biblique"))
+                .litteraturePages(rs.getObject(prefixe + "litterature_pages", Integer.class))
+                .litteratureTotal(rs.getObject(prefixe + "litterature_total", Integer.class))
+                .litteratureTitre(rs.getString(prefixe + "litterature_titre"))
+                .priereAutres(rs.getObject(prefixe + "priere_autres", Integer.class))
+                .confession(rs.getObject(prefixe + "confession", Boolean.class))
+                .jeune(rs.getObject(prefixe + "jeune", Boolean.class))
+                .typeJeune(rs.getString(prefixe + "type_jeune"))
+                .evangelisation(rs.getObject(prefixe + "evangelisation", Integer.class))
+                .offrande(rs.getObject(prefixe + "offrande", Boolean.class))
+                .notes(rs.getString(prefixe + "notes"))
+                .statut(CompteRenduJpaEntity.StatutCREnum.valueOf(rs.getString(prefixe + "statut")))
+                .vuParFd(rs.getObject(prefixe + "vu_par_fd", Boolean.class))
+                .createdAt(rs.getObject(prefixe + "created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject(prefixe + "updated_at", LocalDateTime.class))
+                .version(rs.getObject(prefixe + "version", Long.class))
+                .build());
+    }
 }
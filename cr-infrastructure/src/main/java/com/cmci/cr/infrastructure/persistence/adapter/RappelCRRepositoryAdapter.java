@@ -0,0 +1,70 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.RappelCRRepository;
+import com.cmci.cr.domain.valueobject.TypeNotification;
+import com.cmci.cr.infrastructure.persistence.entity.UtilisateurJpaEntity;
+import com.cmci.cr.infrastructure.persistence.repository.RappelCREnvoiJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptateur qui implémente le port RappelCRRepository
+ * en utilisant Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class RappelCRRepositoryAdapter implements RappelCRRepository {
+
+    // Au-delà, une réservation non confirmée est celle d'une instance arrêtée pendant l'envoi
+    // (un lot attend l'acquittement du broker 30 s au plus)
+    private static final Duration EXPIRATION_RESERVATION = Duration.ofMinutes(15);
+
+    private final RappelCREnvoiJpaRepository jpaRepository;
+
+    @Override
+    public List<MembreSansCR> findMembresActifsSansCR(UUID egliseLocaleId, LocalDate date) {
+        List<Object[]> rows = egliseLocaleId != null
+                ? jpaRepository.findMembresSansCRByEgliseLocaleId(
+                        egliseLocaleId, date, UtilisateurJpaEntity.StatutUtilisateurEnum.ACTIF)
+                : jpaRepository.findMembresSansEgliseSansCR(
+                        date, UtilisateurJpaEntity.StatutUtilisateurEnum.ACTIF);
+
+        return rows.stream()
+                .map(row -> new MembreSansCR((UUID) row[0], (UUID) row[1], (LocalDate) row[2]))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<UUID> reserverEnvois(LocalDate date, TypeNotification type, List<UUID> utilisateurIds) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(jpaRepository.reserverEnvois(
+                date, type.name(), utilisateurIds, EXPIRATION_RESERVATION.toSeconds()));
+    }
+
+    @Override
+    public void confirmerEnvois(LocalDate date, TypeNotification type, List<UUID> utilisateurIds) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.confirmerEnvois(date, type.name(), utilisateurIds);
+    }
+
+    @Override
+    public void libererEnvois(LocalDate date, TypeNotification type, List<UUID> utilisateurIds) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.libererEnvois(date, type.name(), utilisateurIds);
+    }
+}
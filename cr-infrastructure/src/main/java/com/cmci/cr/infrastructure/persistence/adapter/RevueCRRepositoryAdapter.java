@@ -0,0 +1,81 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.RevueCRRepository;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import com.cmci.cr.infrastructure.persistence.repository.RevueCRJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptateur qui implémente le port RevueCRRepository : lectures par Spring Data JPA,
+ * mises à jour ensemblistes en JDBC pour récupérer les ID réellement modifiés (RETURNING)
+ */
+@Component
+@RequiredArgsConstructor
+public class RevueCRRepositoryAdapter implements RevueCRRepository {
+
+    // L'état est revérifié : un CR modifié entre la lecture et la mise à jour n'est pas touché
+    private static final String SQL_MARQUER_VUS =
+            "UPDATE compte_rendu SET vu_par_fd = TRUE, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id IN (:compteRenduIds) AND statut = 'SOUMIS' AND vu_par_fd IS NOT TRUE " +
+            "RETURNING id";
+
+    private static final String SQL_VALIDER =
+            "UPDATE compte_rendu SET statut = 'VALIDE', vu_par_fd = TRUE, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id IN (:compteRenduIds) AND statut = 'SOUMIS' " +
+            "RETURNING id";
+
+    private final RevueCRJpaRepository jpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<EtatRevue> findEtats(UUID relecteurId, Collection<UUID> compteRenduIds) {
+        if (compteRenduIds == null || compteRenduIds.isEmpty()) {
+            return List.of();
+        }
+        return toEtats(jpaRepository.findEtats(relecteurId, compteRenduIds));
+    }
+
+    @Override
+    public List<EtatRevue> findEtatsSoumis(UUID relecteurId, UUID discipleId, LocalDate jusquA) {
+        return toEtats(jpaRepository.findEtatsSoumis(relecteurId, discipleId, jusquA));
+    }
+
+    @Override
+    public List<UUID> marquerVus(Collection<UUID> compteRenduIds) {
+        return mettreAJour(SQL_MARQUER_VUS, compteRenduIds);
+    }
+
+    @Override
+    public List<UUID> valider(Collection<UUID> compteRenduIds) {
+        return mettreAJour(SQL_VALIDER, compteRenduIds);
+    }
+
+    private List<UUID> mettreAJour(String sql, Collection<UUID> compteRenduIds) {
+        if (compteRenduIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(sql, Map.of("compteRenduIds", compteRenduIds), UUID.class);
+    }
+
+    private static List<EtatRevue> toEtats(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new EtatRevue(
+                        (UUID) row[0],
+                        (UUID) row[1],
+                        row[2] instanceof Date date ? date.toLocalDate() : (LocalDate) row[2],
+                        StatutCR.valueOf((String) row[3]),
+                        (Boolean) row[4],
+                        (Boolean) row[5]))
+                .collect(Collectors.toList());
+    }
+}
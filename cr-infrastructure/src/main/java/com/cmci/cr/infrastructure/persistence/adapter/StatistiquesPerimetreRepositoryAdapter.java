@@ -0,0 +1,92 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository;
+import com.cmci.cr.infrastructure.persistence.repository.StatistiquesPerimetreJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Adaptateur qui implémente le port StatistiquesPerimetreRepository
+ * en utilisant Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class StatistiquesPerimetreRepositoryAdapter implements StatistiquesPerimetreRepository {
+
+    private final StatistiquesPerimetreJpaRepository jpaRepository;
+
+    @Override
+    public void appliquer(UUID utilisateurId, LocalDate date, Agregat contribution) {
+        if (contribution.estVide()) {
+            return;
+        }
+        jpaRepository.ajouter(
+                utilisateurId,
+                date,
+                contribution.nombreCRs(),
+                contribution.rdqdComplets(),
+                contribution.dureePriere().toSeconds(),
+                contribution.chapitresLus(),
+                contribution.personnesEvangelisees(),
+                contribution.confessions(),
+                contribution.jeunes());
+    }
+
+    @Override
+    @Transactional
+    public void deplacerMembre(UUID utilisateurId, UUID ancienneEgliseMaisonId, UUID nouvelleEgliseMaisonId) {
+        if (Objects.equals(ancienneEgliseMaisonId, nouvelleEgliseMaisonId)) {
+            return;
+        }
+        if (ancienneEgliseMaisonId != null) {
+            jpaRepository.transfererMembre(utilisateurId, ancienneEgliseMaisonId, -1);
+        }
+        if (nouvelleEgliseMaisonId != null) {
+            jpaRepository.transfererMembre(utilisateurId, nouvelleEgliseMaisonId, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deplacerPerimetre(Perimetre niveau, UUID perimetreId, UUID ancienParentId, UUID nouveauParentId) {
+        if (Objects.equals(ancienParentId, nouveauParentId)) {
+            return;
+        }
+        Perimetre parent = parent(niveau);
+        if (ancienParentId != null) {
+            jpaRepository.transfererPerimetre(niveau.name(), perimetreId, parent.name(), ancienParentId, -1);
+        }
+        if (nouveauParentId != null) {
+            jpaRepository.transfererPerimetre(niveau.name(), perimetreId, parent.name(), nouveauParentId, 1);
+        }
+    }
+
+    @Override
+    public Agregat sommer(Perimetre niveau, UUID perimetreId, LocalDate debut, LocalDate fin) {
+        Object[] row = jpaRepository.sommer(niveau.name(), perimetreId, debut, fin).get(0);
+        return new Agregat(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                Duration.ofSeconds(((Number) row[2]).longValue()),
+                ((Number) row[3]).longValue(),
+                ((Number) row[4]).longValue(),
+                ((Number) row[5]).longValue(),
+                ((Number) row[6]).longValue());
+    }
+
+    private static Perimetre parent(Perimetre niveau) {
+        return switch (niveau) {
+            case EGLISE_MAISON -> Perimetre.EGLISE_LOCALE;
+            case EGLISE_LOCALE -> Perimetre.ZONE;
+            case ZONE -> Perimetre.REGION;
+            case REGION -> throw new IllegalArgumentException("Une région n'a pas de périmètre parent");
+        };
+    }
+}
@@ -0,0 +1,182 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.CompteRenduLectureRepository.LigneCR;
+import com.cmci.cr.domain.repository.SynchronisationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adaptateur qui implémente le port SynchronisationRepository en JDBC
+ * sur les colonnes version_sync et la table suppression_sync (migration V11), purgée
+ * au-delà de la rétention avec relève du plancher (migration V14).
+ *
+ * Le périmètre est l'utilisateur et ses disciples directs. Pour un disciple rattaché
+ * après le curseur (version_sync_fd dans la fenêtre), tout son historique est renvoyé
+ * avec la version du rattachement ; sinon seules les lignes de version dans la fenêtre.
+ */
+@Component
+@RequiredArgsConstructor
+public class SynchronisationRepositoryAdapter implements SynchronisationRepository {
+
+    private static final String PERIMETRE = "WITH perimetre AS (" +
+            "SELECT u.id, CASE WHEN u.id = :utilisateurId THEN 0 ELSE u.version_sync_fd END AS rattachement " +
+            "FROM utilisateur u WHERE u.id = :utilisateurId OR u.fd_id = :utilisateurId) ";
+
+    // Fenêtre [depuis, horizon) sur la version effective GREATEST(version_sync, rattachement)
+    private static final String FENETRE = "((p.rattachement < :depuis " +
+            "AND %1$s.version_sync >= :depuis AND %1$s.version_sync < :horizon) " +
+            "OR (p.rattachement >= :depuis AND p.rattachement < :horizon AND %1$s.version_sync < :horizon)) ";
+
+    private static final String SQL_COMPTES_RENDUS = PERIMETRE +
+            "SELECT cr.id, cr.utilisateur_id, cr.date, cr.rdqd, cr.priere_seule, " +
+            "cr.lecture_biblique, cr.livre_biblique, cr.litterature_pages, cr.litterature_total, " +
+            "cr.litterature_titre, cr.priere_autres, cr.confession, cr.jeune, cr.type_jeune, cr.evangelisation, " +
+            "cr.offrande, cr.notes, CAST(cr.statut AS text) AS statut, cr.vu_par_fd, cr.created_at, cr.updated_at, " +
+            "cr.version AS version_cr, GREATEST(cr.version_sync, p.rattachement) AS version " +
+            "FROM perimetre p JOIN compte_rendu cr ON cr.utilisateur_id = p.id " +
+            "WHERE " + FENETRE.formatted("cr") +
+            "ORDER BY version, cr.id LIMIT :limite";
+
+    private static final String SQL_COMMENTAIRES = PERIMETRE +
+            "SELECT c.id, c.compte_rendu_id, c.auteur_id, a.prenom || ' ' || a.nom AS auteur_nom, " +
+            "c.contenu, c.created_at, GREATEST(c.version_sync, p.rattachement) AS version " +
+            "FROM perimetre p JOIN compte_rendu cr ON cr.utilisateur_id = p.id " +
+            "JOIN commentaire_cr c ON c.compte_rendu_id = cr.id " +
+            "LEFT JOIN utilisateur a ON a.id = c.auteur_id " +
+            "WHERE " + FENETRE.formatted("c") +
+            "ORDER BY version, c.id LIMIT :limite";
+
+    private static final String SQL_UTILISATEURS = PERIMETRE +
+            "SELECT u.id, u.email, u.nom, u.prenom, CAST(u.role AS text) AS role, u.eglise_maison_id, u.fd_id, " +
+            "fd.prenom || ' ' || fd.nom AS fd_nom, u.avatar_url, u.telephone, u.date_naissance, " +
+            "u.date_bapteme, CAST(u.statut AS text) AS statut, u.created_at, u.updated_at, " +
+            "u.version_sync AS version " +
+            "FROM perimetre p JOIN utilisateur u ON u.id = p.id " +
+            "LEFT JOIN utilisateur fd ON fd.id = u.fd_id " +
+            "WHERE u.version_sync >= :depuis AND u.version_sync < :horizon " +
+            "ORDER BY version, u.id LIMIT :limite";
+
+    private static final String SQL_SUPPRESSIONS =
+            "SELECT s.type_entite, s.entite_id, s.version_sync AS version " +
+            "FROM suppression_sync s " +
+            "WHERE s.perimetre_utilisateur_id IN (" +
+            "SELECT u.id FROM utilisateur u WHERE u.id = :utilisateurId OR u.fd_id = :utilisateurId) " +
+            "AND s.version_sync >= :depuis AND s.version_sync < :horizon " +
+            "ORDER BY version, s.id LIMIT :limite";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public long horizon() {
+        Long horizon = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT horizon_sync()", Long.class);
+        return horizon != null ? horizon : 0L;
+    }
+
+    @Override
+    public long plancher() {
+        Long plancher = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT plancher FROM purge_sync WHERE id = 1", Long.class);
+        return plancher != null ? plancher : 0L;
+    }
+
+    @Override
+    @Transactional
+    public int purgerSuppressions(LocalDateTime avant) {
+        Integer purgees = jdbcTemplate.queryForObject("SELECT purger_suppressions_sync(:avant)",
+                new MapSqlParameterSource("avant", avant), Integer.class);
+        return purgees != null ? purgees : 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CRModifie> findCompteRendus(UUID utilisateurId, long depuis, long horizon, int limite) {
+        return jdbcTemplate.query(SQL_COMPTES_RENDUS, parametres(utilisateurId, depuis, horizon, limite),
+                (rs, rowNum) -> new CRModifie(
+                        rs.getLong("version"),
+                        new LigneCR(
+                                rs.getObject("id", UUID.class),
+                                rs.getObject("utilisateur_id", UUID.class),
+                                rs.getObject("date", LocalDate.class),
+                                rs.getString("rdqd"),
+                                rs.getString("priere_seule"),
+                                rs.getObject("lecture_biblique", Integer.class),
+                                rs.getString("livre_biblique"),
+                                rs.getObject("litterature_pages", Integer.class),
+                                rs.getObject("litterature_total", Integer.class),
+                                rs.getString("litterature_titre"),
+                                rs.getObject("priere_autres", Integer.class),
+                                rs.getObject("confession", Boolean.class),
+                                rs.getObject("jeune", Boolean.class),
+                                rs.getString("type_jeune"),
+                                rs.getObject("evangelisation", Integer.class),
+                                rs.getObject("offrande", Boolean.class),
+                                rs.getString("notes"),
+                                rs.getString("statut"),
+                                rs.getObject("vu_par_fd", Boolean.class),
+                                rs.getObject("created_at", LocalDateTime.class),
+                                rs.getObject("updated_at", LocalDateTime.class),
+                                rs.getObject("version_cr", Long.class))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentaireModifie> findCommentaires(UUID utilisateurId, long depuis, long horizon, int limite) {
+        return jdbcTemplate.query(SQL_COMMENTAIRES, parametres(utilisateurId, depuis, horizon, limite),
+                (rs, rowNum) -> new CommentaireModifie(
+                        rs.getLong("version"),
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("compte_rendu_id", UUID.class),
+                        rs.getObject("auteur_id", UUID.class),
+                        rs.getString("auteur_nom"),
+                        rs.getString("contenu"),
+                        rs.getObject("created_at", LocalDateTime.class)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UtilisateurModifie> findUtilisateurs(UUID utilisateurId, long depuis, long horizon, int limite) {
+        return jdbcTemplate.query(SQL_UTILISATEURS, parametres(utilisateurId, depuis, horizon, limite),
+                (rs, rowNum) -> new UtilisateurModifie(
+                        rs.getLong("version"),
+                        rs.getObject("id", UUID.class),
+                        rs.getString("email"),
+                        rs.getString("nom"),
+                        rs.getString("prenom"),
+                        rs.getString("role"),
+                        rs.getObject("eglise_maison_id", UUID.class),
+                        rs.getObject("fd_id", UUID.class),
+                        rs.getString("fd_nom"),
+                        rs.getString("avatar_url"),
+                        rs.getString("telephone"),
+                        rs.getObject("date_naissance", LocalDate.class),
+                        rs.getObject("date_bapteme", LocalDate.class),
+                        rs.getString("statut"),
+                        rs.getObject("created_at", LocalDateTime.class),
+                        rs.getObject("updated_at", LocalDateTime.class)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Suppression> findSuppressions(UUID utilisateurId, long depuis, long horizon, int limite) {
+        return jdbcTemplate.query(SQL_SUPPRESSIONS, parametres(utilisateurId, depuis, horizon, limite),
+                (rs, rowNum) -> new Suppression(
+                        rs.getLong("version"),
+                        rs.getString("type_entite"),
+                        rs.getObject("entite_id", UUID.class)));
+    }
+
+    private static MapSqlParameterSource parametres(UUID utilisateurId, long depuis, long horizon, int limite) {
+        return new MapSqlParameterSource("utilisateurId", utilisateurId)
+                .addValue("depuis", depuis)
+                .addValue("horizon", horizon)
+                .addValue("limite", limite);
+    }
+}
@@ -0,0 +1,128 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.TableauBordRepository;
+import com.cmci.cr.domain.valueobject.StatutCR;
+import com.cmci.cr.infrastructure.persistence.entity.TableauBordCRJpaEntity;
+import com.cmci.cr.infrastructure.persistence.entity.TableauBordMembreJpaEntity;
+import com.cmci.cr.infrastructure.persistence.repository.TableauBordCRJpaRepository;
+import com.cmci.cr.infrastructure.persistence.repository.TableauBordMembreJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adaptateur qui implémente le port TableauBordRepository
+ * en utilisant Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TableauBordRepositoryAdapter implements TableauBordRepository {
+
+    private final TableauBordCRJpaRepository crJpaRepository;
+    private final TableauBordMembreJpaRepository membreJpaRepository;
+
+    @Override
+    @Transactional
+    public void appliquer(EtatCR etat) {
+        TableauBordCRJpaEntity cr = crJpaRepository.findById(etat.compteRenduId()).orElse(null);
+
+        if (cr == null) {
+            if (etat.utilisateurId() == null || etat.dateCR() == null) {
+                log.warn("Événement ignoré pour le CR {} : utilisateur ou date manquant", etat.compteRenduId());
+                return;
+            }
+            cr = TableauBordCRJpaEntity.builder()
+                    .compteRenduId(etat.compteRenduId())
+                    .statut(StatutCR.SOUMIS.name())
+                    .vuParFd(false)
+                    .build();
+        } else if (etat.occurredOn() != null && etat.occurredOn().isBefore(cr.getDerniereMaj())) {
+            // Événement rejoué ou arrivé en retard : l'état projeté est déjà plus récent
+            log.debug("Événement obsolète ignoré pour le CR {}", etat.compteRenduId());
+            return;
+        }
+
+        if (etat.utilisateurId() != null) {
+            cr.setUtilisateurId(etat.utilisateurId());
+        }
+        if (etat.fdId() != null) {
+            cr.setFdId(etat.fdId());
+        }
+        if (etat.dateCR() != null) {
+            cr.setDateCR(etat.dateCR());
+        }
+        if (etat.statut() != null) {
+            cr.setStatut(etat.statut());
+        }
+        if (etat.vuParFd() != null) {
+            cr.setVuParFd(etat.vuParFd());
+        }
+        cr.setDerniereMaj(etat.occurredOn() != null ? etat.occurredOn() : LocalDateTime.now());
+        crJpaRepository.saveAndFlush(cr);
+
+        recalculerMembre(cr.getUtilisateurId(), cr.getFdId());
+    }
+
+    @Override
+    @Transactional
+    public void supprimer(UUID compteRenduId) {
+        crJpaRepository.findById(compteRenduId).ifPresent(cr -> {
+            crJpaRepository.delete(cr);
+            crJpaRepository.flush();
+            recalculerMembre(cr.getUtilisateurId(), cr.getFdId());
+        });
+    }
+
+    /**
+     * Recalcule les agrégats d'un membre à partir de ses CR projetés.
+     * Le recalcul complet (et non un incrément) garde la ligne juste en cas de rejeu.
+     */
+    private void recalculerMembre(UUID utilisateurId, UUID fdId) {
+        Object[] row = crJpaRepository.aggregateByUtilisateurId(utilisateurId).get(0);
+
+        TableauBordMembreJpaEntity membre = membreJpaRepository.findById(utilisateurId)
+                .orElseGet(() -> TableauBordMembreJpaEntity.builder().utilisateurId(utilisateurId).build());
+
+        if (fdId != null) {
+            membre.setFdId(fdId);
+        }
+        membre.setDernierCRDate((LocalDate) row[0]);
+        membre.setNombreCRTotal(((Number) row[1]).intValue());
+        membre.setNombreNonVus(((Number) row[2]).intValue());
+        membreJpaRepository.save(membre);
+    }
+
+    @Override
+    public Map<UUID, ResumeMembre> findResumesByUtilisateurIds(
+            List<UUID> utilisateurIds, LocalDate debut, LocalDate fin) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object[]> rows = membreJpaRepository.findResumesByUtilisateurIds(
+                utilisateurIds, debut, fin.minusDays(6), fin.minusDays(29), fin);
+
+        Map<UUID, ResumeMembre> resumes = new HashMap<>();
+        for (Object[] row : rows) {
+            UUID utilisateurId = (UUID) row[0];
+            resumes.put(utilisateurId, new ResumeMembre(
+                    utilisateurId,
+                    (LocalDate) row[1],
+                    ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue(),
+                    ((Number) row[4]).intValue(),
+                    ((Number) row[5]).intValue()));
+        }
+        return resumes;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cmci.cr.infrastructure.persistence.adapter;
+
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.domain.repository.StatistiquesPerimetreRepository.Agregat;
+import com.cmci.cr.domain.repository.TendanceRepository;
+import com.cmci.cr.infrastructure.persistence.repository.CompteRenduJpaRepository;
+import com.cmci.cr.infrastructure.persistence.repository.StatistiquesPerimetreJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adaptateur qui implémente le port TendanceRepository :
+ * séries utilisateurs sur compte_rendu, séries de périmètre sur les agrégats journaliers
+ */
+@Component
+@RequiredArgsConstructor
+public class TendanceRepositoryAdapter implements TendanceRepository {
+
+    private final CompteRenduJpaRepository compteRenduJpaRepository;
+    private final StatistiquesPerimetreJpaRepository statistiquesPerimetreJpaRepository;
+
+    @Override
+    public List<Point> findSerieUtilisateurs(Collection<UUID> utilisateurIds, Granularite granularite,
+                                             LocalDate debut, LocalDate fin) {
+        if (utilisateurIds == null || utilisateurIds.isEmpty()) {
+            return List.of();
+        }
+        return compteRenduJpaRepository.aggregateByIntervalle(utilisateurIds, unite(granularite), debut, fin)
+                .stream()
+                .map(TendanceRepositoryAdapter::toPoint)
+                .toList();
+    }
+
+    @Override
+    public List<Point> findSeriePerimetre(Perimetre perimetre, UUID perimetreId, Granularite granularite,
+                                          LocalDate debut, LocalDate fin) {
+        return statistiquesPerimetreJpaRepository
+                .sommerParIntervalle(perimetre.name(), perimetreId, unite(granularite), debut, fin)
+                .stream()
+                .map(TendanceRepositoryAdapter::toPoint)
+                .toList();
+    }
+
+    /**
+     * Unité date_trunc correspondant à la granularité
+     */
+    private static String unite(Granularite granularite) {
+        return switch (granularite) {
+            case JOUR -> "day";
+            case SEMAINE -> "week";
+            case MOIS -> "month";
+        };
+    }
+
+    private static Point toPoint(Object[] row) {
+        LocalDate debut = row[0] instanceof Date date ? date.toLocalDate() : (LocalDate) row[0];
+        return new Point(debut, new Agregat(
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                Duration.ofSeconds(((Number) row[3]).longValue()),
+                ((Number) row[4]).longValue(),
+                ((Number) row[5]).longValue(),
+                ((Number) row[6]).longValue(),
+                ((Number) row[7]).longValue()));
+    }
+}
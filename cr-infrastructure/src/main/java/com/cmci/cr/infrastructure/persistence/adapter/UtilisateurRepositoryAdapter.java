@@ -1,12 +1,15 @@
 package com.cmci.cr.infrastructure.persistence.adapter;
 
 import com.cmci.cr.domain.model.Utilisateur;
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
 import com.cmci.cr.domain.repository.UtilisateurRepository;
 import com.cmci.cr.domain.valueobject.Role;
 import com.cmci.cr.infrastructure.persistence.entity.UtilisateurJpaEntity;
 import com.cmci.cr.infrastructure.persistence.mapper.UtilisateurMapper;
 import com.cmci.cr.infrastructure.persistence.repository.UtilisateurJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -22,6 +25,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UtilisateurRepositoryAdapter implements UtilisateurRepository {
 
+    /** Tri stable des listes paginées (l'id départage les homonymes) */
+    private static final Sort ANNUAIRE_SORT = Sort.by("nom", "prenom", "id");
+
+    /** Curseur de la première page : inférieur à tout (nom, prénom, id) */
+    private static final UUID CURSEUR_DEBUT = new UUID(0L, 0L);
+
     private final UtilisateurJpaRepository jpaRepository;
     private final UtilisateurMapper mapper;
 
@@ -38,6 +47,17 @@ public class UtilisateurRepositoryAdapter implements UtilisateurRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Utilisateur> findAllById(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Utilisateur> findByEmail(String email) {
         return jpaRepository.findByEmail(email)
@@ -52,6 +72,19 @@ public class UtilisateurRepositoryAdapter implements UtilisateurRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Utilisateur> findByEgliseMaisonId(UUID egliseMaisonId, int page, int size) {
+        return jpaRepository.findByEgliseMaisonId(egliseMaisonId, PageRequest.of(page, size, ANNUAIRE_SORT))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countByEgliseMaisonId(UUID egliseMaisonId) {
+        return jpaRepository.countByEgliseMaisonId(egliseMaisonId);
+    }
+
     @Override
     public List<Utilisateur> findByFdId(UUID fdId) {
         return jpaRepository.findByFdId(fdId)
@@ -69,6 +102,41 @@ public class UtilisateurRepositoryAdapter implements UtilisateurRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Utilisateur> findByRole(Role role, int page, int size) {
+        UtilisateurJpaEntity.RoleEnum jpaRole = UtilisateurJpaEntity.RoleEnum.valueOf(role.name());
+        return jpaRepository.findByRole(jpaRole, PageRequest.of(page, size, ANNUAIRE_SORT))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countByRole(Role role) {
+        return jpaRepository.countByRole(UtilisateurJpaEntity.RoleEnum.valueOf(role.name()));
+    }
+
+    @Override
+    public List<Utilisateur> findFidelesSansFd(Perimetre perimetre, UUID perimetreId, UUID apresId, int limite) {
+        String nom = "";
+        String prenom = "";
+        UUID id = CURSEUR_DEBUT;
+        if (apresId != null) {
+            UtilisateurJpaEntity dernier = jpaRepository.findById(apresId)
+                    .orElseThrow(() -> new IllegalArgumentException("Curseur de pagination inconnu: " + apresId));
+            nom = dernier.getNom();
+            prenom = dernier.getPrenom();
+            id = dernier.getId();
+        }
+
+        List<UtilisateurJpaEntity> entities = perimetre == null
+                ? jpaRepository.findFidelesSansFdApres(nom, prenom, id, limite)
+                : jpaRepository.findFidelesSansFdApresDansPerimetre(perimetre.name(), perimetreId, nom, prenom, id, limite);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
@@ -0,0 +1,48 @@
+package com.cmci.cr.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entité JPA pour la table calendrier_soumission
+ * (bitmap des jours soumis par utilisateur et par année)
+ */
+@Entity
+@Table(name = "calendrier_soumission")
+@IdClass(CalendrierSoumissionJpaEntity.CalendrierSoumissionId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendrierSoumissionJpaEntity {
+
+    @Id
+    @Column(name = "utilisateur_id", updatable = false, nullable = false)
+    private UUID utilisateurId;
+
+    @Id
+    @Column(name = "annee", updatable = false, nullable = false)
+    private Integer annee;
+
+    @Column(name = "jours", nullable = false, columnDefinition = "bytea")
+    private byte[] jours;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Clé composite (utilisateur, année)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CalendrierSoumissionId implements Serializable {
+        private UUID utilisateurId;
+        private Integer annee;
+    }
+}
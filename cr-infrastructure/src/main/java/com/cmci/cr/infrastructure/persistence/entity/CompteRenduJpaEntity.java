@@ -2,8 +2,10 @@ package com.cmci.cr.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.generator.EventType;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
@@ -98,6 +100,11 @@ public class CompteRenduJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Maintenue par le trigger compte_rendu_version (V12), relue après chaque écriture
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "version", insertable = false, updatable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,49 @@
+package com.cmci.cr.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entité JPA pour la table rappel_cr_envoi
+ * (journal d'idempotence du moteur de rappels)
+ */
+@Entity
+@Table(name = "rappel_cr_envoi")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RappelCREnvoiJpaEntity {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "utilisateur_id", nullable = false)
+    private UUID utilisateurId;
+
+    @Column(name = "date_rappel", nullable = false)
+    private LocalDate dateRappel;
+
+    @Column(name = "type", nullable = false, length = 30)
+    private String type;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "envoye_at")
+    private LocalDateTime envoyeAt; // null tant que le broker n'a pas acquitté l'envoi
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,68 @@
+package com.cmci.cr.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Entité JPA pour la table statistiques_perimetre_jour
+ * (agrégats journaliers de CR par périmètre de l'organisation)
+ */
+@Entity
+@Table(name = "statistiques_perimetre_jour")
+@IdClass(StatistiquesPerimetreJourJpaEntity.StatistiquesPerimetreJourId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatistiquesPerimetreJourJpaEntity {
+
+    @Id
+    @Column(name = "niveau", length = 20, updatable = false, nullable = false)
+    private String niveau;
+
+    @Id
+    @Column(name = "perimetre_id", updatable = false, nullable = false)
+    private UUID perimetreId;
+
+    @Id
+    @Column(name = "date", updatable = false, nullable = false)
+    private LocalDate date;
+
+    @Column(name = "nombre_crs", nullable = false)
+    private Integer nombreCRs;
+
+    @Column(name = "rdqd_complets", nullable = false)
+    private Integer rdqdComplets;
+
+    @Column(name = "priere_secondes", nullable = false)
+    private Long priereSecondes;
+
+    @Column(name = "chapitres_lus", nullable = false)
+    private Integer chapitresLus;
+
+    @Column(name = "personnes_evangelisees", nullable = false)
+    private Integer personnesEvangelisees;
+
+    @Column(name = "confessions", nullable = false)
+    private Integer confessions;
+
+    @Column(name = "jeunes", nullable = false)
+    private Integer jeunes;
+
+    /**
+     * Clé composite (niveau, périmètre, jour)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatistiquesPerimetreJourId implements Serializable {
+        private String niveau;
+        private UUID perimetreId;
+        private LocalDate date;
+    }
+}
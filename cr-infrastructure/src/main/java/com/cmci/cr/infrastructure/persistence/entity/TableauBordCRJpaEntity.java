@@ -0,0 +1,44 @@
+package com.cmci.cr.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entité JPA pour la table tableau_bord_cr
+ * (état projeté de chaque CR, alimenté par les événements)
+ */
+@Entity
+@Table(name = "tableau_bord_cr")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TableauBordCRJpaEntity {
+
+    @Id
+    @Column(name = "compte_rendu_id", updatable = false, nullable = false)
+    private UUID compteRenduId;
+
+    @Column(name = "utilisateur_id", nullable = false)
+    private UUID utilisateurId;
+
+    @Column(name = "fd_id")
+    private UUID fdId;
+
+    @Column(name = "date_cr", nullable = false)
+    private LocalDate dateCR;
+
+    @Column(name = "statut", nullable = false, length = 20)
+    private String statut;
+
+    @Column(name = "vu_par_fd", nullable = false)
+    private Boolean vuParFd;
+
+    @Column(name = "derniere_maj", nullable = false)
+    private LocalDateTime derniereMaj;
+}
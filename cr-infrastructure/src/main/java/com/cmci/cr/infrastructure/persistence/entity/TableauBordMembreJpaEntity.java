@@ -0,0 +1,47 @@
+package com.cmci.cr.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entité JPA pour la table tableau_bord_membre
+ * (agrégats par membre recalculés à chaque événement)
+ */
+@Entity
+@Table(name = "tableau_bord_membre")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TableauBordMembreJpaEntity {
+
+    @Id
+    @Column(name = "utilisateur_id", updatable = false, nullable = false)
+    private UUID utilisateurId;
+
+    @Column(name = "fd_id")
+    private UUID fdId;
+
+    @Column(name = "dernier_cr_date")
+    private LocalDate dernierCRDate;
+
+    @Column(name = "nombre_cr_total", nullable = false)
+    private Integer nombreCRTotal;
+
+    @Column(name = "nombre_non_vus", nullable = false)
+    private Integer nombreNonVus;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
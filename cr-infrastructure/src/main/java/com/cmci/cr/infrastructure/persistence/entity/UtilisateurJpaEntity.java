@@ -65,6 +65,10 @@ public class UtilisateurJpaEntity {
     @Column(name = "statut", nullable = false, columnDefinition = "statut_utilisateur_enum")
     private StatutUtilisateurEnum statut;
 
+    // Attribué par la base (séquence), position dans les bitmaps de participation
+    @Column(name = "numero_membre", insertable = false, updatable = false)
+    private Integer numeroMembre;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -71,13 +71,14 @@ public class CompteRenduMapper {
                 .vuParFd(jpa.getVuParFd())
                 .createdAt(jpa.getCreatedAt())
                 .updatedAt(jpa.getUpdatedAt())
+                .version(jpa.getVersion())
                 .build();
     }
 
     /**
      * Convertit une Duration en String au format HH:mm:ss
      */
-    private String durationToString(Duration duration) {
+    public String durationToString(Duration duration) {
         if (duration == null) {
             return "00:00:00";
         }
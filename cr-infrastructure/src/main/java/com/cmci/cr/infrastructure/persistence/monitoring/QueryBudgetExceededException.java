@@ -0,0 +1,12 @@
+package com.cmci.cr.infrastructure.persistence.monitoring;
+
+/**
+ * Levée lorsqu'une requête HTTP dépasse le budget de requêtes SQL (mode rejet, dev/test).
+ * Erreur de programmation côté serveur : n'hérite pas d'IllegalStateException (409).
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int count, int budget) {
+        super("Budget de requêtes SQL dépassé : " + count + " requêtes (budget " + budget + ")");
+    }
+}
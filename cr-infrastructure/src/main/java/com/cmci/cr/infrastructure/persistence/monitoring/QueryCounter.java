@@ -0,0 +1,31 @@
+package com.cmci.cr.infrastructure.persistence.monitoring;
+
+/**
+ * Compteur de requêtes SQL attaché au thread de la requête HTTP en cours.
+ * Ouvert par QueryBudgetFilter, alimenté par QueryCountingDataSource.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+        // Classe utilitaire, constructeur privé
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return les statistiques du thread courant, ou null hors requête HTTP
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+}
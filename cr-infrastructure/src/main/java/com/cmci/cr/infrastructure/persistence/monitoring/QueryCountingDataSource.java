@@ -0,0 +1,98 @@
+package com.cmci.cr.infrastructure.persistence.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource qui compte les requêtes SQL de la requête HTTP en cours au niveau JDBC.
+ * Toutes les lectures sont vues, qu'elles passent par Hibernate ou par JdbcTemplate.
+ * En mode rejet, la requête SQL qui dépasse le budget lève une exception.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARATIONS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTIONS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    private final int budget;
+    private final boolean reject;
+
+    public QueryCountingDataSource(DataSource targetDataSource, int budget, boolean reject) {
+        super(targetDataSource);
+        this.budget = budget;
+        this.reject = reject;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return compter(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return compter(super.getConnection(username, password));
+    }
+
+    /**
+     * Requête préparée : comptée à la préparation. Statement simple : compté à chaque exécution.
+     */
+    private Connection compter(Connection connection) {
+        return proxy(Connection.class, (methode, args) -> {
+            if (PREPARATIONS.contains(methode.getName()) && args != null && args[0] instanceof String sql) {
+                enregistrer(sql);
+            }
+            Object resultat = invoquer(connection, methode, args);
+            if (resultat instanceof Statement statement && "createStatement".equals(methode.getName())) {
+                return proxy(Statement.class, (m, a) -> {
+                    if (EXECUTIONS.contains(m.getName()) && a != null && a.length > 0 && a[0] instanceof String sql) {
+                        enregistrer(sql);
+                    }
+                    return invoquer(statement, m, a);
+                });
+            }
+            return resultat;
+        });
+    }
+
+    private void enregistrer(String sql) {
+        RequestQueryStats stats = QueryCounter.current();
+        if (stats != null) {
+            stats.record(sql);
+            if (reject && stats.getTotal() > budget) {
+                throw new QueryBudgetExceededException(stats.getTotal(), budget);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Interception {
+        Object appeler(Method methode, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Interception interception) {
+        InvocationHandler handler = (proxy, methode, args) -> switch (methode.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> interception.appeler(methode, args);
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoquer(Object cible, Method methode, Object[] args) throws Throwable {
+        try {
+            return methode.invoke(cible, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.cmci.cr.infrastructure.persistence.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Requêtes SQL exécutées pendant une requête HTTP, regroupées par forme normalisée
+ * (paramètres et listes IN confondus) pour repérer les requêtes répétées (N+1).
+ */
+public class RequestQueryStats {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final Map<String, Integer> countsByStatement = new LinkedHashMap<>();
+    private int total;
+
+    void record(String sql) {
+        total++;
+        countsByStatement.merge(normalize(sql), 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Nombre d'exécutions par requête normalisée, dans l'ordre de première exécution
+     */
+    public Map<String, Integer> getCountsByStatement() {
+        return Map.copyOf(countsByStatement);
+    }
+
+    /**
+     * Requêtes exécutées au moins {@code threshold} fois (motif N+1 probable)
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        return countsByStatement.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return IN_LIST.matcher(normalized).replaceAll("(?...)");
+    }
+}
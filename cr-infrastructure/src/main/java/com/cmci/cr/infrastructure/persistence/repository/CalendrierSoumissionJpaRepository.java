@@ -0,0 +1,41 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.infrastructure.persistence.entity.CalendrierSoumissionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA pour les calendriers de soumission
+ */
+@Repository
+public interface CalendrierSoumissionJpaRepository
+        extends JpaRepository<CalendrierSoumissionJpaEntity, CalendrierSoumissionJpaEntity.CalendrierSoumissionId> {
+
+    List<CalendrierSoumissionJpaEntity> findByUtilisateurIdInAndAnnee(Collection<UUID> utilisateurIds, Integer annee);
+
+    /**
+     * Positionne un bit du calendrier en une seule instruction (upsert + set_bit) :
+     * deux CR concurrents du même utilisateur ne peuvent pas s'écraser mutuellement.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO calendrier_soumission (utilisateur_id, annee, jours, updated_at) " +
+                   "VALUES (:utilisateurId, :annee, set_bit(decode(repeat('00', 46), 'hex'), :bit, :valeur), now()) " +
+                   "ON CONFLICT (utilisateur_id, annee) DO UPDATE " +
+                   "SET jours = set_bit(calendrier_soumission.jours, :bit, :valeur), updated_at = now()",
+           nativeQuery = true)
+    int marquer(
+            @Param("utilisateurId") UUID utilisateurId,
+            @Param("annee") int annee,
+            @Param("bit") int bit,
+            @Param("valeur") int valeur
+    );
+}
@@ -1,7 +1,10 @@
 package com.cmci.cr.infrastructure.persistence.repository;
 
 import com.cmci.cr.infrastructure.persistence.entity.CommentaireJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -27,4 +30,48 @@ public interface CommentaireJpaRepository extends JpaRepository<CommentaireJpaEn
      * Compte le nombre de commentaires d'un compte rendu
      */
     long countByCompteRenduId(UUID compteRenduId);
+
+    /**
+     * Trouve une page du fil de commentaires d'un compte rendu avec le prénom et le nom
+     * de l'auteur, en une seule jointure.
+     * Chaque ligne contient : [CommentaireJpaEntity, prenom, nom]
+     */
+    @Query("SELECT c, u.prenom, u.nom FROM CommentaireJpaEntity c " +
+           "LEFT JOIN UtilisateurJpaEntity u ON u.id = c.auteurId " +
+           "WHERE c.compteRenduId = :compteRenduId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Object[]> findThreadByCompteRenduId(
+            @Param("compteRenduId") UUID compteRenduId,
+            Pageable pageable
+    );
+
+    /**
+     * Trouve le fil complet de commentaires d'un compte rendu avec le prénom et le nom
+     * de l'auteur, en une seule jointure.
+     * Chaque ligne contient : [CommentaireJpaEntity, prenom, nom]
+     */
+    @Query("SELECT c, u.prenom, u.nom FROM CommentaireJpaEntity c " +
+           "LEFT JOIN UtilisateurJpaEntity u ON u.id = c.auteurId " +
+           "WHERE c.compteRenduId = :compteRenduId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Object[]> findThreadByCompteRenduId(@Param("compteRenduId") UUID compteRenduId);
+
+    /**
+     * Trouve, pour plusieurs comptes rendus, le dernier commentaire (avec son auteur)
+     * et le nombre total de commentaires, en une seule requête.
+     * À date égale, plusieurs lignes sortent pour un même CR : le tri par id décroissant
+     * place en premier celle retenue, la même que le dernier élément du fil.
+     * Chaque ligne contient : [CommentaireJpaEntity, prenom, nom, nombreCommentaires]
+     */
+    @Query("SELECT c, u.prenom, u.nom, " +
+           "(SELECT COUNT(c2) FROM CommentaireJpaEntity c2 WHERE c2.compteRenduId = c.compteRenduId) " +
+           "FROM CommentaireJpaEntity c " +
+           "LEFT JOIN UtilisateurJpaEntity u ON u.id = c.auteurId " +
+           "WHERE c.compteRenduId IN :compteRenduIds " +
+           "AND c.createdAt = (SELECT MAX(c3.createdAt) FROM CommentaireJpaEntity c3 " +
+           "                   WHERE c3.compteRenduId = c.compteRenduId) " +
+           "ORDER BY c.compteRenduId, c.id DESC")
+    List<Object[]> findDerniersCommentairesByCompteRenduIdIn(
+            @Param("compteRenduIds") List<UUID> compteRenduIds
+    );
 }
@@ -1,12 +1,15 @@
 package com.cmci.cr.infrastructure.persistence.repository;
 
 import com.cmci.cr.infrastructure.persistence.entity.CompteRenduJpaEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +20,13 @@ import java.util.UUID;
 @Repository
 public interface CompteRenduJpaRepository extends JpaRepository<CompteRenduJpaEntity, UUID> {
 
+    /**
+     * Trouve un CR et pose un verrou d'écriture sur sa ligne (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cr FROM CompteRenduJpaEntity cr WHERE cr.id = :id")
+    Optional<CompteRenduJpaEntity> findByIdForUpdate(@Param("id") UUID id);
+
     /**
      * Trouve un CR par utilisateur et date
      */
@@ -74,4 +84,62 @@ public interface CompteRenduJpaRepository extends JpaRepository<CompteRenduJpaEn
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    /**
+     * Nombre de CR et date du dernier CR par utilisateur sur une période
+     * Retourne des lignes [utilisateur_id, nombre, dernière date]
+     */
+    @Query("SELECT cr.utilisateurId, COUNT(cr), MAX(cr.date) FROM CompteRenduJpaEntity cr " +
+           "WHERE cr.utilisateurId IN :utilisateurIds " +
+           "AND cr.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY cr.utilisateurId")
+    List<Object[]> resumerByUtilisateurIdInAndDateBetween(
+            @Param("utilisateurIds") List<UUID> utilisateurIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * Agrégats des CR d'utilisateurs par intervalle date_trunc ('day', 'week', 'month'),
+     * triés par début d'intervalle
+     */
+    @Query(value = "SELECT CAST(date_trunc(:unite, CAST(cr.date AS timestamp)) AS date) AS debut, " +
+                   "       COUNT(*), " +
+                   "       COUNT(*) FILTER (WHERE split_part(cr.rdqd, '/', 1) = split_part(cr.rdqd, '/', 2)), " +
+                   "       CAST(COALESCE(SUM(EXTRACT(EPOCH FROM cr.priere_seule)), 0) AS bigint), " +
+                   "       COALESCE(SUM(cr.lecture_biblique), 0), " +
+                   "       COALESCE(SUM(cr.evangelisation), 0), " +
+                   "       COUNT(*) FILTER (WHERE cr.confession), " +
+                   "       COUNT(*) FILTER (WHERE cr.jeune) " +
+                   "FROM compte_rendu cr " +
+                   "WHERE cr.utilisateur_id IN (:utilisateurIds) AND cr.date BETWEEN :debut AND :fin " +
+                   "GROUP BY 1 ORDER BY 1",
+           nativeQuery = true)
+    List<Object[]> aggregateByIntervalle(
+            @Param("utilisateurIds") Collection<UUID> utilisateurIds,
+            @Param("unite") String unite,
+            @Param("debut") LocalDate debut,
+            @Param("fin") LocalDate fin
+    );
+
+    /**
+     * Agrégats des CR de chaque utilisateur sur une période (une ligne par utilisateur ayant au moins un CR)
+     */
+    @Query(value = "SELECT cr.utilisateur_id, " +
+                   "       COUNT(*), " +
+                   "       COUNT(*) FILTER (WHERE split_part(cr.rdqd, '/', 1) = split_part(cr.rdqd, '/', 2)), " +
+                   "       CAST(COALESCE(SUM(EXTRACT(EPOCH FROM cr.priere_seule)), 0) AS bigint), " +
+                   "       COALESCE(SUM(cr.lecture_biblique), 0), " +
+                   "       COALESCE(SUM(cr.evangelisation), 0), " +
+                   "       COUNT(*) FILTER (WHERE cr.confession), " +
+                   "       COUNT(*) FILTER (WHERE cr.jeune) " +
+                   "FROM compte_rendu cr " +
+                   "WHERE cr.utilisateur_id IN (:utilisateurIds) AND cr.date BETWEEN :debut AND :fin " +
+                   "GROUP BY cr.utilisateur_id",
+           nativeQuery = true)
+    List<Object[]> aggregateByUtilisateur(
+            @Param("utilisateurIds") Collection<UUID> utilisateurIds,
+            @Param("debut") LocalDate debut,
+            @Param("fin") LocalDate fin
+    );
 }
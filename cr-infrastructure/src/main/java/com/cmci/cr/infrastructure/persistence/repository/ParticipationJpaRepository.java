@@ -0,0 +1,74 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.domain.repository.ParticipationRepository.Perimetre;
+import com.cmci.cr.infrastructure.persistence.entity.UtilisateurJpaEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Requêtes de construction des bitmaps de participation :
+ * numéros de membre des participants d'un jour et des membres actifs d'un périmètre
+ */
+@org.springframework.stereotype.Repository
+public interface ParticipationJpaRepository extends Repository<UtilisateurJpaEntity, UUID> {
+
+    @Query("SELECT u.numeroMembre FROM UtilisateurJpaEntity u WHERE u.id = :utilisateurId")
+    Optional<Integer> findNumeroMembre(@Param("utilisateurId") UUID utilisateurId);
+
+    /**
+     * Numéros de membre des utilisateurs ayant un CR à la date donnée
+     */
+    @Query("SELECT u.numeroMembre FROM UtilisateurJpaEntity u " +
+           "WHERE EXISTS (SELECT cr.id FROM CompteRenduJpaEntity cr " +
+           "              WHERE cr.utilisateurId = u.id AND cr.date = :date)")
+    List<Integer> findNumerosMembresParticipants(@Param("date") LocalDate date);
+
+    /**
+     * Numéros de membre des membres actifs d'un périmètre
+     */
+    default List<Integer> findNumerosMembresActifs(Perimetre perimetre, UUID perimetreId) {
+        UtilisateurJpaEntity.StatutUtilisateurEnum actif = UtilisateurJpaEntity.StatutUtilisateurEnum.ACTIF;
+        return switch (perimetre) {
+            case EGLISE_MAISON -> findNumerosMembresByEgliseMaison(perimetreId, actif);
+            case EGLISE_LOCALE -> findNumerosMembresByEgliseLocale(perimetreId, actif);
+            case ZONE -> findNumerosMembresByZone(perimetreId, actif);
+            case REGION -> findNumerosMembresByRegion(perimetreId, actif);
+        };
+    }
+
+    @Query("SELECT u.numeroMembre FROM UtilisateurJpaEntity u " +
+           "WHERE u.egliseMaisonId = :egliseMaisonId AND u.statut = :statut")
+    List<Integer> findNumerosMembresByEgliseMaison(
+            @Param("egliseMaisonId") UUID egliseMaisonId,
+            @Param("statut") UtilisateurJpaEntity.StatutUtilisateurEnum statut);
+
+    @Query("SELECT u.numeroMembre FROM UtilisateurJpaEntity u " +
+           "JOIN EgliseMaisonJpaEntity em ON em.id = u.egliseMaisonId " +
+           "WHERE em.egliseLocaleId = :egliseLocaleId AND u.statut = :statut")
+    List<Integer> findNumerosMembresByEgliseLocale(
+            @Param("egliseLocaleId") UUID egliseLocaleId,
+            @Param("statut") UtilisateurJpaEntity.StatutUtilisateurEnum statut);
+
+    @Query("SELECT u.numeroMembre FROM UtilisateurJpaEntity u " +
+           "JOIN EgliseMaisonJpaEntity em ON em.id = u.egliseMaisonId " +
+           "JOIN EgliseLocaleJpaEntity el ON el.id = em.egliseLocaleId " +
+           "WHERE el.zoneId = :zoneId AND u.statut = :statut")
+    List<Integer> findNumerosMembresByZone(
+            @Param("zoneId") UUID zoneId,
+            @Param("statut") UtilisateurJpaEntity.StatutUtilisateurEnum statut);
+
+    @Query("SELECT u.numeroMembre FROM UtilisateurJpaEntity u " +
+           "JOIN EgliseMaisonJpaEntity em ON em.id = u.egliseMaisonId " +
+           "JOIN EgliseLocaleJpaEntity el ON el.id = em.egliseLocaleId " +
+           "JOIN ZoneJpaEntity z ON z.id = el.zoneId " +
+           "WHERE z.regionId = :regionId AND u.statut = :statut")
+    List<Integer> findNumerosMembresByRegion(
+            @Param("regionId") UUID regionId,
+            @Param("statut") UtilisateurJpaEntity.StatutUtilisateurEnum statut);
+}
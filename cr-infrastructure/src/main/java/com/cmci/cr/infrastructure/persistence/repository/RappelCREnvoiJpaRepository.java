@@ -0,0 +1,106 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.infrastructure.persistence.entity.RappelCREnvoiJpaEntity;
+import com.cmci.cr.infrastructure.persistence.entity.UtilisateurJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA pour le moteur de rappels des CR manquants
+ */
+@Repository
+public interface RappelCREnvoiJpaRepository extends JpaRepository<RappelCREnvoiJpaEntity, UUID> {
+
+    /**
+     * Trouve les membres d'une église locale sans CR à la date donnée (anti-jointure).
+     * Chaque ligne contient : [utilisateurId, fdId, date du dernier CR antérieur]
+     */
+    @Query("SELECT u.id, u.fdId, " +
+           "(SELECT MAX(cr.date) FROM CompteRenduJpaEntity cr " +
+           " WHERE cr.utilisateurId = u.id AND cr.date < :date) " +
+           "FROM UtilisateurJpaEntity u JOIN EgliseMaisonJpaEntity em ON em.id = u.egliseMaisonId " +
+           "WHERE em.egliseLocaleId = :egliseLocaleId " +
+           "AND u.statut = :statut " +
+           "AND NOT EXISTS (SELECT cr2.id FROM CompteRenduJpaEntity cr2 " +
+           "                WHERE cr2.utilisateurId = u.id AND cr2.date = :date)")
+    List<Object[]> findMembresSansCRByEgliseLocaleId(
+            @Param("egliseLocaleId") UUID egliseLocaleId,
+            @Param("date") LocalDate date,
+            @Param("statut") UtilisateurJpaEntity.StatutUtilisateurEnum statut
+    );
+
+    /**
+     * Trouve les membres sans église de maison et sans CR à la date donnée (anti-jointure).
+     * Chaque ligne contient : [utilisateurId, fdId, date du dernier CR antérieur]
+     */
+    @Query("SELECT u.id, u.fdId, " +
+           "(SELECT MAX(cr.date) FROM CompteRenduJpaEntity cr " +
+           " WHERE cr.utilisateurId = u.id AND cr.date < :date) " +
+           "FROM UtilisateurJpaEntity u " +
+           "WHERE u.egliseMaisonId IS NULL " +
+           "AND u.statut = :statut " +
+           "AND NOT EXISTS (SELECT cr2.id FROM CompteRenduJpaEntity cr2 " +
+           "                WHERE cr2.utilisateurId = u.id AND cr2.date = :date)")
+    List<Object[]> findMembresSansEgliseSansCR(
+            @Param("date") LocalDate date,
+            @Param("statut") UtilisateurJpaEntity.StatutUtilisateurEnum statut
+    );
+
+    /**
+     * Réserve les envois en une seule instruction : les lignes déjà présentes
+     * (même membre, même date, même type) sont ignorées et seuls les membres
+     * nouvellement réservés sont retournés. Une réservation non confirmée plus ancienne
+     * que l'expiration est reprise (son horodatage est renouvelé) et retournée.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO rappel_cr_envoi (utilisateur_id, date_rappel, type) " +
+                   "SELECT u.id, CAST(:date AS date), CAST(:type AS varchar) FROM utilisateur u WHERE u.id IN (:utilisateurIds) " +
+                   "ON CONFLICT (utilisateur_id, date_rappel, type) DO UPDATE SET created_at = CURRENT_TIMESTAMP " +
+                   "WHERE rappel_cr_envoi.envoye_at IS NULL " +
+                   "AND rappel_cr_envoi.created_at < CURRENT_TIMESTAMP - make_interval(secs => :expirationSecondes) " +
+                   "RETURNING utilisateur_id",
+           nativeQuery = true)
+    List<UUID> reserverEnvois(
+            @Param("date") LocalDate date,
+            @Param("type") String type,
+            @Param("utilisateurIds") List<UUID> utilisateurIds,
+            @Param("expirationSecondes") long expirationSecondes
+    );
+
+    /**
+     * Confirme les réservations dont l'envoi a été acquitté
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE rappel_cr_envoi SET envoye_at = CURRENT_TIMESTAMP " +
+                   "WHERE date_rappel = :date AND type = :type AND utilisateur_id IN (:utilisateurIds)",
+           nativeQuery = true)
+    int confirmerEnvois(
+            @Param("date") LocalDate date,
+            @Param("type") String type,
+            @Param("utilisateurIds") List<UUID> utilisateurIds
+    );
+
+    /**
+     * Supprime les réservations non confirmées dont l'envoi a échoué
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM rappel_cr_envoi " +
+                   "WHERE date_rappel = :date AND type = :type AND utilisateur_id IN (:utilisateurIds) " +
+                   "AND envoye_at IS NULL",
+           nativeQuery = true)
+    int libererEnvois(
+            @Param("date") LocalDate date,
+            @Param("type") String type,
+            @Param("utilisateurIds") List<UUID> utilisateurIds
+    );
+}
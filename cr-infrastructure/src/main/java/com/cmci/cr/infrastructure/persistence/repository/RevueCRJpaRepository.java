@@ -0,0 +1,51 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.infrastructure.persistence.entity.CompteRenduJpaEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Requêtes de revue des CR en lot (lecture des états et droits)
+ */
+@org.springframework.stereotype.Repository
+public interface RevueCRJpaRepository extends Repository<CompteRenduJpaEntity, UUID> {
+
+    /**
+     * Colonnes : id, utilisateur_id, date, statut, vu_par_fd, autorise.
+     * Le droit reprend Utilisateur.canViewCROf : ADMIN partout, FD sur ses disciples,
+     * LEADER et PASTEUR dans leur église de maison pour les rôles de niveau inférieur ou égal.
+     */
+    String ETATS =
+            "SELECT cr.id, cr.utilisateur_id, cr.date, CAST(cr.statut AS varchar), COALESCE(cr.vu_par_fd, FALSE), " +
+            "       COALESCE(CASE " +
+            "           WHEN u.id = r.id THEN FALSE " +
+            "           WHEN r.role = 'ADMIN' THEN TRUE " +
+            "           WHEN r.role = 'FD' THEN u.fd_id = r.id " +
+            "           WHEN r.role = 'LEADER' THEN u.eglise_maison_id = r.eglise_maison_id " +
+            "                                       AND u.role IN ('FIDELE', 'FD', 'LEADER') " +
+            "           WHEN r.role = 'PASTEUR' THEN u.eglise_maison_id = r.eglise_maison_id AND u.role <> 'ADMIN' " +
+            "           ELSE FALSE END, FALSE) " +
+            "FROM compte_rendu cr " +
+            "JOIN utilisateur u ON u.id = cr.utilisateur_id " +
+            "JOIN utilisateur r ON r.id = :relecteurId ";
+
+    @Query(value = ETATS + "WHERE cr.id IN (:compteRenduIds)", nativeQuery = true)
+    List<Object[]> findEtats(
+            @Param("relecteurId") UUID relecteurId,
+            @Param("compteRenduIds") Collection<UUID> compteRenduIds);
+
+    @Query(value = ETATS +
+                   "WHERE cr.utilisateur_id = :discipleId AND cr.date <= :jusquA AND cr.statut = 'SOUMIS' " +
+                   "ORDER BY cr.date",
+           nativeQuery = true)
+    List<Object[]> findEtatsSoumis(
+            @Param("relecteurId") UUID relecteurId,
+            @Param("discipleId") UUID discipleId,
+            @Param("jusquA") LocalDate jusquA);
+}
@@ -0,0 +1,151 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.infrastructure.persistence.entity.StatistiquesPerimetreJourJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA pour les agrégats journaliers par périmètre.
+ *
+ * Toutes les écritures sont des INSERT ... SELECT sur la vue perimetre_ancetre, suivis d'un
+ * ON CONFLICT qui additionne le delta : deux écritures concurrentes sur le même jour
+ * s'additionnent sans se perdre.
+ */
+@Repository
+public interface StatistiquesPerimetreJpaRepository
+        extends JpaRepository<StatistiquesPerimetreJourJpaEntity, StatistiquesPerimetreJourJpaEntity.StatistiquesPerimetreJourId> {
+
+    String INSERTION =
+            "INSERT INTO statistiques_perimetre_jour AS s " +
+            "(niveau, perimetre_id, date, nombre_crs, rdqd_complets, priere_secondes, " +
+            " chapitres_lus, personnes_evangelisees, confessions, jeunes) ";
+
+    String ADDITION =
+            " ON CONFLICT (niveau, perimetre_id, date) DO UPDATE SET " +
+            "nombre_crs = s.nombre_crs + EXCLUDED.nombre_crs, " +
+            "rdqd_complets = s.rdqd_complets + EXCLUDED.rdqd_complets, " +
+            "priere_secondes = s.priere_secondes + EXCLUDED.priere_secondes, " +
+            "chapitres_lus = s.chapitres_lus + EXCLUDED.chapitres_lus, " +
+            "personnes_evangelisees = s.personnes_evangelisees + EXCLUDED.personnes_evangelisees, " +
+            "confessions = s.confessions + EXCLUDED.confessions, " +
+            "jeunes = s.jeunes + EXCLUDED.jeunes";
+
+    /**
+     * Ajoute un delta au jour de chacun des périmètres ancêtres de l'utilisateur
+     */
+    @Modifying
+    @Transactional
+    @Query(value = INSERTION +
+                   "SELECT a.ancetre_niveau, a.ancetre_id, CAST(:date AS date), :nombreCRs, :rdqdComplets, " +
+                   "       :priereSecondes, :chapitresLus, :personnesEvangelisees, :confessions, :jeunes " +
+                   "FROM utilisateur u " +
+                   "JOIN perimetre_ancetre a ON a.niveau = 'EGLISE_MAISON' AND a.perimetre_id = u.eglise_maison_id " +
+                   "WHERE u.id = :utilisateurId" +
+                   ADDITION,
+           nativeQuery = true)
+    int ajouter(
+            @Param("utilisateurId") UUID utilisateurId,
+            @Param("date") LocalDate date,
+            @Param("nombreCRs") long nombreCRs,
+            @Param("rdqdComplets") long rdqdComplets,
+            @Param("priereSecondes") long priereSecondes,
+            @Param("chapitresLus") long chapitresLus,
+            @Param("personnesEvangelisees") long personnesEvangelisees,
+            @Param("confessions") long confessions,
+            @Param("jeunes") long jeunes
+    );
+
+    /**
+     * Ajoute (signe = 1) ou retire (signe = -1) l'ensemble des CR d'un membre, jour par jour,
+     * aux périmètres ancêtres de l'église de maison donnée
+     */
+    @Modifying
+    @Transactional
+    @Query(value = INSERTION +
+                   "SELECT a.ancetre_niveau, a.ancetre_id, c.date, :signe * c.nombre_crs, :signe * c.rdqd_complets, " +
+                   "       :signe * c.priere_secondes, :signe * c.chapitres_lus, :signe * c.personnes_evangelisees, " +
+                   "       :signe * c.confessions, :signe * c.jeunes " +
+                   "FROM (SELECT cr.date, " +
+                   "             COUNT(*) AS nombre_crs, " +
+                   "             COUNT(*) FILTER (WHERE split_part(cr.rdqd, '/', 1) = split_part(cr.rdqd, '/', 2)) AS rdqd_complets, " +
+                   "             CAST(COALESCE(SUM(EXTRACT(EPOCH FROM cr.priere_seule)), 0) AS bigint) AS priere_secondes, " +
+                   "             COALESCE(SUM(cr.lecture_biblique), 0) AS chapitres_lus, " +
+                   "             COALESCE(SUM(cr.evangelisation), 0) AS personnes_evangelisees, " +
+                   "             COUNT(*) FILTER (WHERE cr.confession) AS confessions, " +
+                   "             COUNT(*) FILTER (WHERE cr.jeune) AS jeunes " +
+                   "      FROM compte_rendu cr WHERE cr.utilisateur_id = :utilisateurId GROUP BY cr.date) c " +
+                   "JOIN perimetre_ancetre a ON a.niveau = 'EGLISE_MAISON' AND a.perimetre_id = :egliseMaisonId" +
+                   ADDITION,
+           nativeQuery = true)
+    int transfererMembre(
+            @Param("utilisateurId") UUID utilisateurId,
+            @Param("egliseMaisonId") UUID egliseMaisonId,
+            @Param("signe") int signe
+    );
+
+    /**
+     * Ajoute (signe = 1) ou retire (signe = -1) les agrégats d'un périmètre, jour par jour,
+     * au parent donné et à ses ancêtres
+     */
+    @Modifying
+    @Transactional
+    @Query(value = INSERTION +
+                   "SELECT a.ancetre_niveau, a.ancetre_id, p.date, :signe * p.nombre_crs, :signe * p.rdqd_complets, " +
+                   "       :signe * p.priere_secondes, :signe * p.chapitres_lus, :signe * p.personnes_evangelisees, " +
+                   "       :signe * p.confessions, :signe * p.jeunes " +
+                   "FROM statistiques_perimetre_jour p " +
+                   "JOIN perimetre_ancetre a ON a.niveau = :parentNiveau AND a.perimetre_id = :parentId " +
+                   "WHERE p.niveau = :niveau AND p.perimetre_id = :perimetreId" +
+                   ADDITION,
+           nativeQuery = true)
+    int transfererPerimetre(
+            @Param("niveau") String niveau,
+            @Param("perimetreId") UUID perimetreId,
+            @Param("parentNiveau") String parentNiveau,
+            @Param("parentId") UUID parentId,
+            @Param("signe") int signe
+    );
+
+    /**
+     * Somme des agrégats d'un périmètre sur une période (une ligne, valeurs à 0 si aucune donnée)
+     */
+    @Query("SELECT COALESCE(SUM(s.nombreCRs), 0), COALESCE(SUM(s.rdqdComplets), 0), " +
+           "COALESCE(SUM(s.priereSecondes), 0), COALESCE(SUM(s.chapitresLus), 0), " +
+           "COALESCE(SUM(s.personnesEvangelisees), 0), COALESCE(SUM(s.confessions), 0), " +
+           "COALESCE(SUM(s.jeunes), 0) " +
+           "FROM StatistiquesPerimetreJourJpaEntity s " +
+           "WHERE s.niveau = :niveau AND s.perimetreId = :perimetreId AND s.date BETWEEN :debut AND :fin")
+    List<Object[]> sommer(
+            @Param("niveau") String niveau,
+            @Param("perimetreId") UUID perimetreId,
+            @Param("debut") LocalDate debut,
+            @Param("fin") LocalDate fin
+    );
+
+    /**
+     * Agrégats d'un périmètre regroupés par intervalle date_trunc ('day', 'week', 'month'),
+     * triés par début d'intervalle
+     */
+    @Query(value = "SELECT CAST(date_trunc(:unite, CAST(s.date AS timestamp)) AS date) AS debut, " +
+                   "       SUM(s.nombre_crs), SUM(s.rdqd_complets), SUM(s.priere_secondes), SUM(s.chapitres_lus), " +
+                   "       SUM(s.personnes_evangelisees), SUM(s.confessions), SUM(s.jeunes) " +
+                   "FROM statistiques_perimetre_jour s " +
+                   "WHERE s.niveau = :niveau AND s.perimetre_id = :perimetreId AND s.date BETWEEN :debut AND :fin " +
+                   "GROUP BY 1 ORDER BY 1",
+           nativeQuery = true)
+    List<Object[]> sommerParIntervalle(
+            @Param("niveau") String niveau,
+            @Param("perimetreId") UUID perimetreId,
+            @Param("unite") String unite,
+            @Param("debut") LocalDate debut,
+            @Param("fin") LocalDate fin
+    );
+}
@@ -0,0 +1,26 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.infrastructure.persistence.entity.TableauBordCRJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA pour la projection des CR du tableau de bord
+ */
+@Repository
+public interface TableauBordCRJpaRepository extends JpaRepository<TableauBordCRJpaEntity, UUID> {
+
+    /**
+     * Agrégats d'un membre en une requête.
+     * Ligne : [date du dernier CR, nombre total de CR, nombre de CR non vus]
+     */
+    @Query("SELECT MAX(t.dateCR), COUNT(t), " +
+           "COALESCE(SUM(CASE WHEN t.vuParFd = false THEN 1 ELSE 0 END), 0) " +
+           "FROM TableauBordCRJpaEntity t WHERE t.utilisateurId = :utilisateurId")
+    List<Object[]> aggregateByUtilisateurId(@Param("utilisateurId") UUID utilisateurId);
+}
@@ -0,0 +1,40 @@
+package com.cmci.cr.infrastructure.persistence.repository;
+
+import com.cmci.cr.infrastructure.persistence.entity.TableauBordMembreJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA pour les agrégats par membre du tableau de bord
+ */
+@Repository
+public interface TableauBordMembreJpaRepository extends JpaRepository<TableauBordMembreJpaEntity, UUID> {
+
+    /**
+     * Résumé de plusieurs membres en une requête : le nombre de CR non vus vient de la ligne
+     * membre, les compteurs de période sont calculés sur l'index (utilisateur_id, date_cr).
+     * Ligne : [utilisateurId, dernier CR <= fin, nb période, nb 7 jours, nb 30 jours, nb non vus]
+     */
+    @Query("SELECT m.utilisateurId, " +
+           "(SELECT MAX(t.dateCR) FROM TableauBordCRJpaEntity t " +
+           " WHERE t.utilisateurId = m.utilisateurId AND t.dateCR <= :fin), " +
+           "(SELECT COUNT(t) FROM TableauBordCRJpaEntity t " +
+           " WHERE t.utilisateurId = m.utilisateurId AND t.dateCR BETWEEN :debut AND :fin), " +
+           "(SELECT COUNT(t) FROM TableauBordCRJpaEntity t " +
+           " WHERE t.utilisateurId = m.utilisateurId AND t.dateCR BETWEEN :debut7Jours AND :fin), " +
+           "(SELECT COUNT(t) FROM TableauBordCRJpaEntity t " +
+           " WHERE t.utilisateurId = m.utilisateurId AND t.dateCR BETWEEN :debut30Jours AND :fin), " +
+           "m.nombreNonVus " +
+           "FROM TableauBordMembreJpaEntity m WHERE m.utilisateurId IN :utilisateurIds")
+    List<Object[]> findResumesByUtilisateurIds(@Param("utilisateurIds") List<UUID> utilisateurIds,
+                                               @Param("debut") LocalDate debut,
+                                               @Param("debut7Jours") LocalDate debut7Jours,
+                                               @Param("debut30Jours") LocalDate debut30Jours,
+                                               @Param("fin") LocalDate fin);
+}
@@ -1,7 +1,10 @@
 package com.cmci.cr.infrastructure.persistence.repository;
 
 import com.cmci.cr.infrastructure.persistence.entity.UtilisateurJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,6 +27,16 @@ public interface UtilisateurJpaRepository extends JpaRepository<UtilisateurJpaEn
      */
     List<UtilisateurJpaEntity> findByEgliseMaisonId(UUID egliseMaisonId);
 
+    /**
+     * Trouve une page des utilisateurs d'une église de maison
+     */
+    List<UtilisateurJpaEntity> findByEgliseMaisonId(UUID egliseMaisonId, Pageable pageable);
+
+    /**
+     * Compte les utilisateurs d'une église de maison
+     */
+    long countByEgliseMaisonId(UUID egliseMaisonId);
+
     /**
      * Trouve tous les disciples d'un FD
      */
@@ -34,6 +47,52 @@ public interface UtilisateurJpaRepository extends JpaRepository<UtilisateurJpaEn
      */
     List<UtilisateurJpaEntity> findByRole(UtilisateurJpaEntity.RoleEnum role);
 
+    /**
+     * Trouve une page des utilisateurs avec un rôle spécifique
+     */
+    List<UtilisateurJpaEntity> findByRole(UtilisateurJpaEntity.RoleEnum role, Pageable pageable);
+
+    /**
+     * Compte les utilisateurs avec un rôle spécifique
+     */
+    long countByRole(UtilisateurJpaEntity.RoleEnum role);
+
+    /**
+     * Fidèles actifs sans FD placés après (nom, prénom, id) dans l'ordre de l'annuaire.
+     * Le prédicat reprend celui de l'index partiel idx_utilisateur_fidele_sans_fd.
+     */
+    @Query(value = "SELECT u.* FROM utilisateur u " +
+                   "WHERE u.role = 'FIDELE' AND u.fd_id IS NULL AND u.statut = 'ACTIF' " +
+                   "AND (u.nom, u.prenom, u.id) > (:nom, :prenom, :id) " +
+                   "ORDER BY u.nom, u.prenom, u.id " +
+                   "LIMIT :limite",
+           nativeQuery = true)
+    List<UtilisateurJpaEntity> findFidelesSansFdApres(
+            @Param("nom") String nom,
+            @Param("prenom") String prenom,
+            @Param("id") UUID id,
+            @Param("limite") int limite);
+
+    /**
+     * Idem, restreint aux églises de maison du périmètre (niveau EGLISE_MAISON à REGION)
+     */
+    @Query(value = "SELECT u.* FROM utilisateur u " +
+                   "WHERE u.role = 'FIDELE' AND u.fd_id IS NULL AND u.statut = 'ACTIF' " +
+                   "AND u.eglise_maison_id IN (SELECT a.perimetre_id FROM perimetre_ancetre a " +
+                   "    WHERE a.niveau = 'EGLISE_MAISON' AND a.ancetre_niveau = :niveau " +
+                   "    AND a.ancetre_id = :perimetreId) " +
+                   "AND (u.nom, u.prenom, u.id) > (:nom, :prenom, :id) " +
+                   "ORDER BY u.nom, u.prenom, u.id " +
+                   "LIMIT :limite",
+           nativeQuery = true)
+    List<UtilisateurJpaEntity> findFidelesSansFdApresDansPerimetre(
+            @Param("niveau") String niveau,
+            @Param("perimetreId") UUID perimetreId,
+            @Param("nom") String nom,
+            @Param("prenom") String prenom,
+            @Param("id") UUID id,
+            @Param("limite") int limite);
+
     /**
      * Vérifie si un email existe déjà
      */
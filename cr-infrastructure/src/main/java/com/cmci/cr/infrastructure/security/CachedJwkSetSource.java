@@ -0,0 +1,153 @@
+package com.cmci.cr.infrastructure.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Clés de signature Keycloak (JWKS) gardées en mémoire locale.
+ *
+ * Le jeu de clés est rechargé en tâche de fond à intervalle fixe : la vérification des
+ * signatures reste locale et ne met jamais Keycloak sur le chemin d'une requête, sauf
+ * au tout premier appel si le chargement initial n'a pas encore abouti.
+ * Un jeton signé par une clé inconnue (rotation) déclenche un rechargement immédiat.
+ * Tout chargement, premier chargement compris, est limité à un à la fois et à un par
+ * {@code intervalleMin} : un flot de jetons, valides ou non, ne martèle pas Keycloak, et une
+ * requête qui arrive pendant un chargement ou juste après un échec est refusée sans attendre.
+ * Le téléchargement se fait hors verrou. En cas d'échec, le dernier jeu obtenu continue d'être servi.
+ */
+@Slf4j
+public class CachedJwkSetSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private final URI jwkSetUri;
+    private final Duration timeout;
+    private final long intervalleMinNanos;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService rafraichissement;
+    private final AtomicBoolean enCours = new AtomicBoolean();
+
+    private volatile JWKSet jeu;
+    private volatile long derniereTentative;
+    private volatile boolean tentee;
+
+    public CachedJwkSetSource(URI jwkSetUri, Duration intervalle, Duration intervalleMin, Duration timeout) {
+        this.jwkSetUri = jwkSetUri;
+        this.timeout = timeout;
+        this.intervalleMinNanos = intervalleMin.toNanos();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        this.rafraichissement = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Premier chargement immédiat, sans bloquer le démarrage si Keycloak est indisponible
+        rafraichissement.scheduleWithFixedDelay(this::rafraichirEnFond, 0, intervalle.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        JWKSet courant = jeu;
+        if (courant == null) {
+            courant = recharger(null);
+            if (courant == null) {
+                throw new KeySourceException("Clés de signature indisponibles : " + jwkSetUri);
+            }
+        }
+        List<JWK> cles = selector.select(courant);
+        if (cles.isEmpty()) {
+            // Clé inconnue : rotation probable côté Keycloak
+            JWKSet nouveau = recharger(courant);
+            if (nouveau != null && nouveau != courant) {
+                cles = selector.select(nouveau);
+            }
+        }
+        return cles;
+    }
+
+    /**
+     * Jeu de clés actuellement en mémoire (null tant qu'aucun chargement n'a abouti)
+     */
+    public JWKSet getJeu() {
+        return jeu;
+    }
+
+    private void rafraichirEnFond() {
+        recharger(jeu);
+    }
+
+    /**
+     * Recharge le jeu, un seul appel à la fois et au plus un par {@code intervalleMin}, sans
+     * bloquer : si un chargement est en cours ou vient d'être tenté, le jeu courant est rendu
+     * tel quel. Si un autre thread l'a remplacé entre-temps, le nouveau jeu est rendu sans nouvel appel.
+     *
+     * @param vu jeu observé par l'appelant
+     * @return le jeu courant après l'opération, éventuellement inchangé
+     */
+    private JWKSet recharger(JWKSet vu) {
+        if (jeu != vu || !enCours.compareAndSet(false, true)) {
+            return jeu;
+        }
+        try {
+            long maintenant = System.nanoTime();
+            if (jeu != vu || (tentee && maintenant - derniereTentative < intervalleMinNanos)) {
+                return jeu;
+            }
+            tentee = true;
+            derniereTentative = maintenant;
+            try {
+                JWKSet telecharge = telecharger();
+                jeu = telecharge;
+                log.debug("JWKS refreshed from {} ({} keys)", jwkSetUri, telecharge.getKeys().size());
+            } catch (IOException | ParseException | RuntimeException e) {
+                if (jeu != null) {
+                    log.warn("JWKS refresh from {} failed, keeping {} cached keys: {}",
+                            jwkSetUri, jeu.getKeys().size(), e.getMessage());
+                } else {
+                    log.warn("JWKS fetch from {} failed: {}", jwkSetUri, e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return jeu;
+        } finally {
+            enCours.set(false);
+        }
+    }
+
+    private JWKSet telecharger() throws IOException, InterruptedException, ParseException {
+        HttpRequest requete = HttpRequest.newBuilder(jwkSetUri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> reponse = httpClient.send(requete, HttpResponse.BodyHandlers.ofString());
+        if (reponse.statusCode() != 200) {
+            throw new IOException("HTTP " + reponse.statusCode());
+        }
+        return JWKSet.parse(reponse.body());
+    }
+
+    @Override
+    public void close() {
+        rafraichissement.shutdownNow();
+    }
+}
@@ -0,0 +1,81 @@
+package com.cmci.cr.infrastructure.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Décodeur JWT qui garde les jetons déjà vérifiés, indexés par l'empreinte SHA-256 du jeton.
+ *
+ * Un client envoie le même jeton à chaque requête jusqu'à son expiration : seule la première
+ * paie l'analyse et la vérification de signature. Un jeton n'est servi depuis le cache que
+ * jusqu'à son expiration, au plus {@code ttlMax} après sa vérification. Les jetons refusés
+ * ne sont pas conservés.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Duration ttlMax;
+    private final int tailleMax;
+    private final Clock horloge;
+    private final ConcurrentMap<String, Entree> jetons = new ConcurrentHashMap<>();
+
+    public CachingJwtDecoder(JwtDecoder delegate, Duration ttlMax, int tailleMax) {
+        this(delegate, ttlMax, tailleMax, Clock.systemUTC());
+    }
+
+    public CachingJwtDecoder(JwtDecoder delegate, Duration ttlMax, int tailleMax, Clock horloge) {
+        this.delegate = delegate;
+        this.ttlMax = ttlMax;
+        this.tailleMax = tailleMax;
+        this.horloge = horloge;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String cle = empreinte(token);
+        Instant maintenant = horloge.instant();
+
+        Entree entree = jetons.get(cle);
+        if (entree != null && maintenant.isBefore(entree.valideJusqua())) {
+            return entree.jwt();
+        }
+
+        Jwt jwt = delegate.decode(token);
+
+        Instant valideJusqua = maintenant.plus(ttlMax);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(valideJusqua)) {
+            valideJusqua = jwt.getExpiresAt();
+        }
+        if (jetons.size() >= tailleMax) {
+            jetons.values().removeIf(e -> !maintenant.isBefore(e.valideJusqua()));
+            if (jetons.size() >= tailleMax) {
+                jetons.clear();
+            }
+        }
+        jetons.put(cle, new Entree(jwt, valideJusqua));
+        return jwt;
+    }
+
+    private static String empreinte(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entree(Jwt jwt, Instant valideJusqua) {
+    }
+}
@@ -1,5 +1,9 @@
 package com.cmci.cr.infrastructure.security;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +18,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -21,10 +26,13 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -104,7 +112,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of(allowedOrigins));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(List.of("Authorization", "Content-Type", "X-Next-Cursor", "Idempotent-Replayed", "ETag"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -114,11 +122,36 @@ public class SecurityConfig {
     }
 
     /**
-     * Décodeur JWT configuré avec l'URI de l'émetteur Keycloak
+     * Clés de signature Keycloak en mémoire, rechargées en tâche de fond
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+    public CachedJwkSetSource jwkSetSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${app.security.jwks.refresh-interval:PT5M}") Duration intervalle,
+            @Value("${app.security.jwks.min-refresh-interval:PT30S}") Duration intervalleMin,
+            @Value("${app.security.jwks.timeout:PT3S}") Duration timeout) {
+        return new CachedJwkSetSource(URI.create(jwkSetUri), intervalle, intervalleMin, timeout);
+    }
+
+    /**
+     * Décodeur JWT : signature vérifiée localement avec les clés en cache, émetteur Keycloak contrôlé,
+     * jetons déjà vérifiés servis depuis un cache jusqu'à leur expiration
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(
+            CachedJwkSetSource jwkSetSource,
+            @Value("${app.security.jwt-cache.ttl-max:PT5M}") Duration ttlMax,
+            @Value("${app.security.jwt-cache.max-entries:10000}") int tailleMax) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+                Set.of(JWSAlgorithm.RS256, JWSAlgorithm.RS384, JWSAlgorithm.RS512,
+                        JWSAlgorithm.PS256, JWSAlgorithm.ES256), jwkSetSource));
+        // Les claims sont contrôlés par les validateurs Spring ci-dessous
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder nimbus = new NimbusJwtDecoder(processor);
+        nimbus.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return new CachingJwtDecoder(nimbus, ttlMax, tailleMax);
     }
 
     /**
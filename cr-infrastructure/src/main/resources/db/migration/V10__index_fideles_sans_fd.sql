@@ -0,0 +1,13 @@
+-- V10__index_fideles_sans_fd.sql
+-- Index partiels des fidèles actifs sans FD, dans l'ordre de l'annuaire (nom, prénom, id).
+-- Ils ne contiennent que les disciples à assigner : la liste paginée par curseur
+-- lit directement la page suivante, sans parcourir tous les fidèles.
+
+CREATE INDEX idx_utilisateur_fidele_sans_fd
+    ON utilisateur(nom, prenom, id)
+    WHERE role = 'FIDELE' AND fd_id IS NULL AND statut = 'ACTIF';
+
+-- Restriction à une église de maison (ou aux églises de maison d'un périmètre)
+CREATE INDEX idx_utilisateur_fidele_sans_fd_eglise
+    ON utilisateur(eglise_maison_id, nom, prenom, id)
+    WHERE role = 'FIDELE' AND fd_id IS NULL AND statut = 'ACTIF';
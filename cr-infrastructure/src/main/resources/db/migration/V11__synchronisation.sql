@@ -0,0 +1,114 @@
+-- V11__synchronisation.sql
+-- Flux de modifications pour la synchronisation incrémentale des clients hors ligne.
+--
+-- version_sync : identifiant 64 bits de la dernière transaction ayant écrit la ligne
+-- (pg_current_xact_id), croissant d'une transaction à l'autre. Un client lit les lignes
+-- de version comprise entre son curseur et l'horizon pg_snapshot_xmin : toutes les
+-- transactions d'identifiant inférieur à l'horizon sont terminées, une écriture encore
+-- en cours ne peut donc pas apparaître plus tard sous un curseur déjà rendu.
+
+CREATE OR REPLACE FUNCTION version_sync_courante() RETURNS BIGINT AS $$
+    SELECT CAST(CAST(pg_current_xact_id() AS text) AS bigint);
+$$ LANGUAGE sql VOLATILE;
+
+CREATE OR REPLACE FUNCTION horizon_sync() RETURNS BIGINT AS $$
+    SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint);
+$$ LANGUAGE sql VOLATILE;
+
+-- Suppressions (tombstones) : une ligne par entité supprimée ou sortie du périmètre d'un FD.
+-- perimetre_utilisateur_id : propriétaire du CR supprimé, ou ancien FD d'un disciple réaffecté
+CREATE TABLE suppression_sync (
+    id BIGSERIAL PRIMARY KEY,
+    type_entite VARCHAR(20) NOT NULL,
+    entite_id UUID NOT NULL,
+    perimetre_utilisateur_id UUID NOT NULL,
+    version_sync BIGINT NOT NULL DEFAULT version_sync_courante(),
+    supprime_le TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_suppression_sync_perimetre ON suppression_sync(perimetre_utilisateur_id, version_sync);
+
+ALTER TABLE compte_rendu ADD COLUMN version_sync BIGINT NOT NULL DEFAULT version_sync_courante();
+ALTER TABLE commentaire_cr ADD COLUMN version_sync BIGINT NOT NULL DEFAULT version_sync_courante();
+ALTER TABLE utilisateur ADD COLUMN version_sync BIGINT NOT NULL DEFAULT version_sync_courante();
+-- Version du dernier changement de FD : l'historique d'un disciple nouvellement rattaché
+-- est renvoyé à son FD même s'il est antérieur au curseur de celui-ci
+ALTER TABLE utilisateur ADD COLUMN version_sync_fd BIGINT NOT NULL DEFAULT version_sync_courante();
+
+CREATE INDEX idx_cr_utilisateur_version_sync ON compte_rendu(utilisateur_id, version_sync);
+CREATE INDEX idx_commentaire_cr_version_sync ON commentaire_cr(version_sync);
+CREATE INDEX idx_utilisateur_fd_version_sync ON utilisateur(fd_id, version_sync);
+
+-- Versionnement à chaque écriture
+CREATE OR REPLACE FUNCTION marquer_version_sync()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.version_sync = version_sync_courante();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER compte_rendu_version_sync BEFORE INSERT OR UPDATE ON compte_rendu
+    FOR EACH ROW EXECUTE FUNCTION marquer_version_sync();
+
+CREATE TRIGGER commentaire_cr_version_sync BEFORE INSERT OR UPDATE ON commentaire_cr
+    FOR EACH ROW EXECUTE FUNCTION marquer_version_sync();
+
+CREATE OR REPLACE FUNCTION marquer_version_sync_utilisateur()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.version_sync = version_sync_courante();
+    IF TG_OP = 'INSERT' OR NEW.fd_id IS DISTINCT FROM OLD.fd_id THEN
+        NEW.version_sync_fd = NEW.version_sync;
+    END IF;
+    IF TG_OP = 'UPDATE' AND OLD.fd_id IS NOT NULL AND NEW.fd_id IS DISTINCT FROM OLD.fd_id THEN
+        INSERT INTO suppression_sync (type_entite, entite_id, perimetre_utilisateur_id)
+        VALUES ('UTILISATEUR', OLD.id, OLD.fd_id);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER utilisateur_version_sync BEFORE INSERT OR UPDATE ON utilisateur
+    FOR EACH ROW EXECUTE FUNCTION marquer_version_sync_utilisateur();
+
+-- Tombstones à la suppression
+CREATE OR REPLACE FUNCTION enregistrer_suppression_cr()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO suppression_sync (type_entite, entite_id, perimetre_utilisateur_id)
+    VALUES ('COMPTE_RENDU', OLD.id, OLD.utilisateur_id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER compte_rendu_suppression_sync AFTER DELETE ON compte_rendu
+    FOR EACH ROW EXECUTE FUNCTION enregistrer_suppression_cr();
+
+-- Les commentaires supprimés en cascade avec leur CR n'ont pas de tombstone propre :
+-- le CR parent n'existe plus et sa suppression suffit au client
+CREATE OR REPLACE FUNCTION enregistrer_suppression_commentaire()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO suppression_sync (type_entite, entite_id, perimetre_utilisateur_id)
+    SELECT 'COMMENTAIRE', OLD.id, cr.utilisateur_id
+    FROM compte_rendu cr
+    WHERE cr.id = OLD.compte_rendu_id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER commentaire_cr_suppression_sync AFTER DELETE ON commentaire_cr
+    FOR EACH ROW EXECUTE FUNCTION enregistrer_suppression_commentaire();
+
+CREATE OR REPLACE FUNCTION enregistrer_suppression_utilisateur()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO suppression_sync (type_entite, entite_id, perimetre_utilisateur_id)
+    VALUES ('UTILISATEUR', OLD.id, COALESCE(OLD.fd_id, OLD.id));
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER utilisateur_suppression_sync AFTER DELETE ON utilisateur
+    FOR EACH ROW EXECUTE FUNCTION enregistrer_suppression_utilisateur();
@@ -0,0 +1,18 @@
+-- V12__version_compte_rendu.sql
+-- Version de concurrence optimiste des comptes rendus.
+-- Incrémentée par trigger à chaque UPDATE, quel que soit le chemin d'écriture
+-- (enregistrement complet, modification partielle, validation, marquage vu) :
+-- une modification partielle conditionnée par la version détecte toute écriture concurrente.
+
+ALTER TABLE compte_rendu ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION incrementer_version_compte_rendu()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.version = OLD.version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER compte_rendu_version BEFORE UPDATE ON compte_rendu
+    FOR EACH ROW EXECUTE FUNCTION incrementer_version_compte_rendu();
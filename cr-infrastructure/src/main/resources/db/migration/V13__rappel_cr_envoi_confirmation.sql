@@ -0,0 +1,8 @@
+-- V13__rappel_cr_envoi_confirmation.sql
+-- Une réservation de rappel n'est confirmée qu'après l'acquittement du broker.
+-- envoye_at NULL : réservation en cours (ou abandonnée si created_at est ancien).
+
+ALTER TABLE rappel_cr_envoi ADD COLUMN envoye_at TIMESTAMP;
+
+-- Les réservations antérieures ont été écrites après l'envoi réussi
+UPDATE rappel_cr_envoi SET envoye_at = created_at;
@@ -0,0 +1,35 @@
+-- V14__purge_suppression_sync.sql
+-- Rétention des tombstones de synchronisation.
+--
+-- suppression_sync grossit à chaque suppression ou sortie de périmètre : les lignes plus
+-- anciennes que la rétention (app.sync.purge.retention) sont purgées chaque nuit.
+-- plancher est la première version dont aucune tombstone n'a été purgée : un client dont
+-- le curseur est non nul et inférieur au plancher a pu manquer des suppressions et doit
+-- se resynchroniser depuis 0.
+
+CREATE TABLE purge_sync (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    plancher BIGINT NOT NULL
+);
+
+INSERT INTO purge_sync (id, plancher) VALUES (1, 0);
+
+CREATE INDEX idx_suppression_sync_supprime_le ON suppression_sync(supprime_le);
+
+-- Purge et relève du plancher dans la même transaction : un lecteur qui voit les
+-- tombstones disparues voit aussi le nouveau plancher
+CREATE OR REPLACE FUNCTION purger_suppressions_sync(avant TIMESTAMP) RETURNS INTEGER AS $$
+DECLARE
+    version_max BIGINT;
+    nombre INTEGER;
+BEGIN
+    WITH purgees AS (
+        DELETE FROM suppression_sync WHERE supprime_le < avant RETURNING version_sync
+    )
+    SELECT MAX(version_sync), COUNT(*) INTO version_max, nombre FROM purgees;
+    IF version_max IS NOT NULL THEN
+        UPDATE purge_sync SET plancher = GREATEST(plancher, version_max + 1) WHERE id = 1;
+    END IF;
+    RETURN nombre;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,4 @@
+-- V4__commentaire_thread_index.sql
+-- Index pour la lecture paginée des fils de commentaires
+-- et le calcul du dernier commentaire par compte rendu
+CREATE INDEX IF NOT EXISTS idx_commentaire_cr_date ON commentaire_cr(compte_rendu_id, created_at DESC);
@@ -0,0 +1,14 @@
+-- V5__rappel_cr_envoi.sql
+-- Journal des notifications envoyées par le moteur de rappels des CR manquants.
+-- La contrainte d'unicité (membre, date, type) garantit un seul envoi par jour et par type.
+
+CREATE TABLE rappel_cr_envoi (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    utilisateur_id UUID NOT NULL REFERENCES utilisateur(id) ON DELETE CASCADE,
+    date_rappel DATE NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_rappel_cr_envoi UNIQUE (utilisateur_id, date_rappel, type)
+);
+
+CREATE INDEX idx_rappel_cr_envoi_date ON rappel_cr_envoi(date_rappel);
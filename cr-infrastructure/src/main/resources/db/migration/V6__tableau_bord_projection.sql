@@ -0,0 +1,41 @@
+-- V6__tableau_bord_projection.sql
+-- Projection dénormalisée des tableaux de bord, alimentée par le topic cr-events.
+-- Pas de clé étrangère : la projection est reconstructible par rejeu des événements
+-- et ne doit pas bloquer la consommation si un événement précède la réplication.
+
+CREATE TABLE tableau_bord_cr (
+    compte_rendu_id UUID PRIMARY KEY,
+    utilisateur_id UUID NOT NULL,
+    fd_id UUID,
+    date_cr DATE NOT NULL,
+    statut VARCHAR(20) NOT NULL,
+    vu_par_fd BOOLEAN NOT NULL DEFAULT FALSE,
+    derniere_maj TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_tableau_bord_cr_utilisateur_date ON tableau_bord_cr(utilisateur_id, date_cr DESC);
+
+CREATE TABLE tableau_bord_membre (
+    utilisateur_id UUID PRIMARY KEY,
+    fd_id UUID,
+    dernier_cr_date DATE,
+    nombre_cr_total INTEGER NOT NULL DEFAULT 0,
+    nombre_non_vus INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_tableau_bord_membre_fd ON tableau_bord_membre(fd_id);
+
+-- Reprise de l'existant : les CR écrits avant le déploiement n'ont jamais été publiés
+-- sur cr-events. derniere_maj reprend updated_at pour que le premier événement
+-- postérieur au déploiement l'emporte sur la ligne reprise.
+INSERT INTO tableau_bord_cr (compte_rendu_id, utilisateur_id, fd_id, date_cr, statut, vu_par_fd, derniere_maj)
+SELECT cr.id, cr.utilisateur_id, u.fd_id, cr.date, cr.statut::text, COALESCE(cr.vu_par_fd, FALSE), cr.updated_at
+FROM compte_rendu cr
+JOIN utilisateur u ON u.id = cr.utilisateur_id;
+
+INSERT INTO tableau_bord_membre (utilisateur_id, fd_id, dernier_cr_date, nombre_cr_total, nombre_non_vus)
+SELECT u.id, u.fd_id, MAX(t.date_cr), COUNT(*), COUNT(*) FILTER (WHERE NOT t.vu_par_fd)
+FROM tableau_bord_cr t
+JOIN utilisateur u ON u.id = t.utilisateur_id
+GROUP BY u.id, u.fd_id;
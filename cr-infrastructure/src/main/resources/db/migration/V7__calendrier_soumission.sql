@@ -0,0 +1,30 @@
+-- V7__calendrier_soumission.sql
+-- Index des jours soumis : un bytea de 46 octets (366 bits) par utilisateur et par année,
+-- bit n = jour de l'année n + 1. Maintenu à la création et à la suppression des CR.
+
+CREATE TABLE calendrier_soumission (
+    utilisateur_id UUID NOT NULL REFERENCES utilisateur(id) ON DELETE CASCADE,
+    annee INTEGER NOT NULL,
+    jours BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_calendrier_soumission PRIMARY KEY (utilisateur_id, annee),
+    CONSTRAINT ck_calendrier_soumission_taille CHECK (octet_length(jours) = 46)
+);
+
+-- Initialisation à partir des CR existants
+INSERT INTO calendrier_soumission (utilisateur_id, annee, jours)
+SELECT utilisateur_id, EXTRACT(YEAR FROM date)::int, decode(repeat('00', 46), 'hex')
+FROM compte_rendu
+GROUP BY utilisateur_id, EXTRACT(YEAR FROM date)::int;
+
+DO $$
+DECLARE
+    cr RECORD;
+BEGIN
+    FOR cr IN SELECT utilisateur_id, date FROM compte_rendu LOOP
+        UPDATE calendrier_soumission
+        SET jours = set_bit(jours, EXTRACT(DOY FROM cr.date)::int - 1, 1)
+        WHERE utilisateur_id = cr.utilisateur_id
+          AND annee = EXTRACT(YEAR FROM cr.date)::int;
+    END LOOP;
+END $$;
@@ -0,0 +1,13 @@
+-- V8__numero_membre.sql
+-- Numéro de membre dense (1, 2, 3...) servant de position dans les bitmaps de participation
+-- journalière. La valeur par défaut numérote aussi les utilisateurs existants.
+-- Le bit 0 n'est jamais attribué.
+
+CREATE SEQUENCE utilisateur_numero_membre_seq START WITH 1;
+
+ALTER TABLE utilisateur
+    ADD COLUMN numero_membre INTEGER NOT NULL DEFAULT nextval('utilisateur_numero_membre_seq');
+
+ALTER SEQUENCE utilisateur_numero_membre_seq OWNED BY utilisateur.numero_membre;
+
+CREATE UNIQUE INDEX uk_utilisateur_numero_membre ON utilisateur(numero_membre);
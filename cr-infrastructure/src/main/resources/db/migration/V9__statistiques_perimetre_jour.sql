@@ -0,0 +1,55 @@
+-- V9__statistiques_perimetre_jour.sql
+-- Agrégats journaliers de CR par périmètre (église de maison, église locale, zone, région),
+-- maintenus par delta à chaque écriture de CR et à chaque changement de rattachement.
+
+-- Ancêtres (périmètre compris) de chaque périmètre de l'organisation
+CREATE VIEW perimetre_ancetre AS
+SELECT 'EGLISE_MAISON'::varchar AS niveau, em.id AS perimetre_id, a.niveau AS ancetre_niveau, a.id AS ancetre_id
+FROM eglise_maison em
+JOIN eglise_locale el ON el.id = em.eglise_locale_id
+JOIN zone z ON z.id = el.zone_id
+CROSS JOIN LATERAL (VALUES ('EGLISE_MAISON'::varchar, em.id), ('EGLISE_LOCALE', el.id),
+                           ('ZONE', z.id), ('REGION', z.region_id)) AS a(niveau, id)
+UNION ALL
+SELECT 'EGLISE_LOCALE', el.id, a.niveau, a.id
+FROM eglise_locale el
+JOIN zone z ON z.id = el.zone_id
+CROSS JOIN LATERAL (VALUES ('EGLISE_LOCALE'::varchar, el.id), ('ZONE', z.id), ('REGION', z.region_id)) AS a(niveau, id)
+UNION ALL
+SELECT 'ZONE', z.id, a.niveau, a.id
+FROM zone z
+CROSS JOIN LATERAL (VALUES ('ZONE'::varchar, z.id), ('REGION', z.region_id)) AS a(niveau, id)
+UNION ALL
+SELECT 'REGION', r.id, 'REGION', r.id
+FROM region r;
+
+CREATE TABLE statistiques_perimetre_jour (
+    niveau VARCHAR(20) NOT NULL,
+    perimetre_id UUID NOT NULL,
+    date DATE NOT NULL,
+    nombre_crs INTEGER NOT NULL DEFAULT 0,
+    rdqd_complets INTEGER NOT NULL DEFAULT 0,
+    priere_secondes BIGINT NOT NULL DEFAULT 0,
+    chapitres_lus INTEGER NOT NULL DEFAULT 0,
+    personnes_evangelisees INTEGER NOT NULL DEFAULT 0,
+    confessions INTEGER NOT NULL DEFAULT 0,
+    jeunes INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_statistiques_perimetre_jour PRIMARY KEY (niveau, perimetre_id, date)
+);
+
+-- Initialisation à partir des CR existants
+INSERT INTO statistiques_perimetre_jour
+    (niveau, perimetre_id, date, nombre_crs, rdqd_complets, priere_secondes,
+     chapitres_lus, personnes_evangelisees, confessions, jeunes)
+SELECT a.ancetre_niveau, a.ancetre_id, cr.date,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE split_part(cr.rdqd, '/', 1) = split_part(cr.rdqd, '/', 2)),
+       COALESCE(SUM(EXTRACT(EPOCH FROM cr.priere_seule)), 0)::bigint,
+       COALESCE(SUM(cr.lecture_biblique), 0),
+       COALESCE(SUM(cr.evangelisation), 0),
+       COUNT(*) FILTER (WHERE cr.confession),
+       COUNT(*) FILTER (WHERE cr.jeune)
+FROM compte_rendu cr
+JOIN utilisateur u ON u.id = cr.utilisateur_id
+JOIN perimetre_ancetre a ON a.niveau = 'EGLISE_MAISON' AND a.perimetre_id = u.eglise_maison_id
+GROUP BY a.ancetre_niveau, a.ancetre_id, cr.date;